@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.benchmarks;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.grpc.common.impl.Utils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compresses and decompresses message payloads with {@link Utils#GZIP_ENCODER} and {@link Utils#GZIP_DECODER}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CompressionBenchmark {
+
+  @Param({ "128", "16384" })
+  public int size;
+
+  private Buffer payload;
+  private Buffer compressed;
+
+  @Setup
+  public void setup() {
+    payload = Buffer.buffer(Payloads.create(size).toByteArray());
+    compressed = Utils.GZIP_ENCODER.apply(payload);
+  }
+
+  @Benchmark
+  public Buffer compress() {
+    return Utils.GZIP_ENCODER.apply(payload);
+  }
+
+  @Benchmark
+  public Buffer decompress() {
+    return Utils.GZIP_DECODER.apply(compressed);
+  }
+}
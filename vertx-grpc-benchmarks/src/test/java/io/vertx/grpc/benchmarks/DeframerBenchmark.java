@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.benchmarks;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.grpc.common.GrpcMessage;
+import io.vertx.grpc.common.WireFormat;
+import io.vertx.grpc.common.impl.CompositeGrpcMessageDeframer;
+import io.vertx.grpc.common.impl.DefaultGrpcMessage;
+import io.vertx.grpc.common.impl.GrpcMessageDeframer;
+import io.vertx.grpc.common.impl.Http2GrpcMessageDeframer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Slices HTTP/2 data frames into gRPC messages with {@link Http2GrpcMessageDeframer} and
+ * {@link CompositeGrpcMessageDeframer}, either a whole message per chunk or a message split across {@code chunks}
+ * chunks.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DeframerBenchmark {
+
+  @Param({ "http2", "composite" })
+  public String deframer;
+
+  @Param({ "128", "16384" })
+  public int size;
+
+  @Param({ "1", "4" })
+  public int chunks;
+
+  private Buffer[] data;
+
+  @Setup
+  public void setup() {
+    Buffer frame = DefaultGrpcMessage.encode(GrpcMessage.message("identity", Buffer.buffer(Payloads.create(size).toByteArray())), false);
+    int len = frame.length();
+    data = new Buffer[chunks];
+    for (int i = 0;i < chunks;i++) {
+      data[i] = frame.slice(i * len / chunks, (i + 1) * len / chunks);
+    }
+  }
+
+  @Benchmark
+  public void deframe(Blackhole blackhole) {
+    GrpcMessageDeframer deframer = this.deframer.equals("http2")
+      ? new Http2GrpcMessageDeframer("identity", WireFormat.PROTOBUF)
+      : new CompositeGrpcMessageDeframer("identity", WireFormat.PROTOBUF);
+    deframer.maxMessageSize(Long.MAX_VALUE);
+    for (Buffer chunk : data) {
+      deframer.update(chunk);
+      Object next;
+      while ((next = deframer.next()) != null) {
+        blackhole.consume(next);
+      }
+    }
+  }
+}
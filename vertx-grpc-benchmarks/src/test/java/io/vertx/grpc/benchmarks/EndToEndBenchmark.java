@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.benchmarks;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.grpc.client.GrpcClient;
+import io.vertx.grpc.client.GrpcClientRequest;
+import io.vertx.grpc.client.GrpcClientResponse;
+import io.vertx.grpc.common.GrpcMessageDecoder;
+import io.vertx.grpc.common.GrpcMessageEncoder;
+import io.vertx.grpc.common.GrpcReadStream;
+import io.vertx.grpc.common.ServiceMethod;
+import io.vertx.grpc.common.ServiceName;
+import io.vertx.grpc.server.GrpcServer;
+import io.vertx.grpc.server.GrpcServerResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Calls a server over loopback HTTP/2 ({@code tcp}) or a Unix domain socket ({@code uds}) with the four call shapes,
+ * each streaming call carrying {@code streamLength} messages.
+ * <p>
+ * Reports the throughput and the latency percentiles, run with {@code -prof gc} to get the allocation rate, e.g.
+ * {@code java -jar target/vertx-grpc-benchmarks.jar EndToEndBenchmark -prof gc}.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class EndToEndBenchmark {
+
+  private static final ServiceName SERVICE = ServiceName.create("benchmark.BenchmarkService");
+
+  @Param({ "tcp", "uds" })
+  public String transport;
+
+  @Param({ "128" })
+  public int size;
+
+  @Param({ "16" })
+  public int streamLength;
+
+  private Vertx vertx;
+  private HttpServer server;
+  private GrpcClient client;
+  private SocketAddress address;
+  private File socketFile;
+  private Payload payload;
+
+  private ServiceMethod<Payload, Payload> unary;
+  private ServiceMethod<Payload, Payload> serverStreaming;
+  private ServiceMethod<Payload, Payload> clientStreaming;
+  private ServiceMethod<Payload, Payload> bidiStreaming;
+
+  private static ServiceMethod<Payload, Payload> serverMethod(String name) {
+    return ServiceMethod.server(SERVICE, name, GrpcMessageEncoder.encoder(), GrpcMessageDecoder.decoder(Payload.newBuilder()));
+  }
+
+  private static ServiceMethod<Payload, Payload> clientMethod(String name) {
+    return ServiceMethod.client(SERVICE, name, GrpcMessageEncoder.encoder(), GrpcMessageDecoder.decoder(Payload.newBuilder()));
+  }
+
+  @Setup
+  public void setup() throws IOException {
+    payload = Payloads.create(size);
+    vertx = Vertx.vertx();
+
+    GrpcServer grpcServer = GrpcServer.server(vertx);
+    grpcServer.callHandler(serverMethod("Unary"), request -> {
+      request.handler(msg -> request.response().end(msg));
+    });
+    grpcServer.callHandler(serverMethod("ServerStreaming"), request -> {
+      request.handler(msg -> {
+        GrpcServerResponse<Payload, Payload> response = request.response();
+        for (int i = 1;i < streamLength;i++) {
+          response.write(msg);
+        }
+        response.end(msg);
+      });
+    });
+    grpcServer.callHandler(serverMethod("ClientStreaming"), request -> {
+      request.last().onSuccess(msg -> request.response().end(msg));
+    });
+    grpcServer.callHandler(serverMethod("BidiStreaming"), request -> {
+      GrpcServerResponse<Payload, Payload> response = request.response();
+      request.handler(response::write);
+      request.endHandler(v -> response.end());
+    });
+
+    server = vertx.createHttpServer().requestHandler(grpcServer);
+    switch (transport) {
+      case "tcp":
+        server.listen(SocketAddress.inetSocketAddress(0, "localhost")).await();
+        address = SocketAddress.inetSocketAddress(server.actualPort(), "localhost");
+        break;
+      case "uds":
+        socketFile = File.createTempFile("vertx-grpc-benchmarks", ".sock");
+        socketFile.delete();
+        address = SocketAddress.domainSocketAddress(socketFile.getAbsolutePath());
+        server.listen(address).await();
+        break;
+      default:
+        throw new IllegalArgumentException("Invalid transport: " + transport);
+    }
+
+    client = GrpcClient.client(vertx);
+    unary = clientMethod("Unary");
+    serverStreaming = clientMethod("ServerStreaming");
+    clientStreaming = clientMethod("ClientStreaming");
+    bidiStreaming = clientMethod("BidiStreaming");
+  }
+
+  @TearDown
+  public void tearDown() {
+    client.close().await();
+    server.close().await();
+    vertx.close().await();
+    if (socketFile != null) {
+      socketFile.delete();
+    }
+  }
+
+  @Benchmark
+  public Payload unary() {
+    return client
+      .request(address, unary)
+      .compose(request -> request.send(payload))
+      .compose(GrpcReadStream::last)
+      .await();
+  }
+
+  @Benchmark
+  public int serverStreaming() {
+    return client
+      .request(address, serverStreaming)
+      .compose(request -> request.send(payload))
+      .compose(EndToEndBenchmark::count)
+      .await();
+  }
+
+  @Benchmark
+  public Payload clientStreaming() {
+    return client
+      .request(address, clientStreaming)
+      .compose(request -> {
+        writeStream(request);
+        return request.response();
+      })
+      .compose(GrpcReadStream::last)
+      .await();
+  }
+
+  @Benchmark
+  public int bidiStreaming() {
+    return client
+      .request(address, bidiStreaming)
+      .compose(request -> {
+        writeStream(request);
+        return request.response();
+      })
+      .compose(EndToEndBenchmark::count)
+      .await();
+  }
+
+  private void writeStream(GrpcClientRequest<Payload, Payload> request) {
+    for (int i = 1;i < streamLength;i++) {
+      request.write(payload);
+    }
+    request.end(payload);
+  }
+
+  private static Future<Integer> count(GrpcClientResponse<Payload, Payload> response) {
+    int[] count = new int[1];
+    response.handler(msg -> count[0]++);
+    return response.end().map(v -> count[0]);
+  }
+}
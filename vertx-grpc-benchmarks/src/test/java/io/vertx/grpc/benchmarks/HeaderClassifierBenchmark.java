@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.benchmarks;
+
+import io.vertx.grpc.common.impl.GrpcHeaderClassifier;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compares the regular expressions previously used to inspect requests with {@link GrpcHeaderClassifier}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class HeaderClassifierBenchmark {
+
+  private static final Pattern CONTENT_TYPE_PATTERN = Pattern.compile("application/grpc(-web(-text)?)?(\\+(json|proto))?");
+  private static final Pattern TIMEOUT_PATTERN = Pattern.compile("([0-9]{1,8})([HMSmun])");
+
+  @Param({ "application/grpc", "application/grpc-web-text+proto" })
+  public String contentType;
+
+  @Param({ "250m" })
+  public String timeout;
+
+  @Benchmark
+  public boolean contentTypeRegex() {
+    Matcher matcher = CONTENT_TYPE_PATTERN.matcher(contentType);
+    return matcher.matches() && matcher.group(1) != null;
+  }
+
+  @Benchmark
+  public boolean contentTypeClassifier() {
+    GrpcHeaderClassifier.ContentType type = GrpcHeaderClassifier.classifyContentType(contentType);
+    return type != null && type.isWeb();
+  }
+
+  @Benchmark
+  public Duration timeoutRegex() {
+    Matcher matcher = TIMEOUT_PATTERN.matcher(timeout);
+    if (matcher.matches()) {
+      long value = Long.parseLong(matcher.group(1));
+      TimeUnit unit;
+      switch (matcher.group(2)) {
+        case "H":
+          unit = TimeUnit.HOURS;
+          break;
+        case "M":
+          unit = TimeUnit.MINUTES;
+          break;
+        case "S":
+          unit = TimeUnit.SECONDS;
+          break;
+        case "m":
+          unit = TimeUnit.MILLISECONDS;
+          break;
+        case "u":
+          unit = TimeUnit.MICROSECONDS;
+          break;
+        default:
+          unit = TimeUnit.NANOSECONDS;
+          break;
+      }
+      return Duration.of(value, unit.toChronoUnit());
+    }
+    return null;
+  }
+
+  @Benchmark
+  public Duration timeoutClassifier() {
+    return GrpcHeaderClassifier.parseTimeout(timeout);
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.benchmarks;
+
+import com.google.protobuf.ByteString;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.grpc.common.JsonWireFormat;
+import io.vertx.grpc.common.WireFormat;
+import io.vertx.grpc.common.impl.ProtobufJsonReader;
+import io.vertx.grpc.common.impl.ProtobufJsonWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@code JsonFormat} with the descriptor driven streaming codec.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class JsonCodecBenchmark {
+
+  @Param({ "false", "true" })
+  public boolean streaming;
+
+  private Item item;
+  private Buffer json;
+  private ProtobufJsonWriter writer;
+  private ProtobufJsonReader reader;
+
+  @Setup
+  public void setup() {
+    JsonWireFormat format = WireFormat.JSON.omittingInsignificantWhitespace(true).usingStreamingCodec(streaming);
+    Item.Builder builder = Item.newBuilder()
+      .setName("benchmark")
+      .setCount(42)
+      .setId(123456789012L)
+      .setRatio(0.75)
+      .setEnabled(true)
+      .setData(ByteString.copyFromUtf8("some binary data"))
+      .setKind(Kind.LARGE)
+      .setText("choice");
+    for (int i = 0;i < 16;i++) {
+      builder.addValues(i * 31);
+      builder.addTags("tag-" + i);
+      builder.putCounters("counter-" + i, i);
+    }
+    builder.setParent(Item.newBuilder().setName("parent").setCount(1).addTags("nested"));
+    item = builder.build();
+    writer = ProtobufJsonWriter.create(format);
+    reader = ProtobufJsonReader.create(format);
+    json = writer.write(item);
+  }
+
+  @Benchmark
+  public Buffer encode() {
+    return writer.write(item);
+  }
+
+  @Benchmark
+  public Item decode() {
+    Item.Builder builder = Item.newBuilder();
+    reader.merge(json, builder);
+    return builder.build();
+  }
+}
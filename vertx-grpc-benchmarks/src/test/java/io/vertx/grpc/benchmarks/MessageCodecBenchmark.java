@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.benchmarks;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.grpc.common.GrpcMessage;
+import io.vertx.grpc.common.GrpcMessageDecoder;
+import io.vertx.grpc.common.GrpcMessageEncoder;
+import io.vertx.grpc.common.WireFormat;
+import io.vertx.grpc.common.impl.DefaultGrpcMessage;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encodes and decodes messages with the protobuf and JSON {@link GrpcMessageEncoder} / {@link GrpcMessageDecoder}
+ * and frames them with {@link DefaultGrpcMessage#encode(GrpcMessage, boolean)}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MessageCodecBenchmark {
+
+  @Param({ "proto", "json", "json-streaming" })
+  public String format;
+
+  @Param({ "128", "16384" })
+  public int size;
+
+  private WireFormat wireFormat;
+  private Payload payload;
+  private GrpcMessage message;
+  private GrpcMessage unframed;
+  private GrpcMessageEncoder<Payload> encoder;
+  private GrpcMessageDecoder<Payload> decoder;
+
+  @Setup
+  public void setup() {
+    switch (format) {
+      case "proto":
+        wireFormat = WireFormat.PROTOBUF;
+        break;
+      case "json":
+        wireFormat = WireFormat.JSON;
+        break;
+      default:
+        wireFormat = WireFormat.JSON.usingStreamingCodec(true);
+        break;
+    }
+    encoder = GrpcMessageEncoder.encoder();
+    decoder = GrpcMessageDecoder.decoder(Payload.newBuilder());
+    payload = Payloads.create(size);
+    message = encoder.encode(payload, wireFormat);
+    // Same payload without the pre-framed buffer of the protobuf encoder
+    unframed = GrpcMessage.message("identity", wireFormat, message.payload().copy());
+  }
+
+  @Benchmark
+  public GrpcMessage encode() {
+    return encoder.encode(payload, wireFormat);
+  }
+
+  @Benchmark
+  public Payload decode() {
+    return decoder.decode(message);
+  }
+
+  @Benchmark
+  public Buffer frame() {
+    return DefaultGrpcMessage.encode(message, false);
+  }
+
+  @Benchmark
+  public Buffer frameCopy() {
+    return DefaultGrpcMessage.encode(unframed, false);
+  }
+
+  @Benchmark
+  public Buffer encodeAndFrame() {
+    return DefaultGrpcMessage.encode(encoder.encode(payload, wireFormat), false);
+  }
+}
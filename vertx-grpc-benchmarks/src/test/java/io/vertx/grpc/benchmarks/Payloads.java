@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.benchmarks;
+
+import com.google.protobuf.ByteString;
+
+/**
+ * The messages exchanged by the benchmarks.
+ */
+public final class Payloads {
+
+  private Payloads() {
+  }
+
+  /**
+   * @param size the approximate serialized size in bytes
+   * @return a message with a few fields of each kind, padded with an opaque body to reach {@code size}
+   */
+  public static Payload create(int size) {
+    Payload.Builder builder = Payload.newBuilder()
+      .setName("benchmark")
+      .setId(1234567890123L);
+    for (int i = 0;i < 8;i++) {
+      builder.addValues(i * 31);
+      builder.putAttributes("key-" + i, "value-" + i);
+    }
+    int remaining = size - builder.build().getSerializedSize();
+    if (remaining > 0) {
+      byte[] body = new byte[remaining];
+      for (int i = 0;i < body.length;i++) {
+        body[i] = (byte) ('a' + (i % 26));
+      }
+      builder.setBody(ByteString.copyFrom(body));
+    }
+    return builder.build();
+  }
+}
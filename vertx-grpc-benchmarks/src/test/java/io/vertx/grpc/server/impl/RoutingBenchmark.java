@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.server.impl;
+
+import io.vertx.grpc.benchmarks.Payload;
+import io.vertx.grpc.common.GrpcMessageDecoder;
+import io.vertx.grpc.common.GrpcMessageEncoder;
+import io.vertx.grpc.common.ServiceMethod;
+import io.vertx.grpc.common.ServiceName;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolves request paths against the {@link RouteTable} used by {@code GrpcServerImpl#handle}: an exact match of a
+ * registered method, a miss falling back to the prefix lookup of the transcoding mount points.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RoutingBenchmark {
+
+  @Param({ "10", "1000" })
+  public int methods;
+
+  private RouteTable routes;
+  private String hit;
+  private String miss;
+
+  @Setup
+  public void setup() {
+    Map<String, List<GrpcServerImpl.MethodCallHandler<?, ?>>> registrations = new HashMap<>();
+    for (int i = 0;i < methods;i++) {
+      ServiceMethod<Payload, Payload> method = ServiceMethod.server(
+        ServiceName.create("benchmark.Service" + (i % 10)),
+        "Method" + i,
+        GrpcMessageEncoder.encoder(),
+        GrpcMessageDecoder.decoder(Payload.newBuilder()));
+      GrpcServerImpl.MethodCallHandler<Payload, Payload> handler = new GrpcServerImpl.MethodCallHandler<>(method, method.decoder(), method.encoder(), request -> {});
+      registrations.put(handler.path, new ArrayList<>(Collections.singletonList(handler)));
+    }
+    routes = new RouteTable(registrations);
+    hit = "/benchmark.Service" + ((methods / 2) % 10) + "/Method" + (methods / 2);
+    miss = "/benchmark.Unknown/Method";
+  }
+
+  @Benchmark
+  public Object exactMatch() {
+    return routes.handlers(hit);
+  }
+
+  @Benchmark
+  public Object missWithPrefixLookup() {
+    Object handlers = routes.handlers(miss);
+    return handlers != null ? handlers : routes.prefixHandlers(miss);
+  }
+}
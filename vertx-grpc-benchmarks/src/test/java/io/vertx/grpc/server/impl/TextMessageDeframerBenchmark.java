@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.server.impl;
+
+import io.netty.handler.codec.base64.Base64;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.buffer.BufferInternal;
+import io.vertx.grpc.benchmarks.Payloads;
+import io.vertx.grpc.common.GrpcMessage;
+import io.vertx.grpc.common.impl.DefaultGrpcMessage;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decodes a base64 gRPC-Web text request body with the package private {@link TextMessageDeframer}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TextMessageDeframerBenchmark {
+
+  @Param({ "128", "16384" })
+  public int size;
+
+  @Param({ "1", "4" })
+  public int chunks;
+
+  private Buffer[] data;
+
+  @Setup
+  public void setup() {
+    BufferInternal frame = DefaultGrpcMessage.encode(GrpcMessage.message("identity", Buffer.buffer(Payloads.create(size).toByteArray())), false);
+    Buffer text = BufferInternal.buffer(Base64.encode(frame.getByteBuf(), false));
+    int len = text.length();
+    data = new Buffer[chunks];
+    for (int i = 0;i < chunks;i++) {
+      data[i] = text.getBuffer(i * len / chunks, (i + 1) * len / chunks);
+    }
+  }
+
+  @Benchmark
+  public Object deframe() {
+    TextMessageDeframer deframer = new TextMessageDeframer();
+    deframer.maxMessageSize(Long.MAX_VALUE);
+    for (Buffer chunk : data) {
+      // The deframer appends the next chunks to the first one
+      deframer.update(chunk.copy());
+    }
+    deframer.end();
+    return deframer.next();
+  }
+}
@@ -10,12 +10,14 @@
  */
 package io.vertx.grpc.client;
 
+import io.vertx.codegen.annotations.Unstable;
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpClient;
 import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.json.JsonObject;
 import io.vertx.core.net.Address;
 import io.vertx.core.net.ClientSSLOptions;
 import io.vertx.grpc.client.impl.GrpcClientBuilderImpl;
@@ -149,6 +151,19 @@ public interface GrpcClient {
    */
   <Req, Resp> Future<GrpcClientRequest<Req, Resp>> request(ServiceMethod<Resp, Req> method);
 
+  /**
+   * <p>Return the statistics of the connection pool configured with {@link GrpcClientOptions#setConnectionPoolSize(int)},
+   * keyed by server address.</p>
+   *
+   * <p>The statistics of a server are the number of {@code connections}, the number of {@code openedConnections} since
+   * the client was created, the number of {@code activeStreams} and the number of active {@code streams} of each
+   * connection.</p>
+   *
+   * @return the statistics, empty when the client has no connection pool
+   */
+  @Unstable
+  JsonObject connectionPoolStatistics();
+
   /**
    * Close this client.
    */
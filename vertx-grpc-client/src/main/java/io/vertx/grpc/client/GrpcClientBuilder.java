@@ -75,6 +75,24 @@ public interface GrpcClientBuilder<C> {
   @GenIgnore({"permitted-type"})
   GrpcClientBuilder<C> withLoadBalancer(LoadBalancer loadBalancer);
 
+  /**
+   * Configure the client to report its calls to the {@code metrics}, e.g. {@code GrpcClientMetrics.create(recorder)}
+   * records them in a {@link io.vertx.grpc.common.GrpcMetricsRecorder}.
+   *
+   * @param metrics the metrics
+   */
+  @GenIgnore({"permitted-type"})
+  GrpcClientBuilder<C> withMetrics(GrpcClientMetrics<?> metrics);
+
+  /**
+   * Configure the client to detect the outlier servers and eject them from the selection of the
+   * {@link #withLoadBalancer(LoadBalancer) load balancer}, round-robin when none is configured.
+   *
+   * @param options the outlier detection options
+   */
+  @GenIgnore({"permitted-type"})
+  GrpcClientBuilder<C> withOutlierDetection(OutlierDetectionOptions options);
+
   /**
    * Build and return the client.
    * @return the client as configured by this builder
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.client;
+
+import io.vertx.codegen.annotations.Unstable;
+import io.vertx.core.MultiMap;
+import io.vertx.grpc.common.GrpcCallMetrics;
+import io.vertx.grpc.common.GrpcMetricsRecorder;
+import io.vertx.grpc.common.GrpcStatus;
+import io.vertx.grpc.common.ServiceName;
+
+/**
+ * <p>The metrics SPI of the calls made by a {@link GrpcClient}, see {@link GrpcClientBuilder#withMetrics(GrpcClientMetrics)}.</p>
+ *
+ * <p>A call begins when its request headers are sent. The end of a call is reported when its response ends with a
+ * status, when it is cancelled or when its stream fails with the {@link GrpcStatus#UNAVAILABLE} status.</p>
+ *
+ * @param <C> the type of the call metric
+ */
+@Unstable
+public interface GrpcClientMetrics<C> extends GrpcCallMetrics<C> {
+
+  /**
+   * Create client metrics recording the calls in the {@code recorder}.
+   *
+   * @param recorder the recorder
+   * @return the client metrics
+   */
+  static GrpcClientMetrics<GrpcMetricsRecorder.Call> create(GrpcMetricsRecorder recorder) {
+    return new GrpcClientMetrics<>() {
+      @Override
+      public GrpcMetricsRecorder.Call callBegin(ServiceName serviceName, String methodName) {
+        return recorder.callBegin(serviceName, methodName);
+      }
+      @Override
+      public void headersReceived(GrpcMetricsRecorder.Call call, MultiMap headers) {
+        recorder.headersReceived(call, headers);
+      }
+      @Override
+      public void headersSent(GrpcMetricsRecorder.Call call) {
+        recorder.headersSent(call);
+      }
+      @Override
+      public void messageReceived(GrpcMetricsRecorder.Call call, int size, int wireSize) {
+        recorder.messageReceived(call, size, wireSize);
+      }
+      @Override
+      public void messageSent(GrpcMetricsRecorder.Call call, int size, int wireSize) {
+        recorder.messageSent(call, size, wireSize);
+      }
+      @Override
+      public void callEnd(GrpcMetricsRecorder.Call call, GrpcStatus status) {
+        recorder.callEnd(call, status);
+      }
+    };
+  }
+
+  /**
+   * Called when a call begins.
+   *
+   * @param serviceName the service name of the call
+   * @param methodName the method name of the call
+   * @return the call metric
+   */
+  C callBegin(ServiceName serviceName, String methodName);
+
+}
@@ -12,6 +12,8 @@ package io.vertx.grpc.client;
 
 import io.vertx.codegen.annotations.DataObject;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 
@@ -41,10 +43,90 @@ public class GrpcClientOptions {
    */
   public static final long DEFAULT_MAX_MESSAGE_SIZE = 256 * 1024;
 
+  /**
+   * The default size in bytes under which a request message is sent uncompressed = {@code 0} (all messages are compressed)
+   */
+  public static final int DEFAULT_COMPRESSION_THRESHOLD = 0;
+
+  /**
+   * The default value of adaptive compression = {@code false}.
+   */
+  public static final boolean DEFAULT_ADAPTIVE_COMPRESSION = false;
+
+  /**
+   * The default number of queued inbound messages under which the HTTP stream is resumed = {@code 8}
+   */
+  public static final int DEFAULT_INBOUND_QUEUE_LOW_WATER_MARK = 8;
+
+  /**
+   * The default number of queued inbound messages above which the HTTP stream is paused = {@code 16}
+   */
+  public static final int DEFAULT_INBOUND_QUEUE_HIGH_WATER_MARK = 16;
+
+  /**
+   * The default size in bytes of the queued inbound messages under which the HTTP stream is resumed = {@code 0}
+   */
+  public static final long DEFAULT_INBOUND_QUEUE_LOW_WATER_MARK_BYTES = 0L;
+
+  /**
+   * The default size in bytes of the queued inbound messages above which the HTTP stream is paused = {@code 0} (disabled)
+   */
+  public static final long DEFAULT_INBOUND_QUEUE_HIGH_WATER_MARK_BYTES = 0L;
+
+  /**
+   * The default value of BDP probing = {@code false}.
+   */
+  public static final boolean DEFAULT_BDP_PROBING = false;
+
+  /**
+   * The default maximum size in bytes of the HTTP/2 windows grown by BDP probing = {@code 16MB}
+   */
+  public static final int DEFAULT_MAX_FLOW_CONTROL_WINDOW_SIZE = 16 * 1024 * 1024;
+
+  /**
+   * The default maximum size in bytes of the request messages buffered by a retried call = {@code 1MB}
+   */
+  public static final long DEFAULT_RETRY_BUFFER_SIZE = 1024 * 1024;
+
+  /**
+   * The default number of tokens of the retry throttling bucket = {@code 0} (retries are not throttled)
+   */
+  public static final int DEFAULT_RETRY_THROTTLING_MAX_TOKENS = 0;
+
+  /**
+   * The default number of tokens a successful call adds to the retry throttling bucket = {@code 0.1}
+   */
+  public static final double DEFAULT_RETRY_THROTTLING_TOKEN_RATIO = 0.1D;
+
+  /**
+   * The default number of connections the client opens to a server = {@code 0} (the HTTP client pool is used)
+   */
+  public static final int DEFAULT_CONNECTION_POOL_SIZE = 0;
+
+  /**
+   * The default maximum number of connections the client opens to a server = {@code 8}
+   */
+  public static final int DEFAULT_MAX_CONNECTION_POOL_SIZE = 8;
+
   private boolean scheduleDeadlineAutomatically;
   private int timeout;
   private TimeUnit timeoutUnit;
   private long maxMessageSize;
+  private int compressionThreshold;
+  private boolean adaptiveCompression;
+  private int inboundQueueLowWaterMark;
+  private int inboundQueueHighWaterMark;
+  private long inboundQueueLowWaterMarkBytes;
+  private long inboundQueueHighWaterMarkBytes;
+  private boolean bdpProbing;
+  private int maxFlowControlWindowSize;
+  private Map<String, HedgingPolicy> hedgingPolicies;
+  private Map<String, RetryPolicy> retryPolicies;
+  private long retryBufferSize;
+  private int retryThrottlingMaxTokens;
+  private double retryThrottlingTokenRatio;
+  private int connectionPoolSize;
+  private int maxConnectionPoolSize;
 
   /**
    * Default constructor.
@@ -54,6 +136,21 @@ public class GrpcClientOptions {
     timeout = DEFAULT_TIMEOUT;
     timeoutUnit = DEFAULT_TIMEOUT_UNIT;
     this.maxMessageSize = DEFAULT_MAX_MESSAGE_SIZE;
+    compressionThreshold = DEFAULT_COMPRESSION_THRESHOLD;
+    adaptiveCompression = DEFAULT_ADAPTIVE_COMPRESSION;
+    inboundQueueLowWaterMark = DEFAULT_INBOUND_QUEUE_LOW_WATER_MARK;
+    inboundQueueHighWaterMark = DEFAULT_INBOUND_QUEUE_HIGH_WATER_MARK;
+    inboundQueueLowWaterMarkBytes = DEFAULT_INBOUND_QUEUE_LOW_WATER_MARK_BYTES;
+    inboundQueueHighWaterMarkBytes = DEFAULT_INBOUND_QUEUE_HIGH_WATER_MARK_BYTES;
+    bdpProbing = DEFAULT_BDP_PROBING;
+    maxFlowControlWindowSize = DEFAULT_MAX_FLOW_CONTROL_WINDOW_SIZE;
+    hedgingPolicies = new LinkedHashMap<>();
+    retryPolicies = new LinkedHashMap<>();
+    retryBufferSize = DEFAULT_RETRY_BUFFER_SIZE;
+    retryThrottlingMaxTokens = DEFAULT_RETRY_THROTTLING_MAX_TOKENS;
+    retryThrottlingTokenRatio = DEFAULT_RETRY_THROTTLING_TOKEN_RATIO;
+    connectionPoolSize = DEFAULT_CONNECTION_POOL_SIZE;
+    maxConnectionPoolSize = DEFAULT_MAX_CONNECTION_POOL_SIZE;
   }
 
   /**
@@ -66,6 +163,23 @@ public class GrpcClientOptions {
     timeout = other.timeout;
     timeoutUnit = other.timeoutUnit;
     maxMessageSize = other.maxMessageSize;
+    compressionThreshold = other.compressionThreshold;
+    adaptiveCompression = other.adaptiveCompression;
+    inboundQueueLowWaterMark = other.inboundQueueLowWaterMark;
+    inboundQueueHighWaterMark = other.inboundQueueHighWaterMark;
+    inboundQueueLowWaterMarkBytes = other.inboundQueueLowWaterMarkBytes;
+    inboundQueueHighWaterMarkBytes = other.inboundQueueHighWaterMarkBytes;
+    bdpProbing = other.bdpProbing;
+    maxFlowControlWindowSize = other.maxFlowControlWindowSize;
+    hedgingPolicies = new LinkedHashMap<>();
+    other.hedgingPolicies.forEach((name, policy) -> hedgingPolicies.put(name, new HedgingPolicy(policy)));
+    retryPolicies = new LinkedHashMap<>();
+    other.retryPolicies.forEach((name, policy) -> retryPolicies.put(name, new RetryPolicy(policy)));
+    retryBufferSize = other.retryBufferSize;
+    retryThrottlingMaxTokens = other.retryThrottlingMaxTokens;
+    retryThrottlingTokenRatio = other.retryThrottlingTokenRatio;
+    connectionPoolSize = other.connectionPoolSize;
+    maxConnectionPoolSize = other.maxConnectionPoolSize;
   }
 
   /**
@@ -158,4 +272,370 @@ public class GrpcClientOptions {
     this.maxMessageSize = maxMessageSize;
     return this;
   }
+
+  /**
+   * @return the size in bytes under which a request message is sent uncompressed
+   */
+  public int getCompressionThreshold() {
+    return compressionThreshold;
+  }
+
+  /**
+   * Set the size in bytes under which a request message is sent uncompressed when the request has an encoding,
+   * such messages are sent with the compressed flag unset.
+   *
+   * @param compressionThreshold the threshold
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcClientOptions setCompressionThreshold(int compressionThreshold) {
+    if (compressionThreshold < 0) {
+      throw new IllegalArgumentException("Compression threshold must be >= 0");
+    }
+    this.compressionThreshold = compressionThreshold;
+    return this;
+  }
+
+  /**
+   * @return whether request messages are compressed only while compression pays off
+   */
+  public boolean getAdaptiveCompression() {
+    return adaptiveCompression;
+  }
+
+  /**
+   * Set whether request messages are compressed only while compression pays off. Each stream measures the ratio
+   * achieved by compression, when messages do not shrink enough it sends the next ones uncompressed with the
+   * compressed flag unset and probes the compression again periodically. A message that does not get smaller once
+   * compressed is always sent uncompressed.
+   *
+   * @param adaptiveCompression whether to use adaptive compression
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcClientOptions setAdaptiveCompression(boolean adaptiveCompression) {
+    this.adaptiveCompression = adaptiveCompression;
+    return this;
+  }
+
+  /**
+   * @return the number of queued inbound messages under which the HTTP stream is resumed
+   */
+  public int getInboundQueueLowWaterMark() {
+    return inboundQueueLowWaterMark;
+  }
+
+  /**
+   * Set the number of queued inbound messages under which a paused HTTP stream is resumed.
+   *
+   * @param inboundQueueLowWaterMark the low watermark
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcClientOptions setInboundQueueLowWaterMark(int inboundQueueLowWaterMark) {
+    if (inboundQueueLowWaterMark < 0) {
+      throw new IllegalArgumentException("Inbound queue low watermark must be >= 0");
+    }
+    this.inboundQueueLowWaterMark = inboundQueueLowWaterMark;
+    return this;
+  }
+
+  /**
+   * @return the number of queued inbound messages above which the HTTP stream is paused
+   */
+  public int getInboundQueueHighWaterMark() {
+    return inboundQueueHighWaterMark;
+  }
+
+  /**
+   * Set the number of inbound messages queued until they are fetched above which the HTTP stream is paused, the
+   * server then stops sending when the HTTP/2 windows are exhausted.
+   *
+   * @param inboundQueueHighWaterMark the high watermark
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcClientOptions setInboundQueueHighWaterMark(int inboundQueueHighWaterMark) {
+    if (inboundQueueHighWaterMark <= 0) {
+      throw new IllegalArgumentException("Inbound queue high watermark must be > 0");
+    }
+    this.inboundQueueHighWaterMark = inboundQueueHighWaterMark;
+    return this;
+  }
+
+  /**
+   * @return the size in bytes of the queued inbound messages under which the HTTP stream is resumed
+   */
+  public long getInboundQueueLowWaterMarkBytes() {
+    return inboundQueueLowWaterMarkBytes;
+  }
+
+  /**
+   * Set the size in bytes of the queued inbound messages under which a paused HTTP stream is resumed.
+   *
+   * @param inboundQueueLowWaterMarkBytes the low watermark in bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcClientOptions setInboundQueueLowWaterMarkBytes(long inboundQueueLowWaterMarkBytes) {
+    if (inboundQueueLowWaterMarkBytes < 0) {
+      throw new IllegalArgumentException("Inbound queue low watermark bytes must be >= 0");
+    }
+    this.inboundQueueLowWaterMarkBytes = inboundQueueLowWaterMarkBytes;
+    return this;
+  }
+
+  /**
+   * @return the size in bytes of the queued inbound messages above which the HTTP stream is paused
+   */
+  public long getInboundQueueHighWaterMarkBytes() {
+    return inboundQueueHighWaterMarkBytes;
+  }
+
+  /**
+   * Set the size in bytes of the inbound messages queued until they are fetched above which the HTTP stream is paused,
+   * this bounds the memory held by large messages independently of {@link #setInboundQueueHighWaterMark(int)}. When
+   * {@code 0} the queue is only bounded in messages.
+   *
+   * @param inboundQueueHighWaterMarkBytes the high watermark in bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcClientOptions setInboundQueueHighWaterMarkBytes(long inboundQueueHighWaterMarkBytes) {
+    if (inboundQueueHighWaterMarkBytes < 0) {
+      throw new IllegalArgumentException("Inbound queue high watermark bytes must be >= 0");
+    }
+    this.inboundQueueHighWaterMarkBytes = inboundQueueHighWaterMarkBytes;
+    return this;
+  }
+
+  /**
+   * @return whether the HTTP/2 windows are grown from the measured bandwidth-delay product
+   */
+  public boolean getBdpProbing() {
+    return bdpProbing;
+  }
+
+  /**
+   * <p>Set whether the HTTP/2 connection and stream windows are grown from the measured bandwidth-delay product (BDP) of
+   * the link, similar to the automatic flow control of grpc-java.</p>
+   *
+   * <p>When data is received a {@code PING} frame measures the round trip time, the windows are doubled when the
+   * data received during a round trip fills most of the current window, up to {@link #setMaxFlowControlWindowSize(int)}.
+   * This lets high latency links use their bandwidth without configuring large windows upfront.</p>
+   *
+   * @param bdpProbing whether to probe the BDP
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcClientOptions setBdpProbing(boolean bdpProbing) {
+    this.bdpProbing = bdpProbing;
+    return this;
+  }
+
+  /**
+   * @return the maximum size in bytes of the HTTP/2 windows grown by BDP probing
+   */
+  public int getMaxFlowControlWindowSize() {
+    return maxFlowControlWindowSize;
+  }
+
+  /**
+   * Set the maximum size in bytes of the HTTP/2 windows grown by {@link #setBdpProbing(boolean) BDP probing}.
+   *
+   * @param maxFlowControlWindowSize the maximum window size
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcClientOptions setMaxFlowControlWindowSize(int maxFlowControlWindowSize) {
+    if (maxFlowControlWindowSize <= 0) {
+      throw new IllegalArgumentException("Max flow control window size must be > 0");
+    }
+    this.maxFlowControlWindowSize = maxFlowControlWindowSize;
+    return this;
+  }
+
+  /**
+   * @return the hedging policies keyed by fully qualified service name or full method name
+   */
+  public Map<String, HedgingPolicy> getHedgingPolicies() {
+    return hedgingPolicies;
+  }
+
+  /**
+   * Set the hedging policies keyed by fully qualified service name or full method name, see
+   * {@link #addHedgingPolicy(String, HedgingPolicy)}.
+   *
+   * @param hedgingPolicies the policies
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcClientOptions setHedgingPolicies(Map<String, HedgingPolicy> hedgingPolicies) {
+    this.hedgingPolicies = new LinkedHashMap<>(Objects.requireNonNull(hedgingPolicies, "hedgingPolicies"));
+    return this;
+  }
+
+  /**
+   * <p>Hedge the calls of a service or of a service method, the {@code name} is a fully qualified service name
+   * (e.g. {@code helloworld.Greeter}) or a full method name (e.g. {@code helloworld.Greeter/SayHello}). The policy of
+   * a method takes precedence over the policy of its service.</p>
+   *
+   * <p>The policies apply to the calls created with a {@link io.vertx.grpc.common.ServiceMethod}.</p>
+   *
+   * @param name the service or method name
+   * @param policy the hedging policy
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcClientOptions addHedgingPolicy(String name, HedgingPolicy policy) {
+    hedgingPolicies.put(Objects.requireNonNull(name, "name"), Objects.requireNonNull(policy, "policy"));
+    return this;
+  }
+
+  /**
+   * @return the retry policies keyed by fully qualified service name or full method name
+   */
+  public Map<String, RetryPolicy> getRetryPolicies() {
+    return retryPolicies;
+  }
+
+  /**
+   * Set the retry policies keyed by fully qualified service name or full method name, see
+   * {@link #addRetryPolicy(String, RetryPolicy)}.
+   *
+   * @param retryPolicies the policies
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcClientOptions setRetryPolicies(Map<String, RetryPolicy> retryPolicies) {
+    this.retryPolicies = new LinkedHashMap<>(Objects.requireNonNull(retryPolicies, "retryPolicies"));
+    return this;
+  }
+
+  /**
+   * <p>Retry the calls of a service or of a service method, the {@code name} is a fully qualified service name
+   * (e.g. {@code helloworld.Greeter}) or a full method name (e.g. {@code helloworld.Greeter/SayHello}). The policy of
+   * a method takes precedence over the policy of its service.</p>
+   *
+   * <p>The policies apply to the calls created with a {@link io.vertx.grpc.common.ServiceMethod}, a call that has a
+   * {@link #addHedgingPolicy(String, HedgingPolicy) hedging policy} is not retried.</p>
+   *
+   * @param name the service or method name
+   * @param policy the retry policy
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcClientOptions addRetryPolicy(String name, RetryPolicy policy) {
+    retryPolicies.put(Objects.requireNonNull(name, "name"), Objects.requireNonNull(policy, "policy"));
+    return this;
+  }
+
+  /**
+   * @return the maximum size in bytes of the request messages buffered by a retried call
+   */
+  public long getRetryBufferSize() {
+    return retryBufferSize;
+  }
+
+  /**
+   * Set the maximum size in bytes of the request messages a retried call buffers to replay them. When a call writes
+   * more, the buffer is released and the call is no longer retried.
+   *
+   * @param retryBufferSize the size
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcClientOptions setRetryBufferSize(long retryBufferSize) {
+    if (retryBufferSize < 0L) {
+      throw new IllegalArgumentException("Retry buffer size must be >= 0");
+    }
+    this.retryBufferSize = retryBufferSize;
+    return this;
+  }
+
+  /**
+   * @return the number of tokens of the retry throttling bucket
+   */
+  public int getRetryThrottlingMaxTokens() {
+    return retryThrottlingMaxTokens;
+  }
+
+  /**
+   * <p>Set the number of tokens of the bucket throttling the retries of this client, when {@code 0} retries are not
+   * throttled.</p>
+   *
+   * <p>The bucket starts full, each attempt failing with a retryable status removes a token and each successful call
+   * adds {@link #setRetryThrottlingTokenRatio(double) token ratio} tokens. Calls are not retried while the bucket holds
+   * half of its tokens or less, so a failing server does not receive more retries than calls.</p>
+   *
+   * @param retryThrottlingMaxTokens the number of tokens
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcClientOptions setRetryThrottlingMaxTokens(int retryThrottlingMaxTokens) {
+    if (retryThrottlingMaxTokens < 0 || retryThrottlingMaxTokens > 1000) {
+      throw new IllegalArgumentException("Retry throttling max tokens must be in [0, 1000]");
+    }
+    this.retryThrottlingMaxTokens = retryThrottlingMaxTokens;
+    return this;
+  }
+
+  /**
+   * @return the number of tokens a successful call adds to the retry throttling bucket
+   */
+  public double getRetryThrottlingTokenRatio() {
+    return retryThrottlingTokenRatio;
+  }
+
+  /**
+   * Set the number of tokens a successful call adds to the retry throttling bucket, see
+   * {@link #setRetryThrottlingMaxTokens(int)}.
+   *
+   * @param retryThrottlingTokenRatio the token ratio
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcClientOptions setRetryThrottlingTokenRatio(double retryThrottlingTokenRatio) {
+    if (!(retryThrottlingTokenRatio > 0D)) {
+      throw new IllegalArgumentException("Retry throttling token ratio must be > 0");
+    }
+    this.retryThrottlingTokenRatio = retryThrottlingTokenRatio;
+    return this;
+  }
+
+  /**
+   * @return the number of connections the client opens to a server
+   */
+  public int getConnectionPoolSize() {
+    return connectionPoolSize;
+  }
+
+  /**
+   * <p>Set the number of HTTP/2 connections the client opens to a server, when {@code 0} the requests use the pool
+   * of the HTTP client.</p>
+   *
+   * <p>The connections of a server are spread over the event-loops and each call is sent on the connection with the
+   * fewest outstanding streams. When every connection is close to the {@code MAX_CONCURRENT_STREAMS} limit of the server,
+   * the client opens more connections up to {@link #setMaxConnectionPoolSize(int)}.</p>
+   *
+   * <p>The pool applies to the requests sent to a {@link io.vertx.core.net.SocketAddress}, the requests to a logical
+   * address resolved by an address resolver use the HTTP client pool.</p>
+   *
+   * @param connectionPoolSize the number of connections
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcClientOptions setConnectionPoolSize(int connectionPoolSize) {
+    if (connectionPoolSize < 0) {
+      throw new IllegalArgumentException("Connection pool size must be >= 0");
+    }
+    this.connectionPoolSize = connectionPoolSize;
+    return this;
+  }
+
+  /**
+   * @return the maximum number of connections the client opens to a server
+   */
+  public int getMaxConnectionPoolSize() {
+    return maxConnectionPoolSize;
+  }
+
+  /**
+   * Set the maximum number of connections the client opens to a server when the {@link #setConnectionPoolSize(int)
+   * connections} are close to the stream concurrency limit of the server.
+   *
+   * @param maxConnectionPoolSize the maximum number of connections
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcClientOptions setMaxConnectionPoolSize(int maxConnectionPoolSize) {
+    if (maxConnectionPoolSize <= 0) {
+      throw new IllegalArgumentException("Max connection pool size must be > 0");
+    }
+    this.maxConnectionPoolSize = maxConnectionPoolSize;
+    return this;
+  }
 }
@@ -12,12 +12,14 @@ package io.vertx.grpc.client;
 
 import io.vertx.codegen.annotations.CacheReturn;
 import io.vertx.codegen.annotations.Fluent;
+import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.annotations.Nullable;
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.grpc.common.GrpcError;
 import io.vertx.grpc.common.GrpcMessage;
+import io.vertx.grpc.common.GrpcMetadata;
 import io.vertx.grpc.common.GrpcReadStream;
 import io.vertx.grpc.common.GrpcStatus;
 
@@ -53,6 +55,15 @@ public interface GrpcClientResponse<Req, Resp> extends GrpcReadStream<Resp> {
    */
   MultiMap trailers();
 
+  /**
+   * @return the {@link #trailers()} as {@link GrpcMetadata} to read typed metadata trailers, the values are parsed when
+   *         they are read
+   */
+  @GenIgnore(GenIgnore.PERMITTED_TYPE)
+  default GrpcMetadata trailersMetadata() {
+    return GrpcMetadata.of(trailers());
+  }
+
   @Override
   @Fluent
   GrpcClientResponse<Req, Resp> messageHandler(@Nullable Handler<GrpcMessage> handler);
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.client;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.annotations.Unstable;
+import io.vertx.grpc.common.GrpcStatus;
+
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * <p>The hedging policy of the calls of a service or a service method, see
+ * {@link GrpcClientOptions#addHedgingPolicy(String, HedgingPolicy)}.</p>
+ *
+ * <p>A hedged call is sent, then if no response arrives within the {@link #getHedgingDelay() hedging delay} a copy is
+ * sent to the endpoint picked by the load balancer, up to {@link #getMaxAttempts()} copies. The first response
+ * received wins and the other copies are cancelled, a response with a {@link #getNonFatalStatusCodes() non fatal}
+ * status sends the next copy immediately instead.</p>
+ *
+ * <p>The request messages are buffered until the request ends, hedging is meant for unary and server streaming
+ * calls.</p>
+ */
+@DataObject
+@Unstable
+public class HedgingPolicy {
+
+  /**
+   * The default maximum number of attempts of a call = {@code 2}
+   */
+  public static final int DEFAULT_MAX_ATTEMPTS = 2;
+
+  /**
+   * The default delay in milliseconds between attempts = {@code 0}
+   */
+  public static final long DEFAULT_HEDGING_DELAY = 0L;
+
+  private int maxAttempts;
+  private long hedgingDelay;
+  private Set<GrpcStatus> nonFatalStatusCodes;
+
+  /**
+   * Default policy.
+   */
+  public HedgingPolicy() {
+    maxAttempts = DEFAULT_MAX_ATTEMPTS;
+    hedgingDelay = DEFAULT_HEDGING_DELAY;
+    nonFatalStatusCodes = EnumSet.noneOf(GrpcStatus.class);
+  }
+
+  /**
+   * Copy constructor.
+   */
+  public HedgingPolicy(HedgingPolicy other) {
+    maxAttempts = other.maxAttempts;
+    hedgingDelay = other.hedgingDelay;
+    nonFatalStatusCodes = other.nonFatalStatusCodes.isEmpty() ? EnumSet.noneOf(GrpcStatus.class) : EnumSet.copyOf(other.nonFatalStatusCodes);
+  }
+
+  /**
+   * @return the maximum number of attempts of a call, including the original call
+   */
+  public int getMaxAttempts() {
+    return maxAttempts;
+  }
+
+  /**
+   * Set the maximum number of attempts of a call including the original call, between {@code 2} and {@code 5}.
+   *
+   * @param maxAttempts the maximum number of attempts
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HedgingPolicy setMaxAttempts(int maxAttempts) {
+    if (maxAttempts < 2 || maxAttempts > 5) {
+      throw new IllegalArgumentException("Max attempts must be in [2, 5]");
+    }
+    this.maxAttempts = maxAttempts;
+    return this;
+  }
+
+  /**
+   * @return the delay in milliseconds between attempts
+   */
+  public long getHedgingDelay() {
+    return hedgingDelay;
+  }
+
+  /**
+   * Set the delay in milliseconds after which the next attempt is sent when no response has arrived, when {@code 0}
+   * all the attempts are sent at once.
+   *
+   * @param hedgingDelay the delay
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HedgingPolicy setHedgingDelay(long hedgingDelay) {
+    if (hedgingDelay < 0L) {
+      throw new IllegalArgumentException("Hedging delay must be >= 0");
+    }
+    this.hedgingDelay = hedgingDelay;
+    return this;
+  }
+
+  /**
+   * @return the status codes of a response that do not end the call while attempts remain
+   */
+  public Set<GrpcStatus> getNonFatalStatusCodes() {
+    return nonFatalStatusCodes;
+  }
+
+  /**
+   * Set the status codes of a response that do not end the call while attempts remain, the next attempt is sent
+   * immediately instead.
+   *
+   * @param nonFatalStatusCodes the status codes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HedgingPolicy setNonFatalStatusCodes(Set<GrpcStatus> nonFatalStatusCodes) {
+    Objects.requireNonNull(nonFatalStatusCodes, "nonFatalStatusCodes");
+    this.nonFatalStatusCodes = nonFatalStatusCodes.isEmpty() ? EnumSet.noneOf(GrpcStatus.class) : EnumSet.copyOf(nonFatalStatusCodes);
+    return this;
+  }
+
+  /**
+   * Add a status code to {@link #getNonFatalStatusCodes()}.
+   *
+   * @param status the status code
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HedgingPolicy addNonFatalStatusCode(GrpcStatus status) {
+    if (status == GrpcStatus.OK) {
+      throw new IllegalArgumentException("OK cannot be a non fatal status code");
+    }
+    nonFatalStatusCodes.add(Objects.requireNonNull(status, "status"));
+    return this;
+  }
+}
@@ -0,0 +1,296 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.client;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.annotations.Unstable;
+import io.vertx.grpc.common.GrpcStatus;
+
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * <p>Options configuring the outlier detection of a client, see
+ * {@link GrpcClientBuilder#withOutlierDetection(OutlierDetectionOptions)}.</p>
+ *
+ * <p>The calls of each server are counted over a sliding window of {@link #getInterval()} milliseconds. A call fails
+ * when it ends with one of the {@link #getFailureStatusCodes() failure status codes}, when the connection fails or
+ * when it lasts more than the {@link #getLatencyThreshold() latency threshold}. Once the window holds
+ * {@link #getMinimumCalls()} calls and the percentage of failed calls reaches the
+ * {@link #getFailurePercentageThreshold() threshold}, the server is ejected: the load balancer does not pick it
+ * until the ejection expires.</p>
+ *
+ * <p>A server is ejected for {@link #getBaseEjectionTime()} milliseconds, a server ejected again soon after its
+ * return is ejected twice as long as its previous ejection, up to {@link #getMaxEjectionTime()} milliseconds.</p>
+ */
+@DataObject
+@Unstable
+public class OutlierDetectionOptions {
+
+  /**
+   * The default sliding window in milliseconds = {@code 10000}
+   */
+  public static final long DEFAULT_INTERVAL = 10_000L;
+
+  /**
+   * The default ejection time in milliseconds = {@code 30000}
+   */
+  public static final long DEFAULT_BASE_EJECTION_TIME = 30_000L;
+
+  /**
+   * The default maximum ejection time in milliseconds = {@code 300000}
+   */
+  public static final long DEFAULT_MAX_EJECTION_TIME = 300_000L;
+
+  /**
+   * The default maximum percentage of ejected servers = {@code 10}
+   */
+  public static final int DEFAULT_MAX_EJECTION_PERCENT = 10;
+
+  /**
+   * The default percentage of failed calls ejecting a server = {@code 50}
+   */
+  public static final int DEFAULT_FAILURE_PERCENTAGE_THRESHOLD = 50;
+
+  /**
+   * The default minimum number of calls of a server in the window before it can be ejected = {@code 10}
+   */
+  public static final int DEFAULT_MINIMUM_CALLS = 10;
+
+  /**
+   * The default latency threshold = {@code 0} (latency is not monitored)
+   */
+  public static final long DEFAULT_LATENCY_THRESHOLD = 0L;
+
+  private long interval;
+  private long baseEjectionTime;
+  private long maxEjectionTime;
+  private int maxEjectionPercent;
+  private int failurePercentageThreshold;
+  private int minimumCalls;
+  private long latencyThreshold;
+  private Set<GrpcStatus> failureStatusCodes;
+
+  /**
+   * Default options, {@link GrpcStatus#UNAVAILABLE} and {@link GrpcStatus#INTERNAL} are failures.
+   */
+  public OutlierDetectionOptions() {
+    interval = DEFAULT_INTERVAL;
+    baseEjectionTime = DEFAULT_BASE_EJECTION_TIME;
+    maxEjectionTime = DEFAULT_MAX_EJECTION_TIME;
+    maxEjectionPercent = DEFAULT_MAX_EJECTION_PERCENT;
+    failurePercentageThreshold = DEFAULT_FAILURE_PERCENTAGE_THRESHOLD;
+    minimumCalls = DEFAULT_MINIMUM_CALLS;
+    latencyThreshold = DEFAULT_LATENCY_THRESHOLD;
+    failureStatusCodes = EnumSet.of(GrpcStatus.UNAVAILABLE, GrpcStatus.INTERNAL);
+  }
+
+  /**
+   * Copy constructor.
+   */
+  public OutlierDetectionOptions(OutlierDetectionOptions other) {
+    interval = other.interval;
+    baseEjectionTime = other.baseEjectionTime;
+    maxEjectionTime = other.maxEjectionTime;
+    maxEjectionPercent = other.maxEjectionPercent;
+    failurePercentageThreshold = other.failurePercentageThreshold;
+    minimumCalls = other.minimumCalls;
+    latencyThreshold = other.latencyThreshold;
+    failureStatusCodes = other.failureStatusCodes.isEmpty() ? EnumSet.noneOf(GrpcStatus.class) : EnumSet.copyOf(other.failureStatusCodes);
+  }
+
+  /**
+   * @return the sliding window in milliseconds over which the calls of a server are counted
+   */
+  public long getInterval() {
+    return interval;
+  }
+
+  /**
+   * Set the sliding window in milliseconds over which the calls of a server are counted.
+   *
+   * @param interval the window
+   * @return a reference to this, so the API can be used fluently
+   */
+  public OutlierDetectionOptions setInterval(long interval) {
+    if (interval <= 0L) {
+      throw new IllegalArgumentException("Interval must be > 0");
+    }
+    this.interval = interval;
+    return this;
+  }
+
+  /**
+   * @return the time in milliseconds a server is ejected for the first time
+   */
+  public long getBaseEjectionTime() {
+    return baseEjectionTime;
+  }
+
+  /**
+   * Set the time in milliseconds a server is ejected for the first time.
+   *
+   * @param baseEjectionTime the ejection time
+   * @return a reference to this, so the API can be used fluently
+   */
+  public OutlierDetectionOptions setBaseEjectionTime(long baseEjectionTime) {
+    if (baseEjectionTime <= 0L) {
+      throw new IllegalArgumentException("Base ejection time must be > 0");
+    }
+    this.baseEjectionTime = baseEjectionTime;
+    return this;
+  }
+
+  /**
+   * @return the maximum time in milliseconds a server is ejected
+   */
+  public long getMaxEjectionTime() {
+    return maxEjectionTime;
+  }
+
+  /**
+   * Set the maximum time in milliseconds a server is ejected.
+   *
+   * @param maxEjectionTime the maximum ejection time
+   * @return a reference to this, so the API can be used fluently
+   */
+  public OutlierDetectionOptions setMaxEjectionTime(long maxEjectionTime) {
+    if (maxEjectionTime <= 0L) {
+      throw new IllegalArgumentException("Max ejection time must be > 0");
+    }
+    this.maxEjectionTime = maxEjectionTime;
+    return this;
+  }
+
+  /**
+   * @return the maximum percentage of the servers that are ejected at the same time
+   */
+  public int getMaxEjectionPercent() {
+    return maxEjectionPercent;
+  }
+
+  /**
+   * Set the maximum percentage of the servers that are ejected at the same time, a server is not ejected when this
+   * percentage is already reached.
+   *
+   * @param maxEjectionPercent the percentage
+   * @return a reference to this, so the API can be used fluently
+   */
+  public OutlierDetectionOptions setMaxEjectionPercent(int maxEjectionPercent) {
+    if (maxEjectionPercent < 0 || maxEjectionPercent > 100) {
+      throw new IllegalArgumentException("Max ejection percent must be in [0, 100]");
+    }
+    this.maxEjectionPercent = maxEjectionPercent;
+    return this;
+  }
+
+  /**
+   * @return the percentage of failed calls ejecting a server
+   */
+  public int getFailurePercentageThreshold() {
+    return failurePercentageThreshold;
+  }
+
+  /**
+   * Set the percentage of failed calls in the window ejecting a server.
+   *
+   * @param failurePercentageThreshold the percentage
+   * @return a reference to this, so the API can be used fluently
+   */
+  public OutlierDetectionOptions setFailurePercentageThreshold(int failurePercentageThreshold) {
+    if (failurePercentageThreshold < 1 || failurePercentageThreshold > 100) {
+      throw new IllegalArgumentException("Failure percentage threshold must be in [1, 100]");
+    }
+    this.failurePercentageThreshold = failurePercentageThreshold;
+    return this;
+  }
+
+  /**
+   * @return the minimum number of calls of a server in the window before it can be ejected
+   */
+  public int getMinimumCalls() {
+    return minimumCalls;
+  }
+
+  /**
+   * Set the minimum number of calls of a server in the window before it can be ejected.
+   *
+   * @param minimumCalls the number of calls
+   * @return a reference to this, so the API can be used fluently
+   */
+  public OutlierDetectionOptions setMinimumCalls(int minimumCalls) {
+    if (minimumCalls <= 0) {
+      throw new IllegalArgumentException("Minimum calls must be > 0");
+    }
+    this.minimumCalls = minimumCalls;
+    return this;
+  }
+
+  /**
+   * @return the duration in milliseconds above which a call is counted as failed
+   */
+  public long getLatencyThreshold() {
+    return latencyThreshold;
+  }
+
+  /**
+   * Set the duration in milliseconds above which a call is counted as failed, when {@code 0} the latency is not
+   * monitored. The duration of a call is measured from the request headers to the response trailers, this is
+   * meant for clients making unary calls.
+   *
+   * @param latencyThreshold the threshold
+   * @return a reference to this, so the API can be used fluently
+   */
+  public OutlierDetectionOptions setLatencyThreshold(long latencyThreshold) {
+    if (latencyThreshold < 0L) {
+      throw new IllegalArgumentException("Latency threshold must be >= 0");
+    }
+    this.latencyThreshold = latencyThreshold;
+    return this;
+  }
+
+  /**
+   * @return the status codes of the failed calls
+   */
+  public Set<GrpcStatus> getFailureStatusCodes() {
+    return failureStatusCodes;
+  }
+
+  /**
+   * Set the status codes of the failed calls.
+   *
+   * @param failureStatusCodes the status codes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public OutlierDetectionOptions setFailureStatusCodes(Set<GrpcStatus> failureStatusCodes) {
+    Objects.requireNonNull(failureStatusCodes, "failureStatusCodes");
+    if (failureStatusCodes.contains(GrpcStatus.OK)) {
+      throw new IllegalArgumentException("OK cannot be a failure status code");
+    }
+    this.failureStatusCodes = failureStatusCodes.isEmpty() ? EnumSet.noneOf(GrpcStatus.class) : EnumSet.copyOf(failureStatusCodes);
+    return this;
+  }
+
+  /**
+   * Add a status code to {@link #getFailureStatusCodes()}.
+   *
+   * @param status the status code
+   * @return a reference to this, so the API can be used fluently
+   */
+  public OutlierDetectionOptions addFailureStatusCode(GrpcStatus status) {
+    if (status == GrpcStatus.OK) {
+      throw new IllegalArgumentException("OK cannot be a failure status code");
+    }
+    failureStatusCodes.add(Objects.requireNonNull(status, "status"));
+    return this;
+  }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.client;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.annotations.Unstable;
+import io.vertx.grpc.common.GrpcStatus;
+
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * <p>The retry policy of the calls of a service or a service method, see
+ * {@link GrpcClientOptions#addRetryPolicy(String, RetryPolicy)}.</p>
+ *
+ * <p>A call that fails with a {@link #getRetryableStatusCodes() retryable} status before any response header is
+ * received is sent again after a backoff, up to {@link #getMaxAttempts()} attempts. The backoff of the first retry is
+ * the {@link #getInitialBackoff() initial backoff}, it is then multiplied by the {@link #getBackoffMultiplier()
+ * multiplier} up to the {@link #getMaxBackoff() max backoff} and randomized by the {@link #getJitter() jitter}.</p>
+ *
+ * <p>The request messages are buffered to be replayed, see {@link GrpcClientOptions#setRetryBufferSize(long)}.</p>
+ */
+@DataObject
+@Unstable
+public class RetryPolicy {
+
+  /**
+   * The default maximum number of attempts of a call = {@code 3}
+   */
+  public static final int DEFAULT_MAX_ATTEMPTS = 3;
+
+  /**
+   * The default backoff in milliseconds of the first retry = {@code 100}
+   */
+  public static final long DEFAULT_INITIAL_BACKOFF = 100L;
+
+  /**
+   * The default maximum backoff in milliseconds = {@code 10000}
+   */
+  public static final long DEFAULT_MAX_BACKOFF = 10_000L;
+
+  /**
+   * The default backoff multiplier = {@code 2}
+   */
+  public static final double DEFAULT_BACKOFF_MULTIPLIER = 2D;
+
+  /**
+   * The default backoff jitter = {@code 0.2}
+   */
+  public static final double DEFAULT_JITTER = 0.2D;
+
+  private int maxAttempts;
+  private long initialBackoff;
+  private long maxBackoff;
+  private double backoffMultiplier;
+  private double jitter;
+  private Set<GrpcStatus> retryableStatusCodes;
+
+  /**
+   * Default policy, retrying {@link GrpcStatus#UNAVAILABLE}.
+   */
+  public RetryPolicy() {
+    maxAttempts = DEFAULT_MAX_ATTEMPTS;
+    initialBackoff = DEFAULT_INITIAL_BACKOFF;
+    maxBackoff = DEFAULT_MAX_BACKOFF;
+    backoffMultiplier = DEFAULT_BACKOFF_MULTIPLIER;
+    jitter = DEFAULT_JITTER;
+    retryableStatusCodes = EnumSet.of(GrpcStatus.UNAVAILABLE);
+  }
+
+  /**
+   * Copy constructor.
+   */
+  public RetryPolicy(RetryPolicy other) {
+    maxAttempts = other.maxAttempts;
+    initialBackoff = other.initialBackoff;
+    maxBackoff = other.maxBackoff;
+    backoffMultiplier = other.backoffMultiplier;
+    jitter = other.jitter;
+    retryableStatusCodes = other.retryableStatusCodes.isEmpty() ? EnumSet.noneOf(GrpcStatus.class) : EnumSet.copyOf(other.retryableStatusCodes);
+  }
+
+  /**
+   * @return the maximum number of attempts of a call, including the original call
+   */
+  public int getMaxAttempts() {
+    return maxAttempts;
+  }
+
+  /**
+   * Set the maximum number of attempts of a call including the original call, between {@code 2} and {@code 5}.
+   *
+   * @param maxAttempts the maximum number of attempts
+   * @return a reference to this, so the API can be used fluently
+   */
+  public RetryPolicy setMaxAttempts(int maxAttempts) {
+    if (maxAttempts < 2 || maxAttempts > 5) {
+      throw new IllegalArgumentException("Max attempts must be in [2, 5]");
+    }
+    this.maxAttempts = maxAttempts;
+    return this;
+  }
+
+  /**
+   * @return the backoff in milliseconds of the first retry
+   */
+  public long getInitialBackoff() {
+    return initialBackoff;
+  }
+
+  /**
+   * Set the backoff in milliseconds of the first retry.
+   *
+   * @param initialBackoff the initial backoff
+   * @return a reference to this, so the API can be used fluently
+   */
+  public RetryPolicy setInitialBackoff(long initialBackoff) {
+    if (initialBackoff <= 0L) {
+      throw new IllegalArgumentException("Initial backoff must be > 0");
+    }
+    this.initialBackoff = initialBackoff;
+    return this;
+  }
+
+  /**
+   * @return the maximum backoff in milliseconds
+   */
+  public long getMaxBackoff() {
+    return maxBackoff;
+  }
+
+  /**
+   * Set the maximum backoff in milliseconds between two attempts.
+   *
+   * @param maxBackoff the maximum backoff
+   * @return a reference to this, so the API can be used fluently
+   */
+  public RetryPolicy setMaxBackoff(long maxBackoff) {
+    if (maxBackoff <= 0L) {
+      throw new IllegalArgumentException("Max backoff must be > 0");
+    }
+    this.maxBackoff = maxBackoff;
+    return this;
+  }
+
+  /**
+   * @return the factor applied to the backoff after each retry
+   */
+  public double getBackoffMultiplier() {
+    return backoffMultiplier;
+  }
+
+  /**
+   * Set the factor applied to the backoff after each retry.
+   *
+   * @param backoffMultiplier the multiplier
+   * @return a reference to this, so the API can be used fluently
+   */
+  public RetryPolicy setBackoffMultiplier(double backoffMultiplier) {
+    if (!(backoffMultiplier >= 1D)) {
+      throw new IllegalArgumentException("Backoff multiplier must be >= 1");
+    }
+    this.backoffMultiplier = backoffMultiplier;
+    return this;
+  }
+
+  /**
+   * @return the jitter of the backoff
+   */
+  public double getJitter() {
+    return jitter;
+  }
+
+  /**
+   * Set the jitter of the backoff in {@code [0, 1]}, each backoff is randomly picked in
+   * {@code [backoff * (1 - jitter), backoff * (1 + jitter)]} so the retries of concurrent calls are spread.
+   *
+   * @param jitter the jitter
+   * @return a reference to this, so the API can be used fluently
+   */
+  public RetryPolicy setJitter(double jitter) {
+    if (!(jitter >= 0D && jitter <= 1D)) {
+      throw new IllegalArgumentException("Jitter must be in [0, 1]");
+    }
+    this.jitter = jitter;
+    return this;
+  }
+
+  /**
+   * @return the status codes that are retried
+   */
+  public Set<GrpcStatus> getRetryableStatusCodes() {
+    return retryableStatusCodes;
+  }
+
+  /**
+   * Set the status codes that are retried.
+   *
+   * @param retryableStatusCodes the status codes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public RetryPolicy setRetryableStatusCodes(Set<GrpcStatus> retryableStatusCodes) {
+    Objects.requireNonNull(retryableStatusCodes, "retryableStatusCodes");
+    if (retryableStatusCodes.contains(GrpcStatus.OK)) {
+      throw new IllegalArgumentException("OK cannot be a retryable status code");
+    }
+    this.retryableStatusCodes = retryableStatusCodes.isEmpty() ? EnumSet.noneOf(GrpcStatus.class) : EnumSet.copyOf(retryableStatusCodes);
+    return this;
+  }
+
+  /**
+   * Add a status code to {@link #getRetryableStatusCodes()}.
+   *
+   * @param status the status code
+   * @return a reference to this, so the API can be used fluently
+   */
+  public RetryPolicy addRetryableStatusCode(GrpcStatus status) {
+    if (status == GrpcStatus.OK) {
+      throw new IllegalArgumentException("OK cannot be a retryable status code");
+    }
+    retryableStatusCodes.add(Objects.requireNonNull(status, "status"));
+    return this;
+  }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.client;
+
+import io.vertx.codegen.annotations.Unstable;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.core.net.endpoint.LoadBalancer;
+import io.vertx.core.net.endpoint.ServerEndpoint;
+import io.vertx.core.net.endpoint.ServerSelector;
+import io.vertx.grpc.client.impl.EndpointKey;
+import io.vertx.grpc.common.BackendMetrics;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>A load balancer weighting the servers with the {@link BackendMetrics backend metrics} they report in the
+ * response trailers, in the spirit of the gRPC weighted round robin policy.</p>
+ *
+ * <p>The weight of a server is {@code qps / (utilization + eps / qps * errorUtilizationPenalty)}, the utilization is
+ * the application utilization when reported and the CPU utilization otherwise. The weights are averaged over a
+ * sliding window, a server that has not reported during 3 windows is given the mean weight of the other servers,
+ * so hot servers receive less traffic within a window.</p>
+ *
+ * <p>The balancer is fed by the clients it is {@link GrpcClientBuilder#withLoadBalancer(LoadBalancer) configured}
+ * with, servers are matched by their socket address.</p>
+ */
+@Unstable
+public class WeightedRoundRobinLoadBalancer implements LoadBalancer {
+
+  /**
+   * The default sliding window in milliseconds = {@code 10000}
+   */
+  public static final long DEFAULT_WINDOW = 10_000L;
+
+  /**
+   * The default penalty of the error rate = {@code 1}
+   */
+  public static final double DEFAULT_ERROR_UTILIZATION_PENALTY = 1D;
+
+  private final long window;
+  private final long expiration;
+  private final long refreshPeriod;
+  private final double errorUtilizationPenalty;
+  private final Map<String, Load> loads = new ConcurrentHashMap<>();
+
+  /**
+   * Create a balancer with the default window and error utilization penalty.
+   */
+  public WeightedRoundRobinLoadBalancer() {
+    this(DEFAULT_WINDOW, DEFAULT_ERROR_UTILIZATION_PENALTY);
+  }
+
+  /**
+   * Create a balancer.
+   *
+   * @param window the sliding window in milliseconds over which weights are averaged
+   * @param errorUtilizationPenalty the penalty applied to the error rate of a server
+   */
+  public WeightedRoundRobinLoadBalancer(long window, double errorUtilizationPenalty) {
+    if (window <= 0L) {
+      throw new IllegalArgumentException("Window must be > 0");
+    }
+    if (!(errorUtilizationPenalty >= 0D)) {
+      throw new IllegalArgumentException("Error utilization penalty must be >= 0");
+    }
+    this.window = TimeUnit.MILLISECONDS.toNanos(window);
+    this.expiration = 3 * this.window;
+    this.refreshPeriod = this.window / 100;
+    this.errorUtilizationPenalty = errorUtilizationPenalty;
+  }
+
+  /**
+   * Report the metrics of a call served by a {@code server}.
+   *
+   * @param server the server socket address
+   * @param metrics the metrics reported by the server
+   */
+  public void report(SocketAddress server, BackendMetrics metrics) {
+    double qps = metrics.getQps();
+    double utilization = metrics.getApplicationUtilization() > 0D ? metrics.getApplicationUtilization() : metrics.getCpuUtilization();
+    if (qps > 0D) {
+      utilization += metrics.getEps() / qps * errorUtilizationPenalty;
+    }
+    if (qps == 0D || utilization == 0D) {
+      // Not enough information to weight the server
+      return;
+    }
+    double weight = qps / utilization;
+    long now = System.nanoTime();
+    Load load = loads.computeIfAbsent(EndpointKey.of(server), k -> new Load());
+    String hostAddress = EndpointKey.ofHostAddress(server);
+    if (hostAddress != null) {
+      loads.putIfAbsent(hostAddress, load);
+    }
+    load.update(weight, now);
+  }
+
+  @Override
+  public ServerSelector selector(List<? extends ServerEndpoint> listOfServers) {
+    return new Selector(listOfServers);
+  }
+
+  private class Load {
+
+    private double weight;
+    private long lastUpdate;
+
+    synchronized void update(double sample, long now) {
+      if (lastUpdate == 0L || now - lastUpdate > expiration) {
+        weight = sample;
+      } else {
+        double alpha = 1D - Math.exp(-(double) (now - lastUpdate) / window);
+        weight += alpha * (sample - weight);
+      }
+      lastUpdate = now;
+    }
+
+    synchronized double weight(long now) {
+      return lastUpdate == 0L || now - lastUpdate > expiration ? 0D : weight;
+    }
+  }
+
+  /**
+   * Smooth weighted round robin over the servers, the weights are refreshed at most every hundredth of the window.
+   */
+  private class Selector implements ServerSelector {
+
+    private final List<? extends ServerEndpoint> endpoints;
+    private final String[] keys;
+    private final double[] weights;
+    private final double[] current;
+    private double total;
+    private long lastRefresh;
+
+    Selector(List<? extends ServerEndpoint> endpoints) {
+      int size = endpoints.size();
+      this.endpoints = endpoints;
+      this.keys = new String[size];
+      this.weights = new double[size];
+      this.current = new double[size];
+      for (int i = 0;i < size;i++) {
+        keys[i] = EndpointKey.of(endpoints.get(i));
+      }
+    }
+
+    @Override
+    public synchronized int select() {
+      int size = endpoints.size();
+      if (size == 0) {
+        return -1;
+      }
+      long now = System.nanoTime();
+      if (lastRefresh == 0L || now - lastRefresh >= refreshPeriod) {
+        refresh(now);
+      }
+      int best = 0;
+      for (int i = 0;i < size;i++) {
+        current[i] += weights[i];
+        if (current[i] > current[best]) {
+          best = i;
+        }
+      }
+      current[best] -= total;
+      return best;
+    }
+
+    private void refresh(long now) {
+      lastRefresh = now;
+      double sum = 0D;
+      int known = 0;
+      for (int i = 0;i < keys.length;i++) {
+        Load load = loads.get(keys[i]);
+        double weight = load != null ? load.weight(now) : 0D;
+        weights[i] = weight;
+        if (weight > 0D) {
+          sum += weight;
+          known++;
+        }
+      }
+      double mean = known > 0 ? sum / known : 1D;
+      total = 0D;
+      for (int i = 0;i < keys.length;i++) {
+        if (weights[i] == 0D) {
+          weights[i] = mean;
+        }
+        total += weights[i];
+      }
+    }
+  }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.client.impl;
+
+import io.vertx.core.net.SocketAddress;
+import io.vertx.core.net.endpoint.ServerEndpoint;
+
+/**
+ * Match the servers picked by a load balancer with the remote address of the connections serving the calls.
+ */
+public final class EndpointKey {
+
+  private EndpointKey() {
+  }
+
+  /**
+   * @return the key of the {@code endpoint}, {@code host:port} when the endpoint is a socket address
+   */
+  public static String of(ServerEndpoint endpoint) {
+    Object server = endpoint.unwrap();
+    if (server instanceof SocketAddress) {
+      return of((SocketAddress) server);
+    }
+    return endpoint.key();
+  }
+
+  /**
+   * @return the {@code host:port} key of the {@code address}
+   */
+  public static String of(SocketAddress address) {
+    return address.host() + ':' + address.port();
+  }
+
+  /**
+   * @return the {@code ip:port} key of the {@code address} when its host is a name, otherwise {@code null}
+   */
+  public static String ofHostAddress(SocketAddress address) {
+    String hostAddress = address.hostAddress();
+    if (hostAddress == null || hostAddress.equals(address.host())) {
+      return null;
+    }
+    return hostAddress + ':' + address.port();
+  }
+}
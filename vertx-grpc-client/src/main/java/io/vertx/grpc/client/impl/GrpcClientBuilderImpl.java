@@ -17,7 +17,10 @@ import io.vertx.core.net.ClientSSLOptions;
 import io.vertx.core.net.endpoint.LoadBalancer;
 import io.vertx.grpc.client.GrpcClient;
 import io.vertx.grpc.client.GrpcClientBuilder;
+import io.vertx.grpc.client.GrpcClientMetrics;
 import io.vertx.grpc.client.GrpcClientOptions;
+import io.vertx.grpc.client.OutlierDetectionOptions;
+import io.vertx.grpc.client.WeightedRoundRobinLoadBalancer;
 
 
 /**
@@ -34,6 +37,8 @@ public class GrpcClientBuilderImpl<C extends GrpcClient> implements GrpcClientBu
   private HttpClientOptions httpTransportOptions;
   private HttpClientConfig httpTransportConfig;
   private ClientSSLOptions sslTransportOptions;
+  private GrpcClientMetrics<?> metrics;
+  private OutlierDetectionOptions outlierDetectionOptions;
 
   public GrpcClientBuilderImpl(Vertx vertx) {
     this.vertx = vertx;
@@ -69,6 +74,18 @@ public class GrpcClientBuilderImpl<C extends GrpcClient> implements GrpcClientBu
     return this;
   }
 
+  @Override
+  public GrpcClientBuilderImpl<C> withMetrics(GrpcClientMetrics<?> metrics) {
+    this.metrics = metrics;
+    return this;
+  }
+
+  @Override
+  public GrpcClientBuilderImpl<C> withOutlierDetection(OutlierDetectionOptions options) {
+    this.outlierDetectionOptions = options == null ? null : new OutlierDetectionOptions(options);
+    return this;
+  }
+
   @Override
   public GrpcClientBuilder<C> with(HttpClientConfig transportConfig) {
     if (transportConfig != null) {
@@ -97,7 +114,13 @@ public class GrpcClientBuilderImpl<C extends GrpcClient> implements GrpcClientBu
   public C build() {
     HttpClientBuilder builder = vertx.httpClientBuilder();
     builder.withAddressResolver(addressResolver);
-    builder.withLoadBalancer(loadBalancer);
+    OutlierDetector outlierDetector = null;
+    if (outlierDetectionOptions != null) {
+      outlierDetector = new OutlierDetector(loadBalancer != null ? loadBalancer : LoadBalancer.ROUND_ROBIN, outlierDetectionOptions);
+      builder.withLoadBalancer(outlierDetector);
+    } else {
+      builder.withLoadBalancer(loadBalancer);
+    }
     if (httpTransportOptions != null) {
       builder.with(httpTransportOptions);
     } else {
@@ -118,7 +141,17 @@ public class GrpcClientBuilderImpl<C extends GrpcClient> implements GrpcClientBu
     if (options == null) {
       options = new GrpcClientOptions();
     }
-    return create(vertx, options, builder.build());
+    C client = create(vertx, options, builder.build());
+    if (metrics != null) {
+      ((GrpcClientImpl) client).metrics(metrics);
+    }
+    if (loadBalancer instanceof WeightedRoundRobinLoadBalancer) {
+      ((GrpcClientImpl) client).loadReports(((WeightedRoundRobinLoadBalancer) loadBalancer)::report);
+    }
+    if (outlierDetector != null) {
+      ((GrpcClientImpl) client).outlierDetector(outlierDetector);
+    }
+    return client;
   }
 
   protected C create(Vertx vertx, GrpcClientOptions options, HttpClient transport) {
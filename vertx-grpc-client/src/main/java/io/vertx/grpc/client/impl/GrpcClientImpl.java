@@ -21,16 +21,26 @@ import io.vertx.core.http.RequestOptions;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.PromiseInternal;
 import io.vertx.core.internal.VertxInternal;
+import io.vertx.core.json.JsonObject;
 import io.vertx.core.net.Address;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.grpc.client.GrpcClientMetrics;
 import io.vertx.grpc.client.GrpcClientOptions;
+import io.vertx.grpc.client.HedgingPolicy;
+import io.vertx.grpc.client.RetryPolicy;
 import io.vertx.grpc.client.GrpcClientRequest;
 import io.vertx.grpc.client.GrpcClient;
+import io.vertx.grpc.common.BackendMetrics;
 import io.vertx.grpc.common.ServiceMethod;
 import io.vertx.grpc.common.GrpcMessageDecoder;
 import io.vertx.grpc.common.GrpcMessageEncoder;
 import io.vertx.grpc.common.GrpcLocal;
+import io.vertx.grpc.common.impl.InboundFlowControl;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
@@ -44,6 +54,17 @@ public class GrpcClientImpl implements GrpcClient {
   private final long maxMessageSize;
   private final int timeout;
   private final TimeUnit timeoutUnit;
+  private final int compressionThreshold;
+  private final boolean adaptiveCompression;
+  private final InboundFlowControl flowControl;
+  private final Map<String, HedgingPolicy> hedgingPolicies;
+  private final Map<String, RetryPolicy> retryPolicies;
+  private final long retryBufferSize;
+  private final RetryThrottle retryThrottle;
+  private final GrpcConnectionPool connectionPool;
+  private volatile GrpcClientMetrics<?> metrics;
+  private volatile BiConsumer<SocketAddress, BackendMetrics> loadReports;
+  private volatile OutlierDetector outlierDetector;
 
   public GrpcClientImpl(Vertx vertx, HttpClient client) {
     this(vertx, new GrpcClientOptions(), client, false);
@@ -56,6 +77,26 @@ public class GrpcClientImpl implements GrpcClient {
     this.maxMessageSize = grpcOptions.getMaxMessageSize();;
     this.timeout = grpcOptions.getTimeout();
     this.timeoutUnit = grpcOptions.getTimeoutUnit();
+    this.compressionThreshold = grpcOptions.getCompressionThreshold();
+    this.adaptiveCompression = grpcOptions.getAdaptiveCompression();
+    this.flowControl = new InboundFlowControl(
+      grpcOptions.getInboundQueueLowWaterMark(),
+      grpcOptions.getInboundQueueHighWaterMark(),
+      grpcOptions.getInboundQueueLowWaterMarkBytes(),
+      grpcOptions.getInboundQueueHighWaterMarkBytes(),
+      grpcOptions.getBdpProbing(),
+      grpcOptions.getMaxFlowControlWindowSize());
+    this.hedgingPolicies = new HashMap<>();
+    grpcOptions.getHedgingPolicies().forEach((name, policy) -> hedgingPolicies.put(name, new HedgingPolicy(policy)));
+    this.retryPolicies = new HashMap<>();
+    grpcOptions.getRetryPolicies().forEach((name, policy) -> retryPolicies.put(name, new RetryPolicy(policy)));
+    this.retryBufferSize = grpcOptions.getRetryBufferSize();
+    this.retryThrottle = grpcOptions.getRetryThrottlingMaxTokens() > 0
+      ? new RetryThrottle(grpcOptions.getRetryThrottlingMaxTokens(), grpcOptions.getRetryThrottlingTokenRatio())
+      : null;
+    this.connectionPool = grpcOptions.getConnectionPoolSize() > 0 && client instanceof HttpClientAgent
+      ? new GrpcConnectionPool((VertxInternal) vertx, (HttpClientAgent) client, grpcOptions.getConnectionPoolSize(), grpcOptions.getMaxConnectionPoolSize())
+      : null;
     this.closeClient = close;
   }
 
@@ -63,12 +104,50 @@ public class GrpcClientImpl implements GrpcClient {
     return vertx;
   }
 
+  /**
+   * Report the calls made by this client to the {@code metrics}.
+   */
+  public void metrics(GrpcClientMetrics<?> metrics) {
+    this.metrics = metrics;
+  }
+
+  /**
+   * Report the backend metrics carried by the response trailers to {@code loadReports}.
+   */
+  public void loadReports(BiConsumer<SocketAddress, BackendMetrics> loadReports) {
+    this.loadReports = loadReports;
+  }
+
+  /**
+   * Report the outcome of the calls to the {@code outlierDetector}.
+   */
+  public void outlierDetector(OutlierDetector outlierDetector) {
+    this.outlierDetector = outlierDetector;
+  }
+
+  @Override
+  public JsonObject connectionPoolStatistics() {
+    GrpcConnectionPool pool = connectionPool;
+    return pool != null ? pool.statistics() : new JsonObject();
+  }
+
+  private Future<HttpClientRequest> httpRequest(RequestOptions options) {
+    GrpcConnectionPool pool = connectionPool;
+    if (pool != null) {
+      Address server = options.getServer();
+      if (server instanceof SocketAddress && ((SocketAddress) server).isInetSocket()) {
+        return pool.request((SocketAddress) server, options);
+      }
+    }
+    return client.request(options);
+  }
+
   private Future<GrpcClientRequest<Buffer, Buffer>> request(RequestOptions options) {
-    return client.request(options)
+    return httpRequest(options)
       .map(httpRequest -> {
         GrpcClientRequestImpl<Buffer, Buffer> grpcRequest = new GrpcClientRequestImpl<>(
           ((PromiseInternal<?>)httpRequest.response()).context(),
-          new Http2GrpcClientInvoker(httpRequest, maxMessageSize),
+          new Http2GrpcClientInvoker(httpRequest, maxMessageSize, flowControl),
           scheduleDeadlineAutomatically,
           GrpcMessageEncoder.IDENTITY,
           GrpcMessageDecoder.IDENTITY) {
@@ -77,6 +156,10 @@ public class GrpcClientImpl implements GrpcClient {
             return httpRequest.connection();
           }
         };
+        grpcRequest.compressionPolicy(compressionThreshold, adaptiveCompression);
+        grpcRequest.clientMetrics(metrics);
+        grpcRequest.loadReports(loadReports);
+        grpcRequest.outlierDetector(outlierDetector);
         configureTimeout(grpcRequest);
         return grpcRequest;
       });
@@ -128,11 +211,46 @@ public class GrpcClientImpl implements GrpcClient {
   }
 
   private <Req, Resp> Future<GrpcClientRequest<Req, Resp>> request(RequestOptions options, ServiceMethod<Resp, Req> method) {
-    return client.request(options)
+    HedgingPolicy hedgingPolicy = policy(hedgingPolicies, method);
+    if (hedgingPolicy != null) {
+      ContextInternal context = (ContextInternal) vertx.getOrCreateContext();
+      HedgingClientRequest<Req, Resp> call = new HedgingClientRequest<>(context, hedgingPolicy, method, () -> attempt(new RequestOptions(options), method));
+      call.compressionPolicy(compressionThreshold, adaptiveCompression);
+      configureTimeout(call);
+      return context.succeededFuture(call);
+    }
+    RetryPolicy retryPolicy = policy(retryPolicies, method);
+    if (retryPolicy != null) {
+      ContextInternal context = (ContextInternal) vertx.getOrCreateContext();
+      RetryingClientRequest<Req, Resp> call = new RetryingClientRequest<>(context, retryPolicy, retryThrottle, retryBufferSize, method, () -> attempt(new RequestOptions(options), method));
+      call.compressionPolicy(compressionThreshold, adaptiveCompression);
+      configureTimeout(call);
+      return context.succeededFuture(call);
+    }
+    return attempt(options, method)
+      .<GrpcClientRequest<Req, Resp>>map(call -> {
+        configureTimeout(call);
+        return call;
+      });
+  }
+
+  /**
+   * @return the policy of the {@code method} configured by its full method name or its service name
+   */
+  private static <P> P policy(Map<String, P> policies, ServiceMethod<?, ?> method) {
+    if (policies.isEmpty()) {
+      return null;
+    }
+    P policy = policies.get(method.fullMethodName());
+    return policy != null ? policy : policies.get(method.serviceName().fullyQualifiedName());
+  }
+
+  private <Req, Resp> Future<GrpcClientRequestImpl<Req, Resp>> attempt(RequestOptions options, ServiceMethod<Resp, Req> method) {
+    return httpRequest(options)
       .map(request -> {
         GrpcClientRequestImpl<Req, Resp> call = new GrpcClientRequestImpl<>(
           ((PromiseInternal<?>)request.response()).context(),
-          new Http2GrpcClientInvoker(request, maxMessageSize),
+          new Http2GrpcClientInvoker(request, maxMessageSize, flowControl),
           scheduleDeadlineAutomatically,
           method.encoder(),
           method.decoder()) {
@@ -142,13 +260,19 @@ public class GrpcClientImpl implements GrpcClient {
         };
         call.serviceName(method.serviceName());
         call.methodName(method.methodName());
-        configureTimeout(call);
+        call.compressionPolicy(compressionThreshold, adaptiveCompression);
+        call.clientMetrics(metrics);
+        call.loadReports(loadReports);
+        call.outlierDetector(outlierDetector);
         return call;
       });
   }
 
   @Override
   public Future<Void> close() {
+    if (connectionPool != null) {
+      connectionPool.close();
+    }
     if (closeClient) {
       return client.close();
     } else {
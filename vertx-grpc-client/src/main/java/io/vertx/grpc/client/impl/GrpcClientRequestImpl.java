@@ -18,12 +18,14 @@ import io.vertx.core.Promise;
 import io.vertx.core.Timer;
 
 import java.time.Duration;
-import java.util.EnumMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 
 import io.vertx.core.http.HttpConnection;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.grpc.client.GrpcClientMetrics;
 import io.vertx.grpc.client.GrpcClientRequest;
 import io.vertx.grpc.client.GrpcClientResponse;
 import io.vertx.grpc.common.*;
@@ -47,6 +49,10 @@ public class GrpcClientRequestImpl<Req, Resp> extends GrpcWriteStreamBase<GrpcCl
   private GrpcClientResponseImpl<Req, Resp> response;
   private Handler<Void> drainHandler;
   private boolean headWritten;
+  private GrpcClientMetrics<?> clientMetrics;
+  private BiConsumer<SocketAddress, BackendMetrics> loadReports;
+  private OutlierDetector outlierDetector;
+  private long startNanos;
 
   public GrpcClientRequestImpl(ContextInternal context,
                                GrpcClientInvoker invoker,
@@ -65,6 +71,28 @@ public class GrpcClientRequestImpl<Req, Resp> extends GrpcWriteStreamBase<GrpcCl
     this.messageDecoder = messageDecoder;
   }
 
+  /**
+   * Report the call to the {@code metrics}, must be called before the request headers are sent.
+   */
+  public void clientMetrics(GrpcClientMetrics<?> metrics) {
+    this.clientMetrics = metrics;
+  }
+
+  /**
+   * Report the {@link BackendMetrics} carried by the response trailers to {@code loadReports} along with the server
+   * address.
+   */
+  public void loadReports(BiConsumer<SocketAddress, BackendMetrics> loadReports) {
+    this.loadReports = loadReports;
+  }
+
+  /**
+   * Report the outcome of the call to the {@code outlierDetector} along with the server address.
+   */
+  public void outlierDetector(OutlierDetector outlierDetector) {
+    this.outlierDetector = outlierDetector;
+  }
+
   @Override
   public GrpcClientRequest<Req, Resp> setWriteQueueMaxSize(int maxSize) {
     return this;
@@ -163,6 +191,14 @@ public class GrpcClientRequestImpl<Req, Resp> extends GrpcWriteStreamBase<GrpcCl
     }
 
     stream = invoker.invoke(serviceName, methodName);
+    if (outlierDetector != null) {
+      startNanos = System.nanoTime();
+    }
+    GrpcClientMetrics<?> clientMetrics = this.clientMetrics;
+    if (clientMetrics != null) {
+      metrics(new CallMetrics(clientMetrics, clientMetrics.callBegin(serviceName, methodName)));
+      metrics.headersSent();
+    }
     stream.drainHandler(drainHandler);
     stream.handler(this::handleFrame);
     stream.endHandler(this::handleEnd);
@@ -222,6 +258,9 @@ public class GrpcClientRequestImpl<Req, Resp> extends GrpcWriteStreamBase<GrpcCl
 
   @Override
   protected boolean sendCancel() {
+    if (metrics != null) {
+      metrics.end(GrpcStatus.CANCELLED);
+    }
     stream
       .write(DefaultGrpcCancelFrame.INSTANCE)
       .onSuccess(v -> handleError(GrpcError.CANCELLED));
@@ -233,26 +272,6 @@ public class GrpcClientRequestImpl<Req, Resp> extends GrpcWriteStreamBase<GrpcCl
     return null;
   }
 
-  private static final EnumMap<TimeUnit, Character> GRPC_TIMEOUT_UNIT_SUFFIXES = new EnumMap<>(TimeUnit.class);
-
-  static {
-    GRPC_TIMEOUT_UNIT_SUFFIXES.put(TimeUnit.NANOSECONDS, 'n');
-    GRPC_TIMEOUT_UNIT_SUFFIXES.put(TimeUnit.MICROSECONDS, 'u');
-    GRPC_TIMEOUT_UNIT_SUFFIXES.put(TimeUnit.MILLISECONDS, 'm');
-    GRPC_TIMEOUT_UNIT_SUFFIXES.put(TimeUnit.SECONDS, 'S');
-    GRPC_TIMEOUT_UNIT_SUFFIXES.put(TimeUnit.MINUTES, 'M');
-    GRPC_TIMEOUT_UNIT_SUFFIXES.put(TimeUnit.HOURS, 'H');
-  }
-
-  private static final TimeUnit[] GRPC_TIMEOUT_UNITS = {
-    TimeUnit.NANOSECONDS,
-    TimeUnit.MICROSECONDS,
-    TimeUnit.MILLISECONDS,
-    TimeUnit.SECONDS,
-    TimeUnit.MINUTES,
-    TimeUnit.HOURS,
-  };
-
   /**
    * Compute timeout header, returns {@code null} when the timeout value is not valid.
    *
@@ -261,21 +280,7 @@ public class GrpcClientRequestImpl<Req, Resp> extends GrpcWriteStreamBase<GrpcCl
    * @return the grpc-timeout header value, e.g. 1M (1 minute)
    */
   public static String toTimeoutHeader(long timeout, TimeUnit timeoutUnit) {
-    for (TimeUnit grpcTimeoutUnit : GRPC_TIMEOUT_UNITS) {
-      String res = toTimeoutHeader(timeout, timeoutUnit, grpcTimeoutUnit);
-      if (res != null) {
-        return res;
-      }
-    }
-    return null;
-  }
-
-  private static String toTimeoutHeader(long timeout, TimeUnit srcUnit, TimeUnit grpcTimeoutUnit) {
-    long v = grpcTimeoutUnit.convert(timeout, srcUnit);
-    if (v < 1_000_000_00) {
-      return Long.toString(v) + GRPC_TIMEOUT_UNIT_SUFFIXES.get(grpcTimeoutUnit);
-    }
-    return null;
+    return GrpcHeaderClassifier.toTimeoutHeader(timeout, timeoutUnit);
   }
 
   private void handleFrame(GrpcFrame frame) {
@@ -310,6 +315,10 @@ public class GrpcClientRequestImpl<Req, Resp> extends GrpcWriteStreamBase<GrpcCl
     });
 
     response.handleHeaders(frame.headers());
+    if (metrics != null) {
+      response.metrics(metrics);
+      metrics.headersReceived(frame.headers());
+    }
 
     responsePromise.tryComplete(response);
   }
@@ -322,10 +331,19 @@ public class GrpcClientRequestImpl<Req, Resp> extends GrpcWriteStreamBase<GrpcCl
   }
 
   private void handleTrailersFrame(GrpcTrailersFrame frame) {
+    if (loadReports != null) {
+      reportLoad(frame.trailers());
+    }
+    if (outlierDetector != null) {
+      reportOutcome(frame.status());
+    }
     if (response == null) {
       response = new GrpcClientResponseImpl<>(context(), GrpcClientRequestImpl.this, stream, WireFormat.PROTOBUF,
         null, messageDecoder);
       response.handleHeaders(frame.trailers());
+      if (metrics != null) {
+        metrics.headersReceived(frame.trailers());
+      }
       response.handleTrailers(frame.status(), frame.statusMessage(), HttpHeaders.headers());
       responsePromise.tryComplete(response);
     } else {
@@ -333,6 +351,24 @@ public class GrpcClientRequestImpl<Req, Resp> extends GrpcWriteStreamBase<GrpcCl
     }
   }
 
+  private void reportLoad(MultiMap trailers) {
+    BackendMetrics metrics = BackendMetrics.decode(trailers.get(GrpcHeaderNames.ENDPOINT_LOAD_METRICS));
+    HttpConnection connection = connection();
+    if (metrics != null && connection != null) {
+      loadReports.accept(connection.remoteAddress(), metrics);
+    }
+  }
+
+  private void reportOutcome(GrpcStatus status) {
+    OutlierDetector detector = outlierDetector;
+    HttpConnection connection = connection();
+    if (connection != null) {
+      // Report once
+      outlierDetector = null;
+      detector.report(connection.remoteAddress(), status, System.nanoTime() - startNanos);
+    }
+  }
+
   private void handleCancelFrame(GrpcCancelFrame frame) {
     handleCancel();
   }
@@ -340,11 +376,21 @@ public class GrpcClientRequestImpl<Req, Resp> extends GrpcWriteStreamBase<GrpcCl
   private void handleEnd(Void v) {
     GrpcClientResponseImpl<Req, Resp> r2 = response;
     if (r2 != null) {
+      if (metrics != null) {
+        GrpcStatus status = r2.status();
+        metrics.end(status != null ? status : GrpcStatus.UNKNOWN);
+      }
       r2.handleEnd();
     }
   }
 
   private void internalHandleException(Throwable err) {
+    if (metrics != null) {
+      metrics.end(GrpcStatus.UNAVAILABLE);
+    }
+    if (outlierDetector != null) {
+      reportOutcome(GrpcStatus.UNAVAILABLE);
+    }
     handleException(err);
     if (!responsePromise.tryFail(err)) {
       GrpcClientResponseImpl<Req, Resp> resp = response;
@@ -33,6 +33,7 @@ public class GrpcClientResponseImpl<Req, Resp> extends GrpcReadStreamBase<GrpcCl
   private GrpcStatus status;
   private MultiMap headers;
   private MultiMap trailers;
+  private GrpcMetadata trailersMetadata;
   private String statusMessage;
 
   public GrpcClientResponseImpl(ContextInternal context,
@@ -87,6 +88,14 @@ public class GrpcClientResponseImpl<Req, Resp> extends GrpcReadStreamBase<GrpcCl
     return trailers;
   }
 
+  @Override
+  public GrpcMetadata trailersMetadata() {
+    if (trailersMetadata == null && trailers != null) {
+      trailersMetadata = GrpcMetadata.of(trailers);
+    }
+    return trailersMetadata;
+  }
+
   public void handleEnd() {
     request.cancelTimeout();
     super.handleEnd();
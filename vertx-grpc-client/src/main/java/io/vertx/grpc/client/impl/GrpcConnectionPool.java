@@ -0,0 +1,315 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.client.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.http.HttpClientAgent;
+import io.vertx.core.http.HttpClientConnection;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpConnectOptions;
+import io.vertx.core.http.RequestOptions;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.VertxInternal;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.net.SocketAddress;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>A pool of HTTP/2 connections per server address.</p>
+ *
+ * <p>The pool opens {@code size} connections to a server, each connection is opened from a new event-loop context so
+ * the connections of a server are spread over the event-loops. A request is sent on the connection with the fewest
+ * outstanding streams. When every connection has reached 3/4 of the {@code MAX_CONCURRENT_STREAMS} advertised by the
+ * server, a new connection is opened, up to {@code maxSize} connections.</p>
+ *
+ * <p>A request waits for its connection when it is still being opened, a connection that is closed or receives a
+ * {@code GOAWAY} frame does not get new streams and is replaced while it drains its streams. A request whose connection
+ * fails to open is sent on an opened connection of the server instead, when there is one. The request is created from
+ * the caller context, so its handlers are called on this context whatever the event-loop of its connection.</p>
+ *
+ * <p>After a connection fails to open, the pool opens a single connection at a time to the server, after a backoff
+ * doubling with each consecutive failure from 1 second up to 2 minutes. A request fails immediately when the server
+ * has no opened connection during the backoff.</p>
+ */
+final class GrpcConnectionPool {
+
+  private static final long INITIAL_CONNECT_BACKOFF = TimeUnit.SECONDS.toNanos(1);
+  private static final long MAX_CONNECT_BACKOFF = TimeUnit.MINUTES.toNanos(2);
+
+  private final VertxInternal vertx;
+  private final HttpClientAgent client;
+  private final int size;
+  private final int maxSize;
+  private final Map<SocketAddress, Endpoint> endpoints = new ConcurrentHashMap<>();
+  private volatile boolean closed;
+
+  GrpcConnectionPool(VertxInternal vertx, HttpClientAgent client, int size, int maxSize) {
+    this.vertx = vertx;
+    this.client = client;
+    this.size = size;
+    this.maxSize = Math.max(size, maxSize);
+  }
+
+  /**
+   * Create a request to the {@code server} on the connection with the fewest outstanding streams, the request is
+   * bound to the caller context like the requests of the client.
+   */
+  Future<HttpClientRequest> request(SocketAddress server, RequestOptions options) {
+    ContextInternal context = vertx.getOrCreateContext();
+    if (closed) {
+      return context.failedFuture("Client is closed");
+    }
+    Endpoint endpoint = endpoints.computeIfAbsent(server, Endpoint::new);
+    Slot slot = endpoint.pick();
+    if (slot == null) {
+      return context.failedFuture(endpoint.failure());
+    }
+    Promise<HttpClientRequest> promise = context.promise();
+    request(context, endpoint, slot, options, promise);
+    return promise.future();
+  }
+
+  private void request(ContextInternal context, Endpoint endpoint, Slot slot, RequestOptions options, Promise<HttpClientRequest> promise) {
+    slot.connection.onComplete(ar -> {
+      if (ar.failed()) {
+        endpoint.release(slot);
+        // Fall back to an opened connection of the server
+        Slot opened = endpoint.pickOpened();
+        if (opened == null) {
+          promise.fail(ar.cause());
+        } else {
+          request(context, endpoint, opened, options, promise);
+        }
+        return;
+      }
+      // The connection completes on the event-loop it was opened from, the stream is created from the caller context
+      context.runOnContext(v -> ar.result()
+        .request(options)
+        .andThen(ar2 -> {
+          if (ar2.succeeded()) {
+            ar2.result()
+              .response()
+              .compose(HttpClientResponse::end)
+              .onComplete(v2 -> endpoint.release(slot));
+          } else {
+            endpoint.release(slot);
+          }
+        })
+        .onComplete(promise));
+    });
+  }
+
+  /**
+   * @return the statistics of the pool keyed by server address
+   */
+  JsonObject statistics() {
+    JsonObject statistics = new JsonObject();
+    endpoints.forEach((server, endpoint) -> statistics.put(server.toString(), endpoint.statistics()));
+    return statistics;
+  }
+
+  void close() {
+    closed = true;
+    for (Endpoint endpoint : endpoints.values()) {
+      endpoint.close();
+    }
+    endpoints.clear();
+  }
+
+  private class Endpoint {
+
+    private final SocketAddress server;
+    private final List<Slot> slots = new ArrayList<>();
+    private long opened;
+    // consecutive connection failures, the next connection is opened at retryAt
+    private int failures;
+    private long retryAt;
+    private Throwable failure;
+
+    Endpoint(SocketAddress server) {
+      this.server = server;
+    }
+
+    /**
+     * @return the slot of the request, or {@code null} when the server has no connection during the connect backoff
+     */
+    synchronized Slot pick() {
+      // The draining connections are replaced, they are removed when they close
+      int usable = usable();
+      if (failures == 0) {
+        while (usable++ < size) {
+          open();
+        }
+      } else if (usable < size && System.nanoTime() - retryAt >= 0L) {
+        // Probe the server with a single connection, the next one waits until this one fails or the backoff elapses
+        retryAt = System.nanoTime() + backoff();
+        open();
+      }
+      Slot best;
+      if (failures == 0) {
+        best = select(false);
+        if (best == null || (best.streams >= best.threshold() && usable() < maxSize)) {
+          best = open();
+        }
+      } else {
+        // Prefer the opened connections to the probe while the server fails
+        best = select(true);
+        if (best == null) {
+          best = select(false);
+        }
+      }
+      if (best != null) {
+        best.streams++;
+      }
+      return best;
+    }
+
+    /**
+     * @return the opened slot with the fewest outstanding streams or {@code null} when there is none
+     */
+    synchronized Slot pickOpened() {
+      Slot best = select(true);
+      if (best != null) {
+        best.streams++;
+      }
+      return best;
+    }
+
+    private int usable() {
+      int usable = 0;
+      for (Slot slot : slots) {
+        if (!slot.draining) {
+          usable++;
+        }
+      }
+      return usable;
+    }
+
+    private Slot select(boolean opened) {
+      Slot best = null;
+      for (Slot slot : slots) {
+        if (!slot.draining && (!opened || slot.connection.succeeded()) && (best == null || slot.streams < best.streams)) {
+          best = slot;
+        }
+      }
+      return best;
+    }
+
+    synchronized Throwable failure() {
+      return failure;
+    }
+
+    synchronized void release(Slot slot) {
+      slot.streams--;
+    }
+
+    private Slot open() {
+      ContextInternal context = vertx.createEventLoopContext();
+      Promise<HttpClientConnection> promise = context.promise();
+      Slot slot = new Slot(promise.future());
+      slots.add(slot);
+      opened++;
+      HttpConnectOptions options = new HttpConnectOptions()
+        .setHost(server.host())
+        .setPort(server.port());
+      context.runOnContext(v -> client.connect(options).onComplete(promise));
+      slot.connection.onComplete(ar -> {
+        if (ar.succeeded()) {
+          HttpClientConnection conn = ar.result();
+          conn.goAwayHandler(goAway -> drain(slot));
+          conn.closeHandler(v -> remove(slot));
+          connected();
+        } else {
+          failed(slot, ar.cause());
+        }
+      });
+      return slot;
+    }
+
+    private synchronized void connected() {
+      failures = 0;
+    }
+
+    private synchronized void failed(Slot slot, Throwable cause) {
+      remove(slot);
+      failures++;
+      failure = cause;
+      retryAt = System.nanoTime() + backoff();
+    }
+
+    private long backoff() {
+      return Math.min(INITIAL_CONNECT_BACKOFF << Math.min(failures - 1, 16), MAX_CONNECT_BACKOFF);
+    }
+
+    private synchronized void drain(Slot slot) {
+      slot.draining = true;
+    }
+
+    private synchronized void remove(Slot slot) {
+      slot.draining = true;
+      slots.remove(slot);
+    }
+
+    synchronized JsonObject statistics() {
+      JsonArray streams = new JsonArray();
+      long activeStreams = 0L;
+      for (Slot slot : slots) {
+        streams.add(slot.streams);
+        activeStreams += slot.streams;
+      }
+      return new JsonObject()
+        .put("connections", slots.size())
+        .put("openedConnections", opened)
+        .put("activeStreams", activeStreams)
+        .put("streams", streams);
+    }
+
+    synchronized void close() {
+      for (Slot slot : slots) {
+        slot.draining = true;
+        slot.connection.onSuccess(HttpClientConnection::close);
+      }
+      slots.clear();
+    }
+  }
+
+  private static class Slot {
+
+    private final Future<HttpClientConnection> connection;
+    private int streams;
+    private boolean draining;
+
+    Slot(Future<HttpClientConnection> connection) {
+      this.connection = connection;
+    }
+
+    /**
+     * @return the number of streams above which a new connection is preferred, unbounded until the connection is
+     *         opened
+     */
+    long threshold() {
+      HttpClientConnection conn = connection.result();
+      if (conn == null) {
+        return Long.MAX_VALUE;
+      }
+      long maxConcurrentStreams = conn.remoteSettings().getMaxConcurrentStreams();
+      return Math.max(1L, maxConcurrentStreams - maxConcurrentStreams / 4);
+    }
+  }
+}
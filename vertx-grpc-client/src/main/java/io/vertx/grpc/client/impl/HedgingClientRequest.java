@@ -0,0 +1,356 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.client.impl;
+
+import io.vertx.codegen.annotations.Nullable;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Timer;
+import io.vertx.core.http.HttpConnection;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.grpc.client.GrpcClientRequest;
+import io.vertx.grpc.client.GrpcClientResponse;
+import io.vertx.grpc.client.HedgingPolicy;
+import io.vertx.grpc.common.*;
+import io.vertx.grpc.common.impl.GrpcWriteStreamBase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * <p>A request hedged according to a {@link HedgingPolicy}.</p>
+ *
+ * <p>The request messages are encoded and compressed once and buffered until the request ends, then each attempt is
+ * a request created by the {@code attempts} supplier and sent the buffered messages. The first response of an attempt
+ * commits the call: the other attempts are cancelled. A trailers-only response with a non fatal status sends the next
+ * attempt immediately instead, unless no attempt remains.</p>
+ *
+ * <p>The attempts share the deadline of the call, no attempt is sent once the deadline is reached.</p>
+ *
+ * <p>The attempts run on the context of the request.</p>
+ */
+class HedgingClientRequest<Req, Resp> extends GrpcWriteStreamBase<HedgingClientRequest<Req, Resp>, Req> implements GrpcClientRequest<Req, Resp> {
+
+  private final Supplier<Future<GrpcClientRequestImpl<Req, Resp>>> attempts;
+  private final int maxAttempts;
+  private final long hedgingDelay;
+  private final Set<GrpcStatus> nonFatalStatusCodes;
+  private final Promise<GrpcClientResponse<Req, Resp>> response;
+  private final List<GrpcMessage> messages = new ArrayList<>(1);
+  private final List<GrpcClientRequestImpl<Req, Resp>> live = new ArrayList<>();
+  private ServiceName serviceName;
+  private String methodName;
+  private long timeout;
+  private TimeUnit timeoutUnit;
+  private long deadline;
+  private long idleTimeout;
+  private GrpcMetadata headers;
+  private int sent;
+  private int inFlight;
+  private long hedgingTimer = -1L;
+  private GrpcClientRequestImpl<Req, Resp> first;
+  private GrpcClientRequestImpl<Req, Resp> committed;
+  private AsyncResult<GrpcClientResponse<Req, Resp>> lastResult;
+
+  HedgingClientRequest(ContextInternal context,
+                       HedgingPolicy policy,
+                       ServiceMethod<Resp, Req> method,
+                       Supplier<Future<GrpcClientRequestImpl<Req, Resp>>> attempts) {
+    super(context, method.encoder());
+    this.attempts = attempts;
+    this.maxAttempts = policy.getMaxAttempts();
+    this.hedgingDelay = policy.getHedgingDelay();
+    this.nonFatalStatusCodes = policy.getNonFatalStatusCodes();
+    this.response = context.promise();
+    this.serviceName = method.serviceName();
+    this.methodName = method.methodName();
+  }
+
+  @Override
+  public GrpcClientRequest<Req, Resp> fullMethodName(String fullMethodName) {
+    if (isHeadersWritten()) {
+      throw new IllegalStateException("Request already sent");
+    }
+    int idx = fullMethodName.lastIndexOf('/');
+    if (idx == -1) {
+      throw new IllegalArgumentException();
+    }
+    this.serviceName = ServiceName.create(fullMethodName.substring(0, idx));
+    this.methodName = fullMethodName.substring(idx + 1);
+    return this;
+  }
+
+  @Override
+  public GrpcClientRequest<Req, Resp> serviceName(ServiceName serviceName) {
+    this.serviceName = serviceName;
+    return this;
+  }
+
+  @Override
+  public GrpcClientRequest<Req, Resp> methodName(String methodName) {
+    this.methodName = methodName;
+    return this;
+  }
+
+  @Override
+  public Future<GrpcClientResponse<Req, Resp>> response() {
+    return response.future();
+  }
+
+  @Override
+  public GrpcClientRequest<Req, Resp> setWriteQueueMaxSize(int maxSize) {
+    return this;
+  }
+
+  @Override
+  public GrpcClientRequest<Req, Resp> drainHandler(@Nullable Handler<Void> handler) {
+    // Messages are buffered
+    return this;
+  }
+
+  @Override
+  public boolean writeQueueFull() {
+    return false;
+  }
+
+  @Override
+  public GrpcClientRequest<Req, Resp> timeout(long timeout, TimeUnit unit) {
+    if (timeout < 0L) {
+      throw new IllegalArgumentException("Timeout must be positive");
+    }
+    if (isHeadersWritten()) {
+      throw new IllegalStateException("Timeout must be set before sending request headers");
+    }
+    if (GrpcClientRequestImpl.toTimeoutHeader(timeout, unit) == null) {
+      throw new IllegalArgumentException("Not a valid gRPC timeout value (" + timeout + ',' + unit + ')');
+    }
+    this.timeout = timeout;
+    this.timeoutUnit = unit;
+    return this;
+  }
+
+  @Override
+  public Timer deadline() {
+    GrpcClientRequestImpl<Req, Resp> request = committed != null ? committed : first;
+    return request != null ? request.deadline() : null;
+  }
+
+  @Override
+  public GrpcClientRequest<Req, Resp> idleTimeout(long timeout) {
+    idleTimeout = timeout;
+    for (GrpcClientRequestImpl<Req, Resp> attempt : live) {
+      attempt.idleTimeout(timeout);
+    }
+    return this;
+  }
+
+  @Override
+  public HttpConnection connection() {
+    GrpcClientRequestImpl<Req, Resp> request = committed != null ? committed : first;
+    return request != null ? request.connection() : null;
+  }
+
+  private void captureHeaders() {
+    if (headers == null) {
+      headers = metadata();
+    }
+  }
+
+  @Override
+  protected Future<Void> sendHead() {
+    captureHeaders();
+    return context.succeededFuture();
+  }
+
+  @Override
+  protected Future<Void> sendMessage(GrpcMessage message) {
+    captureHeaders();
+    messages.add(RetryingClientRequest.materialize(message));
+    return context.succeededFuture();
+  }
+
+  @Override
+  protected Future<Void> sendEnd() {
+    captureHeaders();
+    if (timeout > 0L) {
+      deadline = System.nanoTime() + timeoutUnit.toNanos(timeout);
+    }
+    if (context.inThread()) {
+      hedge();
+    } else {
+      context.runOnContext(v -> hedge());
+    }
+    return context.succeededFuture();
+  }
+
+  @Override
+  protected boolean sendCancel() {
+    cancelHedging();
+    if (committed != null) {
+      committed.cancel();
+    } else {
+      cancelAttempts(null);
+      response.tryFail(new GrpcErrorException(GrpcError.CANCELLED, GrpcStatus.CANCELLED));
+    }
+    return true;
+  }
+
+  /**
+   * Send the next attempt and schedule the following one.
+   */
+  private void hedge() {
+    hedgingTimer = -1L;
+    if (committed != null || isCancelled() || sent == maxAttempts) {
+      return;
+    }
+    long remaining = 0L;
+    if (deadline != 0L) {
+      remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+      if (remaining <= 0L && sent > 0) {
+        // The call is out of time, the attempts in flight conclude it
+        if (inFlight == 0) {
+          conclude();
+        }
+        return;
+      }
+    }
+    sent++;
+    inFlight++;
+    long attemptTimeout = Math.max(1L, remaining);
+    attempts.get().onComplete(ar -> {
+      if (ar.succeeded()) {
+        send(ar.result(), attemptTimeout);
+      } else {
+        attemptFailed(null, Future.failedFuture(ar.cause()));
+      }
+    });
+    if (sent < maxAttempts) {
+      if (hedgingDelay == 0L) {
+        hedge();
+      } else {
+        hedgingTimer = context.setTimer(hedgingDelay, id -> hedge());
+      }
+    }
+  }
+
+  private void send(GrpcClientRequestImpl<Req, Resp> attempt, long attemptTimeout) {
+    if (first == null) {
+      first = attempt;
+    }
+    attempt.serviceName(serviceName);
+    attempt.methodName(methodName);
+    if (format() != null) {
+      attempt.format(format());
+    }
+    if (encoding() != null) {
+      attempt.encoding(encoding());
+    }
+    if (headers != null && !headers.isEmpty()) {
+      attempt.headers().addAll(headers);
+    }
+    if (deadline != 0L) {
+      attempt.timeout(attemptTimeout, TimeUnit.MILLISECONDS);
+    }
+    live.add(attempt);
+    attempt.response().onComplete(ar -> handleResponse(attempt, ar));
+    int last = messages.size() - 1;
+    for (int i = 0;i < last;i++) {
+      attempt.writeMessage(messages.get(i));
+    }
+    if (last >= 0) {
+      attempt.endMessage(messages.get(last));
+    } else {
+      attempt.end();
+    }
+    if (idleTimeout > 0L) {
+      attempt.idleTimeout(idleTimeout);
+    }
+    if (committed != null || isCancelled()) {
+      // The call concluded while the attempt was created
+      live.remove(attempt);
+      attempt.cancel();
+    }
+  }
+
+  private void handleResponse(GrpcClientRequestImpl<Req, Resp> attempt, AsyncResult<GrpcClientResponse<Req, Resp>> ar) {
+    if (committed != null || !live.contains(attempt)) {
+      return;
+    }
+    if (ar.succeeded()) {
+      GrpcStatus status = ar.result().status();
+      if (status == null || !nonFatalStatusCodes.contains(status)) {
+        commit(attempt, ar.result());
+        return;
+      }
+    }
+    attemptFailed(attempt, ar);
+  }
+
+  private void commit(GrpcClientRequestImpl<Req, Resp> attempt, GrpcClientResponse<Req, Resp> resp) {
+    committed = attempt;
+    cancelHedging();
+    cancelAttempts(attempt);
+    response.tryComplete(resp);
+  }
+
+  private void attemptFailed(GrpcClientRequestImpl<Req, Resp> attempt, AsyncResult<GrpcClientResponse<Req, Resp>> result) {
+    if (committed != null || isCancelled()) {
+      return;
+    }
+    if (attempt != null) {
+      live.remove(attempt);
+    }
+    inFlight--;
+    lastResult = result;
+    if (sent < maxAttempts) {
+      // Do not wait for the hedging delay
+      cancelHedging();
+      hedge();
+    }
+    if (inFlight == 0) {
+      conclude();
+    }
+  }
+
+  /**
+   * Conclude the call with the result of the last attempt when no attempt is in flight.
+   */
+  private void conclude() {
+    cancelHedging();
+    AsyncResult<GrpcClientResponse<Req, Resp>> result = lastResult;
+    if (result.succeeded()) {
+      response.tryComplete(result.result());
+    } else {
+      response.tryFail(result.cause());
+    }
+  }
+
+  private void cancelAttempts(GrpcClientRequestImpl<Req, Resp> except) {
+    for (GrpcClientRequestImpl<Req, Resp> attempt : new ArrayList<>(live)) {
+      if (attempt != except) {
+        attempt.cancel();
+      }
+    }
+    live.clear();
+  }
+
+  private void cancelHedging() {
+    if (hedgingTimer != -1L) {
+      context.owner().cancelTimer(hedgingTimer);
+      hedgingTimer = -1L;
+    }
+  }
+}
@@ -4,21 +4,28 @@ import io.vertx.core.http.HttpClientRequest;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.PromiseInternal;
 import io.vertx.grpc.common.ServiceName;
+import io.vertx.grpc.common.impl.InboundFlowControl;
 
 public class Http2GrpcClientInvoker implements GrpcClientInvoker {
 
   private final HttpClientRequest httpRequest;
   private final ContextInternal context;
   private final long maxMessageSize;
+  private final InboundFlowControl flowControl;
 
   public Http2GrpcClientInvoker(HttpClientRequest httpRequest, long maxMessageSize) {
+    this(httpRequest, maxMessageSize, InboundFlowControl.DEFAULT);
+  }
+
+  public Http2GrpcClientInvoker(HttpClientRequest httpRequest, long maxMessageSize, InboundFlowControl flowControl) {
     this.httpRequest = httpRequest;
     this.context = ((PromiseInternal<?>)httpRequest.response()).context();
     this.maxMessageSize = maxMessageSize;
+    this.flowControl = flowControl;
   }
 
   @Override
   public Http2GrpcInboundStream invoke(ServiceName serviceName, String methodName) {
-    return new Http2GrpcInboundStream(context, httpRequest, serviceName, methodName, maxMessageSize);
+    return new Http2GrpcInboundStream(context, httpRequest, serviceName, methodName, maxMessageSize, flowControl);
   }
 }
@@ -21,9 +21,11 @@ import io.vertx.grpc.common.impl.DefaultGrpcMessageFrame;
 import io.vertx.grpc.common.impl.DefaultGrpcTrailersFrame;
 import io.vertx.grpc.common.impl.GrpcDeframingStream;
 import io.vertx.grpc.common.impl.GrpcFrame;
+import io.vertx.grpc.common.impl.GrpcHeaderClassifier;
 import io.vertx.grpc.common.impl.GrpcHeadersFrame;
 import io.vertx.grpc.common.impl.GrpcTrailersFrame;
-import io.vertx.grpc.common.impl.Http2GrpcMessageDeframer;
+import io.vertx.grpc.common.impl.InboundFlowControl;
+import io.vertx.grpc.common.impl.CompositeGrpcMessageDeframer;
 
 import java.nio.charset.StandardCharsets;
 
@@ -34,6 +36,7 @@ public class Http2GrpcInboundStream extends Http2GrpcOutboundStream {
   private Handler<Throwable> exceptionHandler;
   private GrpcDeframingStream stream;
   private final long maxMessageSize;
+  private final InboundFlowControl flowControl;
   private boolean initialized;
 
   public Http2GrpcInboundStream(ContextInternal context,
@@ -41,8 +44,18 @@ public class Http2GrpcInboundStream extends Http2GrpcOutboundStream {
                                 ServiceName serviceName,
                                 String methodName,
                                 long maxMessageSize) {
+    this(context, httpRequest, serviceName, methodName, maxMessageSize, InboundFlowControl.DEFAULT);
+  }
+
+  public Http2GrpcInboundStream(ContextInternal context,
+                                HttpClientRequest httpRequest,
+                                ServiceName serviceName,
+                                String methodName,
+                                long maxMessageSize,
+                                InboundFlowControl flowControl) {
     super(context, httpRequest, serviceName, methodName);
     this.maxMessageSize = maxMessageSize;
+    this.flowControl = flowControl;
   }
 
   void init() {
@@ -96,7 +109,7 @@ public class Http2GrpcInboundStream extends Http2GrpcOutboundStream {
       String statusHeader = httpResponse.getHeader(GrpcHeaderNames.GRPC_STATUS);
       status = statusHeader != null ? GrpcStatus.valueOf(Integer.parseInt(statusHeader)) : null;
       if (contentType != null) {
-        format = GrpcMediaType.parseContentType(contentType, GrpcMediaType.GRPC.toString());
+        format = GrpcHeaderClassifier.wireFormat(contentType, GrpcMediaType.GRPC);
       } else {
         format = null;
       }
@@ -129,8 +142,9 @@ public class Http2GrpcInboundStream extends Http2GrpcOutboundStream {
         });
       } else {
 
-        Http2GrpcMessageDeframer deframer = new Http2GrpcMessageDeframer(httpResponse.headers().get(GrpcHeaderNames.GRPC_ENCODING), format);
-        GrpcDeframingStream deframingStream = new GrpcDeframingStream(context,  httpResponse, deframer);
+        CompositeGrpcMessageDeframer deframer = new CompositeGrpcMessageDeframer(httpResponse.headers().get(GrpcHeaderNames.GRPC_ENCODING), format);
+        GrpcDeframingStream deframingStream = new GrpcDeframingStream(context, context, httpResponse, deframer, flowControl,
+          flowControl.estimator(context, httpRequest.connection(), httpResponse.version()));
         deframingStream.init(maxMessageSize);
         deframingStream.handler(m -> {
           emit(new DefaultGrpcMessageFrame(m));
@@ -13,7 +13,7 @@ import io.vertx.grpc.common.CodecException;
 import io.vertx.grpc.common.GrpcCancelFrame;
 import io.vertx.grpc.common.GrpcError;
 import io.vertx.grpc.common.GrpcHeaderNames;
-import io.vertx.grpc.common.GrpcMessage;
+import io.vertx.grpc.common.GrpcMetadata;
 import io.vertx.grpc.common.ServiceName;
 import io.vertx.grpc.common.impl.*;
 
@@ -98,8 +98,13 @@ abstract class Http2GrpcOutboundStream implements GrpcStream {
 
     if (headers != null && !headers.isEmpty()) {
       MultiMap requestHeaders = httpRequest.headers();
-      for (Map.Entry<String, String> header : headers) {
-        requestHeaders.add(header.getKey(), header.getValue());
+      if (headers instanceof GrpcMetadata) {
+        // Added as is, without converting names and values to strings
+        ((GrpcMetadata) headers).addTo(requestHeaders);
+      } else {
+        for (Map.Entry<String, String> header : headers) {
+          requestHeaders.add(header.getKey(), header.getValue());
+        }
       }
     }
 
@@ -119,7 +124,7 @@ abstract class Http2GrpcOutboundStream implements GrpcStream {
     if (frame.encoding() != null) {
       httpRequest.putHeader(GrpcHeaderNames.GRPC_ENCODING, frame.encoding());
     }
-    httpRequest.putHeader(GrpcHeaderNames.GRPC_ACCEPT_ENCODING, "gzip");
+    httpRequest.putHeader(GrpcHeaderNames.GRPC_ACCEPT_ENCODING, GrpcCompression.acceptEncoding());
     httpRequest.putHeader(HttpHeaderNames.TE, "trailers");
     httpRequest.setChunked(true);
     httpRequest.setURI(uri);
@@ -130,8 +135,7 @@ abstract class Http2GrpcOutboundStream implements GrpcStream {
   private Future<Void> handleMessageFrame(GrpcMessageFrame frame) {
     Buffer payload;
     try {
-      GrpcMessage message = frame.message();
-      payload = DefaultGrpcMessage.encode(message.payload(), message.isCompressed(), false);
+      payload = DefaultGrpcMessage.encode(frame.message(), false);
     } catch (CodecException e) {
       return context.failedFuture(e);
     }
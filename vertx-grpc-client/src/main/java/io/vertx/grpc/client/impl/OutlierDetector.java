@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.client.impl;
+
+import io.vertx.core.net.SocketAddress;
+import io.vertx.core.net.endpoint.LoadBalancer;
+import io.vertx.core.net.endpoint.ServerEndpoint;
+import io.vertx.core.net.endpoint.ServerSelector;
+import io.vertx.grpc.client.OutlierDetectionOptions;
+import io.vertx.grpc.common.GrpcStatus;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <p>A load balancer ejecting the outlier servers from the selection of another load balancer.</p>
+ *
+ * <p>The calls of a server are counted in a ring of {@link #BUCKETS} buckets covering the interval, the buckets are
+ * updated with atomic operations by the event-loops reporting the calls. A bucket is recycled when the ring wraps
+ * around, the counts of the calls reported while it is recycled can be lost, the window is an approximation.</p>
+ *
+ * <p>A server is considered once picked by a selector, the calls of other servers are ignored.</p>
+ */
+public final class OutlierDetector implements LoadBalancer {
+
+  private static final int BUCKETS = 10;
+
+  private final LoadBalancer loadBalancer;
+  private final long bucketDuration;
+  private final long baseEjectionTime;
+  private final long maxEjectionTime;
+  private final int maxEjectionPercent;
+  private final int failurePercentageThreshold;
+  private final int minimumCalls;
+  private final long latencyThreshold;
+  private final Set<GrpcStatus> failureStatusCodes;
+  private final Map<String, Server> servers = new ConcurrentHashMap<>();
+
+  public OutlierDetector(LoadBalancer loadBalancer, OutlierDetectionOptions options) {
+    this.loadBalancer = loadBalancer;
+    this.bucketDuration = Math.max(1L, TimeUnit.MILLISECONDS.toNanos(options.getInterval()) / BUCKETS);
+    this.baseEjectionTime = TimeUnit.MILLISECONDS.toNanos(options.getBaseEjectionTime());
+    this.maxEjectionTime = TimeUnit.MILLISECONDS.toNanos(Math.max(options.getBaseEjectionTime(), options.getMaxEjectionTime()));
+    this.maxEjectionPercent = options.getMaxEjectionPercent();
+    this.failurePercentageThreshold = options.getFailurePercentageThreshold();
+    this.minimumCalls = options.getMinimumCalls();
+    this.latencyThreshold = TimeUnit.MILLISECONDS.toNanos(options.getLatencyThreshold());
+    this.failureStatusCodes = options.getFailureStatusCodes();
+  }
+
+  /**
+   * Report a call served by the {@code server}.
+   *
+   * @param server the remote address of the connection that served the call
+   * @param status the status of the call, {@link GrpcStatus#UNAVAILABLE} when the connection failed
+   * @param duration the duration of the call in nanoseconds
+   */
+  public void report(SocketAddress server, GrpcStatus status, long duration) {
+    Server s = servers.get(EndpointKey.of(server));
+    if (s == null) {
+      String hostAddress = EndpointKey.ofHostAddress(server);
+      if (hostAddress == null || (s = servers.get(hostAddress)) == null) {
+        return;
+      }
+    }
+    boolean failure = failureStatusCodes.contains(status) || (latencyThreshold > 0L && duration > latencyThreshold);
+    s.record(System.nanoTime(), failure);
+  }
+
+  @Override
+  public ServerSelector selector(List<? extends ServerEndpoint> listOfServers) {
+    Server[] list = new Server[listOfServers.size()];
+    for (int i = 0;i < list.length;i++) {
+      list[i] = servers.computeIfAbsent(EndpointKey.of(listOfServers.get(i)), key -> new Server());
+    }
+    return new Selector(loadBalancer.selector(listOfServers), list);
+  }
+
+  private boolean canEject(long now) {
+    int ejected = 0;
+    for (Server server : servers.values()) {
+      if (server.isEjected(now)) {
+        ejected++;
+      }
+    }
+    return ejected * 100 < servers.size() * maxEjectionPercent;
+  }
+
+  private class Server {
+
+    // epoch of the calls counted by each bucket
+    private final AtomicLongArray epochs = new AtomicLongArray(BUCKETS);
+    // calls and failures of each bucket
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS * 2);
+    private final AtomicLong ejectedUntil = new AtomicLong();
+    private volatile int ejections;
+
+    boolean isEjected(long now) {
+      long until = ejectedUntil.get();
+      return until != 0L && now - until < 0L;
+    }
+
+    void record(long now, boolean failure) {
+      long epoch = now / bucketDuration;
+      int idx = (int) (epoch % BUCKETS);
+      long current = epochs.get(idx);
+      if (current != epoch && epochs.compareAndSet(idx, current, epoch)) {
+        counts.set(idx * 2, 0L);
+        counts.set(idx * 2 + 1, 0L);
+      }
+      counts.incrementAndGet(idx * 2);
+      if (failure) {
+        counts.incrementAndGet(idx * 2 + 1);
+        check(now, epoch);
+      }
+    }
+
+    private void check(long now, long epoch) {
+      long calls = 0L;
+      long failures = 0L;
+      for (int i = 0;i < BUCKETS;i++) {
+        if (epoch - epochs.get(i) < BUCKETS) {
+          calls += counts.get(i * 2);
+          failures += counts.get(i * 2 + 1);
+        }
+      }
+      if (calls < minimumCalls || failures * 100 < calls * failurePercentageThreshold) {
+        return;
+      }
+      long until = ejectedUntil.get();
+      if ((until != 0L && now - until < 0L) || !canEject(now)) {
+        return;
+      }
+      // A server ejected again soon after its return is ejected longer
+      int count = until != 0L && now - until < maxEjectionTime ? Math.min(ejections + 1, 30) : 1;
+      long duration = Math.min(baseEjectionTime << (count - 1), maxEjectionTime);
+      if (duration <= 0L) {
+        duration = maxEjectionTime;
+      }
+      if (ejectedUntil.compareAndSet(until, now + duration)) {
+        ejections = count;
+        // Start over when the server returns
+        for (int i = 0;i < BUCKETS;i++) {
+          epochs.set(i, 0L);
+          counts.set(i * 2, 0L);
+          counts.set(i * 2 + 1, 0L);
+        }
+      }
+    }
+  }
+
+  private static class Selector implements ServerSelector {
+
+    private final ServerSelector selector;
+    private final Server[] servers;
+
+    Selector(ServerSelector selector, Server[] servers) {
+      this.selector = selector;
+      this.servers = servers;
+    }
+
+    @Override
+    public int select() {
+      long now = System.nanoTime();
+      int idx = -1;
+      for (int i = 0;i < servers.length;i++) {
+        idx = selector.select();
+        if (idx < 0 || !servers[idx].isEjected(now)) {
+          return idx;
+        }
+      }
+      // Every pick was ejected
+      return idx;
+    }
+  }
+}
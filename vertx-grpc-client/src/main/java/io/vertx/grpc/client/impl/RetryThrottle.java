@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.client.impl;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The retry throttling token bucket of a client, shared by the calls of all event-loops.
+ *
+ * <p>Tokens are counted in thousandths so the token ratio can be fractional while the bucket remains a single
+ * atomic integer.</p>
+ */
+final class RetryThrottle {
+
+  private static final int THREE_DECIMAL_PLACES_SCALE_UP = 1000;
+
+  private final int maxTokens;
+  private final int threshold;
+  private final int tokenRatio;
+  private final AtomicInteger tokens;
+
+  RetryThrottle(int maxTokens, double tokenRatio) {
+    this.maxTokens = maxTokens * THREE_DECIMAL_PLACES_SCALE_UP;
+    this.threshold = this.maxTokens / 2;
+    this.tokenRatio = (int) (tokenRatio * THREE_DECIMAL_PLACES_SCALE_UP);
+    this.tokens = new AtomicInteger(this.maxTokens);
+  }
+
+  /**
+   * Record an attempt that failed with a retryable status.
+   *
+   * @return whether the call can be retried
+   */
+  boolean onFailure() {
+    while (true) {
+      int current = tokens.get();
+      if (current == 0) {
+        return false;
+      }
+      int next = Math.max(current - THREE_DECIMAL_PLACES_SCALE_UP, 0);
+      if (tokens.compareAndSet(current, next)) {
+        return next > threshold;
+      }
+    }
+  }
+
+  /**
+   * Record a successful call.
+   */
+  void onSuccess() {
+    while (true) {
+      int current = tokens.get();
+      if (current == maxTokens) {
+        return;
+      }
+      int next = Math.min(current + tokenRatio, maxTokens);
+      if (tokens.compareAndSet(current, next)) {
+        return;
+      }
+    }
+  }
+}
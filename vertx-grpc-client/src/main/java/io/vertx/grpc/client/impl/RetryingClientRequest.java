@@ -0,0 +1,469 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.client.impl;
+
+import io.vertx.codegen.annotations.Nullable;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Timer;
+import io.vertx.core.http.HttpConnection;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.grpc.client.GrpcClientRequest;
+import io.vertx.grpc.client.GrpcClientResponse;
+import io.vertx.grpc.client.RetryPolicy;
+import io.vertx.grpc.common.*;
+import io.vertx.grpc.common.impl.GrpcTransformedMessage;
+import io.vertx.grpc.common.impl.GrpcWriteStreamBase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * <p>A request retried according to a {@link RetryPolicy}.</p>
+ *
+ * <p>Each attempt is a request created by the {@code attempts} supplier. The request messages are written to the
+ * current attempt as they are sent and buffered to be replayed to the next attempt, up to {@code bufferLimit} bytes.
+ * An attempt receiving response headers commits the call, so does a response with a status that is not retried. The
+ * call is no longer retried once the buffer limit is exceeded.</p>
+ *
+ * <p>The attempts share the deadline of the call, no retry is scheduled past the deadline.</p>
+ *
+ * <p>The attempts run on the context of the request.</p>
+ */
+class RetryingClientRequest<Req, Resp> extends GrpcWriteStreamBase<RetryingClientRequest<Req, Resp>, Req> implements GrpcClientRequest<Req, Resp> {
+
+  private final Supplier<Future<GrpcClientRequestImpl<Req, Resp>>> attempts;
+  private final RetryThrottle throttle;
+  private final long bufferLimit;
+  private final int maxAttempts;
+  private final long initialBackoff;
+  private final long maxBackoff;
+  private final double backoffMultiplier;
+  private final double jitter;
+  private final Set<GrpcStatus> retryableStatusCodes;
+  private final Promise<GrpcClientResponse<Req, Resp>> response;
+  private final List<GrpcMessage> buffer = new ArrayList<>(1);
+  private long bufferedBytes;
+  private boolean retain = true;
+  private int written;
+  private boolean ended;
+  private boolean attemptEnded;
+  private ServiceName serviceName;
+  private String methodName;
+  private long timeout;
+  private TimeUnit timeoutUnit;
+  private long deadline;
+  private long idleTimeout;
+  private GrpcMetadata headers;
+  private Handler<Void> drainHandler;
+  private int attemptCount;
+  private long backoff;
+  private long retryTimer = -1L;
+  private GrpcClientRequestImpl<Req, Resp> current;
+
+  RetryingClientRequest(ContextInternal context,
+                        RetryPolicy policy,
+                        RetryThrottle throttle,
+                        long bufferLimit,
+                        ServiceMethod<Resp, Req> method,
+                        Supplier<Future<GrpcClientRequestImpl<Req, Resp>>> attempts) {
+    super(context, method.encoder());
+    this.attempts = attempts;
+    this.throttle = throttle;
+    this.bufferLimit = bufferLimit;
+    this.maxAttempts = policy.getMaxAttempts();
+    this.initialBackoff = policy.getInitialBackoff();
+    this.maxBackoff = policy.getMaxBackoff();
+    this.backoffMultiplier = policy.getBackoffMultiplier();
+    this.jitter = policy.getJitter();
+    this.retryableStatusCodes = policy.getRetryableStatusCodes();
+    this.response = context.promise();
+    this.serviceName = method.serviceName();
+    this.methodName = method.methodName();
+  }
+
+  @Override
+  public GrpcClientRequest<Req, Resp> fullMethodName(String fullMethodName) {
+    if (isHeadersWritten()) {
+      throw new IllegalStateException("Request already sent");
+    }
+    int idx = fullMethodName.lastIndexOf('/');
+    if (idx == -1) {
+      throw new IllegalArgumentException();
+    }
+    this.serviceName = ServiceName.create(fullMethodName.substring(0, idx));
+    this.methodName = fullMethodName.substring(idx + 1);
+    return this;
+  }
+
+  @Override
+  public GrpcClientRequest<Req, Resp> serviceName(ServiceName serviceName) {
+    this.serviceName = serviceName;
+    return this;
+  }
+
+  @Override
+  public GrpcClientRequest<Req, Resp> methodName(String methodName) {
+    this.methodName = methodName;
+    return this;
+  }
+
+  @Override
+  public Future<GrpcClientResponse<Req, Resp>> response() {
+    return response.future();
+  }
+
+  @Override
+  public GrpcClientRequest<Req, Resp> setWriteQueueMaxSize(int maxSize) {
+    return this;
+  }
+
+  @Override
+  public GrpcClientRequest<Req, Resp> drainHandler(@Nullable Handler<Void> handler) {
+    drainHandler = handler;
+    GrpcClientRequestImpl<Req, Resp> attempt = current;
+    if (attempt != null) {
+      attempt.drainHandler(handler);
+    }
+    return this;
+  }
+
+  @Override
+  public boolean writeQueueFull() {
+    GrpcClientRequestImpl<Req, Resp> attempt = current;
+    return attempt != null && attempt.writeQueueFull();
+  }
+
+  @Override
+  public GrpcClientRequest<Req, Resp> timeout(long timeout, TimeUnit unit) {
+    if (timeout < 0L) {
+      throw new IllegalArgumentException("Timeout must be positive");
+    }
+    if (isHeadersWritten()) {
+      throw new IllegalStateException("Timeout must be set before sending request headers");
+    }
+    if (GrpcClientRequestImpl.toTimeoutHeader(timeout, unit) == null) {
+      throw new IllegalArgumentException("Not a valid gRPC timeout value (" + timeout + ',' + unit + ')');
+    }
+    this.timeout = timeout;
+    this.timeoutUnit = unit;
+    return this;
+  }
+
+  @Override
+  public Timer deadline() {
+    GrpcClientRequestImpl<Req, Resp> attempt = current;
+    return attempt != null ? attempt.deadline() : null;
+  }
+
+  @Override
+  public GrpcClientRequest<Req, Resp> idleTimeout(long timeout) {
+    idleTimeout = timeout;
+    GrpcClientRequestImpl<Req, Resp> attempt = current;
+    if (attempt != null) {
+      attempt.idleTimeout(timeout);
+    }
+    return this;
+  }
+
+  @Override
+  public HttpConnection connection() {
+    GrpcClientRequestImpl<Req, Resp> attempt = current;
+    return attempt != null ? attempt.connection() : null;
+  }
+
+  @Override
+  protected Future<Void> sendHead() {
+    captureHeaders();
+    return onContext(() -> {
+      start();
+      return context.succeededFuture();
+    });
+  }
+
+  @Override
+  protected Future<Void> sendMessage(GrpcMessage message) {
+    captureHeaders();
+    GrpcMessage msg = materialize(message);
+    return onContext(() -> {
+      start();
+      append(msg);
+      return flush();
+    });
+  }
+
+  @Override
+  protected Future<Void> sendEnd(GrpcMessage message) {
+    captureHeaders();
+    GrpcMessage msg = materialize(message);
+    return onContext(() -> {
+      start();
+      append(msg);
+      ended = true;
+      return flush();
+    });
+  }
+
+  @Override
+  protected Future<Void> sendEnd() {
+    captureHeaders();
+    return onContext(() -> {
+      start();
+      ended = true;
+      return flush();
+    });
+  }
+
+  private void captureHeaders() {
+    if (headers == null) {
+      headers = metadata();
+    }
+  }
+
+  /**
+   * @return the {@code message} with its payload encoded and compressed, so it is sent as is by each attempt
+   */
+  static GrpcMessage materialize(GrpcMessage message) {
+    if (message instanceof GrpcTransformedMessage) {
+      // Compress once for all the attempts
+      message = GrpcMessage.message(message.encoding(), message.format(), message.payload());
+    }
+    return message;
+  }
+
+  private void append(GrpcMessage message) {
+    buffer.add(message);
+    if (retain) {
+      bufferedBytes += message.payload().length();
+      if (bufferedBytes > bufferLimit) {
+        // Commit to the current attempt
+        retain = false;
+      }
+    }
+  }
+
+  @Override
+  protected boolean sendCancel() {
+    cancelRetry();
+    retain = false;
+    buffer.clear();
+    GrpcClientRequestImpl<Req, Resp> attempt = current;
+    if (attempt != null) {
+      attempt.cancel();
+    }
+    response.tryFail(new GrpcErrorException(GrpcError.CANCELLED, GrpcStatus.CANCELLED));
+    return true;
+  }
+
+  private Future<Void> onContext(Supplier<Future<Void>> op) {
+    if (context.inThread()) {
+      return op.get();
+    }
+    Promise<Void> promise = context.promise();
+    context.runOnContext(v -> op.get().onComplete(promise));
+    return promise.future();
+  }
+
+  private void start() {
+    if (attemptCount > 0) {
+      return;
+    }
+    if (timeout > 0L) {
+      deadline = System.nanoTime() + timeoutUnit.toNanos(timeout);
+    }
+    backoff = initialBackoff;
+    newAttempt();
+  }
+
+  private void newAttempt() {
+    attemptCount++;
+    long attemptTimeout = 0L;
+    if (deadline != 0L) {
+      attemptTimeout = Math.max(1L, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()));
+    }
+    long t = attemptTimeout;
+    attempts.get().onComplete(ar -> {
+      if (ar.succeeded()) {
+        bind(ar.result(), t);
+      } else {
+        attemptFailed(GrpcStatus.UNAVAILABLE, null, Future.failedFuture(ar.cause()));
+      }
+    });
+  }
+
+  private void bind(GrpcClientRequestImpl<Req, Resp> attempt, long attemptTimeout) {
+    if (isCancelled()) {
+      attempt.cancel();
+      return;
+    }
+    attempt.serviceName(serviceName);
+    attempt.methodName(methodName);
+    if (format() != null) {
+      attempt.format(format());
+    }
+    if (encoding() != null) {
+      attempt.encoding(encoding());
+    }
+    if (headers != null && !headers.isEmpty()) {
+      attempt.headers().addAll(headers);
+    }
+    if (deadline != 0L) {
+      attempt.timeout(attemptTimeout, TimeUnit.MILLISECONDS);
+    }
+    if (drainHandler != null) {
+      attempt.drainHandler(drainHandler);
+    }
+    current = attempt;
+    written = 0;
+    attemptEnded = false;
+    attempt.response().onComplete(ar -> handleResponse(attempt, ar));
+    if (buffer.isEmpty() && !ended) {
+      attempt.writeHead();
+    } else {
+      flush();
+    }
+    if (idleTimeout > 0L) {
+      attempt.idleTimeout(idleTimeout);
+    }
+  }
+
+  /**
+   * Write to the current attempt the messages it has not yet received.
+   */
+  private Future<Void> flush() {
+    GrpcClientRequestImpl<Req, Resp> attempt = current;
+    if (attempt == null) {
+      return context.succeededFuture();
+    }
+    Future<Void> fut = null;
+    int size = buffer.size();
+    while (written < size) {
+      GrpcMessage message = buffer.get(written++);
+      if (written == size && ended) {
+        attemptEnded = true;
+        fut = attempt.endMessage(message);
+      } else {
+        fut = attempt.writeMessage(message);
+      }
+    }
+    if (ended && !attemptEnded) {
+      attemptEnded = true;
+      fut = attempt.end();
+    }
+    if (!retain) {
+      buffer.clear();
+      written = 0;
+    }
+    return fut != null ? fut : context.succeededFuture();
+  }
+
+  private void handleResponse(GrpcClientRequestImpl<Req, Resp> attempt, AsyncResult<GrpcClientResponse<Req, Resp>> ar) {
+    if (attempt != current || response.future().isComplete()) {
+      return;
+    }
+    if (ar.failed()) {
+      attemptFailed(GrpcStatus.UNAVAILABLE, null, ar);
+      return;
+    }
+    GrpcClientResponse<Req, Resp> resp = ar.result();
+    GrpcStatus status = resp.status();
+    if (status == null || status == GrpcStatus.OK) {
+      // Response headers or trailers-only success
+      if (throttle != null) {
+        throttle.onSuccess();
+      }
+      conclude(ar);
+    } else {
+      attemptFailed(status, resp, ar);
+    }
+  }
+
+  private void attemptFailed(GrpcStatus status, GrpcClientResponse<Req, Resp> resp, AsyncResult<GrpcClientResponse<Req, Resp>> result) {
+    if (isCancelled()) {
+      return;
+    }
+    current = null;
+    if (!retryableStatusCodes.contains(status)) {
+      conclude(result);
+      return;
+    }
+    boolean throttled = throttle != null && !throttle.onFailure();
+    if (throttled || !retain || attemptCount == maxAttempts) {
+      conclude(result);
+      return;
+    }
+    long delay;
+    String pushback = resp != null ? resp.headers().get(GrpcHeaderNames.GRPC_RETRY_PUSHBACK_MS) : null;
+    if (pushback != null) {
+      try {
+        delay = Long.parseLong(pushback);
+      } catch (NumberFormatException e) {
+        delay = -1L;
+      }
+      if (delay < 0L) {
+        // The server asks not to retry
+        conclude(result);
+        return;
+      }
+      backoff = initialBackoff;
+    } else {
+      delay = nextBackoff();
+    }
+    if (deadline != 0L && System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay) >= deadline) {
+      conclude(result);
+      return;
+    }
+    retryTimer = context.setTimer(Math.max(1L, delay), id -> {
+      retryTimer = -1L;
+      if (!isCancelled()) {
+        newAttempt();
+      }
+    });
+  }
+
+  private long nextBackoff() {
+    double delay = backoff;
+    if (jitter > 0D) {
+      delay *= 1D + jitter * (2D * ThreadLocalRandom.current().nextDouble() - 1D);
+    }
+    backoff = Math.min((long) (backoff * backoffMultiplier), maxBackoff);
+    return (long) delay;
+  }
+
+  private void conclude(AsyncResult<GrpcClientResponse<Req, Resp>> result) {
+    cancelRetry();
+    retain = false;
+    if (current == null) {
+      // No attempt will write the remaining messages
+      buffer.clear();
+    } else {
+      flush();
+    }
+    if (result.succeeded()) {
+      response.tryComplete(result.result());
+    } else {
+      response.tryFail(result.cause());
+    }
+  }
+
+  private void cancelRetry() {
+    if (retryTimer != -1L) {
+      context.owner().cancelTimer(retryTimer);
+      retryTimer = -1L;
+    }
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.client.tests;
+
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.grpc.client.GrpcClient;
+import io.vertx.grpc.client.GrpcClientMetrics;
+import io.vertx.grpc.client.GrpcClientRequest;
+import io.vertx.grpc.client.GrpcClientResponse;
+import io.vertx.grpc.common.GrpcMetricsRecorder;
+import io.vertx.grpc.common.tests.Reply;
+import io.vertx.grpc.common.tests.Request;
+import io.vertx.grpc.common.tests.TestServiceGrpc;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ClientMetricsTest extends ClientTestBase {
+
+  @Test
+  public void testRecordCalls() throws Exception {
+    startServer(new TestServiceGrpc.TestServiceImplBase() {
+      @Override
+      public void unary(Request request, StreamObserver<Reply> responseObserver) {
+        if (request.getName().equals("fail")) {
+          responseObserver.onError(Status.NOT_FOUND.asRuntimeException());
+        } else {
+          responseObserver.onNext(Reply.newBuilder().setMessage("Hello " + request.getName()).build());
+          responseObserver.onCompleted();
+        }
+      }
+    });
+    GrpcMetricsRecorder recorder = new GrpcMetricsRecorder();
+    GrpcClient client = GrpcClient.builder(vertx)
+      .withMetrics(GrpcClientMetrics.create(recorder))
+      .build();
+    try {
+      for (String name : new String[] { "Julien", "fail" }) {
+        GrpcClientRequest<Request, Reply> request = client.request(SocketAddress.inetSocketAddress(port, "localhost"), UNARY).await();
+        GrpcClientResponse<Request, Reply> response = request.send(Request.newBuilder().setName(name).build()).await();
+        response.end().otherwiseEmpty().await();
+      }
+    } finally {
+      client.close().await();
+    }
+    JsonObject metrics = recorder.snapshot().getJsonObject(UNARY.fullMethodName());
+    assertEquals(2L, (long) metrics.getLong("calls"));
+    assertEquals(new JsonObject().put("OK", 1L).put("NOT_FOUND", 1L), metrics.getJsonObject("status"));
+    assertEquals(2L, (long) metrics.getLong("messagesSent"));
+    assertEquals(1L, (long) metrics.getLong("messagesReceived"));
+    assertEquals(Reply.newBuilder().setMessage("Hello Julien").build().getSerializedSize(), (long) metrics.getLong("wireBytesReceived"));
+    JsonObject latency = metrics.getJsonObject("latency");
+    assertTrue(latency.getLong("p50") <= latency.getLong("max"));
+  }
+
+  @Test
+  public void testCompressedMessageSize() throws Exception {
+    Reply reply = Reply.newBuilder().setMessage("Hello Julien").build();
+    startServer(new TestServiceGrpc.TestServiceImplBase() {
+      @Override
+      public void unary(Request request, StreamObserver<Reply> responseObserver) {
+        ((ServerCallStreamObserver<Reply>) responseObserver).setCompression("gzip");
+        responseObserver.onNext(reply);
+        responseObserver.onCompleted();
+      }
+    });
+    GrpcMetricsRecorder recorder = new GrpcMetricsRecorder();
+    GrpcClient client = GrpcClient.builder(vertx)
+      .withMetrics(GrpcClientMetrics.create(recorder))
+      .build();
+    try {
+      GrpcClientRequest<Request, Reply> request = client.request(SocketAddress.inetSocketAddress(port, "localhost"), UNARY).await();
+      GrpcClientResponse<Request, Reply> response = request.send(Request.newBuilder().setName("Julien").build()).await();
+      assertEquals("gzip", response.encoding());
+      assertEquals(reply, response.last().await());
+    } finally {
+      client.close().await();
+    }
+    JsonObject metrics = recorder.snapshot().getJsonObject(UNARY.fullMethodName());
+    assertEquals(1L, (long) metrics.getLong("messagesReceived"));
+    assertEquals(reply.getSerializedSize(), (long) metrics.getLong("bytesReceived"));
+    assertTrue(metrics.getLong("wireBytesReceived") != reply.getSerializedSize());
+  }
+}
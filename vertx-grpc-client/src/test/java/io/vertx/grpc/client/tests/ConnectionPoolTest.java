@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.client.tests;
+
+import io.grpc.stub.StreamObserver;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.grpc.client.GrpcClient;
+import io.vertx.grpc.client.GrpcClientOptions;
+import io.vertx.grpc.common.GrpcReadStream;
+import io.vertx.grpc.common.tests.Reply;
+import io.vertx.grpc.common.tests.Request;
+import io.vertx.grpc.common.tests.TestServiceGrpc;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class ConnectionPoolTest extends ClientTestBase {
+
+  private GrpcClient client;
+
+  @Override
+  public void tearDown(TestContext should) {
+    if (client != null) {
+      client.close();
+    }
+    super.tearDown(should);
+  }
+
+  @Test
+  public void testLeastActiveStreams(TestContext should) throws Exception {
+    int numCalls = 4;
+    AtomicReference<JsonObject> statistics = new AtomicReference<>();
+    List<StreamObserver<Reply>> pending = new ArrayList<>();
+    startServer(new TestServiceGrpc.TestServiceImplBase() {
+      @Override
+      public void unary(Request request, StreamObserver<Reply> responseObserver) {
+        synchronized (pending) {
+          pending.add(responseObserver);
+          if (pending.size() < numCalls) {
+            return;
+          }
+        }
+        // All the calls are in flight
+        statistics.set(client.connectionPoolStatistics());
+        for (StreamObserver<Reply> observer : pending) {
+          observer.onNext(Reply.newBuilder().setMessage("Hello").build());
+          observer.onCompleted();
+        }
+      }
+    });
+    client = GrpcClient.client(vertx, new GrpcClientOptions().setConnectionPoolSize(2));
+    SocketAddress server = SocketAddress.inetSocketAddress(port, "localhost");
+    List<Future<Reply>> replies = new ArrayList<>();
+    for (int i = 0;i < numCalls;i++) {
+      replies.add(client.request(server, UNARY)
+        .compose(req -> req
+          .send(Request.newBuilder().setName("Julien").build())
+          .compose(GrpcReadStream::last)));
+    }
+    Future.all(replies).onComplete(should.asyncAssertSuccess(v -> {
+      JsonObject endpoint = statistics.get().getJsonObject(server.toString());
+      should.assertEquals(2, endpoint.getInteger("connections"));
+      should.assertEquals(4L, endpoint.getLong("activeStreams"));
+      should.assertEquals(new JsonArray().add(2).add(2), endpoint.getJsonArray("streams"));
+    }));
+  }
+
+  @Test
+  public void testCallerContext(TestContext should) throws Exception {
+    startServer(new TestServiceGrpc.TestServiceImplBase() {
+      @Override
+      public void unary(Request request, StreamObserver<Reply> responseObserver) {
+        responseObserver.onNext(Reply.newBuilder().setMessage("Hello " + request.getName()).build());
+        responseObserver.onCompleted();
+      }
+    });
+    client = GrpcClient.client(vertx, new GrpcClientOptions().setConnectionPoolSize(2));
+    SocketAddress server = SocketAddress.inetSocketAddress(port, "localhost");
+    Async async = should.async();
+    Context context = vertx.getOrCreateContext();
+    context.runOnContext(v -> client.request(server, UNARY)
+      .onComplete(should.asyncAssertSuccess(req -> {
+        should.assertEquals(context, Vertx.currentContext());
+        req.response().onComplete(should.asyncAssertSuccess(resp -> {
+          should.assertEquals(context, Vertx.currentContext());
+          resp.handler(reply -> {
+            should.assertEquals(context, Vertx.currentContext());
+            should.assertEquals("Hello Julien", reply.getMessage());
+          });
+          resp.endHandler(v2 -> {
+            should.assertEquals(context, Vertx.currentContext());
+            async.complete();
+          });
+        }));
+        req.end(Request.newBuilder().setName("Julien").build());
+      })));
+  }
+
+  @Test
+  public void testConnectBackoff(TestContext should) {
+    // No server is listening
+    client = GrpcClient.client(vertx, new GrpcClientOptions().setConnectionPoolSize(2));
+    SocketAddress server = SocketAddress.inetSocketAddress(port, "localhost");
+    client.request(server, UNARY)
+      .recover(err -> client.request(server, UNARY))
+      .onComplete(should.asyncAssertFailure(err -> {
+        // The second request does not open new connections during the backoff
+        JsonObject endpoint = client.connectionPoolStatistics().getJsonObject(server.toString());
+        should.assertEquals(2L, endpoint.getLong("openedConnections"));
+      }));
+  }
+
+  @Test
+  public void testNoPool(TestContext should) {
+    client = GrpcClient.client(vertx);
+    should.assertEquals(new JsonObject(), client.connectionPoolStatistics());
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.client.tests;
+
+import io.grpc.ServerBuilder;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import io.vertx.core.net.AddressResolver;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.grpc.client.GrpcClient;
+import io.vertx.grpc.client.GrpcClientOptions;
+import io.vertx.grpc.client.HedgingPolicy;
+import io.vertx.grpc.common.GrpcReadStream;
+import io.vertx.grpc.common.GrpcStatus;
+import io.vertx.grpc.common.tests.Reply;
+import io.vertx.grpc.common.tests.Request;
+import io.vertx.grpc.common.tests.TestServiceGrpc;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+public class HedgingTest extends ClientTestBase {
+
+  private GrpcClient client;
+
+  @Override
+  public void tearDown(TestContext should) {
+    if (client != null) {
+      client.close();
+    }
+    super.tearDown(should);
+  }
+
+  private void startServers(BiConsumer<Integer, ServerCallStreamObserver<Reply>> handler) throws Exception {
+    AtomicInteger calls = new AtomicInteger();
+    List<SocketAddress> endpoints = new ArrayList<>();
+    for (int i = 0;i < 2;i++) {
+      startServer(new TestServiceGrpc.TestServiceImplBase() {
+        @Override
+        public void unary(Request request, StreamObserver<Reply> responseObserver) {
+          handler.accept(calls.incrementAndGet(), (ServerCallStreamObserver<Reply>) responseObserver);
+        }
+      }, ServerBuilder.forPort(port + i));
+      endpoints.add(SocketAddress.inetSocketAddress(port + i, "localhost"));
+    }
+    client = GrpcClient.builder(vertx)
+      .with(new GrpcClientOptions()
+        .addHedgingPolicy(UNARY.fullMethodName(), new HedgingPolicy()
+          .setMaxAttempts(3)
+          .setHedgingDelay(100)
+          .addNonFatalStatusCode(GrpcStatus.UNAVAILABLE)))
+      .withAddressResolver(AddressResolver.mappingResolver(address -> endpoints))
+      .build();
+  }
+
+  @Test
+  public void testSlowReplica(TestContext should) throws Exception {
+    Async cancelled = should.async();
+    startServers((call, observer) -> {
+      if (call == 1) {
+        // The slow replica never replies, the hedged attempt wins
+        observer.setOnCancelHandler(cancelled::complete);
+      } else {
+        observer.onNext(Reply.newBuilder().setMessage("Hello " + call).build());
+        observer.onCompleted();
+      }
+    });
+    client.request(SocketAddress.inetSocketAddress(port, "localhost"), UNARY)
+      .compose(req -> req
+        .send(Request.newBuilder().setName("Julien").build())
+        .compose(GrpcReadStream::last))
+      .onComplete(should.asyncAssertSuccess(reply -> should.assertEquals("Hello 2", reply.getMessage())));
+  }
+
+  @Test
+  public void testNonFatalStatus(TestContext should) throws Exception {
+    startServers((call, observer) -> {
+      if (call == 1) {
+        observer.onError(Status.UNAVAILABLE.asRuntimeException());
+      } else {
+        observer.onNext(Reply.newBuilder().setMessage("Hello " + call).build());
+        observer.onCompleted();
+      }
+    });
+    client.request(SocketAddress.inetSocketAddress(port, "localhost"), UNARY)
+      .compose(req -> req
+        .send(Request.newBuilder().setName("Julien").build())
+        .compose(GrpcReadStream::last))
+      .onComplete(should.asyncAssertSuccess(reply -> should.assertEquals("Hello 2", reply.getMessage())));
+  }
+
+  @Test
+  public void testAllAttemptsFail(TestContext should) throws Exception {
+    AtomicInteger attempts = new AtomicInteger();
+    startServers((call, observer) -> {
+      attempts.incrementAndGet();
+      observer.onError(Status.UNAVAILABLE.asRuntimeException());
+    });
+    client.request(SocketAddress.inetSocketAddress(port, "localhost"), UNARY)
+      .compose(req -> req.send(Request.newBuilder().setName("Julien").build()))
+      .onComplete(should.asyncAssertSuccess(resp -> {
+        should.assertEquals(GrpcStatus.UNAVAILABLE, resp.status());
+        should.assertEquals(3, attempts.get());
+      }));
+  }
+}
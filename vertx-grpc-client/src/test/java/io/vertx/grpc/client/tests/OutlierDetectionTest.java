@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.client.tests;
+
+import io.grpc.ServerBuilder;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import io.vertx.core.net.AddressResolver;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.grpc.client.GrpcClient;
+import io.vertx.grpc.client.OutlierDetectionOptions;
+import io.vertx.grpc.common.tests.Reply;
+import io.vertx.grpc.common.tests.Request;
+import io.vertx.grpc.common.tests.TestServiceGrpc;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+
+public class OutlierDetectionTest extends ClientTestBase {
+
+  private void startServer(int port, boolean fail, AtomicInteger calls) throws Exception {
+    startServer(new TestServiceGrpc.TestServiceImplBase() {
+      @Override
+      public void unary(Request request, StreamObserver<Reply> responseObserver) {
+        calls.incrementAndGet();
+        if (fail) {
+          responseObserver.onError(Status.UNAVAILABLE.asRuntimeException());
+        } else {
+          responseObserver.onNext(Reply.newBuilder().setMessage("Hello " + request.getName()).build());
+          responseObserver.onCompleted();
+        }
+      }
+    }, ServerBuilder.forPort(port));
+  }
+
+  private GrpcClient client(OutlierDetectionOptions options) {
+    List<SocketAddress> endpoints = new ArrayList<>();
+    endpoints.add(SocketAddress.inetSocketAddress(port, "localhost"));
+    endpoints.add(SocketAddress.inetSocketAddress(port + 1, "localhost"));
+    return GrpcClient.builder(vertx)
+      .withAddressResolver(AddressResolver.mappingResolver(address -> endpoints))
+      .withOutlierDetection(options)
+      .build();
+  }
+
+  private void call(GrpcClient client, int numCalls) {
+    for (int i = 0;i < numCalls;i++) {
+      client.request(SocketAddress.inetSocketAddress(port, "localhost"), UNARY)
+        .compose(req -> req
+          .send(Request.newBuilder().setName("Julien").build())
+          .compose(resp -> resp.last()))
+        .otherwise((Reply) null)
+        .await();
+    }
+  }
+
+  @Test
+  public void testEjectFailingServer() throws Exception {
+    AtomicInteger failingCalls = new AtomicInteger();
+    AtomicInteger healthyCalls = new AtomicInteger();
+    startServer(port, true, failingCalls);
+    startServer(port + 1, false, healthyCalls);
+    GrpcClient client = client(new OutlierDetectionOptions()
+      .setMinimumCalls(4)
+      .setMaxEjectionPercent(50)
+      .setBaseEjectionTime(60_000));
+    try {
+      call(client, 40);
+    } finally {
+      client.close().await();
+    }
+    // The failing server is ejected after its 4th call
+    assertEquals(4, failingCalls.get());
+    assertEquals(36, healthyCalls.get());
+  }
+
+  @Test
+  public void testMaxEjectionPercent() throws Exception {
+    AtomicInteger failingCalls = new AtomicInteger();
+    AtomicInteger healthyCalls = new AtomicInteger();
+    startServer(port, true, failingCalls);
+    startServer(port + 1, false, healthyCalls);
+    GrpcClient client = client(new OutlierDetectionOptions()
+      .setMinimumCalls(4)
+      .setMaxEjectionPercent(0)
+      .setBaseEjectionTime(60_000));
+    try {
+      call(client, 40);
+    } finally {
+      client.close().await();
+    }
+    assertEquals(20, failingCalls.get());
+    assertEquals(20, healthyCalls.get());
+  }
+}
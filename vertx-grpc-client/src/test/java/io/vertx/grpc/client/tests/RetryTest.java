@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.client.tests;
+
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import io.vertx.core.Future;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.grpc.client.GrpcClient;
+import io.vertx.grpc.client.GrpcClientOptions;
+import io.vertx.grpc.client.GrpcClientResponse;
+import io.vertx.grpc.client.RetryPolicy;
+import io.vertx.grpc.common.GrpcReadStream;
+import io.vertx.grpc.common.GrpcStatus;
+import io.vertx.grpc.common.tests.Empty;
+import io.vertx.grpc.common.tests.Reply;
+import io.vertx.grpc.common.tests.Request;
+import io.vertx.grpc.common.tests.TestServiceGrpc;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class RetryTest extends ClientTestBase {
+
+  private GrpcClient client;
+
+  @Override
+  public void tearDown(TestContext should) {
+    if (client != null) {
+      client.close();
+    }
+    super.tearDown(should);
+  }
+
+  private void startServer(AtomicInteger calls, GrpcStatus... failures) throws Exception {
+    startServer(new TestServiceGrpc.TestServiceImplBase() {
+      @Override
+      public void unary(Request request, StreamObserver<Reply> responseObserver) {
+        int call = calls.incrementAndGet();
+        if (call <= failures.length) {
+          responseObserver.onError(Status.fromCodeValue(failures[call - 1].code).asRuntimeException());
+        } else {
+          responseObserver.onNext(Reply.newBuilder().setMessage("Hello " + call).build());
+          responseObserver.onCompleted();
+        }
+      }
+    });
+  }
+
+  private void createClient(GrpcClientOptions options) {
+    client = GrpcClient.client(vertx, options);
+  }
+
+  private static RetryPolicy policy() {
+    return new RetryPolicy()
+      .setMaxAttempts(5)
+      .setInitialBackoff(10)
+      .setMaxBackoff(50);
+  }
+
+  private Future<GrpcClientResponse<Request, Reply>> unary() {
+    return client.request(SocketAddress.inetSocketAddress(port, "localhost"), UNARY)
+      .compose(req -> req.send(Request.newBuilder().setName("Julien").build()));
+  }
+
+  @Test
+  public void testRetry(TestContext should) throws Exception {
+    AtomicInteger calls = new AtomicInteger();
+    startServer(calls, GrpcStatus.UNAVAILABLE, GrpcStatus.UNAVAILABLE);
+    createClient(new GrpcClientOptions().addRetryPolicy(UNARY.fullMethodName(), policy()));
+    unary()
+      .compose(GrpcReadStream::last)
+      .onComplete(should.asyncAssertSuccess(reply -> {
+        should.assertEquals("Hello 3", reply.getMessage());
+        should.assertEquals(3, calls.get());
+      }));
+  }
+
+  @Test
+  public void testMaxAttempts(TestContext should) throws Exception {
+    AtomicInteger calls = new AtomicInteger();
+    startServer(calls, GrpcStatus.UNAVAILABLE, GrpcStatus.UNAVAILABLE, GrpcStatus.UNAVAILABLE);
+    createClient(new GrpcClientOptions().addRetryPolicy(UNARY.serviceName().fullyQualifiedName(), policy().setMaxAttempts(2)));
+    unary().onComplete(should.asyncAssertSuccess(resp -> {
+      should.assertEquals(GrpcStatus.UNAVAILABLE, resp.status());
+      should.assertEquals(2, calls.get());
+    }));
+  }
+
+  @Test
+  public void testNonRetryableStatus(TestContext should) throws Exception {
+    AtomicInteger calls = new AtomicInteger();
+    startServer(calls, GrpcStatus.NOT_FOUND);
+    createClient(new GrpcClientOptions().addRetryPolicy(UNARY.fullMethodName(), policy()));
+    unary().onComplete(should.asyncAssertSuccess(resp -> {
+      should.assertEquals(GrpcStatus.NOT_FOUND, resp.status());
+      should.assertEquals(1, calls.get());
+    }));
+  }
+
+  @Test
+  public void testThrottling(TestContext should) throws Exception {
+    AtomicInteger calls = new AtomicInteger();
+    startServer(calls, GrpcStatus.UNAVAILABLE, GrpcStatus.UNAVAILABLE, GrpcStatus.UNAVAILABLE);
+    // 4 tokens: the first failure leaves 3 tokens (retry), the second leaves 2 tokens (no retry)
+    createClient(new GrpcClientOptions()
+      .addRetryPolicy(UNARY.fullMethodName(), policy())
+      .setRetryThrottlingMaxTokens(4));
+    unary().onComplete(should.asyncAssertSuccess(resp -> {
+      should.assertEquals(GrpcStatus.UNAVAILABLE, resp.status());
+      should.assertEquals(2, calls.get());
+    }));
+  }
+
+  @Test
+  public void testReplayClientStream(TestContext should) throws Exception {
+    AtomicInteger calls = new AtomicInteger();
+    List<String> received = new ArrayList<>();
+    startServer(new TestServiceGrpc.TestServiceImplBase() {
+      @Override
+      public StreamObserver<Request> sink(StreamObserver<Empty> responseObserver) {
+        int call = calls.incrementAndGet();
+        return new StreamObserver<Request>() {
+          boolean failed;
+          @Override
+          public void onNext(Request value) {
+            if (call == 1) {
+              if (!failed) {
+                failed = true;
+                responseObserver.onError(Status.UNAVAILABLE.asRuntimeException());
+              }
+            } else {
+              received.add(value.getName());
+            }
+          }
+          @Override
+          public void onError(Throwable t) {
+          }
+          @Override
+          public void onCompleted() {
+            if (call > 1) {
+              responseObserver.onNext(Empty.getDefaultInstance());
+              responseObserver.onCompleted();
+            }
+          }
+        };
+      }
+    });
+    createClient(new GrpcClientOptions().addRetryPolicy(SINK.fullMethodName(), policy()));
+    client.request(SocketAddress.inetSocketAddress(port, "localhost"), SINK)
+      .compose(req -> {
+        req.write(Request.newBuilder().setName("msg-1").build());
+        req.write(Request.newBuilder().setName("msg-2").build());
+        req.end(Request.newBuilder().setName("msg-3").build());
+        return req.response().compose(GrpcReadStream::last);
+      })
+      .onComplete(should.asyncAssertSuccess(empty -> {
+        should.assertEquals(2, calls.get());
+        should.assertEquals(Arrays.asList("msg-1", "msg-2", "msg-3"), received);
+      }));
+  }
+
+  @Test
+  public void testBufferLimitExceeded(TestContext should) throws Exception {
+    AtomicInteger calls = new AtomicInteger();
+    startServer(calls, GrpcStatus.UNAVAILABLE);
+    createClient(new GrpcClientOptions()
+      .addRetryPolicy(UNARY.fullMethodName(), policy())
+      .setRetryBufferSize(1));
+    unary().onComplete(should.asyncAssertSuccess(resp -> {
+      should.assertEquals(GrpcStatus.UNAVAILABLE, resp.status());
+      should.assertEquals(1, calls.get());
+    }));
+  }
+}
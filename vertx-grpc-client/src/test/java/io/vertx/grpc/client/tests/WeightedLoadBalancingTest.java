@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.client.tests;
+
+import io.grpc.ForwardingServerCall;
+import io.grpc.Metadata;
+import io.grpc.ServerBuilder;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.ServerInterceptors;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import io.vertx.core.net.AddressResolver;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.grpc.client.GrpcClient;
+import io.vertx.grpc.client.WeightedRoundRobinLoadBalancer;
+import io.vertx.grpc.common.BackendMetrics;
+import io.vertx.grpc.common.tests.Reply;
+import io.vertx.grpc.common.tests.Request;
+import io.vertx.grpc.common.tests.TestServiceGrpc;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertTrue;
+
+public class WeightedLoadBalancingTest extends ClientTestBase {
+
+  private static final Metadata.Key<String> ENDPOINT_LOAD_METRICS = Metadata.Key.of("endpoint-load-metrics", Metadata.ASCII_STRING_MARSHALLER);
+
+  private void startServer(int port, double cpuUtilization, AtomicInteger calls) throws Exception {
+    String load = new BackendMetrics().setCpuUtilization(cpuUtilization).setQps(100).encode();
+    ServerInterceptor interceptor = new ServerInterceptor() {
+      @Override
+      public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers, ServerCallHandler<ReqT, RespT> next) {
+        return next.startCall(new ForwardingServerCall.SimpleForwardingServerCall<ReqT, RespT>(call) {
+          @Override
+          public void close(Status status, Metadata trailers) {
+            trailers.put(ENDPOINT_LOAD_METRICS, load);
+            super.close(status, trailers);
+          }
+        }, headers);
+      }
+    };
+    TestServiceGrpc.TestServiceImplBase service = new TestServiceGrpc.TestServiceImplBase() {
+      @Override
+      public void unary(Request request, StreamObserver<Reply> responseObserver) {
+        calls.incrementAndGet();
+        responseObserver.onNext(Reply.newBuilder().setMessage("Hello " + request.getName()).build());
+        responseObserver.onCompleted();
+      }
+    };
+    startServer(ServerInterceptors.intercept(service, interceptor), ServerBuilder.forPort(port));
+  }
+
+  @Test
+  public void testSteerAwayFromHotServer() throws Exception {
+    AtomicInteger hotCalls = new AtomicInteger();
+    AtomicInteger coldCalls = new AtomicInteger();
+    startServer(port, 0.9, hotCalls);
+    startServer(port + 1, 0.1, coldCalls);
+    List<SocketAddress> endpoints = new ArrayList<>();
+    endpoints.add(SocketAddress.inetSocketAddress(port, "localhost"));
+    endpoints.add(SocketAddress.inetSocketAddress(port + 1, "localhost"));
+    GrpcClient client = GrpcClient.builder(vertx)
+      .withAddressResolver(AddressResolver.mappingResolver(address -> endpoints))
+      .withLoadBalancer(new WeightedRoundRobinLoadBalancer(100, 1D))
+      .build();
+    try {
+      for (int i = 0;i < 200;i++) {
+        client.request(SocketAddress.inetSocketAddress(port, "localhost"), UNARY)
+          .compose(req -> req
+            .send(Request.newBuilder().setName("Julien").build())
+            .compose(resp -> resp.last()))
+          .await();
+      }
+    } finally {
+      client.close().await();
+    }
+    // The cold server weighs 9 times the hot server once both reported
+    assertTrue("Unexpected distribution " + hotCalls + "/" + coldCalls, coldCalls.get() > 4 * hotCalls.get());
+  }
+}
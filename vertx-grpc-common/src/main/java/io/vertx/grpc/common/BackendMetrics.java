@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.common;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.annotations.Unstable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * <p>The load of a backend reported to clients with the response trailers, in the spirit of ORCA (Open Request Cost
+ * Aggregation).</p>
+ *
+ * <p>The metrics are carried by the {@link GrpcHeaderNames#ENDPOINT_LOAD_METRICS} trailer in the text format, e.g.
+ * {@code TEXT cpu_utilization=0.3, rps_fractional=120, named_metrics.queue=4}. A metric equal to {@code 0} is not
+ * reported.</p>
+ */
+@DataObject
+@Unstable
+public class BackendMetrics {
+
+  private static final String TEXT_FORMAT = "TEXT ";
+  private static final String NAMED_METRICS_PREFIX = "named_metrics.";
+
+  private double cpuUtilization;
+  private double memUtilization;
+  private double applicationUtilization;
+  private double qps;
+  private double eps;
+  private Map<String, Double> namedMetrics;
+
+  /**
+   * Default constructor.
+   */
+  public BackendMetrics() {
+    namedMetrics = new LinkedHashMap<>();
+  }
+
+  /**
+   * Copy constructor.
+   */
+  public BackendMetrics(BackendMetrics other) {
+    cpuUtilization = other.cpuUtilization;
+    memUtilization = other.memUtilization;
+    applicationUtilization = other.applicationUtilization;
+    qps = other.qps;
+    eps = other.eps;
+    namedMetrics = new LinkedHashMap<>(other.namedMetrics);
+  }
+
+  /**
+   * @return the CPU utilization of the backend, usually in {@code [0, 1]}
+   */
+  public double getCpuUtilization() {
+    return cpuUtilization;
+  }
+
+  /**
+   * Set the CPU utilization of the backend, usually in {@code [0, 1]}.
+   *
+   * @param cpuUtilization the utilization
+   * @return a reference to this, so the API can be used fluently
+   */
+  public BackendMetrics setCpuUtilization(double cpuUtilization) {
+    this.cpuUtilization = checkMetric(cpuUtilization, "CPU utilization");
+    return this;
+  }
+
+  /**
+   * @return the memory utilization of the backend in {@code [0, 1]}
+   */
+  public double getMemUtilization() {
+    return memUtilization;
+  }
+
+  /**
+   * Set the memory utilization of the backend in {@code [0, 1]}.
+   *
+   * @param memUtilization the utilization
+   * @return a reference to this, so the API can be used fluently
+   */
+  public BackendMetrics setMemUtilization(double memUtilization) {
+    this.memUtilization = checkMetric(memUtilization, "Memory utilization");
+    return this;
+  }
+
+  /**
+   * @return the utilization of the backend defined by the application
+   */
+  public double getApplicationUtilization() {
+    return applicationUtilization;
+  }
+
+  /**
+   * Set the utilization of the backend defined by the application, when set load balancers use it instead of the
+   * {@link #setCpuUtilization(double) CPU utilization}.
+   *
+   * @param applicationUtilization the utilization
+   * @return a reference to this, so the API can be used fluently
+   */
+  public BackendMetrics setApplicationUtilization(double applicationUtilization) {
+    this.applicationUtilization = checkMetric(applicationUtilization, "Application utilization");
+    return this;
+  }
+
+  /**
+   * @return the number of queries per second served by the backend
+   */
+  public double getQps() {
+    return qps;
+  }
+
+  /**
+   * Set the number of queries per second served by the backend.
+   *
+   * @param qps the queries per second
+   * @return a reference to this, so the API can be used fluently
+   */
+  public BackendMetrics setQps(double qps) {
+    this.qps = checkMetric(qps, "QPS");
+    return this;
+  }
+
+  /**
+   * @return the number of errors per second of the backend
+   */
+  public double getEps() {
+    return eps;
+  }
+
+  /**
+   * Set the number of errors per second of the backend.
+   *
+   * @param eps the errors per second
+   * @return a reference to this, so the API can be used fluently
+   */
+  public BackendMetrics setEps(double eps) {
+    this.eps = checkMetric(eps, "EPS");
+    return this;
+  }
+
+  /**
+   * @return the metrics named by the application
+   */
+  public Map<String, Double> getNamedMetrics() {
+    return namedMetrics;
+  }
+
+  /**
+   * Set the metrics named by the application.
+   *
+   * @param namedMetrics the metrics
+   * @return a reference to this, so the API can be used fluently
+   */
+  public BackendMetrics setNamedMetrics(Map<String, Double> namedMetrics) {
+    this.namedMetrics = new LinkedHashMap<>(Objects.requireNonNull(namedMetrics, "namedMetrics"));
+    return this;
+  }
+
+  /**
+   * Add a metric named by the application, the name must not contain {@code ,}, {@code =} or spaces.
+   *
+   * @param name the metric name
+   * @param value the metric value
+   * @return a reference to this, so the API can be used fluently
+   */
+  public BackendMetrics addNamedMetric(String name, double value) {
+    Objects.requireNonNull(name, "name");
+    for (int i = 0;i < name.length();i++) {
+      char c = name.charAt(i);
+      if (c == ',' || c == '=' || c == ' ') {
+        throw new IllegalArgumentException("Invalid metric name: " + name);
+      }
+    }
+    namedMetrics.put(name, checkMetric(value, "Metric " + name));
+    return this;
+  }
+
+  /**
+   * @return the value of the {@link GrpcHeaderNames#ENDPOINT_LOAD_METRICS} trailer carrying these metrics
+   */
+  public String encode() {
+    StringBuilder sb = new StringBuilder(TEXT_FORMAT);
+    append(sb, "cpu_utilization", cpuUtilization);
+    append(sb, "mem_utilization", memUtilization);
+    append(sb, "application_utilization", applicationUtilization);
+    append(sb, "rps_fractional", qps);
+    append(sb, "eps", eps);
+    namedMetrics.forEach((name, value) -> append(sb, NAMED_METRICS_PREFIX + name, value));
+    return sb.toString();
+  }
+
+  /**
+   * Decode the value of a {@link GrpcHeaderNames#ENDPOINT_LOAD_METRICS} trailer, unknown metrics are ignored.
+   *
+   * @param value the trailer value
+   * @return the metrics or {@code null} when the value is not in the text format or is malformed
+   */
+  public static BackendMetrics decode(String value) {
+    if (value == null || !value.startsWith(TEXT_FORMAT)) {
+      return null;
+    }
+    BackendMetrics metrics = new BackendMetrics();
+    int from = TEXT_FORMAT.length();
+    int len = value.length();
+    while (from < len) {
+      int to = value.indexOf(',', from);
+      if (to == -1) {
+        to = len;
+      }
+      int eq = value.indexOf('=', from);
+      if (eq == -1 || eq > to) {
+        return null;
+      }
+      String name = value.substring(from, eq).trim();
+      double metric;
+      try {
+        metric = Double.parseDouble(value.substring(eq + 1, to).trim());
+      } catch (NumberFormatException e) {
+        return null;
+      }
+      if (!(metric >= 0D)) {
+        return null;
+      }
+      switch (name) {
+        case "cpu_utilization":
+          metrics.cpuUtilization = metric;
+          break;
+        case "mem_utilization":
+          metrics.memUtilization = metric;
+          break;
+        case "application_utilization":
+          metrics.applicationUtilization = metric;
+          break;
+        case "rps_fractional":
+          metrics.qps = metric;
+          break;
+        case "eps":
+          metrics.eps = metric;
+          break;
+        default:
+          if (name.startsWith(NAMED_METRICS_PREFIX)) {
+            metrics.namedMetrics.put(name.substring(NAMED_METRICS_PREFIX.length()), metric);
+          }
+          break;
+      }
+      from = to + 1;
+    }
+    return metrics;
+  }
+
+  private static void append(StringBuilder sb, String name, double value) {
+    if (value != 0D) {
+      if (sb.length() > TEXT_FORMAT.length()) {
+        sb.append(", ");
+      }
+      sb.append(name).append('=').append(value);
+    }
+  }
+
+  private static double checkMetric(double value, String name) {
+    if (!(value >= 0D) || Double.isInfinite(value)) {
+      throw new IllegalArgumentException(name + " must be >= 0");
+    }
+    return value;
+  }
+}
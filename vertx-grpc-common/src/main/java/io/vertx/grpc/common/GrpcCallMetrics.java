@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.common;
+
+import io.vertx.codegen.annotations.Unstable;
+import io.vertx.core.MultiMap;
+
+/**
+ * <p>The hooks of a gRPC call metrics SPI shared by the server and the client, the call metric {@code C} is created
+ * when the call begins and is given to each hook of the call.</p>
+ *
+ * <p>The hooks are invoked on the thread of the call and must not block, the default implementations do nothing.</p>
+ *
+ * @param <C> the type of the call metric
+ */
+@Unstable
+public interface GrpcCallMetrics<C> {
+
+  /**
+   * Called when the headers of the call are received.
+   *
+   * @param call the call metric
+   * @param headers the received headers
+   */
+  default void headersReceived(C call, MultiMap headers) {
+  }
+
+  /**
+   * Called when the headers of the call are sent.
+   *
+   * @param call the call metric
+   */
+  default void headersSent(C call) {
+  }
+
+  /**
+   * Called when a message is received.
+   *
+   * @param call the call metric
+   * @param size the size of the message after decompression, or {@code -1} when the message is received compressed and
+   *             not decompressed by the call, e.g. a message handled as a {@link GrpcMessage}
+   * @param wireSize the size of the message on the wire
+   */
+  default void messageReceived(C call, int size, int wireSize) {
+  }
+
+  /**
+   * Called when a message is sent.
+   *
+   * @param call the call metric
+   * @param size the size of the message before compression, or {@code -1} when the message was compressed by the application
+   * @param wireSize the size of the message on the wire
+   */
+  default void messageSent(C call, int size, int wireSize) {
+  }
+
+  /**
+   * Called once when the call ends.
+   *
+   * @param call the call metric
+   * @param status the status of the call, {@link GrpcStatus#CANCELLED} when the call is cancelled or its stream is reset
+   */
+  default void callEnd(C call, GrpcStatus status) {
+  }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.common;
+
+import io.vertx.codegen.annotations.Unstable;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Compresses gRPC message payloads for a given {@code grpc-encoding}.
+ * <p>
+ * Implementations are discovered with {@link java.util.ServiceLoader} and complement the built-in {@code gzip},
+ * {@code deflate} and {@code snappy} codecs. An implementation is shared by all streams and must be thread safe.
+ */
+@Unstable
+public interface GrpcCompressor {
+
+  /**
+   * @return the encoding name, e.g. {@code gzip}
+   */
+  String encoding();
+
+  /**
+   * Compress a message payload.
+   *
+   * @param payload the uncompressed payload
+   * @return the compressed payload
+   * @throws CodecException when the payload cannot be compressed
+   */
+  Buffer compress(Buffer payload) throws CodecException;
+
+}
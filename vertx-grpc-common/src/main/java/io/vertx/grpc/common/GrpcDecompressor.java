@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.common;
+
+import io.vertx.codegen.annotations.Unstable;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Decompresses gRPC message payloads for a given {@code grpc-encoding}.
+ * <p>
+ * Implementations are discovered with {@link java.util.ServiceLoader}, the encodings of all the available
+ * decompressors are advertised in the {@code grpc-accept-encoding} header. An implementation is shared by all
+ * streams and must be thread safe.
+ */
+@Unstable
+public interface GrpcDecompressor {
+
+  /**
+   * @return the encoding name, e.g. {@code gzip}
+   */
+  String encoding();
+
+  /**
+   * Decompress a message payload.
+   *
+   * @param payload the compressed payload
+   * @return the decompressed payload
+   * @throws CodecException when the payload is not valid
+   */
+  Buffer decompress(Buffer payload) throws CodecException;
+
+}
@@ -51,4 +51,15 @@ public final class GrpcHeaderNames {
    * The value is base64 encoded.
    */
   public static final AsciiString GRPC_STATUS_DETAILS_BIN = AsciiString.cached("grpc-status-details-bin");
+
+  /**
+   * Trailer sent by a server to tell the client when to retry a failed call, in milliseconds.
+   * A negative or malformed value tells the client not to retry.
+   */
+  public static final AsciiString GRPC_RETRY_PUSHBACK_MS = AsciiString.cached("grpc-retry-pushback-ms");
+
+  /**
+   * Trailer carrying the {@link BackendMetrics load of the backend} that served a call.
+   */
+  public static final AsciiString ENDPOINT_LOAD_METRICS = AsciiString.cached("endpoint-load-metrics");
 }
@@ -14,6 +14,7 @@ package io.vertx.grpc.common;
 import io.netty.util.AsciiString;
 import io.vertx.codegen.annotations.Unstable;
 import io.vertx.core.http.HttpHeaders;
+import io.vertx.grpc.common.impl.GrpcHeaderClassifier;
 
 /**
  * The gRPC media types.
@@ -69,26 +70,7 @@ public final class GrpcMediaType {
   }
 
   public static WireFormat parseContentType(String contentType, String mediaType) {
-    if (contentType.startsWith(mediaType)) {
-      String s = contentType.substring(mediaType.length());
-      WireFormat format;
-      if (s.isEmpty()) {
-        format = WireFormat.PROTOBUF;
-      } else {
-        switch (s) {
-          case "+json":
-            format = WireFormat.JSON;
-            break;
-          case "+proto":
-            format = WireFormat.PROTOBUF;
-            break;
-          default:
-            return null;
-        }
-      }
-      return format;
-    }
-    return null;
+    return GrpcHeaderClassifier.wireFormat(contentType, mediaType);
   }
 
   private GrpcMediaType() {
@@ -21,6 +21,7 @@ import io.vertx.core.json.DecodeException;
 import io.vertx.core.json.Json;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.json.JsonArray;
+import io.vertx.grpc.common.impl.ProtobufCodec;
 import io.vertx.grpc.common.impl.ProtobufJsonReader;
 
 import java.util.function.Supplier;
@@ -41,7 +42,7 @@ public interface GrpcMessageDecoder<T> {
         WireFormat format = msg.format();
         if (format instanceof ProtobufWireFormat) {
           try {
-            return parser.parseFrom(msg.payload().getBytes());
+            return ProtobufCodec.parse(parser, msg.payload());
           } catch (InvalidProtocolBufferException e) {
             throw new CodecException(e);
           }
@@ -6,6 +6,7 @@ import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.Json;
 import io.vertx.core.json.JsonObject;
+import io.vertx.grpc.common.impl.ProtobufCodec;
 import io.vertx.grpc.common.impl.ProtobufJsonWriter;
 
 public interface GrpcMessageEncoder<T> {
@@ -20,8 +21,7 @@ public interface GrpcMessageEncoder<T> {
       @Override
       public GrpcMessage encode(T msg, WireFormat format) throws CodecException {
         if (format instanceof ProtobufWireFormat) {
-          byte[] bytes = msg.toByteArray();
-          return GrpcMessage.message("identity", format, Buffer.buffer(bytes));
+          return ProtobufCodec.encode(msg, format);
         } else if (format instanceof JsonWireFormat) {
           JsonWireFormat json = (JsonWireFormat) format;
           if (msg instanceof MessageOrBuilder) {
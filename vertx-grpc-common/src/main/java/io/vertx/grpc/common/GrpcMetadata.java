@@ -0,0 +1,636 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.common;
+
+import io.netty.util.AsciiString;
+import io.vertx.codegen.annotations.Unstable;
+import io.vertx.core.MultiMap;
+
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+
+/**
+ * <p>gRPC metadata: the headers or trailers of a call.</p>
+ *
+ * <p>Besides the {@link MultiMap} string API, entries can be read and written with typed {@link Key keys}. A value
+ * written with a key is only serialized when the metadata is sent, a value received is only parsed when read with a
+ * key, the base64 value of a {@code -bin} key is decoded at this time.</p>
+ *
+ * <p>Names are lower-cased {@link AsciiString}, the names of the keys are interned. The entries are written to the
+ * HTTP headers as they are, without an intermediate copy to strings.</p>
+ *
+ * <p>Like {@link MultiMap#caseInsensitiveMultiMap()}, metadata is not thread safe.</p>
+ */
+@Unstable
+public final class GrpcMetadata implements MultiMap {
+
+  private static final String BINARY_SUFFIX = "-bin";
+  private static final Base64.Encoder BASE64_ENCODER = Base64.getEncoder().withoutPadding();
+  private static final Base64.Decoder BASE64_DECODER = Base64.getDecoder();
+
+  /**
+   * Serializes values of ASCII keys.
+   */
+  public interface AsciiMarshaller<T> {
+
+    /**
+     * @return the ASCII string of {@code value}
+     */
+    String toAsciiString(T value);
+
+    /**
+     * @return the value of the {@code serialized} ASCII string
+     */
+    T parseAsciiString(String serialized);
+
+  }
+
+  /**
+   * Serializes values of binary ({@code -bin}) keys, the bytes are base64 encoded on the wire.
+   */
+  public interface BinaryMarshaller<T> {
+
+    /**
+     * @return the bytes of {@code value}
+     */
+    byte[] toBytes(T value);
+
+    /**
+     * @return the value of the {@code serialized} bytes
+     */
+    T parseBytes(byte[] serialized);
+
+  }
+
+  /**
+   * The marshaller of string values.
+   */
+  public static final AsciiMarshaller<String> ASCII_STRING_MARSHALLER = new AsciiMarshaller<>() {
+    @Override
+    public String toAsciiString(String value) {
+      return value;
+    }
+    @Override
+    public String parseAsciiString(String serialized) {
+      return serialized;
+    }
+  };
+
+  /**
+   * The marshaller of byte array values.
+   */
+  public static final BinaryMarshaller<byte[]> BINARY_BYTE_MARSHALLER = new BinaryMarshaller<>() {
+    @Override
+    public byte[] toBytes(byte[] value) {
+      return value;
+    }
+    @Override
+    public byte[] parseBytes(byte[] serialized) {
+      return serialized;
+    }
+  };
+
+  /**
+   * A typed metadata key, keys should be created once and shared.
+   */
+  public static final class Key<T> {
+
+    private static final ConcurrentMap<String, AsciiString> NAMES = new ConcurrentHashMap<>();
+
+    /**
+     * Create an ASCII key of string values.
+     *
+     * @param name the key name
+     * @return the key
+     */
+    public static Key<String> of(String name) {
+      return of(name, ASCII_STRING_MARSHALLER);
+    }
+
+    /**
+     * Create an ASCII key, the {@code name} must not end with {@code -bin}.
+     *
+     * @param name the key name
+     * @param marshaller the value marshaller
+     * @return the key
+     */
+    public static <T> Key<T> of(String name, AsciiMarshaller<T> marshaller) {
+      AsciiString n = intern(name);
+      if (n.endsWith(BINARY_SUFFIX)) {
+        throw new IllegalArgumentException("ASCII key name must not end with " + BINARY_SUFFIX + ": " + name);
+      }
+      return new Key<>(n, Objects.requireNonNull(marshaller), null);
+    }
+
+    /**
+     * Create a binary key, the {@code name} must end with {@code -bin}.
+     *
+     * @param name the key name
+     * @param marshaller the value marshaller
+     * @return the key
+     */
+    public static <T> Key<T> of(String name, BinaryMarshaller<T> marshaller) {
+      AsciiString n = intern(name);
+      if (!n.endsWith(BINARY_SUFFIX)) {
+        throw new IllegalArgumentException("Binary key name must end with " + BINARY_SUFFIX + ": " + name);
+      }
+      return new Key<>(n, null, Objects.requireNonNull(marshaller));
+    }
+
+    /**
+     * Create a binary key of byte array values, the {@code name} must end with {@code -bin}.
+     *
+     * @param name the key name
+     * @return the key
+     */
+    public static Key<byte[]> binary(String name) {
+      return of(name, BINARY_BYTE_MARSHALLER);
+    }
+
+    private static AsciiString intern(String name) {
+      if (name.isEmpty()) {
+        throw new IllegalArgumentException("Key name must not be empty");
+      }
+      return NAMES.computeIfAbsent(name.toLowerCase(Locale.ROOT), AsciiString::cached);
+    }
+
+    private final AsciiString name;
+    private final AsciiMarshaller<T> asciiMarshaller;
+    private final BinaryMarshaller<T> binaryMarshaller;
+
+    private Key(AsciiString name, AsciiMarshaller<T> asciiMarshaller, BinaryMarshaller<T> binaryMarshaller) {
+      this.name = name;
+      this.asciiMarshaller = asciiMarshaller;
+      this.binaryMarshaller = binaryMarshaller;
+    }
+
+    /**
+     * @return the lower-cased key name
+     */
+    public AsciiString name() {
+      return name;
+    }
+
+    /**
+     * @return whether the key is binary
+     */
+    public boolean isBinary() {
+      return binaryMarshaller != null;
+    }
+
+    private CharSequence encode(T value) {
+      if (binaryMarshaller != null) {
+        return new AsciiString(BASE64_ENCODER.encode(binaryMarshaller.toBytes(value)), false);
+      }
+      return asciiMarshaller.toAsciiString(value);
+    }
+
+    private T decode(CharSequence serialized) {
+      if (binaryMarshaller != null) {
+        byte[] bytes = serialized instanceof AsciiString ? ((AsciiString) serialized).toByteArray() : serialized.toString().getBytes(StandardCharsets.US_ASCII);
+        return binaryMarshaller.parseBytes(BASE64_DECODER.decode(bytes));
+      }
+      return asciiMarshaller.parseAsciiString(serialized.toString());
+    }
+
+    @Override
+    public String toString() {
+      return "Key[" + name + "]";
+    }
+  }
+
+  /**
+   * A value written or read with a key, serialized on demand.
+   */
+  private static final class Typed<T> {
+
+    private final Key<T> key;
+    private final T value;
+    private CharSequence serialized;
+
+    private Typed(Key<T> key, T value, CharSequence serialized) {
+      this.key = key;
+      this.value = value;
+      this.serialized = serialized;
+    }
+
+    private CharSequence serialized() {
+      CharSequence s = serialized;
+      if (s == null) {
+        s = key.encode(value);
+        serialized = s;
+      }
+      return s;
+    }
+  }
+
+  /**
+   * Return {@code headers} as metadata, the returned metadata is a copy unless {@code headers} is already metadata.
+   *
+   * @param headers the headers
+   * @return the metadata
+   */
+  public static GrpcMetadata of(MultiMap headers) {
+    if (headers instanceof GrpcMetadata) {
+      return (GrpcMetadata) headers;
+    }
+    GrpcMetadata metadata = new GrpcMetadata();
+    if (headers != null) {
+      metadata.addAll(headers);
+    }
+    return metadata;
+  }
+
+  private AsciiString[] names;
+  private Object[] values;
+  private int size;
+
+  public GrpcMetadata() {
+  }
+
+  /**
+   * @return the first value of {@code key} or {@code null}
+   */
+  public <T> T get(Key<T> key) {
+    int idx = indexOf(key.name, 0);
+    return idx == -1 ? null : value(idx, key);
+  }
+
+  /**
+   * @return the values of {@code key}
+   */
+  public <T> List<T> getAll(Key<T> key) {
+    List<T> list = null;
+    for (int idx = indexOf(key.name, 0);idx != -1;idx = indexOf(key.name, idx + 1)) {
+      if (list == null) {
+        list = new ArrayList<>(2);
+      }
+      list.add(value(idx, key));
+    }
+    return list == null ? Collections.emptyList() : list;
+  }
+
+  /**
+   * @return whether the metadata contains {@code key}
+   */
+  public boolean contains(Key<?> key) {
+    return indexOf(key.name, 0) != -1;
+  }
+
+  /**
+   * Add a {@code value} of {@code key}.
+   *
+   * @return a reference to this, so the API can be used fluently
+   */
+  public <T> GrpcMetadata add(Key<T> key, T value) {
+    append(key.name, new Typed<>(key, Objects.requireNonNull(value), null));
+    return this;
+  }
+
+  /**
+   * Set the {@code value} of {@code key}, replacing the existing values.
+   *
+   * @return a reference to this, so the API can be used fluently
+   */
+  public <T> GrpcMetadata set(Key<T> key, T value) {
+    removeAll(key.name);
+    return add(key, value);
+  }
+
+  /**
+   * Remove the values of {@code key}.
+   *
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcMetadata remove(Key<?> key) {
+    removeAll(key.name);
+    return this;
+  }
+
+  /**
+   * Add the entries to the {@code headers}, the names and values are added as {@link CharSequence} so HTTP/2 headers
+   * store them without conversion.
+   *
+   * @param headers the headers to add the entries to
+   */
+  public void addTo(MultiMap headers) {
+    for (int i = 0;i < size;i++) {
+      headers.add(names[i], serialized(i));
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> T value(int idx, Key<T> key) {
+    Object v = values[idx];
+    if (v instanceof Typed && ((Typed<?>) v).key == key) {
+      return ((Typed<T>) v).value;
+    }
+    CharSequence serialized = serialized(idx);
+    T value = key.decode(serialized);
+    // Parsed once
+    values[idx] = new Typed<>(key, value, serialized);
+    return value;
+  }
+
+  private CharSequence serialized(int idx) {
+    Object v = values[idx];
+    return v instanceof Typed ? ((Typed<?>) v).serialized() : (CharSequence) v;
+  }
+
+  private int indexOf(CharSequence name, int from) {
+    // Metadata is small, a scan beats hashing
+    for (int i = from;i < size;i++) {
+      AsciiString n = names[i];
+      if (n == name || AsciiString.contentEqualsIgnoreCase(n, name)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private void append(AsciiString name, Object value) {
+    if (names == null) {
+      names = new AsciiString[8];
+      values = new Object[8];
+    } else if (size == names.length) {
+      names = Arrays.copyOf(names, size * 2);
+      values = Arrays.copyOf(values, size * 2);
+    }
+    names[size] = name;
+    values[size] = value;
+    size++;
+  }
+
+  private void removeAll(CharSequence name) {
+    int j = 0;
+    for (int i = 0;i < size;i++) {
+      if (!AsciiString.contentEqualsIgnoreCase(names[i], name)) {
+        names[j] = names[i];
+        values[j] = values[i];
+        j++;
+      }
+    }
+    for (int i = j;i < size;i++) {
+      names[i] = null;
+      values[i] = null;
+    }
+    size = j;
+  }
+
+  private static AsciiString name(CharSequence name) {
+    AsciiString n = name instanceof AsciiString ? (AsciiString) name : new AsciiString(name);
+    return n.toLowerCase();
+  }
+
+  private static CharSequence checkValue(CharSequence value) {
+    return Objects.requireNonNull(value, "value");
+  }
+
+  @Override
+  public String get(CharSequence name) {
+    int idx = indexOf(name, 0);
+    return idx == -1 ? null : serialized(idx).toString();
+  }
+
+  @Override
+  public String get(String name) {
+    return get((CharSequence) name);
+  }
+
+  @Override
+  public List<String> getAll(String name) {
+    return getAll((CharSequence) name);
+  }
+
+  @Override
+  public List<String> getAll(CharSequence name) {
+    List<String> list = null;
+    for (int idx = indexOf(name, 0);idx != -1;idx = indexOf(name, idx + 1)) {
+      if (list == null) {
+        list = new ArrayList<>(2);
+      }
+      list.add(serialized(idx).toString());
+    }
+    return list == null ? Collections.emptyList() : list;
+  }
+
+  @Override
+  public void forEach(BiConsumer<String, String> action) {
+    for (int i = 0;i < size;i++) {
+      action.accept(names[i].toString(), serialized(i).toString());
+    }
+  }
+
+  @Override
+  public List<Map.Entry<String, String>> entries() {
+    List<Map.Entry<String, String>> entries = new ArrayList<>(size);
+    forEach((name, value) -> entries.add(new AbstractMap.SimpleImmutableEntry<>(name, value)));
+    return entries;
+  }
+
+  @Override
+  public Iterator<Map.Entry<String, String>> iterator() {
+    return new Iterator<>() {
+      int idx;
+      @Override
+      public boolean hasNext() {
+        return idx < size;
+      }
+      @Override
+      public Map.Entry<String, String> next() {
+        if (idx >= size) {
+          throw new NoSuchElementException();
+        }
+        Map.Entry<String, String> entry = new AbstractMap.SimpleImmutableEntry<>(names[idx].toString(), serialized(idx).toString());
+        idx++;
+        return entry;
+      }
+    };
+  }
+
+  @Override
+  public boolean contains(String name) {
+    return indexOf(name, 0) != -1;
+  }
+
+  @Override
+  public boolean contains(CharSequence name) {
+    return indexOf(name, 0) != -1;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  @Override
+  public Set<String> names() {
+    Set<String> names = new LinkedHashSet<>(size);
+    for (int i = 0;i < size;i++) {
+      names.add(this.names[i].toString());
+    }
+    return names;
+  }
+
+  @Override
+  public GrpcMetadata add(String name, String value) {
+    return add((CharSequence) name, value);
+  }
+
+  @Override
+  public GrpcMetadata add(CharSequence name, CharSequence value) {
+    append(name(name), checkValue(value));
+    return this;
+  }
+
+  @Override
+  public GrpcMetadata add(String name, Iterable<String> values) {
+    AsciiString n = name(name);
+    for (String value : values) {
+      append(n, checkValue(value));
+    }
+    return this;
+  }
+
+  @Override
+  public GrpcMetadata add(CharSequence name, Iterable<CharSequence> values) {
+    AsciiString n = name(name);
+    for (CharSequence value : values) {
+      append(n, checkValue(value));
+    }
+    return this;
+  }
+
+  @Override
+  public GrpcMetadata addAll(MultiMap map) {
+    if (map instanceof GrpcMetadata) {
+      GrpcMetadata other = (GrpcMetadata) map;
+      for (int i = 0;i < other.size;i++) {
+        // Typed values are immutable and can be shared
+        append(other.names[i], other.values[i]);
+      }
+    } else {
+      for (Map.Entry<String, String> entry : map) {
+        add(entry.getKey(), entry.getValue());
+      }
+    }
+    return this;
+  }
+
+  @Override
+  public GrpcMetadata addAll(Map<String, String> headers) {
+    for (Map.Entry<String, String> entry : headers.entrySet()) {
+      add(entry.getKey(), entry.getValue());
+    }
+    return this;
+  }
+
+  @Override
+  public GrpcMetadata set(String name, String value) {
+    return set((CharSequence) name, value);
+  }
+
+  @Override
+  public GrpcMetadata set(CharSequence name, CharSequence value) {
+    removeAll(name);
+    if (value != null) {
+      add(name, value);
+    }
+    return this;
+  }
+
+  @Override
+  public GrpcMetadata set(String name, Iterable<String> values) {
+    removeAll(name);
+    return add(name, values);
+  }
+
+  @Override
+  public GrpcMetadata set(CharSequence name, Iterable<CharSequence> values) {
+    removeAll(name);
+    return add(name, values);
+  }
+
+  @Override
+  public GrpcMetadata setAll(MultiMap map) {
+    clear();
+    return addAll(map);
+  }
+
+  @Override
+  public GrpcMetadata setAll(Map<String, String> headers) {
+    clear();
+    return addAll(headers);
+  }
+
+  @Override
+  public GrpcMetadata remove(String name) {
+    removeAll(name);
+    return this;
+  }
+
+  @Override
+  public GrpcMetadata remove(CharSequence name) {
+    removeAll(name);
+    return this;
+  }
+
+  @Override
+  public GrpcMetadata clear() {
+    if (size > 0) {
+      Arrays.fill(names, 0, size, null);
+      Arrays.fill(values, 0, size, null);
+      size = 0;
+    }
+    return this;
+  }
+
+  /**
+   * @return the number of distinct names, like the headers {@link MultiMap}
+   */
+  @Override
+  public int size() {
+    int count = 0;
+    for (int i = 0;i < size;i++) {
+      if (indexOf(names[i], 0) == i) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder("GrpcMetadata[");
+    for (int i = 0;i < size;i++) {
+      if (i > 0) {
+        sb.append(", ");
+      }
+      sb.append(names[i]).append('=').append(serialized(i));
+    }
+    return sb.append(']').toString();
+  }
+}
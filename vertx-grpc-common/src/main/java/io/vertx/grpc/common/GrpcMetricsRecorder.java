@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.common;
+
+import io.vertx.codegen.annotations.Unstable;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.json.JsonObject;
+import io.vertx.grpc.common.impl.LatencyHistogram;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <p>Records the calls per method: the number of calls per status, the messages and bytes received and sent and a
+ * latency histogram.</p>
+ *
+ * <p>A call accumulates its own counts and records them in the stripe of the event loop ending it, a stripe has a
+ * single writer and is read without locking by {@link #snapshot()}. The calls ending on a worker or outside a Vert.x
+ * context share a stripe updated atomically.</p>
+ *
+ * <p>The latency histogram has 8 sub-buckets per power of two, the percentiles are within 12.5% of the recorded
+ * latencies.</p>
+ */
+@Unstable
+public final class GrpcMetricsRecorder implements GrpcCallMetrics<GrpcMetricsRecorder.Call> {
+
+  private static final int MESSAGES_RECEIVED = 0;
+  private static final int BYTES_RECEIVED = 1;
+  private static final int WIRE_BYTES_RECEIVED = 2;
+  private static final int MESSAGES_SENT = 3;
+  private static final int BYTES_SENT = 4;
+  private static final int WIRE_BYTES_SENT = 5;
+  private static final int MAX_LATENCY = 6;
+  private static final int STATUS = 7;
+  private static final GrpcStatus[] STATUSES = GrpcStatus.values();
+  private static final int COUNTERS = STATUS + STATUSES.length;
+
+  private final List<Stripe> stripes = new CopyOnWriteArrayList<>();
+  private final Stripe shared = new Stripe(true);
+
+  public GrpcMetricsRecorder() {
+    stripes.add(shared);
+  }
+
+  /**
+   * Begin a call of a method.
+   *
+   * @param serviceName the service name
+   * @param methodName the method name
+   * @return the call metric
+   */
+  public Call callBegin(ServiceName serviceName, String methodName) {
+    return new Call(serviceName.fullyQualifiedName(), methodName);
+  }
+
+  @Override
+  public void messageReceived(Call call, int size, int wireSize) {
+    call.messagesReceived++;
+    if (size >= 0) {
+      call.bytesReceived += size;
+    }
+    call.wireBytesReceived += wireSize;
+  }
+
+  @Override
+  public void messageSent(Call call, int size, int wireSize) {
+    call.messagesSent++;
+    if (size >= 0) {
+      call.bytesSent += size;
+    }
+    call.wireBytesSent += wireSize;
+  }
+
+  @Override
+  public void callEnd(Call call, GrpcStatus status) {
+    long latency = System.nanoTime() - call.start;
+    stripe().method(call.serviceName, call.methodName).record(call, status, latency);
+  }
+
+  private Stripe stripe() {
+    Context context = Vertx.currentContext();
+    if (context == null || !context.isEventLoopContext()) {
+      return shared;
+    }
+    return (Stripe) ((ContextInternal) context).unwrap().contextData().computeIfAbsent(this, key -> {
+      Stripe stripe = new Stripe(false);
+      stripes.add(stripe);
+      return stripe;
+    });
+  }
+
+  /**
+   * <p>Return a snapshot of the recorded calls keyed by full method name, e.g.</p>
+   *
+   * <pre>
+   * {
+   *   "helloworld.Greeter/SayHello": {
+   *     "calls": 2,
+   *     "status": { "OK": 1, "CANCELLED": 1 },
+   *     "messagesReceived": 2,
+   *     "bytesReceived": 14,
+   *     "wireBytesReceived": 14,
+   *     "messagesSent": 1,
+   *     "bytesSent": 12,
+   *     "wireBytesSent": 12,
+   *     "latency": { "p50": 310, "p90": 1216, "p99": 1216, "max": 1190 }
+   *   }
+   * }
+   * </pre>
+   *
+   * <p>The latencies are in microseconds, the byte counts are the sizes before compression and on the wire.</p>
+   *
+   * @return the snapshot
+   */
+  public JsonObject snapshot() {
+    Map<String, long[]> counters = new TreeMap<>();
+    Map<String, long[]> histograms = new TreeMap<>();
+    for (Stripe stripe : stripes) {
+      stripe.methods.forEach((serviceName, methods) -> methods.forEach((methodName, recorder) -> {
+        String fullMethodName = serviceName + "/" + methodName;
+        long[] c = counters.computeIfAbsent(fullMethodName, key -> new long[COUNTERS]);
+        long[] h = histograms.computeIfAbsent(fullMethodName, key -> new long[LatencyHistogram.BUCKETS]);
+        for (int i = 0;i < COUNTERS;i++) {
+          if (i == MAX_LATENCY) {
+            c[i] = Math.max(c[i], recorder.counters.get(i));
+          } else {
+            c[i] += recorder.counters.get(i);
+          }
+        }
+        for (int i = 0;i < LatencyHistogram.BUCKETS;i++) {
+          h[i] += recorder.latency.get(i);
+        }
+      }));
+    }
+    JsonObject json = new JsonObject();
+    counters.forEach((fullMethodName, c) -> {
+      long calls = 0L;
+      JsonObject status = new JsonObject();
+      for (int i = 0;i < STATUSES.length;i++) {
+        long count = c[STATUS + i];
+        if (count > 0L) {
+          status.put(STATUSES[i].name(), count);
+          calls += count;
+        }
+      }
+      long[] h = histograms.get(fullMethodName);
+      long max = c[MAX_LATENCY];
+      json.put(fullMethodName, new JsonObject()
+        .put("calls", calls)
+        .put("status", status)
+        .put("messagesReceived", c[MESSAGES_RECEIVED])
+        .put("bytesReceived", c[BYTES_RECEIVED])
+        .put("wireBytesReceived", c[WIRE_BYTES_RECEIVED])
+        .put("messagesSent", c[MESSAGES_SENT])
+        .put("bytesSent", c[BYTES_SENT])
+        .put("wireBytesSent", c[WIRE_BYTES_SENT])
+        .put("latency", new JsonObject()
+          .put("p50", percentile(h, calls, 0.50D, max) / 1000L)
+          .put("p90", percentile(h, calls, 0.90D, max) / 1000L)
+          .put("p99", percentile(h, calls, 0.99D, max) / 1000L)
+          .put("max", max / 1000L)));
+    });
+    return json;
+  }
+
+  private static long percentile(long[] histogram, long count, double percentile, long max) {
+    if (count == 0L) {
+      return 0L;
+    }
+    int bucket = LatencyHistogram.percentileBucket(histogram, count, percentile);
+    return bucket < 0 ? max : Math.min(LatencyHistogram.highestValue(bucket), max);
+  }
+
+  /**
+   * The metric of a call, a call is used by a single thread at a time.
+   */
+  public static final class Call {
+
+    private final String serviceName;
+    private final String methodName;
+    private final long start;
+    private long messagesReceived;
+    private long bytesReceived;
+    private long wireBytesReceived;
+    private long messagesSent;
+    private long bytesSent;
+    private long wireBytesSent;
+
+    private Call(String serviceName, String methodName) {
+      this.serviceName = serviceName;
+      this.methodName = methodName;
+      this.start = System.nanoTime();
+    }
+  }
+
+  private static final class Stripe {
+
+    private final boolean concurrent;
+    private final Map<String, Map<String, MethodRecorder>> methods = new ConcurrentHashMap<>();
+
+    private Stripe(boolean concurrent) {
+      this.concurrent = concurrent;
+    }
+
+    private MethodRecorder method(String serviceName, String methodName) {
+      Map<String, MethodRecorder> recorders = methods.get(serviceName);
+      if (recorders == null) {
+        recorders = methods.computeIfAbsent(serviceName, key -> new ConcurrentHashMap<>());
+      }
+      MethodRecorder recorder = recorders.get(methodName);
+      if (recorder == null) {
+        recorder = recorders.computeIfAbsent(methodName, key -> new MethodRecorder(concurrent));
+      }
+      return recorder;
+    }
+  }
+
+  private static final class MethodRecorder {
+
+    private final boolean concurrent;
+    private final AtomicLongArray counters = new AtomicLongArray(COUNTERS);
+    private final AtomicLongArray latency = new AtomicLongArray(LatencyHistogram.BUCKETS);
+
+    private MethodRecorder(boolean concurrent) {
+      this.concurrent = concurrent;
+    }
+
+    private void record(Call call, GrpcStatus status, long latencyNanos) {
+      add(counters, STATUS + status.ordinal(), 1L);
+      add(counters, MESSAGES_RECEIVED, call.messagesReceived);
+      add(counters, BYTES_RECEIVED, call.bytesReceived);
+      add(counters, WIRE_BYTES_RECEIVED, call.wireBytesReceived);
+      add(counters, MESSAGES_SENT, call.messagesSent);
+      add(counters, BYTES_SENT, call.bytesSent);
+      add(counters, WIRE_BYTES_SENT, call.wireBytesSent);
+      add(latency, LatencyHistogram.bucket(latencyNanos), 1L);
+      if (concurrent) {
+        counters.accumulateAndGet(MAX_LATENCY, latencyNanos, Math::max);
+      } else if (latencyNanos > counters.get(MAX_LATENCY)) {
+        counters.lazySet(MAX_LATENCY, latencyNanos);
+      }
+    }
+
+    private void add(AtomicLongArray array, int index, long delta) {
+      if (delta == 0L) {
+        return;
+      }
+      if (concurrent) {
+        array.getAndAdd(index, delta);
+      } else {
+        // Single writer
+        array.lazySet(index, array.get(index) + delta);
+      }
+    }
+  }
+}
@@ -17,6 +17,15 @@ public interface GrpcReadStream<T> extends ReadStream<T> {
    */
   MultiMap headers();
 
+  /**
+   * @return the {@link #headers()} as {@link GrpcMetadata} to read typed metadata headers, the values are parsed when
+   *         they are read. The streams of this library build it once, this default implementation copies the headers
+   */
+  @GenIgnore(GenIgnore.PERMITTED_TYPE)
+  default GrpcMetadata metadata() {
+    return GrpcMetadata.of(headers());
+  }
+
   /**
    * @return the stream encoding, e.g. {@code identity} or {@code gzip}
    */
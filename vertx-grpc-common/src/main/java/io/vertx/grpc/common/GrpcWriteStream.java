@@ -1,6 +1,7 @@
 package io.vertx.grpc.common;
 
 import io.vertx.codegen.annotations.Fluent;
+import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.annotations.Nullable;
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.Future;
@@ -16,6 +17,12 @@ public interface GrpcWriteStream<T> extends WriteStream<T> {
    */
   MultiMap headers();
 
+  /**
+   * @return the {@link #headers()} as {@link GrpcMetadata} to write typed metadata headers
+   */
+  @GenIgnore(GenIgnore.PERMITTED_TYPE)
+  GrpcMetadata metadata();
+
   /**
    * <p>Set the stream encoding, e.g. {@code identity} or {@code gzip},</p>
    *
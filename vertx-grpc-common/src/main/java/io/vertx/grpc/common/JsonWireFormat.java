@@ -157,6 +157,21 @@ public class JsonWireFormat implements WireFormat {
     return with(Flag.IGNORING_UNKNOWN_FIELDS, value);
   }
 
+  /**
+   * @return whether protobuf messages are encoded and decoded with the descriptor driven streaming codec instead of
+   *         {@code JsonFormat}, messages using well-known types are always handled by {@code JsonFormat}
+   */
+  public boolean usingStreamingCodec() {
+    return isSet(Flag.USING_STREAMING_CODEC);
+  }
+
+  /**
+   * @return a copy of this format with {@code usingStreamingCodec} set to {@code value}
+   */
+  public JsonWireFormat usingStreamingCodec(boolean value) {
+    return with(Flag.USING_STREAMING_CODEC, value);
+  }
+
   public JsonObject toJson() {
     JsonObject json = new JsonObject();
     for (Flag flag : Flag.values()) {
@@ -192,7 +207,8 @@ public class JsonWireFormat implements WireFormat {
     PRESERVING_PROTO_FIELD_NAMES("preservingProtoFieldNames"),
     PRINTING_ENUMS_AS_INTS("printingEnumsAsInts"),
     SORTING_MAP_KEYS("sortingMapKeys"),
-    IGNORING_UNKNOWN_FIELDS("ignoringUnknownFields");
+    IGNORING_UNKNOWN_FIELDS("ignoringUnknownFields"),
+    USING_STREAMING_CODEC("usingStreamingCodec");
 
     final String key;
     final int mask;
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.common;
+
+import io.vertx.codegen.annotations.Unstable;
+import io.vertx.grpc.common.impl.PreEncodedGrpcMessageImpl;
+
+/**
+ * An immutable message serialized and framed once, it can be written as is to any number of streams with
+ * {@link GrpcWriteStream#writeMessage(GrpcMessage)}: the streams share the same frame buffer, the message is neither
+ * re-serialized nor copied per stream.
+ * <p>
+ * When written to a stream using a compressed {@code grpc-encoding}, the message compressed with this encoding is
+ * computed once by {@link #encoded(String)} and shared as well.
+ */
+@Unstable
+public interface PreEncodedGrpcMessage extends GrpcMessage {
+
+  /**
+   * Encode {@code message} in the {@link WireFormat#PROTOBUF} format.
+   *
+   * @param message the message
+   * @param encoder the message encoder
+   * @return the pre-encoded message
+   * @throws CodecException when the message cannot be encoded
+   */
+  static <T> PreEncodedGrpcMessage encode(T message, GrpcMessageEncoder<T> encoder) throws CodecException {
+    return encode(message, encoder, WireFormat.PROTOBUF);
+  }
+
+  /**
+   * Encode {@code message} in the given {@code format}.
+   *
+   * @param message the message
+   * @param encoder the message encoder
+   * @param format the wire format
+   * @return the pre-encoded message
+   * @throws CodecException when the message cannot be encoded
+   */
+  static <T> PreEncodedGrpcMessage encode(T message, GrpcMessageEncoder<T> encoder, WireFormat format) throws CodecException {
+    return PreEncodedGrpcMessageImpl.create(encoder.encode(message, format));
+  }
+
+  /**
+   * Return this message with the given {@code encoding}, the result is computed once and shared by all the callers.
+   *
+   * @param encoding the encoding, e.g. {@code gzip} or {@code identity}
+   * @return the message with the given encoding
+   * @throws IllegalArgumentException when the encoding is not supported
+   * @throws CodecException when the message cannot be compressed
+   */
+  PreEncodedGrpcMessage encoded(String encoding) throws CodecException;
+
+}
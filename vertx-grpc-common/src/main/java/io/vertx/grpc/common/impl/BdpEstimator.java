@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.common.impl;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.Http2Settings;
+import io.vertx.core.http.HttpConnection;
+import io.vertx.core.internal.ContextInternal;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Bandwidth-delay product estimator of an HTTP/2 connection growing the connection and stream windows, similar to the
+ * automatic flow control of grpc-java and grpc-go.
+ * <p>
+ * When data is received and no probe is in flight, a {@code PING} is sent and the bytes received until its
+ * acknowledgement are counted: this sample approximates the BDP of the link. When the sample fills at least 2/3 of the
+ * current window and the measured bandwidth grows, the windows are set to twice the sample, up to a maximum size.
+ * <p>
+ * The estimators live in the data of the (unwrapped) context of the connection and are only accessed from its event-loop.
+ */
+public final class BdpEstimator {
+
+  private static final Buffer PING_PAYLOAD = Buffer.buffer(new byte[] { 'v', 'x', 'b', 'd', 'p', 0, 0, 0 });
+
+  @SuppressWarnings("unchecked")
+  static BdpEstimator estimator(ContextInternal context, HttpConnection connection, int maxWindowSize) {
+    Map<HttpConnection, BdpEstimator> estimators = (Map<HttpConnection, BdpEstimator>) context
+      .unwrap()
+      .contextData()
+      .computeIfAbsent(BdpEstimator.class, key -> new WeakHashMap<>());
+    return estimators.computeIfAbsent(connection, c -> new BdpEstimator(c, maxWindowSize));
+  }
+
+  private final HttpConnection connection;
+  private final int maxWindowSize;
+  private int windowSize;
+  private boolean probing;
+  private long probeStart;
+  private long sample;
+  private double maxBandwidth;
+
+  private BdpEstimator(HttpConnection connection, int maxWindowSize) {
+    this.connection = connection;
+    this.maxWindowSize = maxWindowSize;
+    this.windowSize = connection.settings().getInitialWindowSize();
+  }
+
+  /**
+   * @return the current window size
+   */
+  public int windowSize() {
+    return windowSize;
+  }
+
+  /**
+   * Account {@code bytes} of data received on the connection, a probe is sent when none is in flight.
+   */
+  public void onData(int bytes) {
+    if (probing) {
+      sample += bytes;
+    } else if (windowSize < maxWindowSize) {
+      probing = true;
+      sample = bytes;
+      probeStart = System.nanoTime();
+      connection.ping(PING_PAYLOAD).onComplete(ar -> onAck(ar.succeeded()));
+    }
+  }
+
+  private void onAck(boolean acked) {
+    probing = false;
+    long rtt = System.nanoTime() - probeStart;
+    if (!acked || rtt <= 0L || sample * 3 < windowSize * 2L) {
+      return;
+    }
+    double bandwidth = (double) sample / rtt;
+    if (bandwidth <= maxBandwidth) {
+      return;
+    }
+    maxBandwidth = bandwidth;
+    int size = (int) Math.min(maxWindowSize, sample * 2);
+    if (size > windowSize) {
+      windowSize = size;
+      connection.setWindowSize(size);
+      connection.updateSettings(new Http2Settings(connection.settings()).setInitialWindowSize(size));
+    }
+  }
+}
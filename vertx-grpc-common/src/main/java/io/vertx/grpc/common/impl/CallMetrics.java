@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.common.impl;
+
+import io.vertx.core.MultiMap;
+import io.vertx.grpc.common.GrpcCallMetrics;
+import io.vertx.grpc.common.GrpcMessage;
+import io.vertx.grpc.common.GrpcStatus;
+
+/**
+ * Binds a call metric to its {@link GrpcCallMetrics}, shared by the read and the write stream of a call so the end
+ * of the call is reported once.
+ */
+public final class CallMetrics {
+
+  private final GrpcCallMetrics<Object> metrics;
+  private final Object metric;
+  private boolean ended;
+
+  @SuppressWarnings("unchecked")
+  public CallMetrics(GrpcCallMetrics<?> metrics, Object metric) {
+    this.metrics = (GrpcCallMetrics<Object>) metrics;
+    this.metric = metric;
+  }
+
+  public void headersReceived(MultiMap headers) {
+    metrics.headersReceived(metric, headers);
+  }
+
+  public void headersSent() {
+    metrics.headersSent(metric);
+  }
+
+  public void messageReceived(GrpcMessage message) {
+    messageReceived(message, "identity".equals(message.encoding()) ? message.payload().length() : -1);
+  }
+
+  /**
+   * Report the {@code message} received on the wire, decompressed to {@code size} bytes.
+   */
+  public void messageReceived(GrpcMessage message, int size) {
+    metrics.messageReceived(metric, size, message.payload().length());
+  }
+
+  /**
+   * Report the {@code message} sent as {@code payload} on the wire.
+   *
+   * @return the payload to send, a transformed payload is materialized to be compressed once
+   */
+  public GrpcMessage messageSent(GrpcMessage message, GrpcMessage payload) {
+    if (payload instanceof GrpcTransformedMessage) {
+      payload = GrpcMessage.message(payload.encoding(), payload.format(), payload.payload());
+    }
+    int wireSize = payload.payload().length();
+    int size;
+    if ("identity".equals(payload.encoding())) {
+      size = wireSize;
+    } else if ("identity".equals(message.encoding())) {
+      size = message.payload().length();
+    } else {
+      size = -1;
+    }
+    metrics.messageSent(metric, size, wireSize);
+    return payload;
+  }
+
+  public void end(GrpcStatus status) {
+    if (!ended) {
+      ended = true;
+      metrics.callEnd(metric, status);
+    }
+  }
+}
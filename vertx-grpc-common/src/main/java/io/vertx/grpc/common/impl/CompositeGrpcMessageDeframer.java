@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.common.impl;
+
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.buffer.BufferInternal;
+import io.vertx.grpc.common.GrpcMessage;
+import io.vertx.grpc.common.InvalidMessagePayloadException;
+import io.vertx.grpc.common.MessageSizeOverflowException;
+import io.vertx.grpc.common.WireFormat;
+
+import java.util.ArrayDeque;
+
+/**
+ * State machine that handles slicing the input to a message without accumulating the input in a single buffer.
+ * <p>
+ * Inbound chunks are kept in a list along with a read index in the head chunk, a message payload is a slice of
+ * the chunk holding it, or a composite of slices when it spans several chunks. No payload byte is copied.
+ */
+public class CompositeGrpcMessageDeframer implements GrpcMessageDeframer {
+
+  private final String encoding;
+  private final WireFormat format;
+  private final ArrayDeque<Buffer> chunks = new ArrayDeque<>();
+  private long maxMessageSize;
+
+  // Read index in the head chunk
+  private int readIndex;
+  private long readable;
+  private long bytesToSkip;
+
+  public CompositeGrpcMessageDeframer(String encoding, WireFormat format) {
+    this.encoding = encoding;
+    this.format = format;
+  }
+
+  @Override
+  public void maxMessageSize(long maxMessageSize) {
+    this.maxMessageSize = maxMessageSize;
+  }
+
+  @Override
+  public void update(Buffer chunk) {
+    int len = chunk.length();
+    if (bytesToSkip > 0L) {
+      if (len <= bytesToSkip) {
+        bytesToSkip -= len;
+        return;
+      }
+      chunk = chunk.slice((int) bytesToSkip, len);
+      len -= (int) bytesToSkip;
+      bytesToSkip = 0L;
+    }
+    if (len > 0) {
+      chunks.addLast(chunk);
+      readable += len;
+    }
+  }
+
+  @Override
+  public void end() {
+  }
+
+  @Override
+  public Object next() {
+    if (readable < 5) {
+      return null;
+    }
+    byte flags;
+    long len;
+    Buffer head = chunks.peekFirst();
+    if (head.length() - readIndex >= 5) {
+      flags = head.getByte(readIndex);
+      len = ((long) head.getInt(readIndex + 1)) & 0xFFFFFFFFL;
+    } else {
+      flags = byteAt(0);
+      len = ((long) (byteAt(1) & 0xFF) << 24)
+        | ((byteAt(2) & 0xFF) << 16)
+        | ((byteAt(3) & 0xFF) << 8)
+        | (byteAt(4) & 0xFF);
+    }
+    if (len > maxMessageSize) {
+      MessageSizeOverflowException msoe = new MessageSizeOverflowException(len);
+      if (readable < (len + 5)) {
+        bytesToSkip = (len + 5) - readable;
+        chunks.clear();
+        readIndex = 0;
+        readable = 0L;
+      } else {
+        skip(len + 5);
+      }
+      return msoe;
+    }
+    if (len > readable - 5) {
+      return null;
+    }
+    boolean compressed = flags == 1;
+    skip(5);
+    Buffer payload = read((int) len);
+    if (compressed && encoding == null) {
+      // The message is consumed, the stream can carry on with the next one
+      return new InvalidMessagePayloadException(GrpcMessage.message("identity", format, payload),
+        new IllegalStateException("Compressed message without grpc-encoding"));
+    }
+    return GrpcMessage.message(compressed ? encoding : "identity", format, payload);
+  }
+
+  private byte byteAt(int offset) {
+    int idx = readIndex + offset;
+    for (Buffer chunk : chunks) {
+      if (idx < chunk.length()) {
+        return chunk.getByte(idx);
+      }
+      idx -= chunk.length();
+    }
+    throw new IndexOutOfBoundsException();
+  }
+
+  private void skip(long amount) {
+    readable -= amount;
+    while (amount > 0L) {
+      Buffer head = chunks.peekFirst();
+      int available = head.length() - readIndex;
+      if (amount < available) {
+        readIndex += (int) amount;
+        return;
+      }
+      amount -= available;
+      chunks.pollFirst();
+      readIndex = 0;
+    }
+  }
+
+  private Buffer read(int len) {
+    if (len == 0) {
+      return Buffer.buffer();
+    }
+    Buffer head = chunks.peekFirst();
+    if (head.length() - readIndex >= len) {
+      Buffer payload = head.slice(readIndex, readIndex + len);
+      skip(len);
+      return payload;
+    }
+    CompositeByteBuf composite = Unpooled.compositeBuffer(chunks.size());
+    int remaining = len;
+    while (remaining > 0) {
+      Buffer chunk = chunks.peekFirst();
+      int amount = Math.min(chunk.length() - readIndex, remaining);
+      composite.addComponent(true, ((BufferInternal) chunk.slice(readIndex, readIndex + amount)).getByteBuf());
+      remaining -= amount;
+      skip(amount);
+    }
+    // The composite does not own its components, releasing it (e.g. when handed to a codec channel) must be a no-op
+    return BufferInternal.buffer(Unpooled.unreleasableBuffer(composite));
+  }
+}
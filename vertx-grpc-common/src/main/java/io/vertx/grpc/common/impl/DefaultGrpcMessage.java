@@ -56,6 +56,13 @@ public class DefaultGrpcMessage implements GrpcMessage {
    * @return the encoded message
    */
   public static BufferInternal encode(GrpcMessage message, boolean trailer) {
+    if (!trailer) {
+      if (message instanceof FramedGrpcMessage) {
+        return ((FramedGrpcMessage) message).frame();
+      } else if (message instanceof PreEncodedGrpcMessageImpl) {
+        return ((PreEncodedGrpcMessageImpl) message).frame();
+      }
+    }
     boolean compressed = !message.encoding().equals("identity");
     return encode(message.payload(), compressed, trailer);
   }
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.common.impl;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.buffer.BufferInternal;
+import io.vertx.grpc.common.GrpcMessage;
+import io.vertx.grpc.common.WireFormat;
+
+/**
+ * An uncompressed message serialized after a reserved 5-byte gRPC prefix, the frame can be written as is
+ * on the wire, the payload is a view of the frame.
+ */
+public final class FramedGrpcMessage implements GrpcMessage {
+
+  private final WireFormat format;
+  private final BufferInternal frame;
+
+  public FramedGrpcMessage(WireFormat format, BufferInternal frame) {
+    this.format = format;
+    this.frame = frame;
+  }
+
+  @Override
+  public String encoding() {
+    return "identity";
+  }
+
+  @Override
+  public WireFormat format() {
+    return format;
+  }
+
+  @Override
+  public Buffer payload() {
+    return frame.slice(5, frame.length());
+  }
+
+  /**
+   * @return the framed message: the 5-byte prefix followed by the payload
+   */
+  public BufferInternal frame() {
+    return frame;
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.common.impl;
+
+import io.vertx.grpc.common.GrpcCompressor;
+import io.vertx.grpc.common.GrpcDecompressor;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+
+/**
+ * The registry of message codecs: the built-in {@code gzip}, {@code deflate} and {@code snappy} codecs and the
+ * {@link GrpcCompressor} / {@link GrpcDecompressor} implementations found by the {@link ServiceLoader}.
+ */
+public final class GrpcCompression {
+
+  private static final Map<String, GrpcCompressor> COMPRESSORS;
+  private static final Map<String, GrpcDecompressor> DECOMPRESSORS;
+  private static final String ACCEPT_ENCODING;
+
+  static {
+    Map<String, GrpcCompressor> compressors = new LinkedHashMap<>();
+    Map<String, GrpcDecompressor> decompressors = new LinkedHashMap<>();
+    for (ZlibCodec codec : new ZlibCodec[] { ZlibCodec.GZIP, ZlibCodec.DEFLATE }) {
+      compressors.put(codec.encoding(), codec);
+      decompressors.put(codec.encoding(), codec);
+    }
+    compressors.put(SnappyCodec.INSTANCE.encoding(), SnappyCodec.INSTANCE);
+    decompressors.put(SnappyCodec.INSTANCE.encoding(), SnappyCodec.INSTANCE);
+    for (GrpcCompressor compressor : ServiceLoader.load(GrpcCompressor.class)) {
+      compressors.put(compressor.encoding(), compressor);
+    }
+    for (GrpcDecompressor decompressor : ServiceLoader.load(GrpcDecompressor.class)) {
+      decompressors.put(decompressor.encoding(), decompressor);
+    }
+    COMPRESSORS = compressors;
+    DECOMPRESSORS = decompressors;
+    ACCEPT_ENCODING = String.join(",", decompressors.keySet());
+  }
+
+  private GrpcCompression() {
+  }
+
+  /**
+   * @return the compressor for the given {@code encoding} or {@code null} when the encoding is not supported
+   */
+  public static GrpcCompressor compressor(String encoding) {
+    return COMPRESSORS.get(encoding);
+  }
+
+  /**
+   * @return the decompressor for the given {@code encoding} or {@code null} when the encoding is not supported
+   */
+  public static GrpcDecompressor decompressor(String encoding) {
+    return DECOMPRESSORS.get(encoding);
+  }
+
+  /**
+   * @return the encodings that can be decompressed
+   */
+  public static Set<String> acceptedEncodings() {
+    return Collections.unmodifiableSet(DECOMPRESSORS.keySet());
+  }
+
+  /**
+   * @return the {@code grpc-accept-encoding} header value advertising the encodings that can be decompressed
+   */
+  public static String acceptEncoding() {
+    return ACCEPT_ENCODING;
+  }
+}
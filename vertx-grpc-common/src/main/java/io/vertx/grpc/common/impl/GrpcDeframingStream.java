@@ -7,36 +7,75 @@ import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.concurrent.InboundMessageQueue;
 import io.vertx.core.streams.ReadStream;
 import io.vertx.grpc.common.GrpcMessage;
-import io.vertx.grpc.common.MessageSizeOverflowException;
+import io.vertx.grpc.common.InvalidMessageException;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static io.vertx.grpc.common.impl.GrpcReadStreamBase.END_SENTINEL;
 
 /**
  * A stream that deframes a stream of gRPC messages.
+ * <p>
+ * The deframed messages are queued until they are fetched, the HTTP stream is paused when the queue reaches its high
+ * watermark in messages or in bytes and resumed when it goes back under both low watermarks.
  */
 public class GrpcDeframingStream implements ReadStream<GrpcMessage> {
 
   private final ReadStream<Buffer> stream;
   private final GrpcMessageDeframer deframer;
   private final InboundMessageQueue<GrpcMessage> queue;
+  private final Executor producer;
+  private final long lowWaterMarkBytes;
+  private final long highWaterMarkBytes;
+  private final AtomicLong queuedBytes = new AtomicLong();
+  private final BdpEstimator estimator;
+  private boolean pausedByCount;
+  private volatile boolean pausedByBytes;
   private Handler<GrpcMessage> messageHandler;
   private Handler<Throwable> exceptionHandler;
   private Handler<Void> endHandler;
 
   public GrpcDeframingStream(ContextInternal ctx, ReadStream<Buffer> stream, GrpcMessageDeframer deframer) {
+    this(ctx, ctx, stream, deframer);
+  }
+
+  /**
+   * Create a stream deframing the messages of {@code stream} on the {@code ctx} event-loop and delivering them on the
+   * {@code consumerCtx} context, e.g. a worker or virtual thread context.
+   */
+  public GrpcDeframingStream(ContextInternal ctx, ContextInternal consumerCtx, ReadStream<Buffer> stream, GrpcMessageDeframer deframer) {
+    this(ctx, consumerCtx, stream, deframer, InboundFlowControl.DEFAULT, null);
+  }
+
+  /**
+   * Create a stream queueing the deframed messages with the {@code flowControl} watermarks, the {@code estimator}
+   * when not {@code null} is notified of the received bytes.
+   */
+  public GrpcDeframingStream(ContextInternal ctx, ContextInternal consumerCtx, ReadStream<Buffer> stream, GrpcMessageDeframer deframer,
+                             InboundFlowControl flowControl, BdpEstimator estimator) {
     this.stream = stream;
     this.deframer = deframer;
-    this.queue = new InboundMessageQueue<>(ctx.executor(), ctx.executor(), 8, 16) {
+    this.producer = ctx.executor();
+    this.lowWaterMarkBytes = flowControl.lowWaterMarkBytes;
+    this.highWaterMarkBytes = flowControl.highWaterMarkBytes;
+    this.estimator = estimator;
+    this.queue = new InboundMessageQueue<>(producer, consumerCtx.executor(), flowControl.lowWaterMark, flowControl.highWaterMark) {
       @Override
       protected void handleResume() {
-        stream.resume();
+        pausedByCount = false;
+        updateStream();
       }
       @Override
       protected void handlePause() {
-        stream.pause();
+        pausedByCount = true;
+        updateStream();
       }
       @Override
       protected void handleMessage(GrpcMessage msg) {
+        if (highWaterMarkBytes > 0L && msg != END_SENTINEL) {
+          release(msg.payload().length());
+        }
         if (msg == END_SENTINEL) {
           Handler<Void> handler = endHandler;
           if (handler != null) {
@@ -69,23 +108,58 @@ public class GrpcDeframingStream implements ReadStream<GrpcMessage> {
   }
 
   public void handle(Buffer chunk) {
+    if (estimator != null) {
+      estimator.onData(chunk.length());
+    }
     deframer.update(chunk);
     deframe();
   }
 
+  private void updateStream() {
+    if (pausedByCount || pausedByBytes) {
+      stream.pause();
+    } else {
+      stream.resume();
+    }
+  }
+
+  private void acquire(int bytes) {
+    if (queuedBytes.addAndGet(bytes) > highWaterMarkBytes && !pausedByBytes) {
+      pausedByBytes = true;
+      updateStream();
+    }
+  }
+
+  /**
+   * Called by the consumer, the stream is resumed from the producer.
+   */
+  private void release(int bytes) {
+    if (queuedBytes.addAndGet(-bytes) <= lowWaterMarkBytes && pausedByBytes) {
+      producer.execute(() -> {
+        if (pausedByBytes && queuedBytes.get() <= lowWaterMarkBytes) {
+          pausedByBytes = false;
+          updateStream();
+        }
+      });
+    }
+  }
+
   private void deframe() {
     while (true) {
       Object ret = deframer.next();
       if (ret == null) {
         break;
-      } else if (ret instanceof MessageSizeOverflowException) {
-        MessageSizeOverflowException msoe = (MessageSizeOverflowException) ret;
+      } else if (ret instanceof InvalidMessageException) {
+        InvalidMessageException ime = (InvalidMessageException) ret;
         Handler<Throwable> handler = exceptionHandler;
         if (handler != null) {
-          handler.handle(msoe);
+          handler.handle(ime);
         }
       } else {
         GrpcMessage msg = (GrpcMessage) ret;
+        if (highWaterMarkBytes > 0L) {
+          acquire(msg.payload().length());
+        }
         queue.write(msg);
       }
     }
@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.common.impl;
+
+import io.netty.util.AsciiString;
+import io.vertx.grpc.common.WireFormat;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single pass classification of the {@code content-type} and {@code grpc-timeout} headers shared by the client
+ * and the server, without regular expressions nor allocation on the request path.
+ */
+public final class GrpcHeaderClassifier {
+
+  /**
+   * The content types recognized by {@link #classifyContentType(CharSequence)}.
+   */
+  public enum ContentType {
+
+    GRPC(false, false, false, WireFormat.PROTOBUF),
+    GRPC_PROTO(false, false, false, WireFormat.PROTOBUF),
+    GRPC_JSON(false, false, false, WireFormat.JSON),
+    GRPC_WEB(true, false, false, WireFormat.PROTOBUF),
+    GRPC_WEB_PROTO(true, false, false, WireFormat.PROTOBUF),
+    GRPC_WEB_JSON(true, false, false, WireFormat.JSON),
+    GRPC_WEB_TEXT(true, true, false, WireFormat.PROTOBUF),
+    GRPC_WEB_TEXT_PROTO(true, true, false, WireFormat.PROTOBUF),
+    GRPC_WEB_TEXT_JSON(true, true, false, WireFormat.JSON),
+    JSON(false, false, true, WireFormat.JSON);
+
+    private final boolean web;
+    private final boolean text;
+    private final boolean json;
+    private final WireFormat format;
+
+    ContentType(boolean web, boolean text, boolean json, WireFormat format) {
+      this.web = web;
+      this.text = text;
+      this.json = json;
+      this.format = format;
+    }
+
+    /**
+     * @return whether the content type is gRPC-Web (binary or text)
+     */
+    public boolean isWeb() {
+      return web;
+    }
+
+    /**
+     * @return whether the content type is gRPC-Web text (base64)
+     */
+    public boolean isText() {
+      return text;
+    }
+
+    /**
+     * @return whether the content type is plain {@code application/json} (transcoding)
+     */
+    public boolean isJson() {
+      return json;
+    }
+
+    /**
+     * @return the message wire format
+     */
+    public WireFormat format() {
+      return format;
+    }
+  }
+
+  private static final AsciiString APPLICATION_GRPC = AsciiString.cached("application/grpc");
+  private static final AsciiString APPLICATION_JSON = AsciiString.cached("application/json");
+  private static final AsciiString WEB = AsciiString.cached("-web");
+  private static final AsciiString TEXT = AsciiString.cached("-text");
+  private static final AsciiString PROTO = AsciiString.cached("+proto");
+  private static final AsciiString JSON = AsciiString.cached("+json");
+
+  // Indexed by (web ? (text ? 2 : 1) : 0) * 3 + (none: 0, +proto: 1, +json: 2)
+  private static final ContentType[] GRPC_CONTENT_TYPES = {
+    ContentType.GRPC, ContentType.GRPC_PROTO, ContentType.GRPC_JSON,
+    ContentType.GRPC_WEB, ContentType.GRPC_WEB_PROTO, ContentType.GRPC_WEB_JSON,
+    ContentType.GRPC_WEB_TEXT, ContentType.GRPC_WEB_TEXT_PROTO, ContentType.GRPC_WEB_TEXT_JSON
+  };
+
+  private static final int MAX_TIMEOUT_DIGITS = 8;
+  private static final long MAX_TIMEOUT_VALUE = 99_999_999L;
+
+  // From the smallest to the largest unit, the first one that fits in 8 digits gives the best precision
+  private static final TimeUnit[] TIMEOUT_UNITS = {
+    TimeUnit.NANOSECONDS,
+    TimeUnit.MICROSECONDS,
+    TimeUnit.MILLISECONDS,
+    TimeUnit.SECONDS,
+    TimeUnit.MINUTES,
+    TimeUnit.HOURS,
+  };
+  private static final char[] TIMEOUT_UNIT_SUFFIXES = { 'n', 'u', 'm', 'S', 'M', 'H' };
+
+  private GrpcHeaderClassifier() {
+  }
+
+  /**
+   * Classify a {@code content-type} header value, matching exactly {@code application/grpc(-web(-text)?)?(+(json|proto))?}
+   * or {@code application/json}.
+   *
+   * @param contentType the header value
+   * @return the content type or {@code null} when the value is not recognized
+   */
+  public static ContentType classifyContentType(CharSequence contentType) {
+    if (contentType == null) {
+      return null;
+    }
+    int len = contentType.length();
+    if (!regionMatches(contentType, 0, APPLICATION_GRPC)) {
+      return len == APPLICATION_JSON.length() && regionMatches(contentType, 0, APPLICATION_JSON) ? ContentType.JSON : null;
+    }
+    int pos = APPLICATION_GRPC.length();
+    int kind = 0;
+    if (regionMatches(contentType, pos, WEB)) {
+      pos += WEB.length();
+      kind = 1;
+      if (regionMatches(contentType, pos, TEXT)) {
+        pos += TEXT.length();
+        kind = 2;
+      }
+    }
+    int suffix = classifySuffix(contentType, pos);
+    return suffix < 0 ? null : GRPC_CONTENT_TYPES[kind * 3 + suffix];
+  }
+
+  /**
+   * Determine the wire format of a {@code content-type} header value starting with {@code mediaType} optionally
+   * followed by a {@code +proto} or {@code +json} suffix.
+   *
+   * @param contentType the header value
+   * @param mediaType the expected media type
+   * @return the wire format or {@code null} when the value does not match
+   */
+  public static WireFormat wireFormat(CharSequence contentType, CharSequence mediaType) {
+    if (!regionMatches(contentType, 0, mediaType)) {
+      return null;
+    }
+    switch (classifySuffix(contentType, mediaType.length())) {
+      case 0:
+      case 1:
+        return WireFormat.PROTOBUF;
+      case 2:
+        return WireFormat.JSON;
+      default:
+        return null;
+    }
+  }
+
+  /**
+   * @return {@code 0} when there is no suffix after {@code pos}, {@code 1} for {@code +proto}, {@code 2} for
+   * {@code +json} and {@code -1} otherwise
+   */
+  private static int classifySuffix(CharSequence value, int pos) {
+    int remaining = value.length() - pos;
+    if (remaining == 0) {
+      return 0;
+    } else if (remaining == PROTO.length() && regionMatches(value, pos, PROTO)) {
+      return 1;
+    } else if (remaining == JSON.length() && regionMatches(value, pos, JSON)) {
+      return 2;
+    }
+    return -1;
+  }
+
+  private static boolean regionMatches(CharSequence value, int pos, CharSequence expected) {
+    return AsciiString.regionMatches(value, false, pos, expected, 0, expected.length());
+  }
+
+  /**
+   * Parse a {@code grpc-timeout} header value: at most 8 ASCII digits followed by one of the {@code H}, {@code M},
+   * {@code S}, {@code m}, {@code u} or {@code n} unit.
+   *
+   * @param timeout the header value
+   * @return the timeout or {@code null} when the value is not valid
+   */
+  public static Duration parseTimeout(CharSequence timeout) {
+    int len = timeout.length();
+    if (len < 2 || len > MAX_TIMEOUT_DIGITS + 1) {
+      return null;
+    }
+    ChronoUnit unit;
+    switch (timeout.charAt(len - 1)) {
+      case 'H':
+        unit = ChronoUnit.HOURS;
+        break;
+      case 'M':
+        unit = ChronoUnit.MINUTES;
+        break;
+      case 'S':
+        unit = ChronoUnit.SECONDS;
+        break;
+      case 'm':
+        unit = ChronoUnit.MILLIS;
+        break;
+      case 'u':
+        unit = ChronoUnit.MICROS;
+        break;
+      case 'n':
+        unit = ChronoUnit.NANOS;
+        break;
+      default:
+        return null;
+    }
+    long value = 0;
+    for (int i = 0;i < len - 1;i++) {
+      char c = timeout.charAt(i);
+      if (c < '0' || c > '9') {
+        return null;
+      }
+      value = value * 10 + (c - '0');
+    }
+    return Duration.of(value, unit);
+  }
+
+  /**
+   * Compute the {@code grpc-timeout} header value with the most precise unit that fits in 8 digits.
+   *
+   * @param timeout the timeout
+   * @param timeoutUnit the timeout unit
+   * @return the header value, e.g. {@code 1M} (1 minute), or {@code null} when the timeout cannot be represented
+   */
+  public static String toTimeoutHeader(long timeout, TimeUnit timeoutUnit) {
+    for (int i = 0;i < TIMEOUT_UNITS.length;i++) {
+      long value = TIMEOUT_UNITS[i].convert(timeout, timeoutUnit);
+      if (value <= MAX_TIMEOUT_VALUE) {
+        return Long.toString(value).concat(String.valueOf(TIMEOUT_UNIT_SUFFIXES[i]));
+      }
+    }
+    return null;
+  }
+}
@@ -28,4 +28,22 @@ public interface GrpcOutboundStream extends WriteStream<GrpcFrame> {
   @Override
   GrpcOutboundStream drainHandler(@Nullable Handler<Void> handler);
 
+  /**
+   * Set whether the messages written to the stream are held back and coalesced until {@link #flush()}, uncorking
+   * the stream flushes the pending messages. Streams that do not support corking ignore it.
+   *
+   * @param corked whether the stream is corked
+   */
+  default void cork(boolean corked) {
+  }
+
+  /**
+   * Write the messages held back by a corked stream.
+   *
+   * @return a future completed with the result
+   */
+  default Future<Void> flush() {
+    return Future.succeededFuture();
+  }
+
 }
@@ -14,6 +14,7 @@ import io.vertx.codegen.annotations.Nullable;
 import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
 import io.vertx.core.Promise;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.internal.ContextInternal;
@@ -52,6 +53,10 @@ public abstract class GrpcReadStreamBase<S extends GrpcReadStreamBase<S, T>, T>
   private final GrpcMessageDecoder<T> messageDecoder;
   private final Promise<Void> end;
   private Handler<GrpcError> errorHandler;
+  private CallMetrics metrics;
+  private GrpcMessage received;
+  private MultiMap metadataHeaders;
+  private GrpcMetadata metadata;
 
   protected GrpcReadStreamBase(Context context,
                                String encoding,
@@ -66,20 +71,40 @@ public abstract class GrpcReadStreamBase<S extends GrpcReadStreamBase<S, T>, T>
   }
 
   protected final T decodeMessage(GrpcMessage msg) throws CodecException {
-    switch (msg.encoding()) {
-      case "identity":
-        // Nothing to do
-        break;
-      case "gzip": {
-        msg = GrpcMessage.message("identity", msg.format(), Utils.GZIP_DECODER.apply(msg.payload()));
-        break;
-      }
-      default:
-        throw new UnsupportedOperationException();
+    GrpcMessage wire = msg;
+    msg = decompress(msg);
+    if (wire == received) {
+      received = null;
+      metrics.messageReceived(wire, msg.payload().length());
     }
     return messageDecoder.decode(msg);
   }
 
+  private static GrpcMessage decompress(GrpcMessage msg) throws CodecException {
+    String encoding = msg.encoding();
+    if (!encoding.equals("identity")) {
+      GrpcDecompressor decompressor = GrpcCompression.decompressor(encoding);
+      if (decompressor == null) {
+        throw new UnsupportedOperationException();
+      }
+      msg = GrpcMessage.message("identity", msg.format(), decompressor.decompress(msg.payload()));
+    }
+    return msg;
+  }
+
+  /**
+   * @return the metadata view of the headers, built once so the values parsed with a key are kept
+   */
+  @Override
+  public final GrpcMetadata metadata() {
+    MultiMap headers = headers();
+    if (metadata == null || metadataHeaders != headers) {
+      metadataHeaders = headers;
+      metadata = GrpcMetadata.of(headers);
+    }
+    return metadata;
+  }
+
   @Override
   public final WireFormat format() {
     return format;
@@ -169,11 +194,38 @@ public abstract class GrpcReadStreamBase<S extends GrpcReadStreamBase<S, T>, T>
     }
   }
 
+  /**
+   * Report the messages received to the {@code metrics}.
+   */
+  public final void metrics(CallMetrics metrics) {
+    this.metrics = metrics;
+  }
+
   public void handleMessage(GrpcMessage msg) {
-    last = msg;
     Handler<GrpcMessage> handler = messageHandler;
+    last = msg;
+    if (metrics != null) {
+      if ("identity".equals(msg.encoding())) {
+        metrics.messageReceived(msg);
+      } else if (handler != null) {
+        // Reported with its size by decodeMessage when the handler decompresses it
+        received = msg;
+      } else {
+        // Only kept for last(), decompress it once now to report its size
+        try {
+          last = decompress(msg);
+          metrics.messageReceived(msg, last.payload().length());
+        } catch (RuntimeException e) {
+          metrics.messageReceived(msg);
+        }
+      }
+    }
     if (handler != null) {
-      context.dispatch(msg, messageHandler);
+      context.dispatch(msg, handler);
+    }
+    if (received != null) {
+      received = null;
+      metrics.messageReceived(msg);
     }
   }
 
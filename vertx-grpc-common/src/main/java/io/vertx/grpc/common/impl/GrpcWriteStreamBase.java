@@ -3,6 +3,7 @@ package io.vertx.grpc.common.impl;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.grpc.common.*;
 
@@ -10,6 +11,11 @@ import java.util.Objects;
 
 public abstract class GrpcWriteStreamBase<S extends GrpcWriteStreamBase<S, T>, T> implements GrpcWriteStream<T> {
 
+  // Adaptive compression pays off when messages shrink to less than 90% of their size on average
+  private static final double COMPRESSION_RATIO_THRESHOLD = 0.9D;
+  // Maximum number of messages sent uncompressed before probing the compression again
+  private static final int MAX_COMPRESSION_PROBE_INTERVAL = 64;
+
   protected final ContextInternal context;
   private final GrpcMessageEncoder<T> messageEncoder;
 
@@ -19,8 +25,14 @@ public abstract class GrpcWriteStreamBase<S extends GrpcWriteStreamBase<S, T>, T
   private boolean endWritten;
   private GrpcError error;
   private boolean cancelled;
-  private MultiMap headers;
+  private GrpcMetadata headers;
   private Handler<Throwable> exceptionHandler;
+  private int compressionThreshold;
+  private boolean adaptiveCompression;
+  private double compressionRatio;
+  private int compressionProbeInterval;
+  private int uncompressedUntilProbe;
+  protected CallMetrics metrics;
 
   public GrpcWriteStreamBase(ContextInternal context, GrpcMessageEncoder<T> messageEncoder) {
     this.context = context;
@@ -36,6 +48,9 @@ public abstract class GrpcWriteStreamBase<S extends GrpcWriteStreamBase<S, T>, T
 
   public void handleCancel() {
     cancelled = true;
+    if (metrics != null) {
+      metrics.end(GrpcStatus.CANCELLED);
+    }
   }
 
   public void handleException(Throwable err) {
@@ -91,6 +106,25 @@ public abstract class GrpcWriteStreamBase<S extends GrpcWriteStreamBase<S, T>, T
     return format;
   }
 
+  /**
+   * Configure the compression applied to messages when the stream has an encoding, messages sent uncompressed
+   * have their compressed flag unset.
+   *
+   * @param threshold the size in bytes under which a message is sent uncompressed
+   * @param adaptive whether compression is skipped while the ratio achieved by the stream does not pay off
+   */
+  public final void compressionPolicy(int threshold, boolean adaptive) {
+    this.compressionThreshold = threshold;
+    this.adaptiveCompression = adaptive;
+  }
+
+  /**
+   * Report the events of the call to the {@code metrics}.
+   */
+  public final void metrics(CallMetrics metrics) {
+    this.metrics = metrics;
+  }
+
   public final ContextInternal context() {
     return context;
   }
@@ -105,11 +139,16 @@ public abstract class GrpcWriteStreamBase<S extends GrpcWriteStreamBase<S, T>, T
 
   @Override
   public final MultiMap headers() {
+    return metadata();
+  }
+
+  @Override
+  public final GrpcMetadata metadata() {
     if (headersWritten) {
       throw new IllegalStateException("Headers already sent");
     }
     if (headers == null) {
-      headers = MultiMap.caseInsensitiveMultiMap();
+      headers = new GrpcMetadata();
     }
     return headers;
   }
@@ -173,6 +212,37 @@ public abstract class GrpcWriteStreamBase<S extends GrpcWriteStreamBase<S, T>, T
     return writeMessage(null, false);
   }
 
+  private GrpcMessage compress(GrpcMessage message, GrpcCompressor compressor) throws CodecException {
+    if (compressionThreshold == 0 && !adaptiveCompression) {
+      return new GrpcTransformedMessage(message, encoding, compressor::compress);
+    }
+    Buffer uncompressed = message.payload();
+    if (uncompressed.length() < compressionThreshold) {
+      return message;
+    }
+    if (!adaptiveCompression) {
+      return new GrpcTransformedMessage(message, encoding, compressor::compress);
+    }
+    if (uncompressedUntilProbe > 0) {
+      uncompressedUntilProbe--;
+      return message;
+    }
+    Buffer compressed = compressor.compress(uncompressed);
+    double ratio = uncompressed.length() > 0 ? (double) compressed.length() / uncompressed.length() : 1D;
+    compressionRatio = compressionRatio == 0D ? ratio : (compressionRatio + ratio) / 2D;
+    if (compressionRatio >= COMPRESSION_RATIO_THRESHOLD) {
+      // Not paying off, skip the next messages and probe again later, less often each time
+      compressionProbeInterval = Math.min(Math.max(1, compressionProbeInterval * 2), MAX_COMPRESSION_PROBE_INTERVAL);
+      uncompressedUntilProbe = compressionProbeInterval;
+    } else {
+      compressionProbeInterval = 0;
+    }
+    if (compressed.length() >= uncompressed.length()) {
+      return message;
+    }
+    return GrpcMessage.message(encoding, message.format(), compressed);
+  }
+
   private Future<Void> writeMessage(GrpcMessage message, boolean end) {
     if (error != null) {
       throw new IllegalStateException("The stream is failed: " + error);
@@ -187,32 +257,44 @@ public abstract class GrpcWriteStreamBase<S extends GrpcWriteStreamBase<S, T>, T
         return context.failedFuture("Message format does not match the response format");
       }
     }
+    if (message instanceof PreEncodedGrpcMessage && encoding != null && !encoding.equals(message.encoding())) {
+      // Use the variant shared by the streams with the same encoding
+      try {
+        message = ((PreEncodedGrpcMessage) message).encoded(encoding);
+      } catch (IllegalArgumentException | CodecException e) {
+        return Future.failedFuture(e);
+      }
+    }
     GrpcMessage payload;
     if (message != null) {
       if (encoding != null) {
-        switch (encoding) {
-          case "gzip":
-            if (message.encoding().equals("identity")) {
-              payload = new GrpcTransformedMessage(message, "gzip", Utils.GZIP_ENCODER);
-            } else {
-              if (!message.encoding().equals("gzip")) {
-                return Future.failedFuture("Encoding " + message.encoding() + " is not supported");
-              }
-              payload = message;
-            }
-            break;
-          case "identity":
-            if (!message.encoding().equals("identity")) {
-              if (!message.encoding().equals("gzip")) {
-                return Future.failedFuture("Encoding " + message.encoding() + " is not supported");
-              }
-              payload = new GrpcTransformedMessage(message, "identity", Utils.GZIP_DECODER);
-            } else {
-              payload = message;
+        if (encoding.equals("identity")) {
+          if (!message.encoding().equals("identity")) {
+            GrpcDecompressor decompressor = GrpcCompression.decompressor(message.encoding());
+            if (decompressor == null) {
+              return Future.failedFuture("Encoding " + message.encoding() + " is not supported");
             }
-            break;
-          default:
+            payload = new GrpcTransformedMessage(message, "identity", decompressor::decompress);
+          } else {
+            payload = message;
+          }
+        } else {
+          GrpcCompressor compressor = GrpcCompression.compressor(encoding);
+          if (compressor == null) {
             return Future.failedFuture("Encoding " + encoding + " is not supported");
+          }
+          if (message.encoding().equals("identity")) {
+            try {
+              payload = compress(message, compressor);
+            } catch (CodecException e) {
+              return Future.failedFuture(e);
+            }
+          } else {
+            if (!message.encoding().equals(encoding)) {
+              return Future.failedFuture("Encoding " + message.encoding() + " is not supported");
+            }
+            payload = message;
+          }
         }
       } else {
         payload = message;
@@ -220,6 +302,9 @@ public abstract class GrpcWriteStreamBase<S extends GrpcWriteStreamBase<S, T>, T
     } else {
       payload = null;
     }
+    if (payload != null && metrics != null) {
+      payload = metrics.messageSent(message, payload);
+    }
 
     boolean writeHeaders;
     if (!headersWritten) {
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.common.impl;
+
+import io.vertx.core.http.HttpConnection;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.core.internal.ContextInternal;
+
+/**
+ * The inbound flow control settings shared by the client and the server: the watermarks of the queue of deframed
+ * messages, in messages and in bytes, and whether the HTTP/2 windows are grown by a {@link BdpEstimator}.
+ */
+public final class InboundFlowControl {
+
+  public static final InboundFlowControl DEFAULT = new InboundFlowControl(8, 16, 0L, 0L, false, 0);
+
+  final int lowWaterMark;
+  final int highWaterMark;
+  final long lowWaterMarkBytes;
+  final long highWaterMarkBytes;
+  private final boolean bdpProbing;
+  private final int maxWindowSize;
+
+  /**
+   * @param lowWaterMark the number of queued messages under which the HTTP stream is resumed
+   * @param highWaterMark the number of queued messages above which the HTTP stream is paused
+   * @param lowWaterMarkBytes the queued bytes under which the HTTP stream is resumed
+   * @param highWaterMarkBytes the queued bytes above which the HTTP stream is paused, {@code 0} disables the byte watermarks
+   * @param bdpProbing whether to grow the HTTP/2 windows from the measured bandwidth-delay product
+   * @param maxWindowSize the maximum HTTP/2 window size
+   */
+  public InboundFlowControl(int lowWaterMark, int highWaterMark, long lowWaterMarkBytes, long highWaterMarkBytes, boolean bdpProbing, int maxWindowSize) {
+    if (lowWaterMark < 0 || highWaterMark < lowWaterMark) {
+      throw new IllegalArgumentException("Invalid inbound queue watermarks " + lowWaterMark + "/" + highWaterMark);
+    }
+    if (highWaterMarkBytes > 0L && (lowWaterMarkBytes < 0L || highWaterMarkBytes < lowWaterMarkBytes)) {
+      throw new IllegalArgumentException("Invalid inbound queue byte watermarks " + lowWaterMarkBytes + "/" + highWaterMarkBytes);
+    }
+    this.lowWaterMark = lowWaterMark;
+    this.highWaterMark = highWaterMark;
+    this.lowWaterMarkBytes = lowWaterMarkBytes;
+    this.highWaterMarkBytes = highWaterMarkBytes;
+    this.bdpProbing = bdpProbing;
+    this.maxWindowSize = maxWindowSize;
+  }
+
+  /**
+   * @return the estimator of {@code connection} when BDP probing is enabled and the connection is HTTP/2, {@code null} otherwise
+   */
+  public BdpEstimator estimator(ContextInternal context, HttpConnection connection, HttpVersion version) {
+    if (!bdpProbing || connection == null || version != HttpVersion.HTTP_2) {
+      return null;
+    }
+    return BdpEstimator.estimator(context, connection, maxWindowSize);
+  }
+}
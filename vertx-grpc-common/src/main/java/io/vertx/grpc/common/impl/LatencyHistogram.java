@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.common.impl;
+
+/**
+ * <p>The bucketing of a log-linear latency histogram, the counts are kept by the users in an array of
+ * {@link #BUCKETS} elements.</p>
+ *
+ * <p>Values below 8 have their own bucket, then each power of two is split in 8 linear sub-buckets, the value of a
+ * bucket is known within 12.5%.</p>
+ */
+public final class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 3;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+  /**
+   * The number of buckets covering the positive {@code long} values.
+   */
+  public static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+  private LatencyHistogram() {
+  }
+
+  /**
+   * @return the bucket of the {@code value}, negative values are counted in the first bucket
+   */
+  public static int bucket(long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) Math.max(0L, value);
+    }
+    int exponent = 63 - Long.numberOfLeadingZeros(value);
+    int shift = exponent - SUB_BUCKET_BITS;
+    return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+  }
+
+  /**
+   * @return the lowest value of the {@code bucket}
+   */
+  public static long lowestValue(int bucket) {
+    if (bucket < SUB_BUCKETS) {
+      return bucket;
+    }
+    int shift = bucket / SUB_BUCKETS - 1;
+    return (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+  }
+
+  /**
+   * @return the highest value of the {@code bucket}
+   */
+  public static long highestValue(int bucket) {
+    if (bucket < SUB_BUCKETS) {
+      return bucket;
+    }
+    int shift = bucket / SUB_BUCKETS - 1;
+    return lowestValue(bucket) + (1L << shift) - 1L;
+  }
+
+  /**
+   * Find the bucket of a percentile.
+   *
+   * @param counts the counts of the histogram
+   * @param total the sum of the {@code counts}
+   * @param percentile the percentile between {@code 0} and {@code 1}
+   * @return the bucket containing the {@code percentile} or {@code -1} when the histogram is empty
+   */
+  public static int percentileBucket(long[] counts, long total, double percentile) {
+    if (total <= 0L) {
+      return -1;
+    }
+    long rank = Math.max(1L, (long) Math.ceil(percentile * total));
+    long seen = 0L;
+    for (int i = 0;i < counts.length;i++) {
+      seen += counts[i];
+      if (seen >= rank) {
+        return i;
+      }
+    }
+    return -1;
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.common.impl;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.buffer.BufferInternal;
+import io.vertx.grpc.common.CodecException;
+import io.vertx.grpc.common.GrpcCompressor;
+import io.vertx.grpc.common.GrpcDecompressor;
+import io.vertx.grpc.common.GrpcMessage;
+import io.vertx.grpc.common.PreEncodedGrpcMessage;
+import io.vertx.grpc.common.WireFormat;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A framed message shared by the streams it is written to, like {@link FramedGrpcMessage} the frame is written as is
+ * on the wire. The frame is an unreleasable heap buffer, each write uses a duplicate of it.
+ * <p>
+ * The variants of the message in other encodings are shared by all the variants.
+ */
+public final class PreEncodedGrpcMessageImpl implements PreEncodedGrpcMessage {
+
+  public static PreEncodedGrpcMessage create(GrpcMessage message) {
+    ConcurrentMap<String, PreEncodedGrpcMessageImpl> variants = new ConcurrentHashMap<>();
+    PreEncodedGrpcMessageImpl encoded = new PreEncodedGrpcMessageImpl(message.encoding(), message.format(), DefaultGrpcMessage.encode(message, false), variants);
+    variants.put(encoded.encoding, encoded);
+    return encoded;
+  }
+
+  private final String encoding;
+  private final WireFormat format;
+  private final BufferInternal frame;
+  private final ConcurrentMap<String, PreEncodedGrpcMessageImpl> variants;
+
+  private PreEncodedGrpcMessageImpl(String encoding, WireFormat format, BufferInternal frame, ConcurrentMap<String, PreEncodedGrpcMessageImpl> variants) {
+    this.encoding = encoding;
+    this.format = format;
+    this.frame = frame;
+    this.variants = variants;
+  }
+
+  @Override
+  public String encoding() {
+    return encoding;
+  }
+
+  @Override
+  public WireFormat format() {
+    return format;
+  }
+
+  @Override
+  public Buffer payload() {
+    return frame.slice(5, frame.length());
+  }
+
+  /**
+   * @return the framed message: the 5-byte prefix followed by the payload
+   */
+  public BufferInternal frame() {
+    return frame;
+  }
+
+  @Override
+  public PreEncodedGrpcMessage encoded(String encoding) throws CodecException {
+    PreEncodedGrpcMessageImpl variant = variants.get(encoding);
+    if (variant == null) {
+      // Concurrent callers might compute the variant twice, only one is kept
+      variant = transcode(encoding);
+      PreEncodedGrpcMessageImpl previous = variants.putIfAbsent(encoding, variant);
+      if (previous != null) {
+        variant = previous;
+      }
+    }
+    return variant;
+  }
+
+  private PreEncodedGrpcMessageImpl transcode(String target) throws CodecException {
+    Buffer uncompressed;
+    if (encoding.equals("identity")) {
+      uncompressed = payload();
+    } else {
+      GrpcDecompressor decompressor = GrpcCompression.decompressor(encoding);
+      if (decompressor == null) {
+        throw new IllegalArgumentException("Encoding " + encoding + " is not supported");
+      }
+      uncompressed = decompressor.decompress(payload());
+    }
+    if (target.equals("identity")) {
+      return new PreEncodedGrpcMessageImpl(target, format, DefaultGrpcMessage.encode(uncompressed, false, false), variants);
+    }
+    GrpcCompressor compressor = GrpcCompression.compressor(target);
+    if (compressor == null) {
+      throw new IllegalArgumentException("Encoding " + target + " is not supported");
+    }
+    return new PreEncodedGrpcMessageImpl(target, format, DefaultGrpcMessage.encode(compressor.compress(uncompressed), true, false), variants);
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.common.impl;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.Parser;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.buffer.BufferInternal;
+import io.vertx.grpc.common.CodecException;
+import io.vertx.grpc.common.WireFormat;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Protobuf binary codec operating on the {@link ByteBuf} backing a {@link Buffer} instead of intermediate byte arrays.
+ */
+public final class ProtobufCodec {
+
+  private ProtobufCodec() {
+  }
+
+  /**
+   * Parse a message from the {@code payload} without copying it to a byte array.
+   *
+   * @param parser the message parser
+   * @param payload the serialized message
+   * @return the parsed message
+   */
+  public static <T> T parse(Parser<T> parser, Buffer payload) throws InvalidProtocolBufferException {
+    CodedInputStream input = codedInputStream(((BufferInternal) payload).getByteBuf());
+    T message = parser.parseFrom(input);
+    input.checkLastTagWas(0);
+    return message;
+  }
+
+  /**
+   * Serialize a message in a single buffer sized after {@link MessageLite#getSerializedSize()} and prefixed
+   * with the gRPC message header, so it can be written on the wire without further copies.
+   *
+   * @param message the message to serialize
+   * @param format the wire format
+   * @return the framed message
+   */
+  public static FramedGrpcMessage encode(MessageLite message, WireFormat format) throws CodecException {
+    int size = message.getSerializedSize();
+    ByteBuf buf = Utils.ALLOC.heapBuffer(5 + size, 5 + size);
+    buf.writeByte(0);
+    buf.writeInt(size);
+    CodedOutputStream output = CodedOutputStream.newInstance(buf.nioBuffer(5, size));
+    try {
+      message.writeTo(output);
+      output.checkNoSpaceLeft();
+    } catch (IOException | IllegalStateException e) {
+      throw new CodecException(e);
+    }
+    buf.writerIndex(5 + size);
+    return new FramedGrpcMessage(format, BufferInternal.buffer(buf));
+  }
+
+  static CodedInputStream codedInputStream(ByteBuf buf) {
+    int len = buf.readableBytes();
+    if (buf.hasArray()) {
+      return CodedInputStream.newInstance(buf.array(), buf.arrayOffset() + buf.readerIndex(), len);
+    }
+    int count = buf.nioBufferCount();
+    if (count == 1) {
+      // Direct buffers are read in place
+      return CodedInputStream.newInstance(buf.nioBuffer(buf.readerIndex(), len));
+    } else if (count > 1) {
+      // Composite payloads assembled by the deframer are read chunk by chunk
+      return CodedInputStream.newInstance(Arrays.asList(buf.nioBuffers(buf.readerIndex(), len)));
+    } else {
+      return CodedInputStream.newInstance(ByteBufUtil.getBytes(buf, buf.readerIndex(), len, false));
+    }
+  }
+}
@@ -1,12 +1,16 @@
 package io.vertx.grpc.common.impl;
 
-import com.google.protobuf.InvalidProtocolBufferException;
 import com.google.protobuf.Message;
 import com.google.protobuf.util.JsonFormat;
+import io.netty.buffer.ByteBufInputStream;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.buffer.BufferInternal;
 import io.vertx.grpc.common.CodecException;
 import io.vertx.grpc.common.JsonWireFormat;
 
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
 
 /**
@@ -21,16 +25,28 @@ public final class ProtobufJsonReader {
    * @return a reader configured from {@code format}
    */
   public static ProtobufJsonReader create(JsonWireFormat format) {
-    return new ProtobufJsonReader(format);
+    return CACHE[(format.ignoringUnknownFields() ? 1 : 0) | (format.usingStreamingCodec() ? 2 : 0)];
   }
 
+  // The reader only depends on the ignoringUnknownFields and usingStreamingCodec flags
+  private static final ProtobufJsonReader[] CACHE = {
+    new ProtobufJsonReader(false, false),
+    new ProtobufJsonReader(true, false),
+    new ProtobufJsonReader(false, true),
+    new ProtobufJsonReader(true, true)
+  };
+
+  private final boolean ignoringUnknownFields;
+  private final boolean usingStreamingCodec;
   private final JsonFormat.Parser parser;
 
-  private ProtobufJsonReader(JsonWireFormat format) {
+  private ProtobufJsonReader(boolean ignoringUnknownFields, boolean usingStreamingCodec) {
     JsonFormat.Parser parser = JsonFormat.parser();
-    if (format.ignoringUnknownFields()) {
+    if (ignoringUnknownFields) {
       parser = parser.ignoringUnknownFields();
     }
+    this.ignoringUnknownFields = ignoringUnknownFields;
+    this.usingStreamingCodec = usingStreamingCodec;
     this.parser = parser;
   }
 
@@ -42,9 +58,16 @@ public final class ProtobufJsonReader {
    * @throws CodecException when the payload cannot be parsed
    */
   public void merge(Buffer payload, Message.Builder builder) throws CodecException {
-    try {
-      parser.merge(payload.toString(StandardCharsets.UTF_8), builder);
-    } catch (InvalidProtocolBufferException e) {
+    if (usingStreamingCodec) {
+      StreamingJsonCodec codec = StreamingJsonCodec.codec(builder.getDescriptorForType());
+      if (codec != null) {
+        codec.merge(payload, builder, ignoringUnknownFields);
+        return;
+      }
+    }
+    try (Reader reader = new InputStreamReader(new ByteBufInputStream(((BufferInternal) payload).getByteBuf()), StandardCharsets.UTF_8)) {
+      parser.merge(reader, builder);
+    } catch (IOException e) {
       throw new CodecException(e);
     }
   }
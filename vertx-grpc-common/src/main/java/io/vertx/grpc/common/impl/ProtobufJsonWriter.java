@@ -1,6 +1,7 @@
 package io.vertx.grpc.common.impl;
 
 import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
 import com.google.protobuf.MessageOrBuilder;
 import com.google.protobuf.util.JsonFormat;
 import io.vertx.core.buffer.Buffer;
@@ -19,9 +20,28 @@ public final class ProtobufJsonWriter {
    * @return a writer configured from {@code format}
    */
   public static ProtobufJsonWriter create(JsonWireFormat format) {
-    return new ProtobufJsonWriter(format);
+    int index = index(format);
+    ProtobufJsonWriter writer = CACHE[index];
+    if (writer == null) {
+      writer = new ProtobufJsonWriter(format);
+      CACHE[index] = writer;
+    }
+    return writer;
   }
 
+  // One writer per combination of the printer flags
+  private static final ProtobufJsonWriter[] CACHE = new ProtobufJsonWriter[1 << 6];
+
+  private static int index(JsonWireFormat format) {
+    return (format.alwaysPrintFieldsWithNoPresence() ? 1 : 0)
+      | (format.omittingInsignificantWhitespace() ? 2 : 0)
+      | (format.preservingProtoFieldNames() ? 4 : 0)
+      | (format.printingEnumsAsInts() ? 8 : 0)
+      | (format.sortingMapKeys() ? 16 : 0)
+      | (format.usingStreamingCodec() ? 32 : 0);
+  }
+
+  private final JsonWireFormat format;
   private final JsonFormat.Printer printer;
 
   private ProtobufJsonWriter(JsonWireFormat format) {
@@ -41,6 +61,7 @@ public final class ProtobufJsonWriter {
     if (format.sortingMapKeys()) {
       printer = printer.sortingMapKeys();
     }
+    this.format = format;
     this.printer = printer;
   }
 
@@ -52,6 +73,16 @@ public final class ProtobufJsonWriter {
    * @throws CodecException when the message cannot be encoded
    */
   public Buffer write(MessageOrBuilder message) throws CodecException {
+    if (format.usingStreamingCodec()) {
+      StreamingJsonCodec codec = StreamingJsonCodec.codec(message.getDescriptorForType());
+      if (codec != null) {
+        if (message instanceof Message) {
+          return codec.write((Message) message, format);
+        } else if (message instanceof Message.Builder) {
+          return codec.write(((Message.Builder) message).buildPartial(), format);
+        }
+      }
+    }
     try {
       return Buffer.buffer(printer.print(message));
     } catch (InvalidProtocolBufferException e) {
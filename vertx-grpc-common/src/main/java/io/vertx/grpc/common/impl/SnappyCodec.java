@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.common.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.handler.codec.compression.DecompressionException;
+import io.netty.handler.codec.compression.Snappy;
+import io.netty.util.concurrent.FastThreadLocal;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.buffer.BufferInternal;
+import io.vertx.grpc.common.CodecException;
+import io.vertx.grpc.common.GrpcCompressor;
+import io.vertx.grpc.common.GrpcDecompressor;
+
+/**
+ * {@code snappy} codec producing the raw (unframed) Snappy block format, backed by the pure Java Netty
+ * {@link Snappy} implementation.
+ */
+public final class SnappyCodec implements GrpcCompressor, GrpcDecompressor {
+
+  public static final SnappyCodec INSTANCE = new SnappyCodec();
+
+  private static final FastThreadLocal<Snappy> SNAPPY = new FastThreadLocal<>() {
+    @Override
+    protected Snappy initialValue() {
+      return new Snappy();
+    }
+  };
+
+  private SnappyCodec() {
+  }
+
+  @Override
+  public String encoding() {
+    return "snappy";
+  }
+
+  @Override
+  public Buffer compress(Buffer payload) throws CodecException {
+    ByteBuf in = ((BufferInternal) payload).getByteBuf();
+    ByteBuf out = Utils.ALLOC.heapBuffer(in.readableBytes() + 16);
+    Snappy snappy = SNAPPY.get();
+    try {
+      snappy.encode(in, out, in.readableBytes());
+    } finally {
+      snappy.reset();
+    }
+    return BufferInternal.buffer(out);
+  }
+
+  @Override
+  public Buffer decompress(Buffer payload) throws CodecException {
+    ByteBuf in = ((BufferInternal) payload).getByteBuf();
+    ByteBuf out = Utils.ALLOC.heapBuffer(Math.max(64, in.readableBytes() << 1));
+    Snappy snappy = SNAPPY.get();
+    try {
+      snappy.decode(in, out);
+    } catch (DecompressionException | IndexOutOfBoundsException e) {
+      throw new CodecException(e);
+    } finally {
+      snappy.reset();
+    }
+    if (in.isReadable()) {
+      throw new CodecException("Invalid snappy input");
+    }
+    return BufferInternal.buffer(out);
+  }
+}
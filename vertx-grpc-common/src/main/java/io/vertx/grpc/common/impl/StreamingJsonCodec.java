@@ -0,0 +1,1084 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.common.impl;
+
+import com.fasterxml.jackson.core.Base64Variants;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.DefaultIndenter;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+import com.fasterxml.jackson.core.util.Separators;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.Message;
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.WireFormat;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.ByteBufUtil;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.buffer.BufferInternal;
+import io.vertx.grpc.common.CodecException;
+import io.vertx.grpc.common.JsonWireFormat;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Protobuf JSON codec compiled from a message {@link Descriptors.Descriptor}, an alternative to {@code JsonFormat}
+ * that streams JSON with Jackson and does not use reflection.
+ * <p>
+ * Encoding walks the binary serialization of the message (produced by the generated code) and prints each field
+ * according to its compiled plan. Decoding writes the binary serialization of the JSON document and merges it in the
+ * builder with the generated parser.
+ * <p>
+ * Messages using well-known types ({@code google.protobuf.*}, e.g. {@code Any} or {@code Timestamp}) or groups have
+ * a specific JSON mapping and are not supported, {@link #codec(Descriptors.Descriptor)} returns {@code null} for them.
+ */
+public final class StreamingJsonCodec {
+
+  private static final JsonFactory FACTORY = new JsonFactory();
+  private static final DefaultPrettyPrinter PRETTY_PRINTER = new DefaultPrettyPrinter()
+    .withObjectIndenter(new DefaultIndenter("  ", "\n"))
+    .withSeparators(Separators.createDefaultInstance().withObjectFieldValueSpacing(Separators.Spacing.AFTER));
+  private static final StreamingJsonCodec UNSUPPORTED = new StreamingJsonCodec();
+  private static final ConcurrentHashMap<Descriptors.Descriptor, StreamingJsonCodec> CODECS = new ConcurrentHashMap<>();
+  private static final byte[] EMPTY = new byte[0];
+
+  /**
+   * @return the codec for the given {@code descriptor} or {@code null} when the message cannot be handled by this codec
+   */
+  public static StreamingJsonCodec codec(Descriptors.Descriptor descriptor) {
+    StreamingJsonCodec codec = CODECS.get(descriptor);
+    if (codec == null) {
+      codec = isSupported(descriptor, new HashSet<>()) ? new StreamingJsonCodec(descriptor) : UNSUPPORTED;
+      StreamingJsonCodec prev = CODECS.putIfAbsent(descriptor, codec);
+      if (prev != null) {
+        codec = prev;
+      }
+    }
+    return codec == UNSUPPORTED ? null : codec;
+  }
+
+  private static boolean isSupported(Descriptors.Descriptor descriptor, Set<Descriptors.Descriptor> visited) {
+    if (!visited.add(descriptor)) {
+      return true;
+    }
+    if (isWellKnown(descriptor.getFile())) {
+      return false;
+    }
+    for (Descriptors.FieldDescriptor field : descriptor.getFields()) {
+      switch (field.getType()) {
+        case GROUP:
+          return false;
+        case ENUM:
+          if (isWellKnown(field.getEnumType().getFile())) {
+            return false;
+          }
+          break;
+        case MESSAGE:
+          if (!isSupported(field.getMessageType(), visited)) {
+            return false;
+          }
+          break;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isWellKnown(Descriptors.FileDescriptor file) {
+    return file.getPackage().equals("google.protobuf");
+  }
+
+  private final Descriptors.Descriptor descriptor;
+  private final Field[] fields;
+  private final int[] numbers;
+  private final Map<String, Field> names;
+
+  private StreamingJsonCodec() {
+    this.descriptor = null;
+    this.fields = null;
+    this.numbers = null;
+    this.names = null;
+  }
+
+  private StreamingJsonCodec(Descriptors.Descriptor descriptor) {
+    Field[] fields = new Field[descriptor.getFields().size()];
+    int idx = 0;
+    for (Descriptors.FieldDescriptor fd : descriptor.getFields()) {
+      fields[idx++] = new Field(fd);
+    }
+    // Fields are printed in field number order like JsonFormat does and like the generated code serializes them
+    Arrays.sort(fields, Comparator.comparingInt(field -> field.number));
+    int[] numbers = new int[fields.length];
+    Map<String, Field> names = new HashMap<>();
+    for (int i = 0;i < fields.length;i++) {
+      Field field = fields[i];
+      field.index = i;
+      numbers[i] = field.number;
+      names.put(field.protoName, field);
+      names.put(field.jsonName, field);
+    }
+    this.descriptor = descriptor;
+    this.fields = fields;
+    this.numbers = numbers;
+    this.names = names;
+  }
+
+  private Field field(int number) {
+    int idx = Arrays.binarySearch(numbers, number);
+    return idx >= 0 ? fields[idx] : null;
+  }
+
+  /**
+   * Encode {@code message} as JSON.
+   *
+   * @param message the message to encode, its descriptor must be the descriptor of this codec
+   * @param format the JSON flags
+   * @return the JSON payload
+   */
+  public Buffer write(MessageLite message, JsonWireFormat format) throws CodecException {
+    byte[] bytes = message.toByteArray();
+    ByteBuf out = Utils.ALLOC.heapBuffer(16 + bytes.length * 2);
+    try (JsonGenerator generator = FACTORY.createGenerator(new ByteBufOutputStream(out), JsonEncoding.UTF8)) {
+      if (!format.omittingInsignificantWhitespace()) {
+        generator.setPrettyPrinter(PRETTY_PRINTER.createInstance());
+      }
+      Printer printer = new Printer(bytes, generator, format);
+      printer.printMessage(this, CodedInputStream.newInstance(bytes), 0);
+    } catch (IOException e) {
+      throw new CodecException(e);
+    }
+    return BufferInternal.buffer(out);
+  }
+
+  /**
+   * Merge the JSON {@code payload} into the supplied {@code builder}.
+   *
+   * @param payload the JSON payload
+   * @param builder the builder, its descriptor must be the descriptor of this codec
+   * @param ignoringUnknownFields whether unknown fields and enum values are ignored or rejected
+   */
+  public void merge(Buffer payload, Message.Builder builder, boolean ignoringUnknownFields) throws CodecException {
+    ByteBuf in = ((BufferInternal) payload).getByteBuf();
+    ByteBuf out = Utils.ALLOC.heapBuffer(in.readableBytes());
+    try (JsonParser parser = in.hasArray()
+      ? FACTORY.createParser(in.array(), in.arrayOffset() + in.readerIndex(), in.readableBytes())
+      : FACTORY.createParser(new ByteBufInputStream(in))) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new CodecException("Expect message object but got: " + parser.currentToken());
+      }
+      new Reader(parser, out, ignoringUnknownFields).readMessage(this);
+      if (parser.nextToken() != null) {
+        throw new CodecException("Unexpected content after the message: " + parser.currentToken());
+      }
+      builder.mergeFrom(ProtobufCodec.codedInputStream(out));
+    } catch (IOException e) {
+      throw new CodecException(e);
+    }
+  }
+
+  /**
+   * The compiled plan of a message field.
+   */
+  private static final class Field {
+
+    final Descriptors.FieldDescriptor descriptor;
+    final Descriptors.FieldDescriptor.Type type;
+    final int number;
+    final String protoName;
+    final String jsonName;
+    final boolean repeated;
+    final boolean map;
+    final boolean packable;
+    final boolean printDefault;
+    final int wireType;
+    final int tag;
+    final int packedTag;
+    final int oneof;
+    final Field key;
+    final Field value;
+    int index;
+    private StreamingJsonCodec message;
+
+    Field(Descriptors.FieldDescriptor descriptor) {
+      this.descriptor = descriptor;
+      this.type = descriptor.getType();
+      this.number = descriptor.getNumber();
+      this.protoName = descriptor.getName();
+      this.jsonName = descriptor.getJsonName();
+      this.repeated = descriptor.isRepeated();
+      this.map = descriptor.isMapField();
+      this.packable = descriptor.isPackable();
+      this.printDefault = descriptor.isRepeated() || !descriptor.hasPresence();
+      this.wireType = descriptor.getLiteType().getWireType();
+      this.tag = (number << 3) | wireType;
+      this.packedTag = (number << 3) | WireFormat.WIRETYPE_LENGTH_DELIMITED;
+      Descriptors.OneofDescriptor oneof = descriptor.getRealContainingOneof();
+      this.oneof = oneof != null ? oneof.getIndex() : -1;
+      if (map) {
+        Descriptors.Descriptor entry = descriptor.getMessageType();
+        this.key = new Field(entry.findFieldByNumber(1));
+        this.value = new Field(entry.findFieldByNumber(2));
+      } else {
+        this.key = null;
+        this.value = null;
+      }
+    }
+
+    StreamingJsonCodec message() {
+      StreamingJsonCodec codec = message;
+      if (codec == null) {
+        // Resolved lazily to support recursive messages
+        codec = codec(descriptor.getMessageType());
+        message = codec;
+      }
+      return codec;
+    }
+
+    boolean accepts(int wireType) {
+      return wireType == this.wireType || (packable && wireType == WireFormat.WIRETYPE_LENGTH_DELIMITED);
+    }
+  }
+
+  /**
+   * Prints the binary serialization of a message as JSON.
+   */
+  private static final class Printer {
+
+    private final byte[] bytes;
+    private final JsonGenerator generator;
+    private final boolean preservingProtoFieldNames;
+    private final boolean alwaysPrintFieldsWithNoPresence;
+    private final boolean printingEnumsAsInts;
+    private final boolean sortingMapKeys;
+
+    Printer(byte[] bytes, JsonGenerator generator, JsonWireFormat format) {
+      this.bytes = bytes;
+      this.generator = generator;
+      this.preservingProtoFieldNames = format.preservingProtoFieldNames();
+      this.alwaysPrintFieldsWithNoPresence = format.alwaysPrintFieldsWithNoPresence();
+      this.printingEnumsAsInts = format.printingEnumsAsInts();
+      this.sortingMapKeys = format.sortingMapKeys();
+    }
+
+    /**
+     * Print the message read from {@code in}, {@code base} is the offset of {@code in} in {@link #bytes}.
+     */
+    void printMessage(StreamingJsonCodec codec, CodedInputStream in, int base) throws IOException {
+      generator.writeStartObject();
+      Field[] fields = codec.fields;
+      int next = 0;
+      Field open = null;
+      List<MapEntry> entries = null;
+      while (true) {
+        int tag = in.readTag();
+        Field field = tag == 0 ? null : codec.field(WireFormat.getTagFieldNumber(tag));
+        if (field != null && !field.accepts(WireFormat.getTagWireType(tag))) {
+          // Mismatching data preserved as unknown field
+          field = null;
+        }
+        if (open != null && (tag == 0 || field != open)) {
+          if (entries != null) {
+            printSortedEntries(open, entries);
+            entries = null;
+          }
+          if (open.map) {
+            generator.writeEndObject();
+          } else {
+            generator.writeEndArray();
+          }
+          open = null;
+        }
+        if (tag == 0) {
+          break;
+        }
+        if (field == null) {
+          in.skipField(tag);
+          continue;
+        }
+        if (field != open) {
+          if (field.index < next) {
+            throw new CodecException("Unexpected field order in message " + codec.descriptor.getFullName());
+          }
+          if (alwaysPrintFieldsWithNoPresence) {
+            for (int i = next;i < field.index;i++) {
+              printDefaultField(fields[i]);
+            }
+          }
+          next = field.index + 1;
+          generator.writeFieldName(preservingProtoFieldNames ? field.protoName : field.jsonName);
+          if (field.map) {
+            generator.writeStartObject();
+            if (sortingMapKeys) {
+              entries = new ArrayList<>();
+            }
+            open = field;
+          } else if (field.repeated) {
+            generator.writeStartArray();
+            open = field;
+          }
+        }
+        if (field.map) {
+          int len = in.readRawVarint32();
+          if (entries != null) {
+            int offset = base + in.getTotalBytesRead();
+            entries.add(new MapEntry(readMapKey(field.key, CodedInputStream.newInstance(bytes, offset, len)), offset, len));
+            in.skipRawBytes(len);
+          } else {
+            int limit = in.pushLimit(len);
+            printMapEntry(field, in, base);
+            in.popLimit(limit);
+          }
+        } else if (field.repeated && field.packable && WireFormat.getTagWireType(tag) == WireFormat.WIRETYPE_LENGTH_DELIMITED) {
+          int limit = in.pushLimit(in.readRawVarint32());
+          while (in.getBytesUntilLimit() > 0) {
+            printValue(field, in, base);
+          }
+          in.popLimit(limit);
+        } else {
+          printValue(field, in, base);
+        }
+      }
+      if (alwaysPrintFieldsWithNoPresence) {
+        for (int i = next;i < fields.length;i++) {
+          printDefaultField(fields[i]);
+        }
+      }
+      generator.writeEndObject();
+    }
+
+    private void printDefaultField(Field field) throws IOException {
+      if (!field.printDefault) {
+        return;
+      }
+      generator.writeFieldName(preservingProtoFieldNames ? field.protoName : field.jsonName);
+      if (field.map) {
+        generator.writeStartObject();
+        generator.writeEndObject();
+      } else if (field.repeated) {
+        generator.writeStartArray();
+        generator.writeEndArray();
+      } else {
+        printDefaultValue(field);
+      }
+    }
+
+    private void printDefaultValue(Field field) throws IOException {
+      switch (field.type) {
+        case INT32:
+        case SINT32:
+        case SFIXED32:
+        case UINT32:
+        case FIXED32:
+          generator.writeNumber(0);
+          break;
+        case INT64:
+        case SINT64:
+        case SFIXED64:
+        case UINT64:
+        case FIXED64:
+          generator.writeString("0");
+          break;
+        case FLOAT:
+          generator.writeNumber(0F);
+          break;
+        case DOUBLE:
+          generator.writeNumber(0D);
+          break;
+        case BOOL:
+          generator.writeBoolean(false);
+          break;
+        case STRING:
+        case BYTES:
+          generator.writeString("");
+          break;
+        case ENUM:
+          printEnum(field, ((Descriptors.EnumValueDescriptor) field.descriptor.getDefaultValue()).getNumber());
+          break;
+        case MESSAGE:
+          printMessage(field.message(), CodedInputStream.newInstance(EMPTY), 0);
+          break;
+        default:
+          throw new AssertionError();
+      }
+    }
+
+    private void printValue(Field field, CodedInputStream in, int base) throws IOException {
+      switch (field.type) {
+        case INT32:
+          generator.writeNumber(in.readInt32());
+          break;
+        case SINT32:
+          generator.writeNumber(in.readSInt32());
+          break;
+        case SFIXED32:
+          generator.writeNumber(in.readSFixed32());
+          break;
+        case UINT32:
+          generator.writeNumber(Integer.toUnsignedLong(in.readUInt32()));
+          break;
+        case FIXED32:
+          generator.writeNumber(Integer.toUnsignedLong(in.readFixed32()));
+          break;
+        case INT64:
+          generator.writeString(Long.toString(in.readInt64()));
+          break;
+        case SINT64:
+          generator.writeString(Long.toString(in.readSInt64()));
+          break;
+        case SFIXED64:
+          generator.writeString(Long.toString(in.readSFixed64()));
+          break;
+        case UINT64:
+          generator.writeString(Long.toUnsignedString(in.readUInt64()));
+          break;
+        case FIXED64:
+          generator.writeString(Long.toUnsignedString(in.readFixed64()));
+          break;
+        case FLOAT: {
+          float value = in.readFloat();
+          if (Float.isNaN(value) || Float.isInfinite(value)) {
+            generator.writeString(Float.toString(value));
+          } else {
+            generator.writeNumber(value);
+          }
+          break;
+        }
+        case DOUBLE: {
+          double value = in.readDouble();
+          if (Double.isNaN(value) || Double.isInfinite(value)) {
+            generator.writeString(Double.toString(value));
+          } else {
+            generator.writeNumber(value);
+          }
+          break;
+        }
+        case BOOL:
+          generator.writeBoolean(in.readBool());
+          break;
+        case STRING: {
+          // Copy the UTF-8 bytes without decoding them
+          int len = in.readRawVarint32();
+          generator.writeUTF8String(bytes, base + in.getTotalBytesRead(), len);
+          in.skipRawBytes(len);
+          break;
+        }
+        case BYTES: {
+          int len = in.readRawVarint32();
+          generator.writeBinary(Base64Variants.MIME_NO_LINEFEEDS, bytes, base + in.getTotalBytesRead(), len);
+          in.skipRawBytes(len);
+          break;
+        }
+        case ENUM:
+          printEnum(field, in.readEnum());
+          break;
+        case MESSAGE: {
+          int limit = in.pushLimit(in.readRawVarint32());
+          printMessage(field.message(), in, base);
+          in.popLimit(limit);
+          break;
+        }
+        default:
+          throw new AssertionError();
+      }
+    }
+
+    private void printEnum(Field field, int number) throws IOException {
+      Descriptors.EnumValueDescriptor value;
+      if (printingEnumsAsInts || (value = field.descriptor.getEnumType().findValueByNumber(number)) == null) {
+        generator.writeNumber(number);
+      } else {
+        generator.writeString(value.getName());
+      }
+    }
+
+    private void printMapEntry(Field field, CodedInputStream in, int base) throws IOException {
+      Object key = null;
+      boolean printed = false;
+      int tag;
+      while ((tag = in.readTag()) != 0) {
+        int number = WireFormat.getTagFieldNumber(tag);
+        if (number == 1 && !printed && field.key.accepts(WireFormat.getTagWireType(tag))) {
+          key = readKey(field.key, in);
+        } else if (number == 2 && !printed && field.value.accepts(WireFormat.getTagWireType(tag))) {
+          generator.writeFieldName(keyText(field.key, key));
+          printValue(field.value, in, base);
+          printed = true;
+        } else {
+          in.skipField(tag);
+        }
+      }
+      if (!printed) {
+        generator.writeFieldName(keyText(field.key, key));
+        printDefaultValue(field.value);
+      }
+    }
+
+    private void printSortedEntries(Field field, List<MapEntry> entries) throws IOException {
+      entries.sort(field.key.type == Descriptors.FieldDescriptor.Type.STRING ? MapEntry.UTF8_ORDER : MapEntry.NATURAL_ORDER);
+      for (MapEntry entry : entries) {
+        printMapEntry(field, CodedInputStream.newInstance(bytes, entry.offset, entry.length), entry.offset);
+      }
+    }
+
+    private Object readMapKey(Field key, CodedInputStream in) throws IOException {
+      int tag;
+      while ((tag = in.readTag()) != 0) {
+        if (WireFormat.getTagFieldNumber(tag) == 1 && key.accepts(WireFormat.getTagWireType(tag))) {
+          return readKey(key, in);
+        }
+        in.skipField(tag);
+      }
+      return defaultKey(key);
+    }
+
+    private static Object defaultKey(Field key) {
+      switch (key.type) {
+        case INT64:
+        case SINT64:
+        case SFIXED64:
+        case UINT64:
+        case FIXED64:
+          return 0L;
+        case BOOL:
+          return false;
+        case STRING:
+          return "";
+        default:
+          return 0;
+      }
+    }
+
+    private static Object readKey(Field key, CodedInputStream in) throws IOException {
+      switch (key.type) {
+        case INT32:
+          return in.readInt32();
+        case SINT32:
+          return in.readSInt32();
+        case SFIXED32:
+          return in.readSFixed32();
+        case UINT32:
+          return in.readUInt32();
+        case FIXED32:
+          return in.readFixed32();
+        case INT64:
+          return in.readInt64();
+        case SINT64:
+          return in.readSInt64();
+        case SFIXED64:
+          return in.readSFixed64();
+        case UINT64:
+          return in.readUInt64();
+        case FIXED64:
+          return in.readFixed64();
+        case BOOL:
+          return in.readBool();
+        case STRING:
+          return in.readStringRequireUtf8();
+        default:
+          throw new AssertionError();
+      }
+    }
+
+    private static String keyText(Field key, Object value) {
+      switch (key.type) {
+        case UINT32:
+        case FIXED32:
+          return value == null ? "0" : Integer.toUnsignedString((Integer) value);
+        case UINT64:
+        case FIXED64:
+          return value == null ? "0" : Long.toUnsignedString((Long) value);
+        case BOOL:
+          return value == null ? "false" : value.toString();
+        case STRING:
+          return value == null ? "" : (String) value;
+        default:
+          return value == null ? "0" : value.toString();
+      }
+    }
+  }
+
+  private static final class MapEntry {
+
+    @SuppressWarnings("unchecked")
+    static final Comparator<MapEntry> NATURAL_ORDER = (e1, e2) -> ((Comparable<Object>) e1.key).compareTo(e2.key);
+    static final Comparator<MapEntry> UTF8_ORDER = (e1, e2) -> {
+      // UTF-8 byte order is the code point order
+      String s1 = (String) e1.key;
+      String s2 = (String) e2.key;
+      int i1 = 0, i2 = 0;
+      while (i1 < s1.length() && i2 < s2.length()) {
+        int c1 = s1.codePointAt(i1);
+        int c2 = s2.codePointAt(i2);
+        if (c1 != c2) {
+          return Integer.compare(c1, c2);
+        }
+        i1 += Character.charCount(c1);
+        i2 += Character.charCount(c2);
+      }
+      return Integer.compare(s1.length() - i1, s2.length() - i2);
+    };
+
+    final Object key;
+    final int offset;
+    final int length;
+
+    MapEntry(Object key, int offset, int length) {
+      this.key = key;
+      this.offset = offset;
+      this.length = length;
+    }
+  }
+
+  /**
+   * Reads a JSON document and writes its binary serialization.
+   */
+  private static final class Reader {
+
+    private final JsonParser parser;
+    private final ByteBuf out;
+    private final boolean ignoringUnknownFields;
+
+    Reader(JsonParser parser, ByteBuf out, boolean ignoringUnknownFields) {
+      this.parser = parser;
+      this.out = out;
+      this.ignoringUnknownFields = ignoringUnknownFields;
+    }
+
+    /**
+     * Read the message, the current token is the {@code START_OBJECT} of the message.
+     */
+    void readMessage(StreamingJsonCodec codec) throws IOException {
+      BitSet seen = new BitSet(codec.fields.length);
+      BitSet oneofs = null;
+      JsonToken token;
+      while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+        String name = parser.currentName();
+        Field field = codec.names.get(name);
+        token = parser.nextToken();
+        if (field == null) {
+          if (!ignoringUnknownFields) {
+            throw new CodecException("Cannot find field: " + name + " in message " + codec.descriptor.getFullName());
+          }
+          parser.skipChildren();
+          continue;
+        }
+        if (seen.get(field.index)) {
+          throw new CodecException("Field " + field.descriptor.getFullName() + " has already been set.");
+        }
+        seen.set(field.index);
+        if (token == JsonToken.VALUE_NULL) {
+          if (field.map || !field.repeated) {
+            continue;
+          }
+          throw new CodecException("Repeated field elements cannot be null in field: " + field.descriptor.getFullName());
+        }
+        if (field.oneof != -1) {
+          if (oneofs == null) {
+            oneofs = new BitSet();
+          }
+          if (oneofs.get(field.oneof)) {
+            throw new CodecException("Cannot set field " + field.descriptor.getFullName() + " because another field belonging to the same oneof has already been set.");
+          }
+          oneofs.set(field.oneof);
+        }
+        if (field.map) {
+          readMap(field);
+        } else if (field.repeated) {
+          readRepeated(field);
+        } else {
+          int mark = out.writerIndex();
+          writeVarint32(field.tag);
+          if (!writeValue(field)) {
+            // Unknown enum value ignored
+            out.writerIndex(mark);
+          }
+        }
+      }
+      if (token != JsonToken.END_OBJECT) {
+        throw new CodecException("Expect a field name but got: " + token);
+      }
+    }
+
+    private void readRepeated(Field field) throws IOException {
+      if (parser.currentToken() != JsonToken.START_ARRAY) {
+        throw new CodecException("Expect an array but found: " + parser.currentToken());
+      }
+      if (field.packable) {
+        writeVarint32(field.packedTag);
+        int len = reserveLength();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+          checkElement(field);
+          writeValue(field);
+        }
+        writeLength(len);
+      } else {
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+          checkElement(field);
+          int mark = out.writerIndex();
+          writeVarint32(field.tag);
+          if (!writeValue(field)) {
+            out.writerIndex(mark);
+          }
+        }
+      }
+    }
+
+    private void checkElement(Field field) {
+      if (parser.currentToken() == JsonToken.VALUE_NULL) {
+        throw new CodecException("Repeated field elements cannot be null in field: " + field.descriptor.getFullName());
+      }
+    }
+
+    private void readMap(Field field) throws IOException {
+      if (parser.currentToken() != JsonToken.START_OBJECT) {
+        throw new CodecException("Expect a map object but found: " + parser.currentToken());
+      }
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String key = parser.currentName();
+        if (parser.nextToken() == JsonToken.VALUE_NULL) {
+          throw new CodecException("Map value cannot be null.");
+        }
+        int mark = out.writerIndex();
+        writeVarint32(field.packedTag);
+        int len = reserveLength();
+        writeVarint32(field.key.tag);
+        writeKey(field.key, key);
+        writeVarint32(field.value.tag);
+        if (!writeValue(field.value)) {
+          out.writerIndex(mark);
+          continue;
+        }
+        writeLength(len);
+      }
+    }
+
+    private void writeKey(Field key, String text) {
+      try {
+        switch (key.type) {
+          case INT32:
+          case SFIXED32:
+          case SINT32:
+            writeInt(key.type, Integer.parseInt(text));
+            break;
+          case UINT32:
+          case FIXED32:
+            writeInt(key.type, Integer.parseUnsignedInt(text));
+            break;
+          case INT64:
+          case SFIXED64:
+          case SINT64:
+            writeLong(key.type, Long.parseLong(text));
+            break;
+          case UINT64:
+          case FIXED64:
+            writeLong(key.type, Long.parseUnsignedLong(text));
+            break;
+          case BOOL:
+            if (text.equals("true")) {
+              writeVarint32(1);
+            } else if (text.equals("false")) {
+              writeVarint32(0);
+            } else {
+              throw new CodecException("Invalid bool value: " + text);
+            }
+            break;
+          case STRING:
+            writeString(text);
+            break;
+          default:
+            throw new AssertionError();
+        }
+      } catch (NumberFormatException e) {
+        throw new CodecException("Invalid map key: " + text);
+      }
+    }
+
+    /**
+     * Write the value of the current token.
+     *
+     * @return {@code false} when the value is an unknown enum value that is ignored
+     */
+    private boolean writeValue(Field field) throws IOException {
+      switch (field.type) {
+        case INT32:
+        case SINT32:
+        case SFIXED32:
+          writeInt(field.type, (int) readInteger(field, Integer.MIN_VALUE, Integer.MAX_VALUE));
+          break;
+        case UINT32:
+        case FIXED32:
+          writeInt(field.type, (int) readInteger(field, 0, 0xFFFFFFFFL));
+          break;
+        case INT64:
+        case SINT64:
+        case SFIXED64:
+          writeLong(field.type, readInteger(field, Long.MIN_VALUE, Long.MAX_VALUE));
+          break;
+        case UINT64:
+        case FIXED64:
+          writeLong(field.type, readUnsignedLong(field));
+          break;
+        case FLOAT: {
+          double value = readDouble(field);
+          if (!Double.isInfinite(value) && Math.abs(value) > Float.MAX_VALUE) {
+            throw new CodecException("Out of range float value: " + parser.getText());
+          }
+          out.writeIntLE(Float.floatToRawIntBits((float) value));
+          break;
+        }
+        case DOUBLE:
+          out.writeLongLE(Double.doubleToRawLongBits(readDouble(field)));
+          break;
+        case BOOL:
+          writeVarint32(readBool(field) ? 1 : 0);
+          break;
+        case STRING:
+          writeString(scalarText(field));
+          break;
+        case BYTES: {
+          String text = scalarText(field);
+          byte[] bytes;
+          try {
+            bytes = text.indexOf('-') >= 0 || text.indexOf('_') >= 0 ? Base64.getUrlDecoder().decode(text) : Base64.getDecoder().decode(text);
+          } catch (IllegalArgumentException e) {
+            throw new CodecException("Invalid base64 value for field " + field.descriptor.getFullName());
+          }
+          writeVarint32(bytes.length);
+          out.writeBytes(bytes);
+          break;
+        }
+        case ENUM: {
+          Integer number = readEnum(field);
+          if (number == null) {
+            return false;
+          }
+          writeVarint64(number);
+          break;
+        }
+        case MESSAGE: {
+          if (parser.currentToken() != JsonToken.START_OBJECT) {
+            throw new CodecException("Expect message object but got: " + parser.currentToken());
+          }
+          int len = reserveLength();
+          readMessage(field.message());
+          writeLength(len);
+          break;
+        }
+        default:
+          throw new AssertionError();
+      }
+      return true;
+    }
+
+    private String scalarText(Field field) throws IOException {
+      JsonToken token = parser.currentToken();
+      if (token == null || !token.isScalarValue()) {
+        throw new CodecException("Invalid value for field " + field.descriptor.getFullName() + ": " + token);
+      }
+      return parser.getText();
+    }
+
+    private long readInteger(Field field, long min, long max) throws IOException {
+      long value;
+      if (parser.currentToken() == JsonToken.VALUE_NUMBER_INT && parser.getNumberType() != JsonParser.NumberType.BIG_INTEGER) {
+        value = parser.getLongValue();
+      } else {
+        String text = scalarText(field);
+        try {
+          value = Long.parseLong(text);
+        } catch (NumberFormatException e) {
+          try {
+            value = new BigDecimal(text).longValueExact();
+          } catch (NumberFormatException | ArithmeticException ignore) {
+            throw new CodecException("Not an integer value for field " + field.descriptor.getFullName() + ": " + text);
+          }
+        }
+      }
+      if (value < min || value > max) {
+        throw new CodecException("Out of range value for field " + field.descriptor.getFullName() + ": " + value);
+      }
+      return value;
+    }
+
+    private long readUnsignedLong(Field field) throws IOException {
+      String text = scalarText(field);
+      BigInteger value;
+      try {
+        value = new BigDecimal(text).toBigIntegerExact();
+      } catch (NumberFormatException | ArithmeticException e) {
+        throw new CodecException("Not an integer value for field " + field.descriptor.getFullName() + ": " + text);
+      }
+      if (value.signum() < 0 || value.bitLength() > 64) {
+        throw new CodecException("Out of range value for field " + field.descriptor.getFullName() + ": " + text);
+      }
+      return value.longValue();
+    }
+
+    private double readDouble(Field field) throws IOException {
+      JsonToken token = parser.currentToken();
+      if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+        return parser.getDoubleValue();
+      }
+      String text = scalarText(field);
+      switch (text) {
+        case "NaN":
+          return Double.NaN;
+        case "Infinity":
+          return Double.POSITIVE_INFINITY;
+        case "-Infinity":
+          return Double.NEGATIVE_INFINITY;
+        default:
+          try {
+            return Double.parseDouble(text);
+          } catch (NumberFormatException e) {
+            throw new CodecException("Not a floating point value for field " + field.descriptor.getFullName() + ": " + text);
+          }
+      }
+    }
+
+    private boolean readBool(Field field) throws IOException {
+      switch (parser.currentToken()) {
+        case VALUE_TRUE:
+          return true;
+        case VALUE_FALSE:
+          return false;
+        case VALUE_STRING:
+          String text = parser.getText();
+          if (text.equals("true")) {
+            return true;
+          } else if (text.equals("false")) {
+            return false;
+          }
+        default:
+          throw new CodecException("Invalid bool value for field " + field.descriptor.getFullName() + ": " + parser.getText());
+      }
+    }
+
+    private Integer readEnum(Field field) throws IOException {
+      Descriptors.EnumDescriptor type = field.descriptor.getEnumType();
+      Descriptors.EnumValueDescriptor value;
+      if (parser.currentToken() == JsonToken.VALUE_STRING) {
+        String text = parser.getText();
+        value = type.findValueByName(text);
+        if (value == null) {
+          try {
+            int number = Integer.parseInt(text);
+            value = type.isClosed() ? type.findValueByNumber(number) : type.findValueByNumberCreatingIfUnknown(number);
+          } catch (NumberFormatException ignore) {
+          }
+        }
+      } else if (parser.currentToken() == JsonToken.VALUE_NUMBER_INT) {
+        int number = (int) readInteger(field, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        value = type.isClosed() ? type.findValueByNumber(number) : type.findValueByNumberCreatingIfUnknown(number);
+      } else {
+        value = null;
+      }
+      if (value == null) {
+        if (ignoringUnknownFields) {
+          return null;
+        }
+        throw new CodecException("Invalid enum value: " + parser.getText() + " for enum type: " + type.getFullName());
+      }
+      return value.getNumber();
+    }
+
+    private void writeInt(Descriptors.FieldDescriptor.Type type, int value) {
+      switch (type) {
+        case SINT32:
+          writeVarint32((value << 1) ^ (value >> 31));
+          break;
+        case SFIXED32:
+        case FIXED32:
+          out.writeIntLE(value);
+          break;
+        case UINT32:
+          writeVarint32(value);
+          break;
+        default:
+          // int32 negative values are sign extended
+          writeVarint64(value);
+          break;
+      }
+    }
+
+    private void writeLong(Descriptors.FieldDescriptor.Type type, long value) {
+      switch (type) {
+        case SINT64:
+          writeVarint64((value << 1) ^ (value >> 63));
+          break;
+        case SFIXED64:
+        case FIXED64:
+          out.writeLongLE(value);
+          break;
+        default:
+          writeVarint64(value);
+          break;
+      }
+    }
+
+    private void writeString(String s) {
+      writeVarint32(ByteBufUtil.utf8Bytes(s));
+      ByteBufUtil.writeUtf8(out, s);
+    }
+
+    private void writeVarint32(int value) {
+      while ((value & ~0x7F) != 0) {
+        out.writeByte((value & 0x7F) | 0x80);
+        value >>>= 7;
+      }
+      out.writeByte(value);
+    }
+
+    private void writeVarint64(long value) {
+      while ((value & ~0x7FL) != 0) {
+        out.writeByte(((int) value & 0x7F) | 0x80);
+        value >>>= 7;
+      }
+      out.writeByte((int) value);
+    }
+
+    /**
+     * Reserve a 5 bytes varint for a length that is not yet known, protobuf parsers accept padded varints.
+     */
+    private int reserveLength() {
+      int idx = out.writerIndex();
+      out.writeZero(5);
+      return idx;
+    }
+
+    private void writeLength(int idx) {
+      int len = out.writerIndex() - idx - 5;
+      out.setByte(idx, (len & 0x7F) | 0x80);
+      out.setByte(idx + 1, ((len >>> 7) & 0x7F) | 0x80);
+      out.setByte(idx + 2, ((len >>> 14) & 0x7F) | 0x80);
+      out.setByte(idx + 3, ((len >>> 21) & 0x7F) | 0x80);
+      out.setByte(idx + 4, len >>> 28);
+    }
+  }
+}
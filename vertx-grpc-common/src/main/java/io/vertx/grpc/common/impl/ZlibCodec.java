@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.common.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.util.concurrent.FastThreadLocal;
+import io.netty.util.concurrent.FastThreadLocalThread;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.buffer.BufferInternal;
+import io.vertx.grpc.common.CodecException;
+import io.vertx.grpc.common.GrpcCompressor;
+import io.vertx.grpc.common.GrpcDecompressor;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * {@code gzip} and {@code deflate} codecs.
+ * <p>
+ * {@link Deflater} and {@link Inflater} instances are held in a {@link FastThreadLocal} on event-loop and worker
+ * threads, each thread reuses its own instances across messages instead of allocating a new compression pipeline per
+ * message. Other threads, e.g. virtual threads, share a bounded pool so the native zlib state does not outlive them.
+ */
+public final class ZlibCodec implements GrpcCompressor, GrpcDecompressor {
+
+  public static final ZlibCodec GZIP = new ZlibCodec("gzip", true);
+  public static final ZlibCodec DEFLATE = new ZlibCodec("deflate", false);
+
+  private static final byte[] GZIP_HEADER = { 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff };
+  private static final int FHCRC = 0x02;
+  private static final int FEXTRA = 0x04;
+  private static final int FNAME = 0x08;
+  private static final int FCOMMENT = 0x10;
+
+  private final String encoding;
+  private final boolean gzip;
+  private final Pool<Deflater> deflaters;
+  private final Pool<Inflater> inflaters;
+
+  private ZlibCodec(String encoding, boolean gzip) {
+    this.encoding = encoding;
+    this.gzip = gzip;
+    // gzip uses raw deflate data, the gzip header and trailer are written by the codec
+    this.deflaters = new Pool<>(() -> new Deflater(Deflater.DEFAULT_COMPRESSION, gzip), Deflater::reset, Deflater::end);
+    this.inflaters = new Pool<>(() -> new Inflater(gzip), Inflater::reset, Inflater::end);
+  }
+
+  @Override
+  public String encoding() {
+    return encoding;
+  }
+
+  @Override
+  public Buffer compress(Buffer payload) throws CodecException {
+    ByteBuf in = ((BufferInternal) payload).getByteBuf();
+    int len = in.readableBytes();
+    ByteBuf out = Utils.ALLOC.heapBuffer((len >> 1) + 32);
+    if (gzip) {
+      out.writeBytes(GZIP_HEADER);
+    }
+    Deflater deflater = deflaters.acquire();
+    try {
+      deflater.setInput(nioBuffer(in, in.readerIndex(), len));
+      deflater.finish();
+      while (!deflater.finished()) {
+        if (!out.isWritable()) {
+          out.ensureWritable(Math.max(out.capacity() >> 1, 64));
+        }
+        int idx = out.writerIndex();
+        int amount = deflater.deflate(out.nioBuffer(idx, out.writableBytes()));
+        out.writerIndex(idx + amount);
+      }
+    } finally {
+      deflaters.release(deflater);
+    }
+    if (gzip) {
+      CRC32 crc = new CRC32();
+      crc.update(nioBuffer(in, in.readerIndex(), len));
+      out.writeIntLE((int) crc.getValue());
+      out.writeIntLE(len);
+    }
+    return BufferInternal.buffer(out);
+  }
+
+  @Override
+  public Buffer decompress(Buffer payload) throws CodecException {
+    ByteBuf in = ((BufferInternal) payload).getByteBuf();
+    int idx = in.readerIndex();
+    int end = in.writerIndex();
+    if (gzip) {
+      idx = skipGzipHeader(in, idx, end);
+    }
+    ByteBuf out = Utils.ALLOC.heapBuffer(Math.max(64, (end - idx) << 1));
+    Inflater inflater = inflaters.acquire();
+    try {
+      inflater.setInput(nioBuffer(in, idx, end - idx));
+      while (!inflater.finished()) {
+        if (!out.isWritable()) {
+          out.ensureWritable(out.capacity());
+        }
+        int wi = out.writerIndex();
+        int amount = inflater.inflate(out.nioBuffer(wi, out.writableBytes()));
+        out.writerIndex(wi + amount);
+        if (amount == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+          throw new CodecException("Truncated " + encoding + " input");
+        }
+      }
+      if (gzip) {
+        int remaining = inflater.getRemaining();
+        if (remaining < 8) {
+          throw new CodecException("Truncated " + encoding + " input");
+        }
+        int trailer = end - remaining;
+        CRC32 crc = new CRC32();
+        crc.update(out.nioBuffer());
+        if (in.getIntLE(trailer) != (int) crc.getValue() || in.getIntLE(trailer + 4) != out.readableBytes()) {
+          throw new CodecException("Invalid " + encoding + " input");
+        }
+      }
+    } catch (DataFormatException e) {
+      throw new CodecException(e);
+    } finally {
+      inflaters.release(inflater);
+    }
+    return BufferInternal.buffer(out);
+  }
+
+  private static ByteBuffer nioBuffer(ByteBuf buf, int index, int length) {
+    if (buf.nioBufferCount() == 1) {
+      return buf.nioBuffer(index, length);
+    } else {
+      return ByteBuffer.wrap(ByteBufUtil.getBytes(buf, index, length, false));
+    }
+  }
+
+  private int skipGzipHeader(ByteBuf in, int idx, int end) {
+    if (end - idx < GZIP_HEADER.length || in.getUnsignedByte(idx) != 0x1f || in.getUnsignedByte(idx + 1) != 0x8b || in.getByte(idx + 2) != Deflater.DEFLATED) {
+      throw new CodecException("Invalid " + encoding + " input");
+    }
+    int flags = in.getUnsignedByte(idx + 3);
+    idx += GZIP_HEADER.length;
+    if ((flags & FEXTRA) != 0) {
+      if (end - idx < 2) {
+        throw new CodecException("Truncated " + encoding + " input");
+      }
+      idx += 2 + in.getUnsignedShortLE(idx);
+    }
+    if ((flags & FNAME) != 0) {
+      idx = skipZeroTerminated(in, idx, end);
+    }
+    if ((flags & FCOMMENT) != 0) {
+      idx = skipZeroTerminated(in, idx, end);
+    }
+    if ((flags & FHCRC) != 0) {
+      idx += 2;
+    }
+    if (idx > end) {
+      throw new CodecException("Truncated " + encoding + " input");
+    }
+    return idx;
+  }
+
+  private int skipZeroTerminated(ByteBuf in, int idx, int end) {
+    int pos = idx < end ? in.indexOf(idx, end, (byte) 0) : -1;
+    if (pos == -1) {
+      throw new CodecException("Truncated " + encoding + " input");
+    }
+    return pos + 1;
+  }
+
+  /**
+   * Thread local instances on {@link FastThreadLocalThread} (freed when the thread terminates), a bounded shared
+   * pool for the other threads.
+   */
+  private static final class Pool<T> {
+
+    private static final int SHARED_POOL_SIZE = Runtime.getRuntime().availableProcessors();
+
+    private final Supplier<T> factory;
+    private final Consumer<T> reset;
+    private final Consumer<T> end;
+    private final FastThreadLocal<T> local;
+    private final ArrayBlockingQueue<T> shared = new ArrayBlockingQueue<>(SHARED_POOL_SIZE);
+
+    Pool(Supplier<T> factory, Consumer<T> reset, Consumer<T> end) {
+      this.factory = factory;
+      this.reset = reset;
+      this.end = end;
+      this.local = new FastThreadLocal<>() {
+        @Override
+        protected T initialValue() {
+          return factory.get();
+        }
+        @Override
+        protected void onRemoval(T value) {
+          end.accept(value);
+        }
+      };
+    }
+
+    T acquire() {
+      if (Thread.currentThread() instanceof FastThreadLocalThread) {
+        return local.get();
+      }
+      T instance = shared.poll();
+      return instance != null ? instance : factory.get();
+    }
+
+    void release(T instance) {
+      reset.accept(instance);
+      if (!(Thread.currentThread() instanceof FastThreadLocalThread) && !shared.offer(instance)) {
+        end.accept(instance);
+      }
+    }
+  }
+}
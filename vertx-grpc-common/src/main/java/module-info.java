@@ -8,11 +8,15 @@ module io.vertx.grpc.common {
   requires io.netty.codec;
   requires io.netty.codec.compression;
   requires io.netty.transport;
+  requires com.fasterxml.jackson.core;
   requires com.google.protobuf;
   requires com.google.protobuf.util;
 
   exports io.vertx.grpc.common;
   exports io.vertx.grpc.common.impl;
 
+  uses io.vertx.grpc.common.GrpcCompressor;
+  uses io.vertx.grpc.common.GrpcDecompressor;
+
   provides io.vertx.core.spi.VertxServiceProvider with io.vertx.grpc.common.impl.GrpcRequestLocalRegistration;
 }
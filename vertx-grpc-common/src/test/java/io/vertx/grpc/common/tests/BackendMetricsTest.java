@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.common.tests;
+
+import io.vertx.grpc.common.BackendMetrics;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+public class BackendMetricsTest {
+
+  @Test
+  public void testEncode() {
+    BackendMetrics metrics = new BackendMetrics()
+      .setCpuUtilization(0.5)
+      .setQps(120)
+      .addNamedMetric("queue", 4);
+    assertEquals("TEXT cpu_utilization=0.5, rps_fractional=120.0, named_metrics.queue=4.0", metrics.encode());
+    assertEquals("TEXT ", new BackendMetrics().encode());
+  }
+
+  @Test
+  public void testDecode() {
+    BackendMetrics metrics = BackendMetrics.decode("TEXT cpu_utilization=0.3,mem_utilization=0.8, application_utilization=0.4, rps_fractional=10, eps=1.5, named_metrics.queue=4, unknown=2");
+    assertEquals(0.3, metrics.getCpuUtilization(), 0D);
+    assertEquals(0.8, metrics.getMemUtilization(), 0D);
+    assertEquals(0.4, metrics.getApplicationUtilization(), 0D);
+    assertEquals(10, metrics.getQps(), 0D);
+    assertEquals(1.5, metrics.getEps(), 0D);
+    assertEquals(Collections.singletonMap("queue", 4D), metrics.getNamedMetrics());
+  }
+
+  @Test
+  public void testRoundTrip() {
+    BackendMetrics metrics = new BackendMetrics()
+      .setApplicationUtilization(0.25)
+      .setEps(2)
+      .addNamedMetric("a", 1)
+      .addNamedMetric("b", 2);
+    BackendMetrics decoded = BackendMetrics.decode(metrics.encode());
+    assertEquals(metrics.encode(), decoded.encode());
+  }
+
+  @Test
+  public void testDecodeInvalid() {
+    assertNull(BackendMetrics.decode(null));
+    assertNull(BackendMetrics.decode("JSON {\"cpu_utilization\": 0.3}"));
+    assertNull(BackendMetrics.decode("TEXT cpu_utilization"));
+    assertNull(BackendMetrics.decode("TEXT cpu_utilization=abc"));
+    assertNull(BackendMetrics.decode("TEXT cpu_utilization=-1"));
+  }
+
+  @Test
+  public void testInvalidMetric() {
+    try {
+      new BackendMetrics().setCpuUtilization(-0.5);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+    try {
+      new BackendMetrics().addNamedMetric("a b", 1);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+  }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.common.tests;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.grpc.common.GrpcMessage;
+import io.vertx.grpc.common.InvalidMessagePayloadException;
+import io.vertx.grpc.common.MessageSizeOverflowException;
+import io.vertx.grpc.common.WireFormat;
+import io.vertx.grpc.common.impl.CompositeGrpcMessageDeframer;
+import io.vertx.grpc.common.impl.DefaultGrpcMessage;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class CompositeGrpcMessageDeframerTest {
+
+  private static Buffer frame(String payload) {
+    return DefaultGrpcMessage.encode(Buffer.buffer(payload), false, false);
+  }
+
+  private static List<Object> drain(CompositeGrpcMessageDeframer deframer) {
+    List<Object> list = new ArrayList<>();
+    Object next;
+    while ((next = deframer.next()) != null) {
+      list.add(next);
+    }
+    return list;
+  }
+
+  private static CompositeGrpcMessageDeframer deframer(long maxMessageSize) {
+    CompositeGrpcMessageDeframer deframer = new CompositeGrpcMessageDeframer("gzip", WireFormat.PROTOBUF);
+    deframer.maxMessageSize(maxMessageSize);
+    return deframer;
+  }
+
+  @Test
+  public void testSeveralMessagesPerChunk() {
+    CompositeGrpcMessageDeframer deframer = deframer(1024);
+    deframer.update(Buffer.buffer().appendBuffer(frame("a")).appendBuffer(frame("bc")).appendBuffer(frame("")).appendBuffer(frame("def")));
+    List<Object> messages = drain(deframer);
+    assertEquals(4, messages.size());
+    assertEquals("a", ((GrpcMessage) messages.get(0)).payload().toString());
+    assertEquals("bc", ((GrpcMessage) messages.get(1)).payload().toString());
+    assertEquals("", ((GrpcMessage) messages.get(2)).payload().toString());
+    assertEquals("def", ((GrpcMessage) messages.get(3)).payload().toString());
+    assertEquals("identity", ((GrpcMessage) messages.get(0)).encoding());
+  }
+
+  @Test
+  public void testMessagesSpanningChunks() {
+    Buffer input = Buffer.buffer().appendBuffer(frame("hello")).appendBuffer(frame("world!"));
+    CompositeGrpcMessageDeframer deframer = deframer(1024);
+    List<Object> messages = new ArrayList<>();
+    for (int i = 0;i < input.length();i++) {
+      deframer.update(input.slice(i, i + 1));
+      messages.addAll(drain(deframer));
+    }
+    assertEquals(2, messages.size());
+    assertEquals("hello", ((GrpcMessage) messages.get(0)).payload().toString());
+    assertEquals("world!", ((GrpcMessage) messages.get(1)).payload().toString());
+  }
+
+  @Test
+  public void testCompressedFlag() {
+    CompositeGrpcMessageDeframer deframer = deframer(1024);
+    deframer.update(DefaultGrpcMessage.encode(Buffer.buffer("zipped"), true, false));
+    GrpcMessage msg = (GrpcMessage) deframer.next();
+    assertEquals("gzip", msg.encoding());
+    assertEquals("zipped", msg.payload().toString());
+  }
+
+  @Test
+  public void testCompressedFlagWithoutEncoding() {
+    CompositeGrpcMessageDeframer deframer = new CompositeGrpcMessageDeframer(null, WireFormat.PROTOBUF);
+    deframer.maxMessageSize(1024);
+    deframer.update(Buffer.buffer()
+      .appendBuffer(DefaultGrpcMessage.encode(Buffer.buffer("zipped"), true, false))
+      .appendBuffer(frame("ok")));
+    List<Object> messages = drain(deframer);
+    assertEquals(2, messages.size());
+    assertTrue(messages.get(0) instanceof InvalidMessagePayloadException);
+    assertEquals("ok", ((GrpcMessage) messages.get(1)).payload().toString());
+  }
+
+  @Test
+  public void testSkipOversizedMessage() {
+    Buffer input = Buffer.buffer().appendBuffer(frame("0123456789")).appendBuffer(frame("ok"));
+    CompositeGrpcMessageDeframer deframer = deframer(4);
+    deframer.update(input.slice(0, 8));
+    Object ret = deframer.next();
+    assertTrue(ret instanceof MessageSizeOverflowException);
+    assertNull(deframer.next());
+    deframer.update(input.slice(8, input.length()));
+    List<Object> messages = drain(deframer);
+    assertEquals(1, messages.size());
+    assertEquals("ok", ((GrpcMessage) messages.get(0)).payload().toString());
+  }
+}
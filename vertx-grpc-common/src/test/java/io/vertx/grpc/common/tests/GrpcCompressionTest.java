@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.common.tests;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.grpc.common.CodecException;
+import io.vertx.grpc.common.GrpcCompressor;
+import io.vertx.grpc.common.GrpcDecompressor;
+import io.vertx.grpc.common.impl.GrpcCompression;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class GrpcCompressionTest {
+
+  private static final Buffer PAYLOAD;
+
+  static {
+    Buffer payload = Buffer.buffer();
+    for (int i = 0;i < 1000;i++) {
+      payload.appendString("Hello World " + i + " ");
+    }
+    PAYLOAD = payload;
+  }
+
+  @Test
+  public void testAcceptEncoding() {
+    assertTrue(Arrays.asList(GrpcCompression.acceptEncoding().split(",")).containsAll(Arrays.asList("gzip", "deflate", "snappy")));
+    assertNull(GrpcCompression.compressor("unknown"));
+    assertNull(GrpcCompression.decompressor("unknown"));
+  }
+
+  @Test
+  public void testRoundTrip() {
+    for (String encoding : Arrays.asList("gzip", "deflate", "snappy")) {
+      GrpcCompressor compressor = GrpcCompression.compressor(encoding);
+      GrpcDecompressor decompressor = GrpcCompression.decompressor(encoding);
+      // Several times to exercise reuse of the pooled state
+      for (int i = 0;i < 3;i++) {
+        Buffer compressed = compressor.compress(PAYLOAD);
+        assertTrue(compressed.length() < PAYLOAD.length());
+        assertEquals(PAYLOAD, decompressor.decompress(compressed));
+        Buffer empty = compressor.compress(Buffer.buffer());
+        assertEquals(Buffer.buffer(), decompressor.decompress(empty));
+      }
+    }
+  }
+
+  @Test
+  public void testGzipInterop() {
+    assertEquals(PAYLOAD, GrpcCompression.decompressor("gzip").decompress(GrpcTestBase.zip(PAYLOAD)));
+    assertEquals(PAYLOAD, GrpcTestBase.unzip(GrpcCompression.compressor("gzip").compress(PAYLOAD)));
+  }
+
+  @Test
+  public void testInvalidInput() {
+    for (String encoding : Arrays.asList("gzip", "deflate")) {
+      try {
+        GrpcCompression.decompressor(encoding).decompress(Buffer.buffer("not-compressed"));
+        fail();
+      } catch (CodecException expected) {
+      }
+    }
+    Buffer compressed = GrpcCompression.compressor("gzip").compress(PAYLOAD);
+    try {
+      GrpcCompression.decompressor("gzip").decompress(compressed.slice(0, compressed.length() - 4));
+      fail();
+    } catch (CodecException expected) {
+    }
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.common.tests;
+
+import io.netty.util.AsciiString;
+import io.vertx.grpc.common.GrpcMediaType;
+import io.vertx.grpc.common.WireFormat;
+import io.vertx.grpc.common.impl.GrpcHeaderClassifier;
+import io.vertx.grpc.common.impl.GrpcHeaderClassifier.ContentType;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class GrpcHeaderClassifierTest {
+
+  @Test
+  public void testClassifyContentType() {
+    assertEquals(ContentType.GRPC, GrpcHeaderClassifier.classifyContentType("application/grpc"));
+    assertEquals(ContentType.GRPC_PROTO, GrpcHeaderClassifier.classifyContentType("application/grpc+proto"));
+    assertEquals(ContentType.GRPC_JSON, GrpcHeaderClassifier.classifyContentType("application/grpc+json"));
+    assertEquals(ContentType.GRPC_WEB, GrpcHeaderClassifier.classifyContentType("application/grpc-web"));
+    assertEquals(ContentType.GRPC_WEB_PROTO, GrpcHeaderClassifier.classifyContentType("application/grpc-web+proto"));
+    assertEquals(ContentType.GRPC_WEB_JSON, GrpcHeaderClassifier.classifyContentType("application/grpc-web+json"));
+    assertEquals(ContentType.GRPC_WEB_TEXT, GrpcHeaderClassifier.classifyContentType("application/grpc-web-text"));
+    assertEquals(ContentType.GRPC_WEB_TEXT_PROTO, GrpcHeaderClassifier.classifyContentType("application/grpc-web-text+proto"));
+    assertEquals(ContentType.GRPC_WEB_TEXT_JSON, GrpcHeaderClassifier.classifyContentType("application/grpc-web-text+json"));
+    assertEquals(ContentType.JSON, GrpcHeaderClassifier.classifyContentType("application/json"));
+    assertEquals(ContentType.GRPC_WEB_TEXT, GrpcHeaderClassifier.classifyContentType(AsciiString.of("application/grpc-web-text")));
+  }
+
+  @Test
+  public void testClassifyInvalidContentType() {
+    assertNull(GrpcHeaderClassifier.classifyContentType(null));
+    assertNull(GrpcHeaderClassifier.classifyContentType(""));
+    assertNull(GrpcHeaderClassifier.classifyContentType("application/grp"));
+    assertNull(GrpcHeaderClassifier.classifyContentType("application/grpc+"));
+    assertNull(GrpcHeaderClassifier.classifyContentType("application/grpc+xml"));
+    assertNull(GrpcHeaderClassifier.classifyContentType("application/grpc+protobuf"));
+    assertNull(GrpcHeaderClassifier.classifyContentType("application/grpc-webtext"));
+    assertNull(GrpcHeaderClassifier.classifyContentType("application/grpc-web-text-foo"));
+    assertNull(GrpcHeaderClassifier.classifyContentType("application/grpcweb"));
+    assertNull(GrpcHeaderClassifier.classifyContentType("application/jsonx"));
+    assertNull(GrpcHeaderClassifier.classifyContentType("APPLICATION/GRPC"));
+  }
+
+  @Test
+  public void testWireFormat() {
+    assertEquals(WireFormat.PROTOBUF, GrpcHeaderClassifier.wireFormat("application/grpc", GrpcMediaType.GRPC));
+    assertEquals(WireFormat.PROTOBUF, GrpcHeaderClassifier.wireFormat("application/grpc+proto", GrpcMediaType.GRPC));
+    assertEquals(WireFormat.JSON, GrpcHeaderClassifier.wireFormat("application/grpc+json", GrpcMediaType.GRPC));
+    assertEquals(WireFormat.JSON, GrpcHeaderClassifier.wireFormat("application/grpc-web+json", GrpcMediaType.GRPC_WEB));
+    assertNull(GrpcHeaderClassifier.wireFormat("application/grpc-web", GrpcMediaType.GRPC));
+    assertNull(GrpcHeaderClassifier.wireFormat("application/grpc+xml", GrpcMediaType.GRPC));
+    assertNull(GrpcHeaderClassifier.wireFormat("text/plain", GrpcMediaType.GRPC));
+  }
+
+  @Test
+  public void testParseTimeout() {
+    assertEquals(Duration.ofHours(2), GrpcHeaderClassifier.parseTimeout("2H"));
+    assertEquals(Duration.ofMinutes(3), GrpcHeaderClassifier.parseTimeout("3M"));
+    assertEquals(Duration.ofSeconds(4), GrpcHeaderClassifier.parseTimeout("4S"));
+    assertEquals(Duration.ofMillis(5), GrpcHeaderClassifier.parseTimeout("5m"));
+    assertEquals(Duration.ofNanos(6000), GrpcHeaderClassifier.parseTimeout("6u"));
+    assertEquals(Duration.ofNanos(7), GrpcHeaderClassifier.parseTimeout("7n"));
+    assertEquals(Duration.ofHours(99_999_999), GrpcHeaderClassifier.parseTimeout("99999999H"));
+    assertEquals(Duration.ZERO, GrpcHeaderClassifier.parseTimeout("0m"));
+  }
+
+  @Test
+  public void testParseInvalidTimeout() {
+    assertNull(GrpcHeaderClassifier.parseTimeout(""));
+    assertNull(GrpcHeaderClassifier.parseTimeout("m"));
+    assertNull(GrpcHeaderClassifier.parseTimeout("10"));
+    assertNull(GrpcHeaderClassifier.parseTimeout("10s"));
+    assertNull(GrpcHeaderClassifier.parseTimeout("-1m"));
+    assertNull(GrpcHeaderClassifier.parseTimeout("1 m"));
+    assertNull(GrpcHeaderClassifier.parseTimeout("100000000m"));
+  }
+
+  @Test
+  public void testTimeoutHeaderRoundTrip() {
+    for (long millis : new long[] { 0, 1, 999, 60_000, 99_999_999, 100_000_000, 3_600_000_000L }) {
+      String header = GrpcHeaderClassifier.toTimeoutHeader(millis, TimeUnit.MILLISECONDS);
+      Duration timeout = GrpcHeaderClassifier.parseTimeout(header);
+      assertEquals(millis / 1000, timeout.getSeconds());
+    }
+  }
+}
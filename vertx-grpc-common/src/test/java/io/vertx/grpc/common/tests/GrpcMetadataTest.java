@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.common.tests;
+
+import io.netty.util.AsciiString;
+import io.vertx.core.MultiMap;
+import io.vertx.grpc.common.GrpcMetadata;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class GrpcMetadataTest {
+
+  private static final GrpcMetadata.Key<String> TOKEN = GrpcMetadata.Key.of("Authorization");
+  private static final GrpcMetadata.Key<byte[]> TRACE = GrpcMetadata.Key.binary("trace-bin");
+
+  @Test
+  public void testKeys() {
+    assertEquals(AsciiString.of("authorization"), TOKEN.name());
+    assertSame(TOKEN.name(), GrpcMetadata.Key.of("authorization").name());
+    assertTrue(TRACE.isBinary());
+    try {
+      GrpcMetadata.Key.of("trace-bin");
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+    try {
+      GrpcMetadata.Key.binary("trace");
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+  }
+
+  @Test
+  public void testTypedValues() {
+    GrpcMetadata metadata = new GrpcMetadata();
+    metadata.add(TOKEN, "Bearer abc");
+    metadata.add(TRACE, new byte[]{0, 1, 2});
+    assertEquals("Bearer abc", metadata.get(TOKEN));
+    assertArrayEquals(new byte[]{0, 1, 2}, metadata.get(TRACE));
+    // The string API sees the wire form
+    assertEquals("Bearer abc", metadata.get("authorization"));
+    assertEquals(Base64.getEncoder().withoutPadding().encodeToString(new byte[]{0, 1, 2}), metadata.get("Trace-Bin"));
+    metadata.set(TOKEN, "Bearer def");
+    assertEquals(Arrays.asList("Bearer def"), metadata.getAll(TOKEN));
+    metadata.remove(TRACE);
+    assertFalse(metadata.contains(TRACE));
+    assertEquals(1, metadata.size());
+  }
+
+  @Test
+  public void testLazyParsing() {
+    AtomicInteger parsed = new AtomicInteger();
+    GrpcMetadata.Key<Integer> key = GrpcMetadata.Key.of("count", new GrpcMetadata.AsciiMarshaller<>() {
+      @Override
+      public String toAsciiString(Integer value) {
+        return value.toString();
+      }
+      @Override
+      public Integer parseAsciiString(String serialized) {
+        parsed.incrementAndGet();
+        return Integer.parseInt(serialized);
+      }
+    });
+    MultiMap headers = MultiMap.caseInsensitiveMultiMap()
+      .add("count", "3")
+      .add("trace-bin", Base64.getEncoder().encodeToString("trace".getBytes(StandardCharsets.US_ASCII)));
+    GrpcMetadata metadata = GrpcMetadata.of(headers);
+    assertSame(metadata, GrpcMetadata.of(metadata));
+    assertEquals(0, parsed.get());
+    assertEquals(3, (int) metadata.get(key));
+    assertEquals(3, (int) metadata.get(key));
+    assertEquals(1, parsed.get());
+    assertEquals("trace", new String(metadata.get(TRACE), StandardCharsets.US_ASCII));
+    assertNull(metadata.get(TOKEN));
+  }
+
+  @Test
+  public void testSize() {
+    GrpcMetadata metadata = new GrpcMetadata()
+      .add(TOKEN, "Bearer abc")
+      .add("X-Custom", "a")
+      .add("x-custom", "b");
+    MultiMap headers = MultiMap.caseInsensitiveMultiMap();
+    metadata.addTo(headers);
+    assertEquals(headers.size(), metadata.size());
+    assertEquals(metadata.names().size(), metadata.size());
+    assertEquals(2, metadata.size());
+    metadata.remove("x-custom");
+    assertEquals(1, metadata.size());
+  }
+
+  @Test
+  public void testAddTo() {
+    GrpcMetadata metadata = new GrpcMetadata()
+      .add(TOKEN, "Bearer abc")
+      .add("X-Custom", "value");
+    MultiMap headers = MultiMap.caseInsensitiveMultiMap();
+    metadata.addTo(headers);
+    assertEquals(2, headers.size());
+    assertEquals("Bearer abc", headers.get("authorization"));
+    assertEquals("value", headers.get("x-custom"));
+    assertEquals(Arrays.asList("authorization", "x-custom"), Arrays.asList(metadata.names().toArray()));
+  }
+}
@@ -1,14 +1,21 @@
 package io.vertx.grpc.common.tests;
 
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.grpc.common.CodecException;
 import io.vertx.grpc.common.JsonWireFormat;
 import io.vertx.grpc.common.WireFormat;
+import io.vertx.grpc.common.impl.ProtobufJsonReader;
+import io.vertx.grpc.common.impl.ProtobufJsonWriter;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 public class JsonWireFormatTest {
 
@@ -71,4 +78,34 @@ public class JsonWireFormatTest {
     assertNotEquals(json, proto);
     assertNotEquals(proto, json);
   }
+
+  @Test
+  public void testReaderAndWriterAreCached() {
+    JsonWireFormat fmt = WireFormat.JSON.omittingInsignificantWhitespace(true);
+    assertSame(ProtobufJsonWriter.create(fmt), ProtobufJsonWriter.create(new JsonWireFormat(fmt.toJson())));
+    assertNotSame(ProtobufJsonWriter.create(fmt), ProtobufJsonWriter.create(WireFormat.JSON));
+    assertSame(ProtobufJsonReader.create(fmt), ProtobufJsonReader.create(WireFormat.JSON));
+    assertNotSame(ProtobufJsonReader.create(fmt), ProtobufJsonReader.create(fmt.ignoringUnknownFields(true)));
+  }
+
+  @Test
+  public void testReaderFlags() {
+    Buffer json = Buffer.buffer("{\"name\":\"Julien\",\"unknown\":true}");
+    Request.Builder builder = Request.newBuilder();
+    ProtobufJsonReader.create(WireFormat.JSON.ignoringUnknownFields(true)).merge(json, builder);
+    assertEquals("Julien", builder.getName());
+    try {
+      ProtobufJsonReader.create(WireFormat.JSON).merge(json, Request.newBuilder());
+      fail();
+    } catch (CodecException expected) {
+    }
+  }
+
+  @Test
+  public void testWriterFlags() {
+    Request request = Request.newBuilder().setName("Julien").build();
+    Buffer json = ProtobufJsonWriter.create(WireFormat.JSON.omittingInsignificantWhitespace(true)).write(request);
+    assertEquals("{\"name\":\"Julien\"}", json.toString());
+    assertEquals(new JsonObject().put("name", ""), new JsonObject(ProtobufJsonWriter.create(WireFormat.JSON.alwaysPrintFieldsWithNoPresence(true)).write(Request.getDefaultInstance())));
+  }
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.common.tests;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.buffer.BufferInternal;
+import io.vertx.grpc.common.CodecException;
+import io.vertx.grpc.common.GrpcMessage;
+import io.vertx.grpc.common.GrpcMessageDecoder;
+import io.vertx.grpc.common.GrpcMessageEncoder;
+import io.vertx.grpc.common.WireFormat;
+import io.vertx.grpc.common.impl.DefaultGrpcMessage;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class ProtobufCodecTest {
+
+  private static final Request REQUEST = Request.newBuilder().setName("Julien").build();
+
+  private static Request decode(Buffer payload) {
+    return GrpcMessageDecoder.<Request>decoder(Request.newBuilder()).decode(GrpcMessage.message("identity", WireFormat.PROTOBUF, payload));
+  }
+
+  @Test
+  public void testDecodeHeapBuffer() {
+    assertEquals(REQUEST, decode(Buffer.buffer(REQUEST.toByteArray())));
+  }
+
+  @Test
+  public void testDecodeSlice() {
+    Buffer buffer = Buffer.buffer("prefix").appendBytes(REQUEST.toByteArray()).appendString("suffix");
+    assertEquals(REQUEST, decode(buffer.slice(6, buffer.length() - 6)));
+  }
+
+  @Test
+  public void testDecodeDirectBuffer() {
+    ByteBuf direct = Unpooled.directBuffer().writeBytes(REQUEST.toByteArray());
+    assertEquals(REQUEST, decode(BufferInternal.buffer(direct)));
+  }
+
+  @Test
+  public void testDecodeCompositeBuffer() {
+    byte[] bytes = REQUEST.toByteArray();
+    CompositeByteBuf composite = Unpooled.compositeBuffer();
+    composite.addComponent(true, Unpooled.wrappedBuffer(bytes, 0, 3));
+    composite.addComponent(true, Unpooled.directBuffer().writeBytes(bytes, 3, bytes.length - 3));
+    assertEquals(REQUEST, decode(BufferInternal.buffer(composite)));
+  }
+
+  @Test
+  public void testDecodeInvalid() {
+    try {
+      decode(Buffer.buffer(new byte[] { 0x0A, 0x10, 'a' }));
+      fail();
+    } catch (CodecException expected) {
+    }
+  }
+
+  @Test
+  public void testEncodeFramed() {
+    GrpcMessage msg = GrpcMessageEncoder.<Request>encoder().encode(REQUEST, WireFormat.PROTOBUF);
+    assertEquals("identity", msg.encoding());
+    assertEquals(Buffer.buffer(REQUEST.toByteArray()), msg.payload());
+    assertEquals(DefaultGrpcMessage.encode(msg.payload(), false, false), DefaultGrpcMessage.encode(msg, false));
+    assertEquals(REQUEST, decode(msg.payload()));
+  }
+
+  @Test
+  public void testEncodeEmpty() {
+    GrpcMessage msg = GrpcMessageEncoder.<Empty>encoder().encode(Empty.getDefaultInstance(), WireFormat.PROTOBUF);
+    assertEquals(0, msg.payload().length());
+    assertEquals(Buffer.buffer(new byte[5]), DefaultGrpcMessage.encode(msg, false));
+  }
+}
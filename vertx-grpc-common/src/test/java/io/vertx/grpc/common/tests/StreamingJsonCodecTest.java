@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.common.tests;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Struct;
+import com.google.protobuf.util.JsonFormat;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.grpc.common.CodecException;
+import io.vertx.grpc.common.JsonWireFormat;
+import io.vertx.grpc.common.WireFormat;
+import io.vertx.grpc.common.impl.ProtobufJsonReader;
+import io.vertx.grpc.common.impl.ProtobufJsonWriter;
+import io.vertx.grpc.common.impl.StreamingJsonCodec;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+public class StreamingJsonCodecTest {
+
+  private static final JsonWireFormat STREAMING = WireFormat.JSON.usingStreamingCodec(true);
+
+  private static final Item ITEM = Item.newBuilder()
+    .setName("item \"1\" é€😀")
+    .setCount(-3)
+    .setId(Long.MIN_VALUE)
+    .setFlags(-1)
+    .setRatio(1.5)
+    .setScore(Float.NaN)
+    .setEnabled(true)
+    .setData(ByteString.copyFrom(new byte[] { 0, 1, 2, (byte) 0xFE, (byte) 0xFF }))
+    .setKind(Kind.LARGE)
+    .addAllValues(Arrays.asList(1, -1, Integer.MAX_VALUE))
+    .addAllTags(Arrays.asList("a", "b"))
+    .putCounters("zeta", 1)
+    .putCounters("alpha", 0)
+    .putCounters("😀", 2)
+    .putCounters("￿", 3)
+    .putChildren(-5L, Item.newBuilder().setName("child").build())
+    .putChildren(7L, Item.getDefaultInstance())
+    .setParent(Item.newBuilder().setText("parent").addKinds(Kind.SMALL))
+    .setNumber(-42)
+    .setNote("")
+    .setBig(-1L)
+    .addKinds(Kind.SMALL)
+    .addKindsValue(12)
+    .build();
+
+  private static final List<JsonWireFormat> FORMATS = Arrays.asList(
+    WireFormat.JSON,
+    WireFormat.JSON.omittingInsignificantWhitespace(true),
+    WireFormat.JSON.preservingProtoFieldNames(true),
+    WireFormat.JSON.alwaysPrintFieldsWithNoPresence(true),
+    WireFormat.JSON.printingEnumsAsInts(true),
+    WireFormat.JSON.sortingMapKeys(true).omittingInsignificantWhitespace(true)
+  );
+
+  @Test
+  public void testWriteLikeJsonFormat() throws Exception {
+    for (JsonWireFormat format : FORMATS) {
+      for (Item item : Arrays.asList(ITEM, Item.getDefaultInstance())) {
+        String expected = ProtobufJsonWriter.create(format).write(item).toString();
+        Buffer actual = ProtobufJsonWriter.create(format.usingStreamingCodec(true)).write(item);
+        assertEquals(new JsonObject(expected), new JsonObject(actual));
+        if (format.sortingMapKeys()) {
+          assertEquals(expected, actual.toString());
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testReadJsonFormatOutput() throws Exception {
+    for (JsonWireFormat format : FORMATS) {
+      Buffer json = ProtobufJsonWriter.create(format).write(ITEM);
+      Item.Builder builder = Item.newBuilder();
+      ProtobufJsonReader.create(STREAMING).merge(json, builder);
+      assertEquals(ITEM, builder.build());
+    }
+  }
+
+  @Test
+  public void testRoundTrip() {
+    Buffer json = ProtobufJsonWriter.create(STREAMING).write(ITEM);
+    Item.Builder builder = Item.newBuilder();
+    ProtobufJsonReader.create(STREAMING).merge(json, builder);
+    assertEquals(ITEM, builder.build());
+  }
+
+  @Test
+  public void testReadLenientValues() {
+    Item.Builder builder = Item.newBuilder();
+    ProtobufJsonReader.create(STREAMING).merge(Buffer.buffer("{\"count\":\"12\",\"id\":3,\"ratio\":\"Infinity\",\"enabled\":\"true\",\"kind\":1,\"flags\":4.0,\"data\":\"AAEC_v8\",\"note\":null}"), builder);
+    assertEquals(Item.newBuilder()
+      .setCount(12)
+      .setId(3)
+      .setRatio(Double.POSITIVE_INFINITY)
+      .setEnabled(true)
+      .setKind(Kind.SMALL)
+      .setFlags(4)
+      .setData(ByteString.copyFrom(new byte[] { 0, 1, 2, (byte) 0xFE, (byte) 0xFF }))
+      .build(), builder.build());
+  }
+
+  @Test
+  public void testReadInvalid() {
+    List<String> invalid = Arrays.asList(
+      "{\"unknown\":1}",
+      "{\"count\":2147483648}",
+      "{\"flags\":-1}",
+      "{\"kind\":\"HUGE\"}",
+      "{\"name\":\"a\",\"name\":\"b\"}",
+      "{\"text\":\"a\",\"number\":1}",
+      "{\"counters\":{\"a\":null}}",
+      "{\"values\":[1,null]}",
+      "{\"parent\":3}",
+      "{} {}",
+      "[]"
+    );
+    for (String json : invalid) {
+      try {
+        ProtobufJsonReader.create(STREAMING).merge(Buffer.buffer(json), Item.newBuilder());
+        fail("Expected failure for " + json);
+      } catch (CodecException expected) {
+      }
+    }
+  }
+
+  @Test
+  public void testIgnoringUnknownFields() {
+    Item.Builder builder = Item.newBuilder();
+    ProtobufJsonReader.create(STREAMING.ignoringUnknownFields(true)).merge(Buffer.buffer("{\"unknown\":{\"a\":[1]},\"kind\":\"HUGE\",\"name\":\"n\"}"), builder);
+    assertEquals(Item.newBuilder().setName("n").build(), builder.build());
+  }
+
+  @Test
+  public void testWellKnownTypesUseJsonFormat() throws Exception {
+    assertNotNull(StreamingJsonCodec.codec(Item.getDescriptor()));
+    assertNull(StreamingJsonCodec.codec(Struct.getDescriptor()));
+    Struct struct = Struct.newBuilder().putFields("foo", com.google.protobuf.Value.newBuilder().setStringValue("bar").build()).build();
+    assertEquals(JsonFormat.printer().print(struct), ProtobufJsonWriter.create(STREAMING).write(struct).toString());
+  }
+}
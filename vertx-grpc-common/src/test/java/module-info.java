@@ -9,5 +9,6 @@ open module io.vertx.grpc.common.tests {
   requires io.grpc;
   requires io.grpc.protobuf;
   requires io.grpc.stub;
+  requires io.netty.common;
   exports io.vertx.grpc.common.tests;
 }
@@ -341,6 +341,7 @@ public class EventBusGrpcServerImpl extends EventBusGrpcEndpoint implements Even
       GrpcDispatcher<Req, Resp> dispatcher = new GrpcDispatcher<>(
         stream,
         consumerContext,
+        consumerContext,
         null,
         wireFormat,
         serviceMethod.decoder(),
@@ -123,7 +123,8 @@ public class VertxGrpcGenerator {
       .setGenerateIo(getBooleanParam(params, "grpc-io", false))
       .setGenerateTranscoding(getBooleanParam(params, "grpc-transcoding", true))
       .setGenerateVertxGeneratorAnnotations(getBooleanParam(params, "vertx-codegen", false))
-      .setServicePrefix(params.getOrDefault("service-prefix", ""));
+      .setServicePrefix(params.getOrDefault("service-prefix", ""))
+      .setServiceThreadingModel(params.getOrDefault("service-threading-model", GenerationOptions.DEFAULT_SERVICE_THREADING_MODEL));
 
     // If nothing specified, default to generate client and generate service
     if (!options.isGenerateClient() && !options.isGenerateService() && !options.isGenerateIo()) {
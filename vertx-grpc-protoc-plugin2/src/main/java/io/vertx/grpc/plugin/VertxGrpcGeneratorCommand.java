@@ -33,6 +33,12 @@ public class VertxGrpcGeneratorCommand implements Callable<Integer> {
   )
   public String servicePrefix = "";
 
+  @CommandLine.Option(
+    names = { "--service-threading-model" },
+    description = "The threading model of the generated services: `event-loop`, `worker` or `virtual-thread`. With `virtual-thread` the service methods have synchronous signatures."
+  )
+  public String serviceThreadingModel = "event-loop";
+
   @Override
   public Integer call() {
     if (!grpcClient && !grpcService && !grpcIo) {
@@ -54,9 +60,11 @@ public class VertxGrpcGeneratorCommand implements Callable<Integer> {
     sb.append("vertx-codegen=").append(vertxCodegen).append(", ");
 
     if (servicePrefix != null && !servicePrefix.isBlank()) {
-      sb.append("service-prefix=").append(servicePrefix);
+      sb.append("service-prefix=").append(servicePrefix).append(", ");
     }
 
+    sb.append("service-threading-model=").append(serviceThreadingModel);
+
     return sb.toString();
   }
 }
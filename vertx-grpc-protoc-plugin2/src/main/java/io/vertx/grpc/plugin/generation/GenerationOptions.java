@@ -7,7 +7,7 @@ package io.vertx.grpc.plugin.generation;
  * options can be customized using the provided setter methods.
  * <p>
  * Configuration options include flags for generating client code, service code, IO-related code, and transcoding, as well as annotations for the Vert.x code generator.
- * Additionally, a service prefix can be defined to customize the naming of services.
+ * Additionally, a service prefix can be defined to customize the naming of services, and a threading model can be defined to choose where the generated services are executed.
  */
 public class GenerationOptions {
 
@@ -45,12 +45,19 @@ public class GenerationOptions {
    */
   public static final String DEFAULT_SERVICE_PREFIX = "";
 
+  /**
+   * The default threading model of the generated services. By default, services are executed on the event-loop, {@code worker} executes them on a worker thread and
+   * {@code virtual-thread} executes them on a virtual thread with synchronous method signatures.
+   */
+  public static final String DEFAULT_SERVICE_THREADING_MODEL = "event-loop";
+
   private boolean generateClient;
   private boolean generateService;
   private boolean generateIo;
   private boolean generateTranscoding;
   private boolean generateVertxGeneratorAnnotations;
   private String servicePrefix;
+  private String serviceThreadingModel;
 
   public GenerationOptions() {
     this.generateClient = DEFAULT_GENERATE_CLIENT;
@@ -59,6 +66,7 @@ public class GenerationOptions {
     this.generateTranscoding = DEFAULT_GENERATE_TRANSCODING;
     this.generateVertxGeneratorAnnotations = DEFAULT_GENERATE_VERTX_GENERATOR_ANNOTATIONS;
     this.servicePrefix = DEFAULT_SERVICE_PREFIX;
+    this.serviceThreadingModel = DEFAULT_SERVICE_THREADING_MODEL;
   }
 
   /**
@@ -180,4 +188,25 @@ public class GenerationOptions {
     this.servicePrefix = servicePrefix;
     return this;
   }
+
+  /**
+   * Retrieves the threading model of the generated services, one of {@code event-loop}, {@code worker} or {@code virtual-thread}.
+   *
+   * @return the service threading model as a {@code String}
+   */
+  public String getServiceThreadingModel() {
+    return serviceThreadingModel;
+  }
+
+  /**
+   * Sets the threading model of the generated services, one of {@code event-loop}, {@code worker} or {@code virtual-thread}. The {@code virtual-thread} model generates
+   * synchronous method signatures.
+   *
+   * @param serviceThreadingModel the service threading model to set
+   * @return the current instance of {@code GenerationOptions} for method chaining
+   */
+  public GenerationOptions setServiceThreadingModel(String serviceThreadingModel) {
+    this.serviceThreadingModel = serviceThreadingModel;
+    return this;
+  }
 }
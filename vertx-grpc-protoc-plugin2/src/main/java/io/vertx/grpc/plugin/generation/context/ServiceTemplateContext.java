@@ -22,6 +22,8 @@ public class ServiceTemplateContext {
   public String prefixedServiceName;
   public boolean codegenEnabled;
   public String javaDoc;
+  public String threadingModel;
+  public boolean blockingService;
 
   public List<MethodTemplateContext> allMethods;
   public List<MethodTemplateContext> methods;
@@ -42,6 +44,8 @@ public class ServiceTemplateContext {
     context.outerFqn = service.getOuterClass();
     context.codegenEnabled = options.isGenerateVertxGeneratorAnnotations();
     context.javaDoc = service.getDocumentation();
+    context.threadingModel = threadingModel(options.getServiceThreadingModel());
+    context.blockingService = "VIRTUAL_THREAD".equals(context.threadingModel);
 
     // Build FQN names with prefix
     String prefix = options.getServicePrefix();
@@ -90,4 +94,24 @@ public class ServiceTemplateContext {
 
     return context;
   }
+
+  /**
+   * @return the {@code io.vertx.core.ThreadingModel} constant of the {@code model} option or {@code null} for the event-loop
+   */
+  private static String threadingModel(String model) {
+    if (model == null) {
+      return null;
+    }
+    switch (model) {
+      case "":
+      case "event-loop":
+        return null;
+      case "worker":
+        return "WORKER";
+      case "virtual-thread":
+        return "VIRTUAL_THREAD";
+      default:
+        throw new IllegalArgumentException("Invalid service threading model: " + model);
+    }
+  }
 }
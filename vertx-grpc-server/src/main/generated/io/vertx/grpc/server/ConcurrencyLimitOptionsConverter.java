@@ -0,0 +1,61 @@
+package io.vertx.grpc.server;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+
+/**
+ * Converter and mapper for {@link io.vertx.grpc.server.ConcurrencyLimitOptions}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.grpc.server.ConcurrencyLimitOptions} original class using Vert.x codegen.
+ */
+public class ConcurrencyLimitOptionsConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, ConcurrencyLimitOptions obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "limit":
+          if (member.getValue() instanceof Number) {
+            obj.setLimit(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "adaptive":
+          if (member.getValue() instanceof Boolean) {
+            obj.setAdaptive((Boolean)member.getValue());
+          }
+          break;
+        case "minLimit":
+          if (member.getValue() instanceof Number) {
+            obj.setMinLimit(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "maxLimit":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxLimit(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "backoffRatio":
+          if (member.getValue() instanceof Number) {
+            obj.setBackoffRatio(((Number)member.getValue()).doubleValue());
+          }
+          break;
+        case "latencyThreshold":
+          if (member.getValue() instanceof Number) {
+            obj.setLatencyThreshold(((Number)member.getValue()).longValue());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(ConcurrencyLimitOptions obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(ConcurrencyLimitOptions obj, java.util.Map<String, Object> json) {
+    json.put("limit", obj.getLimit());
+    json.put("adaptive", obj.isAdaptive());
+    json.put("minLimit", obj.getMinLimit());
+    json.put("maxLimit", obj.getMaxLimit());
+    json.put("backoffRatio", obj.getBackoffRatio());
+    json.put("latencyThreshold", obj.getLatencyThreshold());
+  }
+}
@@ -0,0 +1,49 @@
+package io.vertx.grpc.server;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+
+/**
+ * Converter and mapper for {@link io.vertx.grpc.server.DeadlineAdmissionOptions}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.grpc.server.DeadlineAdmissionOptions} original class using Vert.x codegen.
+ */
+public class DeadlineAdmissionOptionsConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, DeadlineAdmissionOptions obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "minTimeRemaining":
+          if (member.getValue() instanceof Number) {
+            obj.setMinTimeRemaining(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "adaptive":
+          if (member.getValue() instanceof Boolean) {
+            obj.setAdaptive((Boolean)member.getValue());
+          }
+          break;
+        case "percentile":
+          if (member.getValue() instanceof Number) {
+            obj.setPercentile(((Number)member.getValue()).doubleValue());
+          }
+          break;
+        case "minSamples":
+          if (member.getValue() instanceof Number) {
+            obj.setMinSamples(((Number)member.getValue()).intValue());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(DeadlineAdmissionOptions obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(DeadlineAdmissionOptions obj, java.util.Map<String, Object> json) {
+    json.put("minTimeRemaining", obj.getMinTimeRemaining());
+    json.put("adaptive", obj.isAdaptive());
+    json.put("percentile", obj.getPercentile());
+    json.put("minSamples", obj.getMinSamples());
+  }
+}
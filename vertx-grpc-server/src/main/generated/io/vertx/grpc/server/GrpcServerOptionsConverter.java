@@ -35,6 +35,121 @@ public class GrpcServerOptionsConverter {
             obj.setMaxMessageSize(((Number)member.getValue()).longValue());
           }
           break;
+        case "compressionThreshold":
+          if (member.getValue() instanceof Number) {
+            obj.setCompressionThreshold(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "adaptiveCompression":
+          if (member.getValue() instanceof Boolean) {
+            obj.setAdaptiveCompression((Boolean)member.getValue());
+          }
+          break;
+        case "writeBatchMaxSize":
+          if (member.getValue() instanceof Number) {
+            obj.setWriteBatchMaxSize(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "writeBatchMaxDelay":
+          if (member.getValue() instanceof Number) {
+            obj.setWriteBatchMaxDelay(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "inboundQueueLowWaterMark":
+          if (member.getValue() instanceof Number) {
+            obj.setInboundQueueLowWaterMark(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "inboundQueueHighWaterMark":
+          if (member.getValue() instanceof Number) {
+            obj.setInboundQueueHighWaterMark(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "inboundQueueLowWaterMarkBytes":
+          if (member.getValue() instanceof Number) {
+            obj.setInboundQueueLowWaterMarkBytes(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "inboundQueueHighWaterMarkBytes":
+          if (member.getValue() instanceof Number) {
+            obj.setInboundQueueHighWaterMarkBytes(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "bdpProbing":
+          if (member.getValue() instanceof Boolean) {
+            obj.setBdpProbing((Boolean)member.getValue());
+          }
+          break;
+        case "maxFlowControlWindowSize":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxFlowControlWindowSize(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "keepAliveTime":
+          if (member.getValue() instanceof Number) {
+            obj.setKeepAliveTime(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "keepAliveTimeout":
+          if (member.getValue() instanceof Number) {
+            obj.setKeepAliveTimeout(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "permitKeepAliveTime":
+          if (member.getValue() instanceof Number) {
+            obj.setPermitKeepAliveTime(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "permitKeepAliveWithoutCalls":
+          if (member.getValue() instanceof Boolean) {
+            obj.setPermitKeepAliveWithoutCalls((Boolean)member.getValue());
+          }
+          break;
+        case "maxConnectionIdle":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxConnectionIdle(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "maxConnectionAge":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxConnectionAge(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "maxConnectionAgeGrace":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxConnectionAgeGrace(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "concurrencyLimits":
+          if (member.getValue() instanceof JsonObject) {
+            java.util.Map<String, io.vertx.grpc.server.ConcurrencyLimitOptions> map = new java.util.LinkedHashMap<>();
+            ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {
+              if (entry.getValue() instanceof JsonObject)
+                map.put(entry.getKey(), new io.vertx.grpc.server.ConcurrencyLimitOptions((io.vertx.core.json.JsonObject)entry.getValue()));
+            });
+            obj.setConcurrencyLimits(map);
+          }
+          break;
+        case "deadlineAdmissions":
+          if (member.getValue() instanceof JsonObject) {
+            java.util.Map<String, io.vertx.grpc.server.DeadlineAdmissionOptions> map = new java.util.LinkedHashMap<>();
+            ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {
+              if (entry.getValue() instanceof JsonObject)
+                map.put(entry.getKey(), new io.vertx.grpc.server.DeadlineAdmissionOptions((io.vertx.core.json.JsonObject)entry.getValue()));
+            });
+            obj.setDeadlineAdmissions(map);
+          }
+          break;
+        case "threadingModels":
+          if (member.getValue() instanceof JsonObject) {
+            java.util.Map<String, io.vertx.core.ThreadingModel> map = new java.util.LinkedHashMap<>();
+            ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {
+              if (entry.getValue() instanceof String)
+                map.put(entry.getKey(), io.vertx.core.ThreadingModel.valueOf((String)entry.getValue()));
+            });
+            obj.setThreadingModels(map);
+          }
+          break;
       }
     }
   }
@@ -52,5 +167,37 @@ public class GrpcServerOptionsConverter {
     json.put("scheduleDeadlineAutomatically", obj.getScheduleDeadlineAutomatically());
     json.put("deadlinePropagation", obj.getDeadlinePropagation());
     json.put("maxMessageSize", obj.getMaxMessageSize());
+    json.put("compressionThreshold", obj.getCompressionThreshold());
+    json.put("adaptiveCompression", obj.getAdaptiveCompression());
+    json.put("writeBatchMaxSize", obj.getWriteBatchMaxSize());
+    json.put("writeBatchMaxDelay", obj.getWriteBatchMaxDelay());
+    json.put("inboundQueueLowWaterMark", obj.getInboundQueueLowWaterMark());
+    json.put("inboundQueueHighWaterMark", obj.getInboundQueueHighWaterMark());
+    json.put("inboundQueueLowWaterMarkBytes", obj.getInboundQueueLowWaterMarkBytes());
+    json.put("inboundQueueHighWaterMarkBytes", obj.getInboundQueueHighWaterMarkBytes());
+    json.put("bdpProbing", obj.getBdpProbing());
+    json.put("maxFlowControlWindowSize", obj.getMaxFlowControlWindowSize());
+    json.put("keepAliveTime", obj.getKeepAliveTime());
+    json.put("keepAliveTimeout", obj.getKeepAliveTimeout());
+    json.put("permitKeepAliveTime", obj.getPermitKeepAliveTime());
+    json.put("permitKeepAliveWithoutCalls", obj.getPermitKeepAliveWithoutCalls());
+    json.put("maxConnectionIdle", obj.getMaxConnectionIdle());
+    json.put("maxConnectionAge", obj.getMaxConnectionAge());
+    json.put("maxConnectionAgeGrace", obj.getMaxConnectionAgeGrace());
+    if (obj.getConcurrencyLimits() != null) {
+      JsonObject map = new JsonObject();
+      obj.getConcurrencyLimits().forEach((key, value) -> map.put(key, value.toJson()));
+      json.put("concurrencyLimits", map);
+    }
+    if (obj.getDeadlineAdmissions() != null) {
+      JsonObject map = new JsonObject();
+      obj.getDeadlineAdmissions().forEach((key, value) -> map.put(key, value.toJson()));
+      json.put("deadlineAdmissions", map);
+    }
+    if (obj.getThreadingModels() != null) {
+      JsonObject map = new JsonObject();
+      obj.getThreadingModels().forEach((key, value) -> map.put(key, value.name()));
+      json.put("threadingModels", map);
+    }
   }
 }
@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.server;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.annotations.Unstable;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Configuration of the limit of concurrent calls of a service or a service method, see
+ * {@link GrpcServerOptions#addConcurrencyLimit(String, ConcurrencyLimitOptions)}.
+ * <p>
+ * The limit is either fixed or adaptive. An adaptive limit starts at {@link #getLimit()} and follows an additive
+ * increase / multiplicative decrease (AIMD) algorithm driven by the observed call latencies: it increases by one when a
+ * call completes in less than {@link #getLatencyThreshold()} while the limit is in use, and it is multiplied by
+ * {@link #getBackoffRatio()} when a call is slower or does not complete normally.
+ * <p>
+ * The limit applies to each event loop independently.
+ */
+@DataObject
+@JsonGen(publicConverter = false)
+@Unstable
+public class ConcurrencyLimitOptions {
+
+  /**
+   * The default limit of concurrent calls = {@code 100}
+   */
+  public static final int DEFAULT_LIMIT = 100;
+
+  /**
+   * Whether the limit is adaptive, by default = {@code false}
+   */
+  public static final boolean DEFAULT_ADAPTIVE = false;
+
+  /**
+   * The default minimum adaptive limit = {@code 1}
+   */
+  public static final int DEFAULT_MIN_LIMIT = 1;
+
+  /**
+   * The default maximum adaptive limit = {@code 1000}
+   */
+  public static final int DEFAULT_MAX_LIMIT = 1000;
+
+  /**
+   * The default ratio applied to the adaptive limit when it decreases = {@code 0.9}
+   */
+  public static final double DEFAULT_BACKOFF_RATIO = 0.9;
+
+  /**
+   * The default call latency in milliseconds above which the adaptive limit decreases = {@code 1000}
+   */
+  public static final long DEFAULT_LATENCY_THRESHOLD = 1000;
+
+  private int limit;
+  private boolean adaptive;
+  private int minLimit;
+  private int maxLimit;
+  private double backoffRatio;
+  private long latencyThreshold;
+
+  /**
+   * Default options.
+   */
+  public ConcurrencyLimitOptions() {
+    limit = DEFAULT_LIMIT;
+    adaptive = DEFAULT_ADAPTIVE;
+    minLimit = DEFAULT_MIN_LIMIT;
+    maxLimit = DEFAULT_MAX_LIMIT;
+    backoffRatio = DEFAULT_BACKOFF_RATIO;
+    latencyThreshold = DEFAULT_LATENCY_THRESHOLD;
+  }
+
+  /**
+   * Copy constructor.
+   */
+  public ConcurrencyLimitOptions(ConcurrencyLimitOptions other) {
+    limit = other.limit;
+    adaptive = other.adaptive;
+    minLimit = other.minLimit;
+    maxLimit = other.maxLimit;
+    backoffRatio = other.backoffRatio;
+    latencyThreshold = other.latencyThreshold;
+  }
+
+  /**
+   * Creates options from JSON.
+   */
+  public ConcurrencyLimitOptions(JsonObject json) {
+    this();
+    ConcurrencyLimitOptionsConverter.fromJson(json, this);
+  }
+
+  /**
+   * @return the limit of concurrent calls, the initial limit when the limit is adaptive
+   */
+  public int getLimit() {
+    return limit;
+  }
+
+  /**
+   * Set the limit of concurrent calls, calls above the limit are rejected with {@code RESOURCE_EXHAUSTED}. When the
+   * limit is adaptive this is the initial limit.
+   *
+   * @param limit the limit
+   * @return a reference to this, so the API can be used fluently
+   */
+  public ConcurrencyLimitOptions setLimit(int limit) {
+    if (limit < 1) {
+      throw new IllegalArgumentException("Limit must be >= 1");
+    }
+    this.limit = limit;
+    return this;
+  }
+
+  /**
+   * @return whether the limit adapts to the observed call latencies
+   */
+  public boolean isAdaptive() {
+    return adaptive;
+  }
+
+  /**
+   * Set whether the limit adapts to the observed call latencies.
+   *
+   * @param adaptive whether the limit is adaptive
+   * @return a reference to this, so the API can be used fluently
+   */
+  public ConcurrencyLimitOptions setAdaptive(boolean adaptive) {
+    this.adaptive = adaptive;
+    return this;
+  }
+
+  /**
+   * @return the minimum value of an adaptive limit
+   */
+  public int getMinLimit() {
+    return minLimit;
+  }
+
+  /**
+   * Set the minimum value of an adaptive limit.
+   *
+   * @param minLimit the minimum limit
+   * @return a reference to this, so the API can be used fluently
+   */
+  public ConcurrencyLimitOptions setMinLimit(int minLimit) {
+    if (minLimit < 1) {
+      throw new IllegalArgumentException("Min limit must be >= 1");
+    }
+    this.minLimit = minLimit;
+    return this;
+  }
+
+  /**
+   * @return the maximum value of an adaptive limit
+   */
+  public int getMaxLimit() {
+    return maxLimit;
+  }
+
+  /**
+   * Set the maximum value of an adaptive limit.
+   *
+   * @param maxLimit the maximum limit
+   * @return a reference to this, so the API can be used fluently
+   */
+  public ConcurrencyLimitOptions setMaxLimit(int maxLimit) {
+    if (maxLimit < 1) {
+      throw new IllegalArgumentException("Max limit must be >= 1");
+    }
+    this.maxLimit = maxLimit;
+    return this;
+  }
+
+  /**
+   * @return the ratio applied to an adaptive limit when it decreases
+   */
+  public double getBackoffRatio() {
+    return backoffRatio;
+  }
+
+  /**
+   * Set the ratio applied to an adaptive limit when it decreases, between {@code 0.5} and {@code 1} (excluded).
+   *
+   * @param backoffRatio the ratio
+   * @return a reference to this, so the API can be used fluently
+   */
+  public ConcurrencyLimitOptions setBackoffRatio(double backoffRatio) {
+    if (backoffRatio < 0.5 || backoffRatio >= 1.0) {
+      throw new IllegalArgumentException("Backoff ratio must be in [0.5, 1)");
+    }
+    this.backoffRatio = backoffRatio;
+    return this;
+  }
+
+  /**
+   * @return the call latency in milliseconds above which an adaptive limit decreases
+   */
+  public long getLatencyThreshold() {
+    return latencyThreshold;
+  }
+
+  /**
+   * Set the call latency in milliseconds above which an adaptive limit decreases.
+   *
+   * @param latencyThreshold the threshold
+   * @return a reference to this, so the API can be used fluently
+   */
+  public ConcurrencyLimitOptions setLatencyThreshold(long latencyThreshold) {
+    if (latencyThreshold <= 0) {
+      throw new IllegalArgumentException("Latency threshold must be > 0");
+    }
+    this.latencyThreshold = latencyThreshold;
+    return this;
+  }
+
+  /**
+   * @return a JSON representation of options
+   */
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    ConcurrencyLimitOptionsConverter.toJson(this, json);
+    return json;
+  }
+
+  @Override
+  public String toString() {
+    return toJson().encode();
+  }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.server;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.annotations.Unstable;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Configuration of the deadline admission of the calls of a service or a service method, see
+ * {@link GrpcServerOptions#addDeadlineAdmission(String, DeadlineAdmissionOptions)}.
+ * <p>
+ * A call carrying a {@code grpc-timeout} is rejected with {@code DEADLINE_EXCEEDED} when its timeout is already expired
+ * or when it is shorter than the threshold. The threshold is the {@link #getMinTimeRemaining() static threshold} or,
+ * when it is greater, the threshold {@link #isAdaptive() learned} from the latency of the calls that completed
+ * successfully.
+ * <p>
+ * The learned threshold is tracked for each event loop independently.
+ */
+@DataObject
+@JsonGen(publicConverter = false)
+@Unstable
+public class DeadlineAdmissionOptions {
+
+  /**
+   * The default minimum time remaining in milliseconds to admit a call = {@code 0}
+   */
+  public static final long DEFAULT_MIN_TIME_REMAINING = 0L;
+
+  /**
+   * Whether the threshold is learned from the call latencies, by default = {@code false}
+   */
+  public static final boolean DEFAULT_ADAPTIVE = false;
+
+  /**
+   * The default percentile of the call latencies used as learned threshold = {@code 0.5}
+   */
+  public static final double DEFAULT_PERCENTILE = 0.5;
+
+  /**
+   * The default number of latency samples required before using the learned threshold = {@code 100}
+   */
+  public static final int DEFAULT_MIN_SAMPLES = 100;
+
+  private long minTimeRemaining;
+  private boolean adaptive;
+  private double percentile;
+  private int minSamples;
+
+  /**
+   * Default options.
+   */
+  public DeadlineAdmissionOptions() {
+    minTimeRemaining = DEFAULT_MIN_TIME_REMAINING;
+    adaptive = DEFAULT_ADAPTIVE;
+    percentile = DEFAULT_PERCENTILE;
+    minSamples = DEFAULT_MIN_SAMPLES;
+  }
+
+  /**
+   * Copy constructor.
+   */
+  public DeadlineAdmissionOptions(DeadlineAdmissionOptions other) {
+    minTimeRemaining = other.minTimeRemaining;
+    adaptive = other.adaptive;
+    percentile = other.percentile;
+    minSamples = other.minSamples;
+  }
+
+  /**
+   * Creates options from JSON.
+   */
+  public DeadlineAdmissionOptions(JsonObject json) {
+    this();
+    DeadlineAdmissionOptionsConverter.fromJson(json, this);
+  }
+
+  /**
+   * @return the minimum time remaining in milliseconds to admit a call
+   */
+  public long getMinTimeRemaining() {
+    return minTimeRemaining;
+  }
+
+  /**
+   * Set the minimum time remaining in milliseconds to admit a call, calls with a shorter timeout are rejected with
+   * {@code DEADLINE_EXCEEDED}.
+   *
+   * @param minTimeRemaining the static threshold
+   * @return a reference to this, so the API can be used fluently
+   */
+  public DeadlineAdmissionOptions setMinTimeRemaining(long minTimeRemaining) {
+    if (minTimeRemaining < 0) {
+      throw new IllegalArgumentException("Min time remaining must be >= 0");
+    }
+    this.minTimeRemaining = minTimeRemaining;
+    return this;
+  }
+
+  /**
+   * @return whether the threshold is learned from the call latencies
+   */
+  public boolean isAdaptive() {
+    return adaptive;
+  }
+
+  /**
+   * Set whether the threshold is learned from the latency of the calls that completed successfully.
+   *
+   * @param adaptive whether the threshold is learned
+   * @return a reference to this, so the API can be used fluently
+   */
+  public DeadlineAdmissionOptions setAdaptive(boolean adaptive) {
+    this.adaptive = adaptive;
+    return this;
+  }
+
+  /**
+   * @return the percentile of the call latencies used as learned threshold
+   */
+  public double getPercentile() {
+    return percentile;
+  }
+
+  /**
+   * Set the percentile of the call latencies used as learned threshold, e.g. {@code 0.5} rejects the calls whose
+   * timeout is shorter than the median latency.
+   *
+   * @param percentile the percentile, in {@code (0, 1)}
+   * @return a reference to this, so the API can be used fluently
+   */
+  public DeadlineAdmissionOptions setPercentile(double percentile) {
+    if (percentile <= 0.0 || percentile >= 1.0) {
+      throw new IllegalArgumentException("Percentile must be in (0, 1)");
+    }
+    this.percentile = percentile;
+    return this;
+  }
+
+  /**
+   * @return the number of latency samples required before using the learned threshold
+   */
+  public int getMinSamples() {
+    return minSamples;
+  }
+
+  /**
+   * Set the number of latency samples required before using the learned threshold.
+   *
+   * @param minSamples the number of samples
+   * @return a reference to this, so the API can be used fluently
+   */
+  public DeadlineAdmissionOptions setMinSamples(int minSamples) {
+    if (minSamples < 1) {
+      throw new IllegalArgumentException("Min samples must be >= 1");
+    }
+    this.minSamples = minSamples;
+    return this;
+  }
+
+  /**
+   * @return a JSON representation of options
+   */
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    DeadlineAdmissionOptionsConverter.toJson(this, json);
+    return json;
+  }
+
+  @Override
+  public String toString() {
+    return toJson().encode();
+  }
+}
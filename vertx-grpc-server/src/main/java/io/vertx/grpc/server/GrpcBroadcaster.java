@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.server;
+
+import io.vertx.codegen.annotations.Unstable;
+import io.vertx.grpc.common.GrpcMessageEncoder;
+import io.vertx.grpc.common.PreEncodedGrpcMessage;
+import io.vertx.grpc.server.impl.GrpcBroadcasterImpl;
+
+/**
+ * <p>Fan-out of server streaming responses: a message is encoded once and written to every subscribed response.</p>
+ *
+ * <p>A subscriber whose {@link GrpcServerResponse#writeQueueFull() write queue is full} does not receive the message,
+ * the {@link SlowSubscriberPolicy} decides whether it only misses the message or is disconnected. Subscribers are
+ * removed when their response is ended, cancelled or fails to write.</p>
+ *
+ * <p>The broadcaster is thread safe, each subscriber is written from its own context.</p>
+ */
+@Unstable
+public interface GrpcBroadcaster<Resp> {
+
+  /**
+   * What happens to a subscriber whose write queue is full when a message is broadcast.
+   */
+  enum SlowSubscriberPolicy {
+
+    /**
+     * The subscriber misses the message.
+     */
+    DROP,
+
+    /**
+     * The subscriber response is ended with the {@link io.vertx.grpc.common.GrpcStatus#RESOURCE_EXHAUSTED} status.
+     */
+    DISCONNECT
+
+  }
+
+  /**
+   * Create a broadcaster.
+   *
+   * @param encoder the encoder of the broadcast messages
+   * @param policy the slow subscriber policy
+   * @return the broadcaster
+   */
+  static <Resp> GrpcBroadcaster<Resp> create(GrpcMessageEncoder<Resp> encoder, SlowSubscriberPolicy policy) {
+    return new GrpcBroadcasterImpl<>(encoder, policy);
+  }
+
+  /**
+   * Add a subscriber.
+   *
+   * @param subscriber the response receiving the broadcast messages
+   * @return a reference to this, so the API can be used fluently
+   */
+  GrpcBroadcaster<Resp> add(GrpcServerResponse<?, Resp> subscriber);
+
+  /**
+   * Remove a subscriber.
+   *
+   * @param subscriber the subscriber to remove
+   * @return whether the subscriber was removed
+   */
+  boolean remove(GrpcServerResponse<?, Resp> subscriber);
+
+  /**
+   * @return the number of subscribers
+   */
+  int size();
+
+  /**
+   * Encode {@code message} once and write it to the subscribers.
+   *
+   * @param message the message
+   */
+  void broadcast(Resp message);
+
+  /**
+   * Write a pre-encoded {@code message} to the subscribers.
+   *
+   * @param message the message
+   */
+  void broadcast(PreEncodedGrpcMessage message);
+
+  /**
+   * @return the number of messages not written to a subscriber because its write queue was full
+   */
+  long skipped();
+
+}
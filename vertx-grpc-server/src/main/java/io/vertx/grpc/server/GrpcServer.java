@@ -11,14 +11,19 @@
 package io.vertx.grpc.server;
 
 import io.vertx.codegen.annotations.Fluent;
+import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpConnection;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.grpc.common.ServiceMethod;
 import io.vertx.grpc.server.impl.GrpcServerImpl;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * <p>A gRPC server based on Vert.x HTTP server.</p>
  *
@@ -75,4 +80,72 @@ public interface GrpcServer extends ServiceContainer, Handler<HttpServerRequest>
   @Override
   @Fluent
   GrpcServer addService(Service service);
+
+  /**
+   * Return the number of calls rejected before dispatch by the concurrency limit or the deadline admission
+   * configured for {@code name}, see {@link GrpcServerOptions#addConcurrencyLimit} and
+   * {@link GrpcServerOptions#addDeadlineAdmission}.
+   *
+   * @param name the configured service or method name
+   * @return the number of rejected calls
+   */
+  long shedCalls(String name);
+
+  /**
+   * Report the calls handled by this server to the {@code metrics}, e.g. {@code GrpcServerMetrics.create(recorder)}
+   * records them in a {@link io.vertx.grpc.common.GrpcMetricsRecorder}.
+   *
+   * @param metrics the metrics or {@code null} to stop reporting the calls
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  @GenIgnore(GenIgnore.PERMITTED_TYPE)
+  GrpcServer metrics(GrpcServerMetrics<?> metrics);
+
+  /**
+   * @return the number of calls in flight
+   */
+  long activeCalls();
+
+  /**
+   * <p>Return the handler of the connections accepted by the HTTP server, to set with
+   * {@link io.vertx.core.http.HttpServer#connectionHandler(Handler)} along with this server as request handler.</p>
+   *
+   * <p>The server then knows the HTTP/2 connections from when they are accepted instead of from their first call, so
+   * {@link #shutdown(long, TimeUnit)} sends a {@code GOAWAY} frame to the connections that have not carried a call yet
+   * and the connection policies of the {@link GrpcServerOptions}, e.g. the
+   * {@link GrpcServerOptions#setMaxConnectionIdle(long) max idle time}, apply to them.</p>
+   *
+   * @return the connection handler
+   */
+  @GenIgnore(GenIgnore.PERMITTED_TYPE)
+  Handler<HttpConnection> connectionHandler();
+
+  /**
+   * Shutdown the server with a 30 seconds timeout, see {@link #shutdown(long, TimeUnit)}.
+   *
+   * @return a future completed when the server is shut down
+   */
+  default Future<Void> shutdown() {
+    return shutdown(30L, TimeUnit.SECONDS);
+  }
+
+  /**
+   * <p>Gracefully shutdown the server.</p>
+   *
+   * <p>New calls are rejected with the {@link io.vertx.grpc.common.GrpcStatus#UNAVAILABLE} status and the HTTP/2
+   * connections are sent a {@code GOAWAY} frame so clients open their next calls elsewhere while the calls in flight
+   * complete. The calls still in flight after the {@code timeout} are ended with the
+   * {@link io.vertx.grpc.common.GrpcStatus#ABORTED} status, then the services are closed.</p>
+   *
+   * <p>The HTTP/2 connections are known from their first call, or from when they are accepted when the HTTP server
+   * uses the {@link #connectionHandler()}.</p>
+   *
+   * <p>The HTTP server is not closed, it should be closed once the returned future completes.</p>
+   *
+   * @param timeout the time given to the calls in flight to complete
+   * @param unit the timeout unit
+   * @return a future completed when the server is shut down
+   */
+  Future<Void> shutdown(long timeout, TimeUnit unit);
 }
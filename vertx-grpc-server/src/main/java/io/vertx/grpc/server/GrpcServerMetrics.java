@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.server;
+
+import io.vertx.codegen.annotations.Unstable;
+import io.vertx.core.MultiMap;
+import io.vertx.grpc.common.GrpcCallMetrics;
+import io.vertx.grpc.common.GrpcMetricsRecorder;
+import io.vertx.grpc.common.GrpcStatus;
+import io.vertx.grpc.common.ServiceName;
+
+/**
+ * <p>The metrics SPI of the calls handled by a {@link GrpcServer}, see {@link GrpcServer#metrics(GrpcServerMetrics)}.</p>
+ *
+ * <p>A call begins when it is dispatched to its handler, the request headers are received next. The end of a call is
+ * reported when its trailers are sent or when it is cancelled.</p>
+ *
+ * <p>A call rejected before its dispatch, because the server is shutting down, its deadline is too short or the
+ * concurrency limit is reached, begins and ends with the status sent to the client.</p>
+ *
+ * @param <C> the type of the call metric
+ */
+@Unstable
+public interface GrpcServerMetrics<C> extends GrpcCallMetrics<C> {
+
+  /**
+   * Create server metrics recording the calls in the {@code recorder}.
+   *
+   * @param recorder the recorder
+   * @return the server metrics
+   */
+  static GrpcServerMetrics<GrpcMetricsRecorder.Call> create(GrpcMetricsRecorder recorder) {
+    return new GrpcServerMetrics<>() {
+      @Override
+      public GrpcMetricsRecorder.Call callBegin(ServiceName serviceName, String methodName) {
+        return recorder.callBegin(serviceName, methodName);
+      }
+      @Override
+      public void headersReceived(GrpcMetricsRecorder.Call call, MultiMap headers) {
+        recorder.headersReceived(call, headers);
+      }
+      @Override
+      public void headersSent(GrpcMetricsRecorder.Call call) {
+        recorder.headersSent(call);
+      }
+      @Override
+      public void messageReceived(GrpcMetricsRecorder.Call call, int size, int wireSize) {
+        recorder.messageReceived(call, size, wireSize);
+      }
+      @Override
+      public void messageSent(GrpcMetricsRecorder.Call call, int size, int wireSize) {
+        recorder.messageSent(call, size, wireSize);
+      }
+      @Override
+      public void callEnd(GrpcMetricsRecorder.Call call, GrpcStatus status) {
+        recorder.callEnd(call, status);
+      }
+    };
+  }
+
+  /**
+   * Called when a call begins.
+   *
+   * @param serviceName the service name of the call
+   * @param methodName the method name of the call
+   * @return the call metric
+   */
+  C callBegin(ServiceName serviceName, String methodName);
+
+}
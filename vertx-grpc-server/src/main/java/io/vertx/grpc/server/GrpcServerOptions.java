@@ -14,12 +14,15 @@ import io.vertx.codegen.annotations.DataObject;
 import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.annotations.Unstable;
 import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.core.ThreadingModel;
 import io.vertx.core.json.JsonObject;
 import io.vertx.grpc.common.WireFormat;
 
 import java.util.Collections;
 import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
@@ -56,6 +59,94 @@ public class GrpcServerOptions {
    */
   public static final long DEFAULT_MAX_MESSAGE_SIZE = 256 * 1024;
 
+  /**
+   * The default size in bytes under which a response message is sent uncompressed = {@code 0} (all messages are compressed)
+   */
+  public static final int DEFAULT_COMPRESSION_THRESHOLD = 0;
+
+  /**
+   * Whether a response message that does not get smaller once compressed is sent uncompressed, by default = {@code false}
+   */
+  public static final boolean DEFAULT_ADAPTIVE_COMPRESSION = false;
+
+  /**
+   * The default size in bytes above which a corked response flushes its pending messages = {@code 16384}
+   */
+  public static final int DEFAULT_WRITE_BATCH_MAX_SIZE = 16 * 1024;
+
+  /**
+   * The default delay in milliseconds after which a corked response flushes its pending messages = {@code 0} (flushed
+   * once the current event loop task completes)
+   */
+  public static final long DEFAULT_WRITE_BATCH_MAX_DELAY = 0L;
+
+  /**
+   * The default number of queued inbound messages under which the HTTP stream is resumed = {@code 8}
+   */
+  public static final int DEFAULT_INBOUND_QUEUE_LOW_WATER_MARK = 8;
+
+  /**
+   * The default number of queued inbound messages above which the HTTP stream is paused = {@code 16}
+   */
+  public static final int DEFAULT_INBOUND_QUEUE_HIGH_WATER_MARK = 16;
+
+  /**
+   * The default size in bytes of the queued inbound messages under which the HTTP stream is resumed = {@code 0}
+   */
+  public static final long DEFAULT_INBOUND_QUEUE_LOW_WATER_MARK_BYTES = 0L;
+
+  /**
+   * The default size in bytes of the queued inbound messages above which the HTTP stream is paused = {@code 0} (disabled)
+   */
+  public static final long DEFAULT_INBOUND_QUEUE_HIGH_WATER_MARK_BYTES = 0L;
+
+  /**
+   * The default value of BDP probing = {@code false}.
+   */
+  public static final boolean DEFAULT_BDP_PROBING = false;
+
+  /**
+   * The default maximum size in bytes of the HTTP/2 windows grown by BDP probing = {@code 16MB}
+   */
+  public static final int DEFAULT_MAX_FLOW_CONTROL_WINDOW_SIZE = 16 * 1024 * 1024;
+
+  /**
+   * The default delay in milliseconds between the keepalive {@code PING} frames sent by the server = {@code 0} (disabled)
+   */
+  public static final long DEFAULT_KEEP_ALIVE_TIME = 0L;
+
+  /**
+   * The default time in milliseconds the server waits for a keepalive {@code PING} acknowledgement before closing the
+   * connection = {@code 20000}
+   */
+  public static final long DEFAULT_KEEP_ALIVE_TIMEOUT = 20_000L;
+
+  /**
+   * The default minimum time in milliseconds between two {@code PING} frames sent by a client = {@code 0} (not enforced)
+   */
+  public static final long DEFAULT_PERMIT_KEEP_ALIVE_TIME = 0L;
+
+  /**
+   * Whether a client can send keepalive {@code PING} frames when it has no call in flight, by default = {@code false}
+   */
+  public static final boolean DEFAULT_PERMIT_KEEP_ALIVE_WITHOUT_CALLS = false;
+
+  /**
+   * The default time in milliseconds after which a connection without calls is closed = {@code 0} (disabled)
+   */
+  public static final long DEFAULT_MAX_CONNECTION_IDLE = 0L;
+
+  /**
+   * The default age in milliseconds after which a connection is sent a {@code GOAWAY} frame = {@code 0} (disabled)
+   */
+  public static final long DEFAULT_MAX_CONNECTION_AGE = 0L;
+
+  /**
+   * The default time in milliseconds given to the calls of an aged connection to complete before it is closed =
+   * {@code 0} (unlimited)
+   */
+  public static final long DEFAULT_MAX_CONNECTION_AGE_GRACE = 0L;
+
   private Set<GrpcProtocol> enabledProtocols;
   // TODO(?): the set holds mixed types (ProtobufWireFormat or JsonWireFormat with config) and
   //          codegen has no way to pick the right one when reading JSON, so the accessors below
@@ -66,6 +157,26 @@ public class GrpcServerOptions {
   private boolean scheduleDeadlineAutomatically;
   private boolean deadlinePropagation;
   private long maxMessageSize;
+  private int compressionThreshold;
+  private boolean adaptiveCompression;
+  private int writeBatchMaxSize;
+  private long writeBatchMaxDelay;
+  private int inboundQueueLowWaterMark;
+  private int inboundQueueHighWaterMark;
+  private long inboundQueueLowWaterMarkBytes;
+  private long inboundQueueHighWaterMarkBytes;
+  private boolean bdpProbing;
+  private int maxFlowControlWindowSize;
+  private long keepAliveTime;
+  private long keepAliveTimeout;
+  private long permitKeepAliveTime;
+  private boolean permitKeepAliveWithoutCalls;
+  private long maxConnectionIdle;
+  private long maxConnectionAge;
+  private long maxConnectionAgeGrace;
+  private Map<String, ConcurrencyLimitOptions> concurrencyLimits;
+  private Map<String, DeadlineAdmissionOptions> deadlineAdmissions;
+  private Map<String, ThreadingModel> threadingModels;
 
   /**
    * Default options.
@@ -76,6 +187,26 @@ public class GrpcServerOptions {
     scheduleDeadlineAutomatically = DEFAULT_SCHEDULE_DEADLINE_AUTOMATICALLY;
     deadlinePropagation = DEFAULT_PROPAGATE_DEADLINE;
     maxMessageSize = DEFAULT_MAX_MESSAGE_SIZE;
+    compressionThreshold = DEFAULT_COMPRESSION_THRESHOLD;
+    adaptiveCompression = DEFAULT_ADAPTIVE_COMPRESSION;
+    writeBatchMaxSize = DEFAULT_WRITE_BATCH_MAX_SIZE;
+    writeBatchMaxDelay = DEFAULT_WRITE_BATCH_MAX_DELAY;
+    inboundQueueLowWaterMark = DEFAULT_INBOUND_QUEUE_LOW_WATER_MARK;
+    inboundQueueHighWaterMark = DEFAULT_INBOUND_QUEUE_HIGH_WATER_MARK;
+    inboundQueueLowWaterMarkBytes = DEFAULT_INBOUND_QUEUE_LOW_WATER_MARK_BYTES;
+    inboundQueueHighWaterMarkBytes = DEFAULT_INBOUND_QUEUE_HIGH_WATER_MARK_BYTES;
+    bdpProbing = DEFAULT_BDP_PROBING;
+    maxFlowControlWindowSize = DEFAULT_MAX_FLOW_CONTROL_WINDOW_SIZE;
+    keepAliveTime = DEFAULT_KEEP_ALIVE_TIME;
+    keepAliveTimeout = DEFAULT_KEEP_ALIVE_TIMEOUT;
+    permitKeepAliveTime = DEFAULT_PERMIT_KEEP_ALIVE_TIME;
+    permitKeepAliveWithoutCalls = DEFAULT_PERMIT_KEEP_ALIVE_WITHOUT_CALLS;
+    maxConnectionIdle = DEFAULT_MAX_CONNECTION_IDLE;
+    maxConnectionAge = DEFAULT_MAX_CONNECTION_AGE;
+    maxConnectionAgeGrace = DEFAULT_MAX_CONNECTION_AGE_GRACE;
+    concurrencyLimits = new LinkedHashMap<>();
+    deadlineAdmissions = new LinkedHashMap<>();
+    threadingModels = new LinkedHashMap<>();
   }
 
   /**
@@ -87,6 +218,28 @@ public class GrpcServerOptions {
     scheduleDeadlineAutomatically = other.scheduleDeadlineAutomatically;
     deadlinePropagation = other.deadlinePropagation;
     maxMessageSize = other.maxMessageSize;
+    compressionThreshold = other.compressionThreshold;
+    adaptiveCompression = other.adaptiveCompression;
+    writeBatchMaxSize = other.writeBatchMaxSize;
+    writeBatchMaxDelay = other.writeBatchMaxDelay;
+    inboundQueueLowWaterMark = other.inboundQueueLowWaterMark;
+    inboundQueueHighWaterMark = other.inboundQueueHighWaterMark;
+    inboundQueueLowWaterMarkBytes = other.inboundQueueLowWaterMarkBytes;
+    inboundQueueHighWaterMarkBytes = other.inboundQueueHighWaterMarkBytes;
+    bdpProbing = other.bdpProbing;
+    maxFlowControlWindowSize = other.maxFlowControlWindowSize;
+    keepAliveTime = other.keepAliveTime;
+    keepAliveTimeout = other.keepAliveTimeout;
+    permitKeepAliveTime = other.permitKeepAliveTime;
+    permitKeepAliveWithoutCalls = other.permitKeepAliveWithoutCalls;
+    maxConnectionIdle = other.maxConnectionIdle;
+    maxConnectionAge = other.maxConnectionAge;
+    maxConnectionAgeGrace = other.maxConnectionAgeGrace;
+    concurrencyLimits = new LinkedHashMap<>();
+    other.concurrencyLimits.forEach((name, limit) -> concurrencyLimits.put(name, new ConcurrencyLimitOptions(limit)));
+    deadlineAdmissions = new LinkedHashMap<>();
+    other.deadlineAdmissions.forEach((name, admission) -> deadlineAdmissions.put(name, new DeadlineAdmissionOptions(admission)));
+    threadingModels = new LinkedHashMap<>(other.threadingModels);
   }
 
   /**
@@ -269,6 +422,506 @@ public class GrpcServerOptions {
     return this;
   }
 
+  /**
+   * @return the size in bytes under which a response message is sent uncompressed
+   */
+  public int getCompressionThreshold() {
+    return compressionThreshold;
+  }
+
+  /**
+   * Set the size in bytes under which a response message is sent uncompressed when the response has an encoding,
+   * such messages are sent with the compressed flag unset.
+   *
+   * @param compressionThreshold the threshold
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcServerOptions setCompressionThreshold(int compressionThreshold) {
+    if (compressionThreshold < 0) {
+      throw new IllegalArgumentException("Compression threshold must be >= 0");
+    }
+    this.compressionThreshold = compressionThreshold;
+    return this;
+  }
+
+  /**
+   * @return whether response messages are compressed only while compression pays off
+   */
+  public boolean getAdaptiveCompression() {
+    return adaptiveCompression;
+  }
+
+  /**
+   * Set whether response messages are compressed only while compression pays off. Each stream measures the ratio
+   * achieved by compression, when messages do not shrink enough it sends the next ones uncompressed with the
+   * compressed flag unset and probes the compression again periodically. A message that does not get smaller once
+   * compressed is always sent uncompressed.
+   *
+   * @param adaptiveCompression whether to use adaptive compression
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcServerOptions setAdaptiveCompression(boolean adaptiveCompression) {
+    this.adaptiveCompression = adaptiveCompression;
+    return this;
+  }
+
+  /**
+   * @return the size in bytes above which a corked response flushes its pending messages
+   */
+  public int getWriteBatchMaxSize() {
+    return writeBatchMaxSize;
+  }
+
+  /**
+   * Set the size in bytes above which a {@link GrpcServerResponse#cork() corked} response flushes its pending
+   * messages.
+   *
+   * @param writeBatchMaxSize the size
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcServerOptions setWriteBatchMaxSize(int writeBatchMaxSize) {
+    if (writeBatchMaxSize <= 0) {
+      throw new IllegalArgumentException("Write batch max size must be > 0");
+    }
+    this.writeBatchMaxSize = writeBatchMaxSize;
+    return this;
+  }
+
+  /**
+   * @return the delay in milliseconds after which a corked response flushes its pending messages
+   */
+  public long getWriteBatchMaxDelay() {
+    return writeBatchMaxDelay;
+  }
+
+  /**
+   * Set the delay in milliseconds after which a {@link GrpcServerResponse#cork() corked} response flushes its pending
+   * messages, when {@code 0} the messages written during an event loop task are flushed once the task completes.
+   *
+   * @param writeBatchMaxDelay the delay
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcServerOptions setWriteBatchMaxDelay(long writeBatchMaxDelay) {
+    if (writeBatchMaxDelay < 0) {
+      throw new IllegalArgumentException("Write batch max delay must be >= 0");
+    }
+    this.writeBatchMaxDelay = writeBatchMaxDelay;
+    return this;
+  }
+
+  /**
+   * @return the number of queued inbound messages under which the HTTP stream is resumed
+   */
+  public int getInboundQueueLowWaterMark() {
+    return inboundQueueLowWaterMark;
+  }
+
+  /**
+   * Set the number of queued inbound messages under which a paused HTTP stream is resumed.
+   *
+   * @param inboundQueueLowWaterMark the low watermark
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcServerOptions setInboundQueueLowWaterMark(int inboundQueueLowWaterMark) {
+    if (inboundQueueLowWaterMark < 0) {
+      throw new IllegalArgumentException("Inbound queue low watermark must be >= 0");
+    }
+    this.inboundQueueLowWaterMark = inboundQueueLowWaterMark;
+    return this;
+  }
+
+  /**
+   * @return the number of queued inbound messages above which the HTTP stream is paused
+   */
+  public int getInboundQueueHighWaterMark() {
+    return inboundQueueHighWaterMark;
+  }
+
+  /**
+   * Set the number of inbound messages queued until they are fetched above which the HTTP stream is paused, the
+   * client then stops sending when the HTTP/2 windows are exhausted.
+   *
+   * @param inboundQueueHighWaterMark the high watermark
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcServerOptions setInboundQueueHighWaterMark(int inboundQueueHighWaterMark) {
+    if (inboundQueueHighWaterMark <= 0) {
+      throw new IllegalArgumentException("Inbound queue high watermark must be > 0");
+    }
+    this.inboundQueueHighWaterMark = inboundQueueHighWaterMark;
+    return this;
+  }
+
+  /**
+   * @return the size in bytes of the queued inbound messages under which the HTTP stream is resumed
+   */
+  public long getInboundQueueLowWaterMarkBytes() {
+    return inboundQueueLowWaterMarkBytes;
+  }
+
+  /**
+   * Set the size in bytes of the queued inbound messages under which a paused HTTP stream is resumed.
+   *
+   * @param inboundQueueLowWaterMarkBytes the low watermark in bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcServerOptions setInboundQueueLowWaterMarkBytes(long inboundQueueLowWaterMarkBytes) {
+    if (inboundQueueLowWaterMarkBytes < 0) {
+      throw new IllegalArgumentException("Inbound queue low watermark bytes must be >= 0");
+    }
+    this.inboundQueueLowWaterMarkBytes = inboundQueueLowWaterMarkBytes;
+    return this;
+  }
+
+  /**
+   * @return the size in bytes of the queued inbound messages above which the HTTP stream is paused
+   */
+  public long getInboundQueueHighWaterMarkBytes() {
+    return inboundQueueHighWaterMarkBytes;
+  }
+
+  /**
+   * Set the size in bytes of the inbound messages queued until they are fetched above which the HTTP stream is paused,
+   * this bounds the memory held by large messages independently of {@link #setInboundQueueHighWaterMark(int)}. When
+   * {@code 0} the queue is only bounded in messages.
+   *
+   * @param inboundQueueHighWaterMarkBytes the high watermark in bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcServerOptions setInboundQueueHighWaterMarkBytes(long inboundQueueHighWaterMarkBytes) {
+    if (inboundQueueHighWaterMarkBytes < 0) {
+      throw new IllegalArgumentException("Inbound queue high watermark bytes must be >= 0");
+    }
+    this.inboundQueueHighWaterMarkBytes = inboundQueueHighWaterMarkBytes;
+    return this;
+  }
+
+  /**
+   * @return whether the HTTP/2 windows are grown from the measured bandwidth-delay product
+   */
+  public boolean getBdpProbing() {
+    return bdpProbing;
+  }
+
+  /**
+   * <p>Set whether the HTTP/2 connection and stream windows are grown from the measured bandwidth-delay product (BDP) of
+   * the link, similar to the automatic flow control of grpc-java.</p>
+   *
+   * <p>When data is received a {@code PING} frame measures the round trip time, the windows are doubled when the
+   * data received during a round trip fills most of the current window, up to {@link #setMaxFlowControlWindowSize(int)}.
+   * This lets high latency links use their bandwidth without configuring large windows upfront.</p>
+   *
+   * @param bdpProbing whether to probe the BDP
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcServerOptions setBdpProbing(boolean bdpProbing) {
+    this.bdpProbing = bdpProbing;
+    return this;
+  }
+
+  /**
+   * @return the maximum size in bytes of the HTTP/2 windows grown by BDP probing
+   */
+  public int getMaxFlowControlWindowSize() {
+    return maxFlowControlWindowSize;
+  }
+
+  /**
+   * Set the maximum size in bytes of the HTTP/2 windows grown by {@link #setBdpProbing(boolean) BDP probing}.
+   *
+   * @param maxFlowControlWindowSize the maximum window size
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcServerOptions setMaxFlowControlWindowSize(int maxFlowControlWindowSize) {
+    if (maxFlowControlWindowSize <= 0) {
+      throw new IllegalArgumentException("Max flow control window size must be > 0");
+    }
+    this.maxFlowControlWindowSize = maxFlowControlWindowSize;
+    return this;
+  }
+
+  /**
+   * @return the delay in milliseconds between the keepalive {@code PING} frames sent by the server
+   */
+  public long getKeepAliveTime() {
+    return keepAliveTime;
+  }
+
+  /**
+   * <p>Set the delay in milliseconds between the keepalive {@code PING} frames the server sends on its HTTP/2
+   * connections, {@code 0} disables keepalive.</p>
+   *
+   * <p>A connection whose {@code PING} is not acknowledged within the {@link #setKeepAliveTimeout(long) keepalive timeout}
+   * is closed, this detects broken connections that would otherwise hold calls forever.</p>
+   *
+   * @param keepAliveTime the keepalive time
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcServerOptions setKeepAliveTime(long keepAliveTime) {
+    if (keepAliveTime < 0L) {
+      throw new IllegalArgumentException("Keep alive time must be >= 0");
+    }
+    this.keepAliveTime = keepAliveTime;
+    return this;
+  }
+
+  /**
+   * @return the time in milliseconds the server waits for a keepalive {@code PING} acknowledgement
+   */
+  public long getKeepAliveTimeout() {
+    return keepAliveTimeout;
+  }
+
+  /**
+   * Set the time in milliseconds the server waits for a keepalive {@code PING} acknowledgement before closing the
+   * connection.
+   *
+   * @param keepAliveTimeout the keepalive timeout
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcServerOptions setKeepAliveTimeout(long keepAliveTimeout) {
+    if (keepAliveTimeout <= 0L) {
+      throw new IllegalArgumentException("Keep alive timeout must be > 0");
+    }
+    this.keepAliveTimeout = keepAliveTimeout;
+    return this;
+  }
+
+  /**
+   * @return the minimum time in milliseconds between two {@code PING} frames sent by a client
+   */
+  public long getPermitKeepAliveTime() {
+    return permitKeepAliveTime;
+  }
+
+  /**
+   * <p>Set the minimum time in milliseconds between two {@code PING} frames sent by a client, {@code 0} does not
+   * enforce it.</p>
+   *
+   * <p>A {@code PING} received sooner is a strike, the connection of a client exceeding two strikes is sent a
+   * {@code GOAWAY} frame with the {@code ENHANCE_YOUR_CALM} error code and {@code too_many_pings} debug data, then closed.
+   * The strikes are forgiven when a call starts and when the server sends headers or data, since clients ping to
+   * measure the bandwidth-delay product as they receive data. Enforcing it sets the ping handler of the
+   * connections.</p>
+   *
+   * @param permitKeepAliveTime the permitted keepalive time
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcServerOptions setPermitKeepAliveTime(long permitKeepAliveTime) {
+    if (permitKeepAliveTime < 0L) {
+      throw new IllegalArgumentException("Permit keep alive time must be >= 0");
+    }
+    this.permitKeepAliveTime = permitKeepAliveTime;
+    return this;
+  }
+
+  /**
+   * @return whether a client can send keepalive {@code PING} frames when it has no call in flight
+   */
+  public boolean getPermitKeepAliveWithoutCalls() {
+    return permitKeepAliveWithoutCalls;
+  }
+
+  /**
+   * Set whether a client can send keepalive {@code PING} frames when it has no call in flight, otherwise such
+   * {@code PING} frames are only permitted every two hours. This only applies when the
+   * {@link #setPermitKeepAliveTime(long) permitted keepalive time} is enforced.
+   *
+   * @param permitKeepAliveWithoutCalls whether to permit keepalive without calls
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcServerOptions setPermitKeepAliveWithoutCalls(boolean permitKeepAliveWithoutCalls) {
+    this.permitKeepAliveWithoutCalls = permitKeepAliveWithoutCalls;
+    return this;
+  }
+
+  /**
+   * @return the time in milliseconds after which a connection without calls is closed
+   */
+  public long getMaxConnectionIdle() {
+    return maxConnectionIdle;
+  }
+
+  /**
+   * Set the time in milliseconds after which a connection without calls is closed, {@code 0} disables it. A connection
+   * that never carries a call is only closed when the HTTP server uses the {@link GrpcServer#connectionHandler()}.
+   *
+   * @param maxConnectionIdle the maximum idle time
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcServerOptions setMaxConnectionIdle(long maxConnectionIdle) {
+    if (maxConnectionIdle < 0L) {
+      throw new IllegalArgumentException("Max connection idle must be >= 0");
+    }
+    this.maxConnectionIdle = maxConnectionIdle;
+    return this;
+  }
+
+  /**
+   * @return the age in milliseconds after which a connection is sent a {@code GOAWAY} frame
+   */
+  public long getMaxConnectionAge() {
+    return maxConnectionAge;
+  }
+
+  /**
+   * <p>Set the age in milliseconds after which a connection is sent a {@code GOAWAY} frame, {@code 0} disables it.</p>
+   *
+   * <p>Clients open their next calls on a new connection, the load balancing of long-lived clients can then
+   * account for new server instances. The age of each connection is jittered by +/- 10% to avoid reconnection storms.</p>
+   *
+   * @param maxConnectionAge the maximum connection age
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcServerOptions setMaxConnectionAge(long maxConnectionAge) {
+    if (maxConnectionAge < 0L) {
+      throw new IllegalArgumentException("Max connection age must be >= 0");
+    }
+    this.maxConnectionAge = maxConnectionAge;
+    return this;
+  }
+
+  /**
+   * @return the time in milliseconds given to the calls of an aged connection to complete before it is closed
+   */
+  public long getMaxConnectionAgeGrace() {
+    return maxConnectionAgeGrace;
+  }
+
+  /**
+   * Set the time in milliseconds given to the calls of a connection that reached the
+   * {@link #setMaxConnectionAge(long) maximum age} to complete before it is closed, {@code 0} lets them complete.
+   *
+   * @param maxConnectionAgeGrace the maximum connection age grace time
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcServerOptions setMaxConnectionAgeGrace(long maxConnectionAgeGrace) {
+    if (maxConnectionAgeGrace < 0L) {
+      throw new IllegalArgumentException("Max connection age grace must be >= 0");
+    }
+    this.maxConnectionAgeGrace = maxConnectionAgeGrace;
+    return this;
+  }
+
+  /**
+   * @return the concurrency limits keyed by fully qualified service name or full method name
+   */
+  public Map<String, ConcurrencyLimitOptions> getConcurrencyLimits() {
+    return concurrencyLimits;
+  }
+
+  /**
+   * Set the concurrency limits keyed by fully qualified service name or full method name, see
+   * {@link #addConcurrencyLimit(String, ConcurrencyLimitOptions)}.
+   *
+   * @param concurrencyLimits the limits
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcServerOptions setConcurrencyLimits(Map<String, ConcurrencyLimitOptions> concurrencyLimits) {
+    this.concurrencyLimits = new LinkedHashMap<>(Objects.requireNonNull(concurrencyLimits, "concurrencyLimits"));
+    return this;
+  }
+
+  /**
+   * <p>Limit the number of concurrent calls of a service or of a service method, the calls above the limit are rejected
+   * with {@code RESOURCE_EXHAUSTED} before their messages are decoded.</p>
+   * <ul>
+   * <li>A fully qualified service name, e.g. {@code helloworld.Greeter}, sets a limit shared by the calls of all the
+   * methods of the service.</li>
+   * <li>A full method name, e.g. {@code helloworld.Greeter/SayHello}, sets a limit for the calls of this method, it takes
+   * precedence over the limit of its service.</li>
+   * </ul>
+   *
+   * @param name the service or method name
+   * @param limit the limit configuration
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcServerOptions addConcurrencyLimit(String name, ConcurrencyLimitOptions limit) {
+    concurrencyLimits.put(Objects.requireNonNull(name, "name"), Objects.requireNonNull(limit, "limit"));
+    return this;
+  }
+
+  /**
+   * @return the deadline admissions keyed by fully qualified service name or full method name
+   */
+  public Map<String, DeadlineAdmissionOptions> getDeadlineAdmissions() {
+    return deadlineAdmissions;
+  }
+
+  /**
+   * Set the deadline admissions keyed by fully qualified service name or full method name, see
+   * {@link #addDeadlineAdmission(String, DeadlineAdmissionOptions)}.
+   *
+   * @param deadlineAdmissions the admissions
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcServerOptions setDeadlineAdmissions(Map<String, DeadlineAdmissionOptions> deadlineAdmissions) {
+    this.deadlineAdmissions = new LinkedHashMap<>(Objects.requireNonNull(deadlineAdmissions, "deadlineAdmissions"));
+    return this;
+  }
+
+  /**
+   * Reject the calls of a service or of a service method whose timeout leaves less time than needed to serve them
+   * with {@code DEADLINE_EXCEEDED}, before their messages are decoded. Like
+   * {@link #addConcurrencyLimit(String, ConcurrencyLimitOptions)}, the {@code name} is a fully qualified service name
+   * or a full method name that takes precedence over the name of its service.
+   *
+   * @param name the service or method name
+   * @param admission the admission configuration
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcServerOptions addDeadlineAdmission(String name, DeadlineAdmissionOptions admission) {
+    deadlineAdmissions.put(Objects.requireNonNull(name, "name"), Objects.requireNonNull(admission, "admission"));
+    return this;
+  }
+
+  /**
+   * @return the threading models keyed by fully qualified service name or full method name
+   */
+  public Map<String, ThreadingModel> getThreadingModels() {
+    return threadingModels;
+  }
+
+  /**
+   * Set the threading models keyed by fully qualified service name or full method name, see
+   * {@link #addThreadingModel(String, ThreadingModel)}.
+   *
+   * @param threadingModels the threading models
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcServerOptions setThreadingModels(Map<String, ThreadingModel> threadingModels) {
+    Objects.requireNonNull(threadingModels, "threadingModels").forEach(this::checkThreadingModel);
+    this.threadingModels = new LinkedHashMap<>(threadingModels);
+    return this;
+  }
+
+  /**
+   * Set the threading model of the calls of a service or of a service method, overriding the one declared by the
+   * {@link Service#threadingModel(io.vertx.grpc.common.ServiceMethod) service}. Calls use by default the
+   * {@link ThreadingModel#EVENT_LOOP event-loop} of the HTTP request, the {@link ThreadingModel#WORKER worker} and
+   * {@link ThreadingModel#VIRTUAL_THREAD virtual thread} models let the service implementation block. Like
+   * {@link #addConcurrencyLimit(String, ConcurrencyLimitOptions)}, the {@code name} is a fully qualified service
+   * name or a full method name that takes precedence over the name of its service.
+   *
+   * <p>A blocking call runs on its own context, the calls of a connection are not ordered with each other. A service
+   * configured with virtual threads cannot be added to a server running on a JVM without virtual threads.</p>
+   *
+   * @param name the service or method name
+   * @param threadingModel the threading model
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GrpcServerOptions addThreadingModel(String name, ThreadingModel threadingModel) {
+    checkThreadingModel(Objects.requireNonNull(name, "name"), Objects.requireNonNull(threadingModel, "threadingModel"));
+    threadingModels.put(name, threadingModel);
+    return this;
+  }
+
+  private void checkThreadingModel(String name, ThreadingModel threadingModel) {
+    if (threadingModel == ThreadingModel.OTHER) {
+      throw new IllegalArgumentException("Unsupported threading model for " + name + ": " + threadingModel);
+    }
+  }
+
   /**
    * @return a JSON representation of options
    */
@@ -11,16 +11,21 @@
 package io.vertx.grpc.server;
 
 import io.vertx.codegen.annotations.Fluent;
+import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.annotations.Nullable;
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.streams.ReadStream;
+import io.vertx.grpc.common.BackendMetrics;
+import io.vertx.grpc.common.GrpcHeaderNames;
+import io.vertx.grpc.common.GrpcMetadata;
 import io.vertx.grpc.common.GrpcStatus;
 import io.vertx.grpc.common.GrpcWriteStream;
 import io.vertx.grpc.common.WireFormat;
 
+import java.util.List;
 import java.util.Set;
 
 @VertxGen
@@ -66,6 +71,28 @@ public interface GrpcServerResponse<Req, Resp> extends GrpcWriteStream<Resp> {
    */
   MultiMap trailers();
 
+  /**
+   * @return the {@link #trailers()} as {@link GrpcMetadata} to write typed metadata trailers
+   */
+  @GenIgnore(GenIgnore.PERMITTED_TYPE)
+  default GrpcMetadata trailersMetadata() {
+    return GrpcMetadata.of(trailers());
+  }
+
+  /**
+   * Report the load of this server to the client with the {@code endpoint-load-metrics} trailer, a client load
+   * balancer can use it to weight the servers.
+   *
+   * @param metrics the backend metrics
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  @GenIgnore(GenIgnore.PERMITTED_TYPE)
+  default GrpcServerResponse<Req, Resp> backendMetrics(BackendMetrics metrics) {
+    trailers().set(GrpcHeaderNames.ENDPOINT_LOAD_METRICS, metrics.encode());
+    return this;
+  }
+
   @Override
   GrpcServerResponse<Req, Resp> exceptionHandler(@Nullable Handler<Throwable> handler);
 
@@ -75,6 +102,41 @@ public interface GrpcServerResponse<Req, Resp> extends GrpcWriteStream<Resp> {
   @Override
   GrpcServerResponse<Req, Resp> drainHandler(@Nullable Handler<Void> handler);
 
+  /**
+   * Cork the response: the messages written to the response are held back and coalesced in a single write until
+   * {@link #flush()} is called, the response ends or the batch reaches the configured
+   * {@link GrpcServerOptions#setWriteBatchMaxSize(int) size} or {@link GrpcServerOptions#setWriteBatchMaxDelay(long) delay}.
+   * <p>
+   * The future returned by a write is completed when its batch has been written.
+   *
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  GrpcServerResponse<Req, Resp> cork();
+
+  /**
+   * Uncork the response and write the pending messages.
+   *
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  GrpcServerResponse<Req, Resp> uncork();
+
+  /**
+   * Write the messages held back by a {@link #cork() corked} response.
+   *
+   * @return a future completed with the result
+   */
+  Future<Void> flush();
+
+  /**
+   * Write a batch of messages in a single write, regardless of the response being {@link #cork() corked}.
+   *
+   * @param messages the messages
+   * @return a future completed when the batch has been written
+   */
+  Future<Void> writeBatch(List<Resp> messages);
+
   default Future<Void> send(Resp item) {
     return end(item);
   }
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.server;
+
+import io.vertx.codegen.annotations.GenIgnore;
+import io.vertx.core.Promise;
+import io.vertx.core.VertxException;
+import io.vertx.core.streams.ReadStream;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A blocking iterator over the messages of a {@link ReadStream}, for call handlers executed on a
+ * {@link io.vertx.core.ThreadingModel#VIRTUAL_THREAD virtual thread}.
+ * <p>
+ * The stream is paused and each message is {@link ReadStream#fetch(long) fetched} when the iterator needs it, so the
+ * flow control of the stream is preserved. Waiting for a message uses {@link io.vertx.core.Future#await()}, which
+ * lets the context of the virtual thread deliver the message.
+ */
+@GenIgnore(GenIgnore.PERMITTED_TYPE)
+public final class ReadStreamIterator<T> implements Iterator<T> {
+
+  /**
+   * Create an iterator over the messages of {@code stream}, it must be called from the virtual thread context of the
+   * stream.
+   *
+   * @param stream the stream
+   * @return the iterator
+   */
+  public static <T> Iterator<T> create(ReadStream<T> stream) {
+    return new ReadStreamIterator<>(stream);
+  }
+
+  private final ReadStream<T> stream;
+  private final ArrayDeque<T> pending = new ArrayDeque<>();
+  private Promise<Void> waiter;
+  private boolean ended;
+  private Throwable failure;
+
+  private ReadStreamIterator(ReadStream<T> stream) {
+    this.stream = stream;
+    stream.pause();
+    stream.handler(item -> {
+      pending.add(item);
+      signal();
+    });
+    stream.exceptionHandler(err -> {
+      failure = err;
+      signal();
+    });
+    stream.endHandler(v -> {
+      ended = true;
+      signal();
+    });
+  }
+
+  private void signal() {
+    Promise<Void> promise = waiter;
+    if (promise != null) {
+      waiter = null;
+      promise.complete();
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    while (pending.isEmpty()) {
+      if (failure != null) {
+        if (failure instanceof RuntimeException) {
+          throw (RuntimeException) failure;
+        }
+        throw new VertxException(failure);
+      }
+      if (ended) {
+        return false;
+      }
+      Promise<Void> promise = Promise.promise();
+      waiter = promise;
+      stream.fetch(1);
+      promise.future().await();
+    }
+    return true;
+  }
+
+  @Override
+  public T next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    return pending.poll();
+  }
+}
@@ -3,6 +3,7 @@ package io.vertx.grpc.server;
 import com.google.protobuf.Descriptors;
 import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.core.Future;
+import io.vertx.core.ThreadingModel;
 import io.vertx.grpc.common.ServiceMethod;
 import io.vertx.grpc.common.ServiceName;
 import io.vertx.grpc.server.impl.ServiceBuilderImpl;
@@ -57,6 +58,17 @@ public interface Service extends ServiceInvoker {
     return Collections.emptyList();
   }
 
+  /**
+   * Get the threading model of the calls of a method, unless it is configured by
+   * {@link GrpcServerOptions#addThreadingModel(String, ThreadingModel)}.
+   *
+   * @param method the service method
+   * @return the threading model or {@code null} to use the event-loop of the HTTP request
+   */
+  default ThreadingModel threadingModel(ServiceMethod<?, ?> method) {
+    return null;
+  }
+
   /**
    * Close the service.
    */
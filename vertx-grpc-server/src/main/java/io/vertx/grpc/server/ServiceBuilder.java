@@ -1,6 +1,7 @@
 package io.vertx.grpc.server;
 
 import io.vertx.core.Handler;
+import io.vertx.core.ThreadingModel;
 import io.vertx.grpc.common.ServiceMethod;
 
 /**
@@ -19,6 +20,27 @@ public interface ServiceBuilder {
    */
   <Req, Resp> ServiceBuilder bind(ServiceMethod<Req, Resp> serviceMethod, Handler<GrpcServerRequest<Req, Resp>> handler);
 
+  /**
+   * Bind a service method call handler executed with a specific threading model, e.g. {@link ThreadingModel#VIRTUAL_THREAD}
+   * for a handler that blocks. Each call gets its own worker or virtual thread context, so the calls of a connection
+   * are not ordered with each other. Adding the service to a server fails when virtual threads are not available.
+   *
+   * @param serviceMethod the service method
+   * @param threadingModel the threading model of the handler
+   * @param handler the service method call handler
+   * @return a reference to this, so the API can be used fluently
+   */
+  <Req, Resp> ServiceBuilder bind(ServiceMethod<Req, Resp> serviceMethod, ThreadingModel threadingModel, Handler<GrpcServerRequest<Req, Resp>> handler);
+
+  /**
+   * Set the threading model of the handlers bound without a threading model, by default they are executed on the
+   * event-loop of the HTTP request.
+   *
+   * @param threadingModel the threading model
+   * @return a reference to this, so the API can be used fluently
+   */
+  ServiceBuilder threadingModel(ThreadingModel threadingModel);
+
   /**
    * Constructs and returns a {@link Service} instance based on the current configuration of the builder.
    *
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.server.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.http.HttpConnection;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.grpc.common.GrpcStatus;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Tracks the calls in flight of a server to drain them on shutdown.
+ * <p>
+ * The state is striped per event loop like {@link ConcurrencyLimiter}: a stripe is only updated from its context, its
+ * active call count is a volatile field with a single writer, the total count is the sum of the stripes and needs no lock.
+ */
+final class CallTracker {
+
+  private final List<Stripe> stripes = new CopyOnWriteArrayList<>();
+  private volatile Promise<Void> drain;
+
+  /**
+   * @return the stripe of the {@code context} event loop
+   */
+  Stripe stripe(ContextInternal context) {
+    ContextInternal unwrapped = context.unwrap();
+    return (Stripe) unwrapped.contextData().computeIfAbsent(this, key -> {
+      Stripe stripe = new Stripe(unwrapped);
+      stripes.add(stripe);
+      return stripe;
+    });
+  }
+
+  /**
+   * @return the number of calls in flight
+   */
+  long activeCalls() {
+    long count = 0L;
+    for (Stripe stripe : stripes) {
+      count += stripe.active;
+    }
+    return count;
+  }
+
+  /**
+   * Stop accepting calls and send a {@code GOAWAY} frame on the HTTP/2 connections.
+   *
+   * @param context the context of the returned future
+   * @return a future completed when no call is in flight
+   */
+  synchronized Future<Void> drain(ContextInternal context) {
+    Promise<Void> promise = drain;
+    if (promise == null) {
+      promise = context.promise();
+      drain = promise;
+      for (Stripe stripe : stripes) {
+        stripe.context.runOnContext(v -> stripe.goAway());
+      }
+      checkDrained();
+    }
+    return promise.future();
+  }
+
+  /**
+   * End the calls in flight with the {@code status}.
+   *
+   * @return a future completed when the calls of every stripe have been ended
+   */
+  Future<Void> abort(GrpcStatus status, String message) {
+    List<Future<Void>> futures = new ArrayList<>(stripes.size());
+    for (Stripe stripe : stripes) {
+      Promise<Void> promise = stripe.context.promise();
+      stripe.context.runOnContext(v -> {
+        stripe.abort(status, message);
+        promise.complete();
+      });
+      futures.add(promise.future());
+    }
+    return Future.all(futures).mapEmpty();
+  }
+
+  private void checkDrained() {
+    Promise<Void> promise = drain;
+    if (promise != null && activeCalls() == 0L) {
+      promise.tryComplete();
+    }
+  }
+
+  final class Stripe {
+
+    private final ContextInternal context;
+    private final Set<GrpcDispatcher<?, ?>> calls = new HashSet<>();
+    private final Set<HttpConnection> connections = Collections.newSetFromMap(new WeakHashMap<>());
+    private volatile long active;
+
+    private Stripe(ContextInternal context) {
+      this.context = context;
+    }
+
+    /**
+     * Start a call, a call started while draining is not accepted and its HTTP/2 {@code connection} is sent a
+     * {@code GOAWAY} frame unless it was already.
+     *
+     * @param connection the call connection
+     * @param http2 whether the connection is an HTTP/2 connection
+     * @return whether the call is accepted
+     */
+    boolean enter(HttpConnection connection, boolean http2) {
+      // Counted before checking the drain so that drain either sees the call or the call sees the drain
+      active = active + 1;
+      if (drain != null) {
+        if (http2 && connections.add(connection)) {
+          connection.goAway(0);
+        }
+        leave(null);
+        return false;
+      }
+      if (http2) {
+        connections.add(connection);
+      }
+      return true;
+    }
+
+    /**
+     * Track an HTTP/2 {@code connection} accepted by the server, so it is sent a {@code GOAWAY} frame on drain even if it
+     * has not carried a call yet.
+     */
+    void connected(HttpConnection connection) {
+      connections.add(connection);
+    }
+
+    /**
+     * Track the {@code call} started with {@link #enter} until it {@link #leave leaves}.
+     */
+    void track(GrpcDispatcher<?, ?> call) {
+      calls.add(call);
+    }
+
+    /**
+     * Complete a call started with {@link #enter}.
+     *
+     * @param call the call or {@code null} when it was not tracked
+     */
+    void leave(GrpcDispatcher<?, ?> call) {
+      if (call != null) {
+        calls.remove(call);
+      }
+      active = active - 1;
+      if (drain != null && active == 0L) {
+        checkDrained();
+      }
+    }
+
+    private void goAway() {
+      for (HttpConnection connection : connections) {
+        connection.goAway(0);
+      }
+    }
+
+    private void abort(GrpcStatus status, String message) {
+      for (GrpcDispatcher<?, ?> call : new ArrayList<>(calls)) {
+        call.abort(status, message);
+      }
+    }
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.server.impl;
+
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.grpc.server.ConcurrencyLimitOptions;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limits the concurrent calls of a service or a method.
+ * <p>
+ * The state is striped per event loop: each stripe lives in the data of the (unwrapped) context handling the calls
+ * and is only used from this context, so it needs no synchronization.
+ */
+final class ConcurrencyLimiter {
+
+  final LongAdder shed = new LongAdder();
+
+  private final boolean adaptive;
+  private final int initialLimit;
+  private final int minLimit;
+  private final int maxLimit;
+  private final double backoffRatio;
+  private final long latencyThresholdNanos;
+
+  ConcurrencyLimiter(ConcurrencyLimitOptions options) {
+    this.adaptive = options.isAdaptive();
+    this.minLimit = Math.min(options.getMinLimit(), options.getMaxLimit());
+    this.maxLimit = options.getMaxLimit();
+    this.initialLimit = adaptive ? Math.max(minLimit, Math.min(maxLimit, options.getLimit())) : options.getLimit();
+    this.backoffRatio = options.getBackoffRatio();
+    this.latencyThresholdNanos = TimeUnit.MILLISECONDS.toNanos(options.getLatencyThreshold());
+  }
+
+  /**
+   * @return the stripe of the {@code context} event loop
+   */
+  Stripe stripe(ContextInternal context) {
+    return (Stripe) context.unwrap().contextData().computeIfAbsent(this, key -> new Stripe());
+  }
+
+  final class Stripe {
+
+    private int limit = initialLimit;
+    private int inFlight;
+
+    /**
+     * @return the current limit
+     */
+    int limit() {
+      return limit;
+    }
+
+    /**
+     * @return the number of calls in flight
+     */
+    int inFlight() {
+      return inFlight;
+    }
+
+    /**
+     * Try to start a call.
+     *
+     * @return {@code true} when the call can proceed, {@code false} when the limit is reached
+     */
+    boolean tryAcquire() {
+      if (inFlight >= limit) {
+        return false;
+      }
+      inFlight++;
+      return true;
+    }
+
+    /**
+     * Complete a call started with {@link #tryAcquire()} and adapt the limit.
+     *
+     * @param latencyNanos the call latency
+     * @param dropped whether the call did not complete normally
+     */
+    void release(long latencyNanos, boolean dropped) {
+      int used = inFlight--;
+      if (adaptive) {
+        if (dropped || latencyNanos > latencyThresholdNanos) {
+          limit = Math.max(minLimit, (int) (limit * backoffRatio));
+        } else if (used * 2 >= limit) {
+          // Only grow when the limit is actually in use
+          limit = Math.min(maxLimit, limit + 1);
+        }
+      }
+    }
+
+    /**
+     * Complete a call started with {@link #tryAcquire()} without adapting the limit, e.g. a call cancelled by the
+     * client says nothing about the load of the server.
+     */
+    void release() {
+      inFlight--;
+    }
+  }
+}
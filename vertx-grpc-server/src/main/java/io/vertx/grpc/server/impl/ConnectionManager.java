@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.server.impl;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpConnection;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.grpc.server.GrpcServerOptions;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Enforces the keepalive, idle and age policies of the server HTTP/2 connections, a connection is managed from when it
+ * is accepted by the {@link io.vertx.grpc.server.GrpcServer#connectionHandler() connection handler}, or from its first
+ * call when the HTTP server does not use this handler.
+ * <p>
+ * The connections are kept per event loop in the data of the (unwrapped) context handling their calls and are only
+ * used from this context, so they need no synchronization.
+ * <p>
+ * The manager does not set the connection close handler, it belongs to the application. A managed connection only
+ * holds its connection weakly: a closed connection is dropped by the weak map and the pending timers find it gone.
+ */
+final class ConnectionManager {
+
+  /**
+   * The {@code ENHANCE_YOUR_CALM} HTTP/2 error code.
+   */
+  private static final long ENHANCE_YOUR_CALM = 0xB;
+
+  /**
+   * The number of {@code PING} frames received too early tolerated before closing the connection.
+   */
+  private static final int MAX_PING_STRIKES = 2;
+
+  /**
+   * The time between {@code PING} frames permitted to a client without calls when keepalive without calls is not permitted.
+   */
+  private static final long IMPLICIT_PERMIT_TIME_NANOS = TimeUnit.HOURS.toNanos(2);
+
+  private final long keepAliveTime;
+  private final long keepAliveTimeout;
+  private final long permitKeepAliveTimeNanos;
+  private final boolean permitKeepAliveWithoutCalls;
+  private final long maxConnectionIdle;
+  private final long maxConnectionAge;
+  private final long maxConnectionAgeGrace;
+
+  ConnectionManager(GrpcServerOptions options) {
+    this.keepAliveTime = options.getKeepAliveTime();
+    this.keepAliveTimeout = options.getKeepAliveTimeout();
+    this.permitKeepAliveTimeNanos = TimeUnit.MILLISECONDS.toNanos(options.getPermitKeepAliveTime());
+    this.permitKeepAliveWithoutCalls = options.getPermitKeepAliveWithoutCalls();
+    this.maxConnectionIdle = options.getMaxConnectionIdle();
+    this.maxConnectionAge = options.getMaxConnectionAge();
+    this.maxConnectionAgeGrace = options.getMaxConnectionAgeGrace();
+  }
+
+  /**
+   * @return whether a policy is configured, otherwise connections need not be managed
+   */
+  boolean isEnabled() {
+    return keepAliveTime > 0L || permitKeepAliveTimeNanos > 0L || maxConnectionIdle > 0L || maxConnectionAge > 0L;
+  }
+
+  /**
+   * @return the managed {@code connection} handled by the {@code context} event loop
+   */
+  @SuppressWarnings("unchecked")
+  ManagedConnection connection(ContextInternal context, HttpConnection connection) {
+    ContextInternal unwrapped = context.unwrap();
+    Map<HttpConnection, ManagedConnection> connections = (Map<HttpConnection, ManagedConnection>) unwrapped
+      .contextData()
+      .computeIfAbsent(this, key -> new WeakHashMap<>());
+    ManagedConnection managed = connections.get(connection);
+    if (managed == null) {
+      managed = new ManagedConnection(unwrapped, connection, connections);
+      connections.put(connection, managed);
+      managed.init(connection);
+    }
+    return managed;
+  }
+
+  final class ManagedConnection {
+
+    private final ContextInternal context;
+    private final WeakReference<HttpConnection> connection;
+    private final Map<HttpConnection, ManagedConnection> connections;
+    private int activeCalls;
+    private boolean closing;
+    private long ageTimer = -1L;
+    private long idleTimer = -1L;
+    private long keepAliveTimer = -1L;
+    private long lastValidPing;
+    private boolean pingPermitted;
+    private int pingStrikes;
+
+    private ManagedConnection(ContextInternal context, HttpConnection connection, Map<HttpConnection, ManagedConnection> connections) {
+      this.context = context;
+      this.connection = new WeakReference<>(connection);
+      this.connections = connections;
+      this.lastValidPing = System.nanoTime();
+    }
+
+    private void init(HttpConnection connection) {
+      if (permitKeepAliveTimeNanos > 0L) {
+        connection.pingHandler(ping -> handlePing());
+      }
+      if (maxConnectionAge > 0L) {
+        // Jitter the age so the connections created together do not go away together
+        long age = (long) (maxConnectionAge * (0.9D + 0.2D * ThreadLocalRandom.current().nextDouble()));
+        ageTimer = context.setTimer(Math.max(1L, age), id -> {
+          ageTimer = -1L;
+          handleMaxAge();
+        });
+      }
+      scheduleKeepAlive();
+      // A connection that never carries a call is idle from the start
+      scheduleIdle();
+    }
+
+    /**
+     * Signal a call started on the connection.
+     */
+    void callStarted() {
+      activeCalls++;
+      // A ping following a call is legitimate
+      dataSent();
+      if (idleTimer != -1L) {
+        context.owner().cancelTimer(idleTimer);
+        idleTimer = -1L;
+      }
+    }
+
+    /**
+     * Signal the server sent headers or data on the connection, the client can legitimately ping after receiving them,
+     * e.g. to estimate the bandwidth-delay product, so the ping strikes are forgiven.
+     */
+    void dataSent() {
+      pingPermitted = true;
+      pingStrikes = 0;
+    }
+
+    /**
+     * Signal a call started with {@link #callStarted()} ended.
+     */
+    void callEnded() {
+      activeCalls--;
+      scheduleIdle();
+    }
+
+    private void scheduleIdle() {
+      if (activeCalls == 0 && maxConnectionIdle > 0L && !closing) {
+        idleTimer = context.setTimer(maxConnectionIdle, id -> {
+          idleTimer = -1L;
+          HttpConnection conn = connection.get();
+          if (conn != null && activeCalls == 0 && !closing) {
+            closing = true;
+            conn.close();
+          }
+        });
+      }
+    }
+
+    private void handleMaxAge() {
+      HttpConnection conn = connection.get();
+      if (conn != null && !closing) {
+        closing = true;
+        if (maxConnectionAgeGrace > 0L) {
+          conn.shutdown(maxConnectionAgeGrace, TimeUnit.MILLISECONDS);
+        } else {
+          conn.goAway(0);
+        }
+      }
+    }
+
+    private void handlePing() {
+      long now = System.nanoTime();
+      long permitTime = activeCalls > 0 || permitKeepAliveWithoutCalls ? permitKeepAliveTimeNanos : Math.max(permitKeepAliveTimeNanos, IMPLICIT_PERMIT_TIME_NANOS);
+      if (pingPermitted || now - lastValidPing >= permitTime) {
+        pingPermitted = false;
+        lastValidPing = now;
+      } else if (++pingStrikes > MAX_PING_STRIKES && !closing) {
+        HttpConnection conn = connection.get();
+        if (conn != null) {
+          closing = true;
+          conn.goAway(ENHANCE_YOUR_CALM, -1, Buffer.buffer("too_many_pings"));
+          conn.close();
+        }
+      }
+    }
+
+    private void scheduleKeepAlive() {
+      if (keepAliveTime > 0L) {
+        keepAliveTimer = context.setTimer(keepAliveTime, id -> {
+          keepAliveTimer = -1L;
+          keepAlive();
+        });
+      }
+    }
+
+    private void keepAlive() {
+      HttpConnection conn = connection.get();
+      if (conn == null) {
+        dispose();
+        return;
+      }
+      long timeout = context.setTimer(keepAliveTimeout, id -> {
+        // Not acknowledged in time, the connection is broken
+        closing = true;
+        conn.close();
+      });
+      conn
+        .ping(Buffer.buffer(new byte[8]))
+        .onComplete(ar -> {
+          context.owner().cancelTimer(timeout);
+          if (ar.succeeded() && connections.get(conn) == this) {
+            scheduleKeepAlive();
+          } else {
+            // Closed
+            dispose();
+          }
+        });
+    }
+
+    private void dispose() {
+      HttpConnection conn = connection.get();
+      if (conn != null && connections.get(conn) == this) {
+        connections.remove(conn);
+      }
+      closing = true;
+      if (ageTimer != -1L) {
+        context.owner().cancelTimer(ageTimer);
+        ageTimer = -1L;
+      }
+      if (idleTimer != -1L) {
+        context.owner().cancelTimer(idleTimer);
+        idleTimer = -1L;
+      }
+      if (keepAliveTimer != -1L) {
+        context.owner().cancelTimer(keepAliveTimer);
+        keepAliveTimer = -1L;
+      }
+    }
+  }
+}
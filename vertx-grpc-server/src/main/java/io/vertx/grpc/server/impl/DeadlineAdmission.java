@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.server.impl;
+
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.grpc.common.impl.LatencyHistogram;
+import io.vertx.grpc.server.DeadlineAdmissionOptions;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Rejects the calls of a service or a method whose deadline leaves less time than the admission threshold.
+ * <p>
+ * The learned threshold is striped per event loop like {@link ConcurrencyLimiter}: each stripe keeps a
+ * {@link LatencyHistogram} of the latencies (in microseconds) of the calls that completed successfully on its event loop.
+ */
+final class DeadlineAdmission {
+
+  // Halve the counts periodically, so the threshold follows the recent latencies
+  private static final int DECAY_INTERVAL = 4096;
+
+  // Recompute the threshold after this number of samples
+  private static final int UPDATE_INTERVAL = 64;
+
+  final LongAdder shed = new LongAdder();
+
+  private final long minTimeRemainingNanos;
+  private final boolean adaptive;
+  private final double percentile;
+  private final int minSamples;
+
+  DeadlineAdmission(DeadlineAdmissionOptions options) {
+    this.minTimeRemainingNanos = TimeUnit.MILLISECONDS.toNanos(options.getMinTimeRemaining());
+    this.adaptive = options.isAdaptive();
+    this.percentile = options.getPercentile();
+    this.minSamples = options.getMinSamples();
+  }
+
+  /**
+   * @return whether the threshold is learned from the call latencies
+   */
+  boolean isAdaptive() {
+    return adaptive;
+  }
+
+  /**
+   * @return the stripe of the {@code context} event loop
+   */
+  Stripe stripe(ContextInternal context) {
+    return (Stripe) context.unwrap().contextData().computeIfAbsent(this, key -> new Stripe());
+  }
+
+  /**
+   * Decide whether a call with the given {@code timeout} can be admitted.
+   *
+   * @param stripe the stripe of the event loop or {@code null} when the admission is not adaptive
+   * @param timeout the call timeout
+   * @return whether the call can be dispatched
+   */
+  boolean admit(Stripe stripe, Duration timeout) {
+    long remaining = toNanos(timeout);
+    if (remaining <= 0L) {
+      return false;
+    }
+    long threshold = minTimeRemainingNanos;
+    if (stripe != null) {
+      threshold = Math.max(threshold, stripe.threshold);
+    }
+    return remaining >= threshold;
+  }
+
+  private static long toNanos(Duration duration) {
+    if (duration.getSeconds() >= Long.MAX_VALUE / 1_000_000_000L) {
+      return Long.MAX_VALUE;
+    }
+    return duration.toNanos();
+  }
+
+  final class Stripe {
+
+    private final long[] counts = new long[LatencyHistogram.BUCKETS];
+    private long total;
+    private int sinceDecay;
+    private int sinceUpdate;
+    private long threshold;
+
+    /**
+     * @return the learned threshold in nanoseconds
+     */
+    long threshold() {
+      return threshold;
+    }
+
+    /**
+     * Record the latency of a call that completed successfully.
+     *
+     * @param latencyNanos the call latency
+     */
+    void record(long latencyNanos) {
+      counts[LatencyHistogram.bucket(latencyNanos / 1000L)]++;
+      total++;
+      if (++sinceDecay == DECAY_INTERVAL) {
+        sinceDecay = 0;
+        total = 0;
+        for (int i = 0;i < counts.length;i++) {
+          counts[i] >>= 1;
+          total += counts[i];
+        }
+      }
+      if (++sinceUpdate >= UPDATE_INTERVAL && total >= minSamples) {
+        sinceUpdate = 0;
+        int bucket = LatencyHistogram.percentileBucket(counts, total, percentile);
+        if (bucket >= 0) {
+          threshold = TimeUnit.MICROSECONDS.toNanos(LatencyHistogram.lowestValue(bucket));
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.server.impl;
+
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.grpc.common.GrpcMessageEncoder;
+import io.vertx.grpc.common.GrpcStatus;
+import io.vertx.grpc.common.PreEncodedGrpcMessage;
+import io.vertx.grpc.common.WireFormat;
+import io.vertx.grpc.common.impl.GrpcWriteStreamBase;
+import io.vertx.grpc.server.GrpcBroadcaster;
+import io.vertx.grpc.server.GrpcServerResponse;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public class GrpcBroadcasterImpl<Resp> implements GrpcBroadcaster<Resp> {
+
+  private final GrpcMessageEncoder<Resp> encoder;
+  private final SlowSubscriberPolicy policy;
+  private final Set<GrpcServerResponse<?, Resp>> subscribers = ConcurrentHashMap.newKeySet();
+  private final LongAdder skipped = new LongAdder();
+
+  public GrpcBroadcasterImpl(GrpcMessageEncoder<Resp> encoder, SlowSubscriberPolicy policy) {
+    this.encoder = Objects.requireNonNull(encoder);
+    this.policy = Objects.requireNonNull(policy);
+  }
+
+  @Override
+  public GrpcBroadcaster<Resp> add(GrpcServerResponse<?, Resp> subscriber) {
+    subscribers.add(Objects.requireNonNull(subscriber));
+    return this;
+  }
+
+  @Override
+  public boolean remove(GrpcServerResponse<?, Resp> subscriber) {
+    return subscribers.remove(subscriber);
+  }
+
+  @Override
+  public int size() {
+    return subscribers.size();
+  }
+
+  @Override
+  public long skipped() {
+    return skipped.sum();
+  }
+
+  @Override
+  public void broadcast(Resp message) {
+    // Encoded once per wire format used by the subscribers
+    Map<WireFormat, PreEncodedGrpcMessage> encoded = new HashMap<>(2);
+    for (GrpcServerResponse<?, Resp> subscriber : subscribers) {
+      WireFormat format = subscriber instanceof GrpcWriteStreamBase ? ((GrpcWriteStreamBase<?, ?>) subscriber).format() : null;
+      if (format == null) {
+        format = encoder.accepts(WireFormat.PROTOBUF) ? WireFormat.PROTOBUF : WireFormat.JSON;
+      }
+      PreEncodedGrpcMessage msg = encoded.get(format);
+      if (msg == null) {
+        msg = PreEncodedGrpcMessage.encode(message, encoder, format);
+        encoded.put(format, msg);
+      }
+      deliver(subscriber, msg);
+    }
+  }
+
+  @Override
+  public void broadcast(PreEncodedGrpcMessage message) {
+    for (GrpcServerResponse<?, Resp> subscriber : subscribers) {
+      deliver(subscriber, message);
+    }
+  }
+
+  private void deliver(GrpcServerResponse<?, Resp> subscriber, PreEncodedGrpcMessage message) {
+    if (subscriber instanceof GrpcWriteStreamBase) {
+      ContextInternal context = ((GrpcWriteStreamBase<?, ?>) subscriber).context();
+      if (!context.inThread()) {
+        context.runOnContext(v -> write(subscriber, message));
+        return;
+      }
+    }
+    write(subscriber, message);
+  }
+
+  private void write(GrpcServerResponse<?, Resp> subscriber, PreEncodedGrpcMessage message) {
+    if (subscriber instanceof GrpcWriteStreamBase) {
+      GrpcWriteStreamBase<?, ?> stream = (GrpcWriteStreamBase<?, ?>) subscriber;
+      if (stream.isEndWritten() || stream.isCancelled()) {
+        subscribers.remove(subscriber);
+        return;
+      }
+    }
+    try {
+      if (subscriber.writeQueueFull()) {
+        skipped.increment();
+        if (policy == SlowSubscriberPolicy.DISCONNECT) {
+          subscribers.remove(subscriber);
+          subscriber
+            .status(GrpcStatus.RESOURCE_EXHAUSTED)
+            .statusMessage("Subscriber too slow")
+            .end();
+        }
+        return;
+      }
+      subscriber
+        .writeMessage(message)
+        .onFailure(err -> subscribers.remove(subscriber));
+    } catch (IllegalStateException e) {
+      // The response is failed or ended
+      subscribers.remove(subscriber);
+    }
+  }
+}
@@ -5,18 +5,21 @@ import io.vertx.core.http.HttpConnection;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.spi.context.storage.AccessMode;
 import io.vertx.grpc.common.*;
+import io.vertx.grpc.common.impl.CallMetrics;
 import io.vertx.grpc.common.impl.GrpcFrame;
 import io.vertx.grpc.common.impl.GrpcHeadersFrame;
 import io.vertx.grpc.common.impl.GrpcStream;
 import io.vertx.grpc.common.impl.GrpcMessageFrame;
 import io.vertx.grpc.common.impl.GrpcMethodCall;
 import io.vertx.grpc.server.GrpcProtocol;
+import io.vertx.grpc.server.GrpcServerMetrics;
 import io.vertx.grpc.server.GrpcServerRequest;
 
 public class GrpcDispatcher<Req, Resp> implements Handler<GrpcFrame> {
 
   private final GrpcStream stream;
   private final ContextInternal context;
+  private final ContextInternal callContext;
   private final GrpcProtocol protocol;
   private final WireFormat format;
   private final GrpcMessageDecoder<Req> messageDecoder;
@@ -26,11 +29,20 @@ public class GrpcDispatcher<Req, Resp> implements Handler<GrpcFrame> {
   private final Handler<GrpcServerRequest<Req, Resp>> method;
   private final boolean propagateDeadline;
   private final boolean scheduleDeadline;
+  private int compressionThreshold;
+  private boolean adaptiveCompression;
+  private GrpcServerMetrics<?> metrics;
+  private CallMetrics callMetrics;
   private GrpcServerRequestImpl<Req, Resp> grpcRequest;
   private GrpcServerResponseImpl<Req, Resp> grpcResponse;
 
+  /**
+   * Create a dispatcher invoking {@code method} on the {@code callContext}, the {@code stream} events are received on
+   * {@code context}.
+   */
   public GrpcDispatcher(GrpcStream stream,
                         ContextInternal context,
+                        ContextInternal callContext,
                         GrpcProtocol protocol,
                         WireFormat format,
                         GrpcMessageDecoder<Req> messageDecoder,
@@ -42,6 +54,7 @@ public class GrpcDispatcher<Req, Resp> implements Handler<GrpcFrame> {
                         boolean scheduleDeadline) {
     this.stream = stream;
     this.context = context;
+    this.callContext = callContext;
     this.protocol = protocol;
     this.format = format;
     this.messageDecoder = messageDecoder;
@@ -53,6 +66,21 @@ public class GrpcDispatcher<Req, Resp> implements Handler<GrpcFrame> {
     this.scheduleDeadline = scheduleDeadline;
   }
 
+  /**
+   * Configure the compression of the response messages, must be called before the stream delivers the call headers.
+   */
+  void compressionPolicy(int threshold, boolean adaptive) {
+    this.compressionThreshold = threshold;
+    this.adaptiveCompression = adaptive;
+  }
+
+  /**
+   * Report the call to the {@code metrics}, must be called before the stream delivers the call headers.
+   */
+  void metrics(GrpcServerMetrics<?> metrics) {
+    this.metrics = metrics;
+  }
+
   @Override
   public void handle(GrpcFrame frame) {
 
@@ -77,7 +105,7 @@ public class GrpcDispatcher<Req, Resp> implements Handler<GrpcFrame> {
 
   private void handleHeadersFrame(GrpcHeadersFrame frame) {
     grpcRequest = new GrpcServerRequestImpl<>(
-      context,
+      callContext,
       frame.headers(),
       protocol,
       format,
@@ -92,12 +120,19 @@ public class GrpcDispatcher<Req, Resp> implements Handler<GrpcFrame> {
       }
     };
     grpcResponse = new GrpcServerResponseImpl<>(
-      context,
+      callContext,
       grpcRequest,
       stream,
       protocol,
       messageEncoder);
     grpcResponse.format(format);
+    grpcResponse.compressionPolicy(compressionThreshold, adaptiveCompression);
+    if (metrics != null) {
+      callMetrics = new CallMetrics(metrics, metrics.callBegin(methodCall.serviceName(), methodCall.methodName()));
+      callMetrics.headersReceived(frame.headers());
+      grpcRequest.metrics(callMetrics);
+      grpcResponse.metrics(callMetrics);
+    }
     long timeout = grpcRequest.timeout();
     if (propagateDeadline && timeout > 0L) {
       long deadline = System.currentTimeMillis() + timeout;
@@ -111,18 +146,36 @@ public class GrpcDispatcher<Req, Resp> implements Handler<GrpcFrame> {
         grpcResponse.cancel();
       }
     });
-    grpcRequest.context().dispatch(grpcRequest, req -> {
-      try {
-        method.handle(req);
-      } catch (Exception e) {
-        handleInvocationFailure(e);
-      }
-    });
+    if (callContext == context) {
+      callContext.dispatch(grpcRequest, this::invoke);
+    } else {
+      GrpcServerRequestImpl<Req, Resp> request = grpcRequest;
+      callContext.runOnContext(v -> invoke(request));
+    }
+  }
+
+  private void invoke(GrpcServerRequest<Req, Resp> request) {
+    try {
+      method.handle(request);
+    } catch (Exception e) {
+      handleInvocationFailure(e);
+    }
+  }
+
+  /**
+   * Execute a stream event on the call context.
+   */
+  private void execute(Runnable task) {
+    if (callContext == context) {
+      task.run();
+    } else {
+      callContext.runOnContext(v -> task.run());
+    }
   }
 
   private void handleInvocationFailure(Exception e) {
     if (grpcResponse.isCancelled() || grpcResponse.isEndWritten()) {
-      context.reportException(e);
+      callContext.reportException(e);
     } else {
       grpcResponse.fail(e);
     }
@@ -138,7 +191,7 @@ public class GrpcDispatcher<Req, Resp> implements Handler<GrpcFrame> {
   private void handleCancel(GrpcCancelFrame frame) {
     GrpcServerRequestImpl<Req, Resp> r = grpcRequest;
     if (r != null) {
-      r.handleCancel();
+      execute(r::handleCancel);
     }
   }
 
@@ -149,11 +202,32 @@ public class GrpcDispatcher<Req, Resp> implements Handler<GrpcFrame> {
   }
 
   public void handleException(Throwable exception) {
-    if (grpcRequest != null) {
-      grpcRequest.handleException(exception);
+    GrpcServerRequestImpl<Req, Resp> r = grpcRequest;
+    if (r != null) {
+      execute(() -> r.handleException(exception));
     }
   }
 
   public void handleEnd(Void v) {
   }
+
+  /**
+   * Signal the stream of the call is closed, a call that did not end is reported cancelled.
+   */
+  void handleClosed() {
+    CallMetrics m = callMetrics;
+    if (m != null) {
+      execute(() -> m.end(GrpcStatus.CANCELLED));
+    }
+  }
+
+  /**
+   * End the call with the {@code status} on the call context.
+   */
+  void abort(GrpcStatus status, String message) {
+    GrpcServerResponseImpl<Req, Resp> r = grpcResponse;
+    if (r != null) {
+      execute(() -> r.abort(status, message));
+    }
+  }
 }
@@ -14,23 +14,34 @@ import io.vertx.core.Closeable;
 import io.vertx.core.Completable;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.ThreadingModel;
+import io.vertx.core.Timer;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpConnection;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.http.HttpVersion;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.VertxInternal;
 import io.vertx.core.internal.http.HttpServerRequestInternal;
 import io.vertx.core.internal.logging.Logger;
 import io.vertx.core.internal.logging.LoggerFactory;
 import io.vertx.grpc.common.*;
+import io.vertx.grpc.common.impl.CallMetrics;
+import io.vertx.grpc.common.impl.CompositeGrpcMessageDeframer;
+import io.vertx.grpc.common.impl.GrpcHeaderClassifier;
 import io.vertx.grpc.common.impl.GrpcMessageDeframer;
 import io.vertx.grpc.common.impl.GrpcMethodCall;
-import io.vertx.grpc.common.impl.Http2GrpcMessageDeframer;
+import io.vertx.grpc.common.impl.InboundFlowControl;
 import io.vertx.grpc.server.*;
 
+import java.time.Duration;
 import java.util.*;
-import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static io.vertx.core.http.HttpHeaders.CONTENT_TYPE;
@@ -40,24 +51,41 @@ import static io.vertx.core.http.HttpHeaders.CONTENT_TYPE;
  */
 public class GrpcServerImpl implements GrpcServer, Closeable {
 
-  private static final Pattern CONTENT_TYPE_PATTERN = Pattern.compile("application/grpc(-web(-text)?)?(\\+(json|proto))?");
-
   private static final Logger log = LoggerFactory.getLogger(GrpcServer.class);
 
+  private final VertxInternal vertx;
   private final GrpcServerOptions options;
+  private final InboundFlowControl flowControl;
+  private final CallTracker calls = new CallTracker();
+  private final ConnectionManager connectionManager;
+  private final Handler<HttpConnection> connectionHandler = this::handleConnection;
   private Handler<GrpcServerRequest<Buffer, Buffer>> requestHandler;
+  private volatile GrpcServerMetrics<?> metrics;
 
   private final List<Service> services = new ArrayList<>();
   private final Map<String, List<MethodCallHandler<?, ?>>> methodCallHandlers = new HashMap<>();
+  private volatile RouteTable routes = RouteTable.EMPTY;
+  private final Map<String, ConcurrencyLimiter> concurrencyLimiters = new ConcurrentHashMap<>();
+  private final Map<String, DeadlineAdmission> deadlineAdmissions = new ConcurrentHashMap<>();
 
   private final List<GrpcHttpInvoker> invokers;
 
   private boolean closing;
+  private Future<Void> shutdown;
 
   public GrpcServerImpl(Vertx vertx, GrpcServerOptions options) {
     ServiceLoader<GrpcHttpInvoker> loader = ServiceLoader.load(GrpcHttpInvoker.class);
     this.invokers = loader.stream().map(ServiceLoader.Provider::get).collect(Collectors.toList());
+    this.vertx = (VertxInternal) vertx;
     this.options = new GrpcServerOptions(Objects.requireNonNull(options, "options is null"));
+    this.flowControl = new InboundFlowControl(
+      options.getInboundQueueLowWaterMark(),
+      options.getInboundQueueHighWaterMark(),
+      options.getInboundQueueLowWaterMarkBytes(),
+      options.getInboundQueueHighWaterMarkBytes(),
+      options.getBdpProbing(),
+      options.getMaxFlowControlWindowSize());
+    this.connectionManager = new ConnectionManager(this.options);
   }
 
   @Override
@@ -78,6 +106,67 @@ public class GrpcServerImpl implements GrpcServer, Closeable {
       .onComplete(completion);
   }
 
+  @Override
+  public synchronized Future<Void> shutdown(long timeout, TimeUnit unit) {
+    if (shutdown != null) {
+      return shutdown;
+    }
+    ContextInternal context = vertx.getOrCreateContext();
+    Future<Void> drained = calls.drain(context);
+    if (!drained.isComplete()) {
+      Timer timer = context.timer(Math.max(1L, unit.toMillis(timeout)), TimeUnit.MILLISECONDS);
+      drained.onComplete(ar -> timer.cancel());
+      // The calls still in flight when the timer fires are ended
+      drained = Future.any(drained, timer.compose(v -> calls.abort(GrpcStatus.ABORTED, "Server shutdown"))).mapEmpty();
+    }
+    shutdown = drained.compose(v -> {
+      Promise<Void> promise = context.promise();
+      close(promise);
+      return promise.future();
+    });
+    return shutdown;
+  }
+
+  @Override
+  public GrpcServer metrics(GrpcServerMetrics<?> metrics) {
+    this.metrics = metrics;
+    return this;
+  }
+
+  @Override
+  public long activeCalls() {
+    return calls.activeCalls();
+  }
+
+  @Override
+  public Handler<HttpConnection> connectionHandler() {
+    return connectionHandler;
+  }
+
+  private void handleConnection(HttpConnection connection) {
+    if (!isHttp2(connection)) {
+      return;
+    }
+    ContextInternal context = vertx.getOrCreateContext();
+    calls.stripe(context).connected(connection);
+    if (connectionManager.isEnabled()) {
+      connectionManager.connection(context, connection);
+    }
+  }
+
+  /**
+   * @return whether the {@code connection} is an HTTP/2 connection, the HTTP/1.x connections do not support the
+   *         HTTP/2 settings
+   */
+  private static boolean isHttp2(HttpConnection connection) {
+    try {
+      connection.remoteSettings();
+      return true;
+    } catch (UnsupportedOperationException e) {
+      return false;
+    }
+  }
+
   @Override
   public void handle(HttpServerRequest httpRequest) {
     GrpcServerRequestInspector.RequestInspectionDetails details = GrpcServerRequestInspector.inspect(httpRequest);
@@ -93,51 +182,71 @@ public class GrpcServerImpl implements GrpcServer, Closeable {
       return;
     }
 
-    GrpcMethodCall methodCall = new GrpcMethodCall(httpRequest.path());
     String path = httpRequest.path();
-    while (true) {
-      List<MethodCallHandler<?, ?>> mchList = methodCallHandlers.get(path);
-      if (mchList != null) {
-        for (MethodCallHandler<?, ?> mch : mchList) {
-          if (handle(mch, httpRequest, methodCall, details.protocol, details.format)) {
-            return;
-          }
+    RouteTable routes = this.routes;
+    MethodCallHandler<?, ?>[] handlers = routes.handlers(path);
+    if (handlers != null) {
+      for (MethodCallHandler<?, ?> mch : handlers) {
+        if (handle(mch, httpRequest, path, details.protocol, details.format)) {
+          return;
         }
       }
-      int idx = path.lastIndexOf('/');
-      if (idx <= 0) {
-        break;
+    }
+    for (MethodCallHandler<?, ?>[] prefixHandlers : routes.prefixHandlers(path)) {
+      for (MethodCallHandler<?, ?> mch : prefixHandlers) {
+        if (handle(mch, httpRequest, path, details.protocol, details.format)) {
+          return;
+        }
       }
-      path = path.substring(0, idx);
     }
 
     // Generic handling
     Handler<GrpcServerRequest<Buffer, Buffer>> handler = requestHandler;
     if (handler != null) {
-      handle(new MethodCallHandler<>(null, GrpcMessageDecoder.IDENTITY, GrpcMessageEncoder.IDENTITY, handler), httpRequest, methodCall, details.protocol, details.format);
+      handle(new MethodCallHandler<>(null, GrpcMessageDecoder.IDENTITY, GrpcMessageEncoder.IDENTITY, handler), httpRequest, path, details.protocol, details.format);
     } else {
       String msg = "Method not found: " + httpRequest.path().substring(1);
-      HttpServerResponse response = httpRequest.response();
-      boolean webText = true;
-      switch (details.protocol) {
-        case HTTP_2:
-        case WEB:
-        case WEB_TEXT:
-          response.setStatusCode(200);
-          response.putHeader(HttpHeaders.CONTENT_TYPE, details.protocol.mediaType());
-          response.putHeader(GrpcHeaderNames.GRPC_STATUS, GrpcStatus.UNIMPLEMENTED.toString());
-          response.putHeader(GrpcHeaderNames.GRPC_MESSAGE, msg);
-          response.end();
-          break;
-        default:
-          response
-            .setStatusCode(500)
-            .end();
-          break;
-      }
+      sendTrailersOnly(httpRequest, details.protocol, GrpcStatus.UNIMPLEMENTED, msg, 500);
+    }
+  }
+
+  /**
+   * Reject a call with a trailers-only response, a transcoded call gets the {@code httpStatus} instead.
+   */
+  private static void sendTrailersOnly(HttpServerRequest httpRequest, GrpcProtocol protocol, GrpcStatus status, String msg, int httpStatus) {
+    HttpServerResponse response = httpRequest.response();
+    switch (protocol) {
+      case HTTP_2:
+      case WEB:
+      case WEB_TEXT:
+        response.setStatusCode(200);
+        response.putHeader(HttpHeaders.CONTENT_TYPE, protocol.mediaType());
+        response.putHeader(GrpcHeaderNames.GRPC_STATUS, status.toString());
+        response.putHeader(GrpcHeaderNames.GRPC_MESSAGE, msg);
+        response.end();
+        break;
+      default:
+        response
+          .setStatusCode(httpStatus)
+          .end();
+        break;
     }
   }
 
+  /**
+   * Reject a call of {@code method} before it is dispatched, the call is reported to the metrics with its {@code status}.
+   */
+  private void reject(MethodCallHandler<?, ?> method, HttpServerRequest httpRequest, String path, GrpcProtocol protocol, GrpcStatus status, String msg, int httpStatus) {
+    GrpcServerMetrics<?> metrics = this.metrics;
+    if (metrics != null) {
+      GrpcMethodCall methodCall = path.equals(method.path) ? method.methodCall : new GrpcMethodCall(path);
+      CallMetrics callMetrics = new CallMetrics(metrics, metrics.callBegin(methodCall.serviceName(), methodCall.methodName()));
+      callMetrics.headersReceived(httpRequest.headers());
+      callMetrics.end(status);
+    }
+    sendTrailersOnly(httpRequest, protocol, status, msg, httpStatus);
+  }
+
   private int validate(GrpcServerRequestInspector.RequestInspectionDetails details) {
     // Check HTTP version compatibility
     if (!details.protocol.accepts(details.version)) {
@@ -159,8 +268,8 @@ public class GrpcServerImpl implements GrpcServer, Closeable {
     return -1;
   }
 
-  private <Req, Resp> boolean handle(MethodCallHandler<Req, Resp> method, HttpServerRequest httpRequest, GrpcMethodCall methodCall, GrpcProtocol protocol, WireFormat format) {
-    io.vertx.core.internal.ContextInternal context = ((HttpServerRequestInternal) httpRequest).context();
+  private <Req, Resp> boolean handle(MethodCallHandler<Req, Resp> method, HttpServerRequest httpRequest, String path, GrpcProtocol protocol, WireFormat format) {
+    ContextInternal context = ((HttpServerRequestInternal) httpRequest).context();
 
     WireFormat configured = options.getEnabledFormat(format.name());
     if (configured != null) {
@@ -173,22 +282,22 @@ public class GrpcServerImpl implements GrpcServer, Closeable {
     GrpcMessageDecoder<Req> messageDecoder;
     switch (protocol) {
       case HTTP_2:
-        if (method.method != null && !httpRequest.path().equals("/" + method.method.fullMethodName())) {
+        if (method.path != null && !path.equals(method.path)) {
           return false;
         }
-        outboundInvoker = new Http2GrpcOutboundStream(httpRequest, new Http2GrpcMessageDeframer(encoding, format));
+        outboundInvoker = new Http2GrpcOutboundStream(httpRequest, new CompositeGrpcMessageDeframer(encoding, format));
         messageDecoder = method.messageDecoder;
         break;
       case WEB:
       case WEB_TEXT:
-        if (method.method != null && !httpRequest.path().equals("/" + method.method.fullMethodName())) {
+        if (method.path != null && !path.equals(method.path)) {
           return false;
         }
         GrpcMessageDeframer deframer;
         if (httpRequest.version() != HttpVersion.HTTP_2 && GrpcMediaType.isGrpcWebText(httpRequest.getHeader(CONTENT_TYPE))) {
           deframer  = new TextMessageDeframer();
         } else {
-          deframer  = new Http2GrpcMessageDeframer(encoding, format);
+          deframer  = new CompositeGrpcMessageDeframer(encoding, format);
         }
         outboundInvoker = new WebGrpcOutboundStream(httpRequest, protocol, deframer);
         messageDecoder = method.messageDecoder;
@@ -212,11 +321,53 @@ public class GrpcServerImpl implements GrpcServer, Closeable {
         throw new AssertionError();
     }
 
+    CallTracker.Stripe callStripe = calls.stripe(context);
+    if (!callStripe.enter(httpRequest.connection(), httpRequest.version() == HttpVersion.HTTP_2)) {
+      reject(method, httpRequest, path, protocol, GrpcStatus.UNAVAILABLE, "Server is shutting down", 503);
+      return true;
+    }
+
+    // Parsed once for the admission and the call deadline
+    String timeoutHeader = httpRequest.getHeader(GrpcHeaderNames.GRPC_TIMEOUT);
+    Duration timeout = timeoutHeader != null ? GrpcHeaderClassifier.parseTimeout(timeoutHeader) : null;
+
+    DeadlineAdmission admission = method.admission;
+    DeadlineAdmission.Stripe admissionStripe = null;
+    if (admission != null) {
+      if (admission.isAdaptive()) {
+        admissionStripe = admission.stripe(context);
+      }
+      if (timeout != null && !admission.admit(admissionStripe, timeout)) {
+        admission.shed.increment();
+        callStripe.leave(null);
+        reject(method, httpRequest, path, protocol, GrpcStatus.DEADLINE_EXCEEDED, "Deadline too short to serve the call", 504);
+        return true;
+      }
+    }
+
+    ConcurrencyLimiter limiter = method.limiter;
+    ConcurrencyLimiter.Stripe limiterStripe = null;
+    if (limiter != null) {
+      limiterStripe = limiter.stripe(context);
+      if (!limiterStripe.tryAcquire()) {
+        limiter.shed.increment();
+        callStripe.leave(null);
+        reject(method, httpRequest, path, protocol, GrpcStatus.RESOURCE_EXHAUSTED, "Concurrency limit exceeded", 429);
+        return true;
+      }
+    }
+
     outboundInvoker.init();
+    outboundInvoker.batchPolicy(options.getWriteBatchMaxSize(), options.getWriteBatchMaxDelay());
+
+    GrpcMethodCall methodCall = path.equals(method.path) ? method.methodCall : new GrpcMethodCall(path);
+
+    ContextInternal callContext = callContext(context, method.threadingModel);
 
     GrpcDispatcher<Req, Resp> dispatcher = new GrpcDispatcher<>(
       outboundInvoker,
       context,
+      callContext,
       protocol,
       format,
       messageDecoder,
@@ -226,15 +377,51 @@ public class GrpcServerImpl implements GrpcServer, Closeable {
       method,
       options.getDeadlinePropagation(),
       options.getScheduleDeadlineAutomatically());
+    dispatcher.compressionPolicy(options.getCompressionThreshold(), options.getAdaptiveCompression());
+    GrpcServerMetrics<?> metrics = this.metrics;
+    if (metrics != null) {
+      dispatcher.metrics(metrics);
+    }
     outboundInvoker.handler(dispatcher);
     outboundInvoker.exceptionHandler(dispatcher::handleException);
     outboundInvoker.endHandler(dispatcher::handleEnd);
 
-    outboundInvoker.init(httpRequest, options.getMaxMessageSize());
+    ConnectionManager.ManagedConnection managedConnection = null;
+    if (httpRequest.version() == HttpVersion.HTTP_2 && connectionManager.isEnabled()) {
+      managedConnection = connectionManager.connection(context, httpRequest.connection());
+      managedConnection.callStarted();
+      outboundInvoker.managedConnection(managedConnection);
+    }
+
+    callStripe.track(dispatcher);
+    CallPermit permit = new CallPermit(callStripe, dispatcher, managedConnection, limiterStripe, admissionStripe, outboundInvoker);
+    httpRequest.response().endHandler(permit);
+    httpRequest.response().closeHandler(permit);
+
+    outboundInvoker.init(httpRequest, options.getMaxMessageSize(), callContext, flowControl, timeout);
 
     return true;
   }
 
+  /**
+   * @return the context executing the call handler: the request {@code context} or a context of the worker pool or
+   *         of a virtual thread created for the call. The events of a call are ordered on its context, the calls of a
+   *         connection are not ordered with each other since a blocking handler must not delay the other calls
+   */
+  private static ContextInternal callContext(ContextInternal context, ThreadingModel threadingModel) {
+    if (threadingModel == null) {
+      return context;
+    }
+    switch (threadingModel) {
+      case WORKER:
+        return context.owner().createWorkerContext();
+      case VIRTUAL_THREAD:
+        return context.owner().createVirtualThreadContext();
+      default:
+        return context;
+    }
+  }
+
   public synchronized GrpcServer callHandler(Handler<GrpcServerRequest<Buffer, Buffer>> handler) {
     if (closing) {
       throw new IllegalStateException("Server closed");
@@ -254,6 +441,82 @@ public class GrpcServerImpl implements GrpcServer, Closeable {
     });
   }
 
+  /**
+   * @return the key of the {@code serviceMethod} configuration in {@code configs}: its full method name or its
+   *         service name, or {@code null} when it has none
+   */
+  private static String configName(Map<String, ?> configs, ServiceMethod<?, ?> serviceMethod) {
+    if (configs.isEmpty()) {
+      return null;
+    }
+    String name = serviceMethod.fullMethodName();
+    if (configs.containsKey(name)) {
+      return name;
+    }
+    name = serviceMethod.serviceName().fullyQualifiedName();
+    return configs.containsKey(name) ? name : null;
+  }
+
+  /**
+   * @return the limiter of the {@code serviceMethod} calls configured by its full method name or its service name,
+   *         the limiter of a service is shared by its methods
+   */
+  private ConcurrencyLimiter concurrencyLimiter(ServiceMethod<?, ?> serviceMethod) {
+    Map<String, ConcurrencyLimitOptions> limits = options.getConcurrencyLimits();
+    String name = configName(limits, serviceMethod);
+    return name != null ? concurrencyLimiters.computeIfAbsent(name, key -> new ConcurrencyLimiter(limits.get(key))) : null;
+  }
+
+  /**
+   * @return the deadline admission of the {@code serviceMethod} calls configured by its full method name or its
+   *         service name, the admission of a service is shared by its methods
+   */
+  private DeadlineAdmission deadlineAdmission(ServiceMethod<?, ?> serviceMethod) {
+    Map<String, DeadlineAdmissionOptions> admissions = options.getDeadlineAdmissions();
+    String name = configName(admissions, serviceMethod);
+    return name != null ? deadlineAdmissions.computeIfAbsent(name, key -> new DeadlineAdmission(admissions.get(key))) : null;
+  }
+
+  /**
+   * @return the threading model of the {@code serviceMethod} calls configured by its full method name or its service
+   *         name, otherwise the one declared by the {@code service}
+   */
+  private ThreadingModel threadingModel(Service service, ServiceMethod<?, ?> serviceMethod) {
+    Map<String, ThreadingModel> threadingModels = options.getThreadingModels();
+    String name = configName(threadingModels, serviceMethod);
+    ThreadingModel threadingModel;
+    if (name != null) {
+      threadingModel = threadingModels.get(name);
+    } else {
+      threadingModel = service != null ? service.threadingModel(serviceMethod) : null;
+    }
+    if (threadingModel == ThreadingModel.VIRTUAL_THREAD && !vertx.isVirtualThreadAvailable()) {
+      throw new IllegalStateException("Cannot execute " + serviceMethod.fullMethodName() + " calls on virtual threads, they are not available on this JVM");
+    }
+    return threadingModel;
+  }
+
+  @Override
+  public long shedCalls(String name) {
+    long count = 0L;
+    ConcurrencyLimiter limiter = concurrencyLimiters.get(name);
+    if (limiter != null) {
+      count += limiter.shed.sum();
+    }
+    DeadlineAdmission admission = deadlineAdmissions.get(name);
+    if (admission != null) {
+      count += admission.shed.sum();
+    }
+    return count;
+  }
+
+  /**
+   * Publish a new snapshot of the routes, the request handling path reads it without locking.
+   */
+  private void updateRoutes() {
+    routes = new RouteTable(methodCallHandlers);
+  }
+
   @Override
   @SuppressWarnings("unchecked")
   public synchronized <Req, Resp> GrpcServer callHandler(ServiceMethod<Req, Resp> serviceMethod, Handler<GrpcServerRequest<Req, Resp>> handler) {
@@ -261,7 +524,7 @@ public class GrpcServerImpl implements GrpcServer, Closeable {
       throw new IllegalStateException("Server closed");
     }
     if (handler != null) {
-      MethodCallHandler<Req, Resp> p = new MethodCallHandler<>(serviceMethod, serviceMethod.decoder(), serviceMethod.encoder(), handler);
+      MethodCallHandler<Req, Resp> p = new MethodCallHandler<>(serviceMethod, serviceMethod.decoder(), serviceMethod.encoder(), handler, concurrencyLimiter(serviceMethod), deadlineAdmission(serviceMethod), threadingModel(null, serviceMethod));
       if (serviceMethod instanceof MountPoint) {
         MountPoint<Req, Resp> mountPoint = (MountPoint<Req, Resp>) serviceMethod;
         List<String> paths = mountPoint.paths();
@@ -280,6 +543,7 @@ public class GrpcServerImpl implements GrpcServer, Closeable {
       }
       unregisterMethodCallHandler("/" + serviceMethod.fullMethodName(), serviceMethod);
     }
+    updateRoutes();
     return this;
   }
 
@@ -294,13 +558,19 @@ public class GrpcServerImpl implements GrpcServer, Closeable {
           throw new IllegalStateException("Duplicated name: " + service.name().name());
         }
       }
+      // Resolve the threading models before registering any method, an unavailable one fails the whole service
+      Map<ServiceMethod, ThreadingModel> threadingModels = new HashMap<>();
+      for (ServiceMethod method : service.methods()) {
+        threadingModels.put(method, threadingModel(service, method));
+      }
       if (service instanceof ServerAware) {
         ((ServerAware)service).setServer(this);
       }
       for (ServiceMethod method : service.methods()) {
         ServiceMethodInvoker invoker = service.invoker(method);
-        registerMethodCallHandler(service.pathOfMethod(method.methodName()), new MethodCallHandler<Object, Object>(method, method.decoder(), method.encoder(), invoker));
+        registerMethodCallHandler(service.pathOfMethod(method.methodName()), new MethodCallHandler<Object, Object>(method, method.decoder(), method.encoder(), invoker, concurrencyLimiter(method), deadlineAdmission(method), threadingModels.get(method)));
       }
+      updateRoutes();
 
       this.services.add(service);
     }
@@ -316,22 +586,33 @@ public class GrpcServerImpl implements GrpcServer, Closeable {
   static class MethodCallHandler<Req, Resp> implements Handler<GrpcServerRequest<Req, Resp>> {
 
     final ServiceMethod<Req, Resp> method;
+    final String path;
+    final GrpcMethodCall methodCall;
     final GrpcMessageDecoder<Req> messageDecoder;
     final GrpcMessageEncoder<Resp> messageEncoder;
     final ServiceMethodInvoker<Req, Resp> invoker;
+    final ConcurrencyLimiter limiter;
+    final DeadlineAdmission admission;
+    final ThreadingModel threadingModel;
 
     MethodCallHandler(ServiceMethod<Req, Resp> method, GrpcMessageDecoder<Req> messageDecoder, GrpcMessageEncoder<Resp> messageEncoder, Handler<GrpcServerRequest<Req, Resp>> handler) {
-      this.method = method;
-      this.messageDecoder = messageDecoder;
-      this.messageEncoder = messageEncoder;
-      this.invoker = handler::handle;
+      this(method, messageDecoder, messageEncoder, handler, null, null, null);
     }
 
-    MethodCallHandler(ServiceMethod<Req, Resp> method, GrpcMessageDecoder<Req> messageDecoder, GrpcMessageEncoder<Resp> messageEncoder, ServiceMethodInvoker<Req, Resp> invoker) {
+    MethodCallHandler(ServiceMethod<Req, Resp> method, GrpcMessageDecoder<Req> messageDecoder, GrpcMessageEncoder<Resp> messageEncoder, Handler<GrpcServerRequest<Req, Resp>> handler, ConcurrencyLimiter limiter, DeadlineAdmission admission, ThreadingModel threadingModel) {
+      this(method, messageDecoder, messageEncoder, (ServiceMethodInvoker<Req, Resp>) handler::handle, limiter, admission, threadingModel);
+    }
+
+    MethodCallHandler(ServiceMethod<Req, Resp> method, GrpcMessageDecoder<Req> messageDecoder, GrpcMessageEncoder<Resp> messageEncoder, ServiceMethodInvoker<Req, Resp> invoker, ConcurrencyLimiter limiter, DeadlineAdmission admission, ThreadingModel threadingModel) {
       this.method = method;
+      this.path = method != null ? "/" + method.fullMethodName() : null;
+      this.methodCall = path != null ? new GrpcMethodCall(path) : null;
       this.messageDecoder = messageDecoder;
       this.messageEncoder = messageEncoder;
       this.invoker = invoker;
+      this.limiter = limiter;
+      this.admission = admission;
+      this.threadingModel = threadingModel;
     }
 
     @Override
@@ -339,4 +620,56 @@ public class GrpcServerImpl implements GrpcServer, Closeable {
       invoker.invoke(grpcRequest);
     }
   }
+
+  /**
+   * Releases the concurrency limiter permit of a call, records its latency for the deadline admission and stops
+   * tracking it on the server and its connection when its response ends or its stream is closed.
+   */
+  private static final class CallPermit implements Handler<Void> {
+
+    private final CallTracker.Stripe callStripe;
+    private final GrpcDispatcher<?, ?> call;
+    private final ConnectionManager.ManagedConnection connection;
+    private final ConcurrencyLimiter.Stripe limiterStripe;
+    private final DeadlineAdmission.Stripe admissionStripe;
+    private final HttpGrpcOutboundStream stream;
+    private final long start;
+    private boolean released;
+
+    CallPermit(CallTracker.Stripe callStripe, GrpcDispatcher<?, ?> call, ConnectionManager.ManagedConnection connection, ConcurrencyLimiter.Stripe limiterStripe, DeadlineAdmission.Stripe admissionStripe, HttpGrpcOutboundStream stream) {
+      this.callStripe = callStripe;
+      this.call = call;
+      this.connection = connection;
+      this.limiterStripe = limiterStripe;
+      this.admissionStripe = admissionStripe;
+      this.stream = stream;
+      this.start = System.nanoTime();
+    }
+
+    @Override
+    public void handle(Void v) {
+      if (!released) {
+        released = true;
+        long latency = System.nanoTime() - start;
+        GrpcStatus status = stream.status;
+        if (limiterStripe != null) {
+          if (status == null || status == GrpcStatus.CANCELLED) {
+            // Cancelled by the client, e.g. a hedged call that lost the race
+            limiterStripe.release();
+          } else {
+            boolean dropped = status == GrpcStatus.RESOURCE_EXHAUSTED || status == GrpcStatus.DEADLINE_EXCEEDED || status == GrpcStatus.UNAVAILABLE;
+            limiterStripe.release(latency, dropped);
+          }
+        }
+        if (admissionStripe != null && status == GrpcStatus.OK) {
+          admissionStripe.record(latency);
+        }
+        callStripe.leave(call);
+        call.handleClosed();
+        if (connection != null) {
+          connection.callEnded();
+        }
+      }
+    }
+  }
 }
@@ -4,15 +4,11 @@ import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpVersion;
 import io.vertx.grpc.common.WireFormat;
+import io.vertx.grpc.common.impl.GrpcHeaderClassifier;
 import io.vertx.grpc.server.GrpcProtocol;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 final class GrpcServerRequestInspector {
 
-  private static final Pattern CONTENT_TYPE_PATTERN = Pattern.compile("application/grpc(-web(-text)?)?(\\+(json|proto))?");
-
   private GrpcServerRequestInspector() {
   }
 
@@ -26,39 +22,19 @@ final class GrpcServerRequestInspector {
   }
 
   private static boolean determineContentType(String contentType, RequestInspectionDetailsBuilder builder) {
-    if (contentType != null) {
-      Matcher matcher = CONTENT_TYPE_PATTERN.matcher(contentType);
-      if (matcher.matches()) {
-        if (matcher.group(1) != null) {
-          builder.protocol(matcher.group(2) == null ? GrpcProtocol.WEB : GrpcProtocol.WEB_TEXT);
-        } else {
-          builder.protocol(GrpcProtocol.HTTP_2);
-        }
-        if (matcher.group(3) != null) {
-          switch (matcher.group(4)) {
-            case "proto":
-              builder.format(WireFormat.PROTOBUF);
-              break;
-            case "json":
-              builder.format(WireFormat.JSON);
-              break;
-            default:
-              throw new UnsupportedOperationException("Not possible");
-          }
-        } else {
-          builder.format(WireFormat.PROTOBUF);
-        }
-        return true;
-      } else {
-        if (GrpcProtocol.TRANSCODING.mediaType().equals(contentType)) {
-          builder.protocol(GrpcProtocol.TRANSCODING);
-          builder.format(WireFormat.JSON);
-          return true;
-        }
-      }
+    GrpcHeaderClassifier.ContentType type = GrpcHeaderClassifier.classifyContentType(contentType);
+    if (type == null) {
+      return false;
     }
-
-    return false;
+    if (type.isJson()) {
+      builder.protocol(GrpcProtocol.TRANSCODING);
+    } else if (type.isWeb()) {
+      builder.protocol(type.isText() ? GrpcProtocol.WEB_TEXT : GrpcProtocol.WEB);
+    } else {
+      builder.protocol(GrpcProtocol.HTTP_2);
+    }
+    builder.format(type.format());
+    return true;
   }
 
   static final class RequestInspectionDetails {
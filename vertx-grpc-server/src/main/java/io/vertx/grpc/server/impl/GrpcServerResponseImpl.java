@@ -17,6 +17,7 @@ import io.vertx.core.MultiMap;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.grpc.common.GrpcMessage;
 import io.vertx.grpc.common.GrpcMessageEncoder;
+import io.vertx.grpc.common.GrpcMetadata;
 import io.vertx.grpc.common.GrpcStatus;
 import io.vertx.grpc.common.impl.DefaultGrpcHeadersFrame;
 import io.vertx.grpc.common.impl.DefaultGrpcMessageFrame;
@@ -43,8 +44,9 @@ public final class GrpcServerResponseImpl<Req, Resp> extends GrpcWriteStreamBase
   private GrpcStatus status = GrpcStatus.OK;
   private String statusMessage;
   private Set<String> acceptedEncodings;
-  private MultiMap trailers;
+  private GrpcMetadata trailers;
   private boolean headWritten;
+  private boolean corked;
 
   public GrpcServerResponseImpl(ContextInternal context,
                                 GrpcServerRequestImpl<Req, Resp> request,
@@ -73,6 +75,50 @@ public final class GrpcServerResponseImpl<Req, Resp> extends GrpcWriteStreamBase
     return outbound.writeQueueFull();
   }
 
+  @Override
+  public GrpcServerResponse<Req, Resp> cork() {
+    corked = true;
+    outbound.cork(true);
+    return this;
+  }
+
+  @Override
+  public GrpcServerResponse<Req, Resp> uncork() {
+    corked = false;
+    outbound.cork(false);
+    return this;
+  }
+
+  @Override
+  public Future<Void> flush() {
+    return outbound.flush();
+  }
+
+  @Override
+  public Future<Void> writeBatch(List<Resp> messages) {
+    if (messages.isEmpty()) {
+      return context.succeededFuture();
+    }
+    outbound.cork(true);
+    Future<Void> last = null;
+    try {
+      for (Resp message : messages) {
+        last = write(message);
+        if (last.failed()) {
+          break;
+        }
+      }
+    } finally {
+      if (corked) {
+        // The response stays corked
+        outbound.flush();
+      } else {
+        outbound.cork(false);
+      }
+    }
+    return last;
+  }
+
   public GrpcServerResponse<Req, Resp> status(GrpcStatus status) {
     if (isEndWritten()) {
       throw new IllegalStateException("Trailers have already been sent");
@@ -101,6 +147,18 @@ public final class GrpcServerResponseImpl<Req, Resp> extends GrpcWriteStreamBase
     }
   }
 
+  void abort(GrpcStatus status, String message) {
+    if (!isCancelled()) {
+      if (!isEndWritten()) {
+        this.status = status;
+        this.statusMessage = message;
+        end();
+      } else {
+        cancel();
+      }
+    }
+  }
+
   public void fail(Throwable failure) {
     if (failure instanceof StatusException) {
       StatusException se = (StatusException) failure;
@@ -121,7 +179,7 @@ public final class GrpcServerResponseImpl<Req, Resp> extends GrpcWriteStreamBase
       throw new IllegalStateException("Trailers already sent");
     }
     if (trailers == null) {
-      trailers = MultiMap.caseInsensitiveMultiMap();
+      trailers = new GrpcMetadata();
     }
     return trailers;
   }
@@ -161,6 +219,9 @@ public final class GrpcServerResponseImpl<Req, Resp> extends GrpcWriteStreamBase
   protected Future<Void> sendTrailers(MultiMap grpcTrailers) {
     handleStatus(status);
     request.cancelTimeout();
+    if (metrics != null) {
+      metrics.end(status);
+    }
     return outbound.write(new DefaultGrpcTrailersFrame(status, statusMessage, grpcTrailers));
   }
 
@@ -183,6 +244,9 @@ public final class GrpcServerResponseImpl<Req, Resp> extends GrpcWriteStreamBase
       throw new IllegalStateException();
     }
     headWritten = true;
+    if (metrics != null) {
+      metrics.headersSent();
+    }
     return outbound.write(new DefaultGrpcHeadersFrame(format(), encoding(), headers()));
   }
 
@@ -1,9 +1,13 @@
 package io.vertx.grpc.server.impl;
 
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.grpc.common.GrpcHeaderNames;
+import io.vertx.grpc.common.GrpcMessage;
 import io.vertx.grpc.common.WireFormat;
+import io.vertx.grpc.common.impl.DefaultGrpcMessage;
+import io.vertx.grpc.common.impl.GrpcCompression;
 import io.vertx.grpc.common.impl.GrpcMessageDeframer;
 import io.vertx.grpc.server.GrpcProtocol;
 
@@ -22,6 +26,12 @@ public class Http2GrpcOutboundStream extends HttpGrpcOutboundStream {
   protected void encodeGrpcHeaders(MultiMap grpcHeaders, MultiMap httpHeaders, String encoding) {
     super.encodeGrpcHeaders(grpcHeaders, httpHeaders, encoding);
     httpHeaders.set(GrpcHeaderNames.GRPC_ENCODING, encoding);
-    httpHeaders.set(GrpcHeaderNames.GRPC_ACCEPT_ENCODING, "gzip");
+    httpHeaders.set(GrpcHeaderNames.GRPC_ACCEPT_ENCODING, GrpcCompression.acceptEncoding());
+  }
+
+  @Override
+  protected Buffer encodeMessage(GrpcMessage message) {
+    // Messages serialized with their prefix are written as is
+    return DefaultGrpcMessage.encode(message, false);
   }
 }
@@ -15,29 +15,9 @@ import io.vertx.grpc.common.WireFormat;
 import io.vertx.grpc.server.GrpcProtocol;
 
 import java.time.Duration;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.concurrent.TimeUnit;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 public class HttpGrpcInboundStream implements GrpcInboundStream {
 
-  private static final Pattern TIMEOUT_PATTERN = Pattern.compile("([0-9]{1,8})([HMSmun])");
-
-  private static final Map<String, TimeUnit> TIMEOUT_MAPPING;
-
-  static {
-    Map<String, TimeUnit> timeoutMapping = new HashMap<>();
-    timeoutMapping.put("H", TimeUnit.HOURS);
-    timeoutMapping.put("M", TimeUnit.MINUTES);
-    timeoutMapping.put("S", TimeUnit.SECONDS);
-    timeoutMapping.put("m", TimeUnit.MILLISECONDS);
-    timeoutMapping.put("u", TimeUnit.MICROSECONDS);
-    timeoutMapping.put("n", TimeUnit.NANOSECONDS);
-    TIMEOUT_MAPPING = timeoutMapping;
-  }
-
   protected final GrpcProtocol protocol;
   protected final ContextInternal context;
   private final GrpcMessageDeframer deframer;
@@ -89,10 +69,17 @@ public class HttpGrpcInboundStream implements GrpcInboundStream {
     }
   }
 
-  void init(HttpServerRequest httpRequest, long maxMessageSize) {
+  /**
+   * Wire the stream to the {@code httpRequest}, the messages are delivered on {@code callContext} and queued with the
+   * {@code flowControl} watermarks.
+   *
+   * @param timeout the {@code grpc-timeout} of the call parsed by the server, or {@code null}
+   */
+  void init(HttpServerRequest httpRequest, long maxMessageSize, ContextInternal callContext, InboundFlowControl flowControl, Duration timeout) {
 
     // Wire
-    GrpcDeframingStream stream = new GrpcDeframingStream(context, httpRequest, deframer);
+    BdpEstimator estimator = flowControl.estimator(context, httpRequest.connection(), httpRequest.version());
+    GrpcDeframingStream stream = new GrpcDeframingStream(context, callContext, httpRequest, deframer, flowControl, estimator);
     stream.handler(message -> {
       emit(new DefaultGrpcMessageFrame(message));
     });
@@ -110,13 +97,8 @@ public class HttpGrpcInboundStream implements GrpcInboundStream {
       }
     });
 
-    stream.init(maxMessageSize);
-
     deframingStream = stream;
 
-    String timeoutHeader = httpRequest.getHeader(GrpcHeaderNames.GRPC_TIMEOUT);
-    Duration timeout = timeoutHeader != null ? parseTimeout(timeoutHeader) : null;
-
     // Fire GrpcHeadersFrame event
     String encoding = httpRequest.headers().get(GrpcHeaderNames.GRPC_ENCODING);
     String contentType = httpRequest.headers().get(HttpHeaders.CONTENT_TYPE);
@@ -126,6 +108,9 @@ public class HttpGrpcInboundStream implements GrpcInboundStream {
     GrpcHeadersFrame headersFrame = new DefaultGrpcHeadersFrame(wireFormat, encoding, httpRequest.headers(), timeout);
 
     emit(headersFrame);
+
+    // After the headers frame, so the handler of a call executed on another context is scheduled before its messages
+    stream.init(maxMessageSize);
   }
 
   private void emit(GrpcFrame frame) {
@@ -152,15 +137,4 @@ public class HttpGrpcInboundStream implements GrpcInboundStream {
     deframingStream.fetch(amount);
     return this;
   }
-
-  private static Duration parseTimeout(String timeout) {
-    Matcher matcher = TIMEOUT_PATTERN.matcher(timeout);
-    if (matcher.matches()) {
-      long value = Long.parseLong(matcher.group(1));
-      TimeUnit unit = TIMEOUT_MAPPING.get(matcher.group(2));
-      return Duration.of(value, unit.toChronoUnit());
-    } else {
-      return null;
-    }
-  }
 }
@@ -4,6 +4,7 @@ import io.vertx.codegen.annotations.Nullable;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
+import io.vertx.core.Promise;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpServerRequest;
@@ -11,6 +12,8 @@ import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.internal.http.HttpServerRequestInternal;
 import io.vertx.grpc.common.CodecException;
 import io.vertx.grpc.common.GrpcHeaderNames;
+import io.vertx.grpc.common.GrpcMessage;
+import io.vertx.grpc.common.GrpcMetadata;
 import io.vertx.grpc.common.GrpcStatus;
 import io.vertx.grpc.common.WireFormat;
 import io.vertx.grpc.common.impl.DefaultGrpcMessage;
@@ -23,8 +26,10 @@ import io.vertx.grpc.common.impl.GrpcOutboundStream;
 import io.vertx.grpc.common.impl.GrpcTrailersFrame;
 import io.vertx.grpc.common.impl.Utils;
 import io.vertx.grpc.server.GrpcProtocol;
+import io.vertx.grpc.server.GrpcServerOptions;
 
 import java.util.Map;
+import java.util.function.Supplier;
 
 public abstract class HttpGrpcOutboundStream extends HttpGrpcInboundStream implements GrpcStream {
 
@@ -33,6 +38,16 @@ public abstract class HttpGrpcOutboundStream extends HttpGrpcInboundStream imple
   private Future<Void> trailersSent;
   protected GrpcStatus status;
 
+  // Messages written while corked are appended to the batch and written at once, the batch state is only used from
+  // the stream context: the writes of a call executed on a worker or virtual thread are moved to this context
+  private int batchMaxSize = GrpcServerOptions.DEFAULT_WRITE_BATCH_MAX_SIZE;
+  private long batchMaxDelay = GrpcServerOptions.DEFAULT_WRITE_BATCH_MAX_DELAY;
+  private boolean corked;
+  private Buffer batch;
+  private Promise<Void> batchPromise;
+  private long batchTimer = -1L;
+  private ConnectionManager.ManagedConnection managedConnection;
+
   public HttpGrpcOutboundStream(HttpServerRequest httpRequest, GrpcProtocol protocol, GrpcMessageDeframer deframer) {
     super(((HttpServerRequestInternal) httpRequest).context(), protocol, deframer);
     this.httpResponse = httpRequest.response();
@@ -44,8 +59,95 @@ public abstract class HttpGrpcOutboundStream extends HttpGrpcInboundStream imple
     httpResponse.exceptionHandler(this::handleException);
   }
 
+  /**
+   * Configure the bounds of the batches written by a corked stream.
+   *
+   * @param maxSize the size in bytes above which the batch is flushed
+   * @param maxDelay the delay in milliseconds after which the batch is flushed, {@code 0} flushes it once the current
+   *                 event loop task completes
+   */
+  void batchPolicy(int maxSize, long maxDelay) {
+    this.batchMaxSize = maxSize;
+    this.batchMaxDelay = maxDelay;
+  }
+
+  /**
+   * Signal the headers and messages written by the stream to the {@code connection}.
+   */
+  void managedConnection(ConnectionManager.ManagedConnection connection) {
+    this.managedConnection = connection;
+  }
+
+  @Override
+  public void cork(boolean corked) {
+    if (!context.inThread()) {
+      context.execute(() -> cork(corked));
+      return;
+    }
+    this.corked = corked;
+    if (!corked) {
+      flush();
+    }
+  }
+
+  @Override
+  public Future<Void> flush() {
+    if (!context.inThread()) {
+      return executeOnContext(this::flush);
+    }
+    Buffer data = batch;
+    if (data == null) {
+      return context.succeededFuture();
+    }
+    Promise<Void> promise = takeBatch();
+    Future<Void> fut = httpResponse.write(data);
+    fut.onComplete(promise);
+    return fut;
+  }
+
+  private Future<Void> executeOnContext(Supplier<Future<Void>> op) {
+    Promise<Void> promise = context.promise();
+    context.execute(() -> op.get().onComplete(promise));
+    return promise.future();
+  }
+
+  private Promise<Void> takeBatch() {
+    Promise<Void> promise = batchPromise;
+    batch = null;
+    batchPromise = null;
+    if (batchTimer != -1L) {
+      context.owner().cancelTimer(batchTimer);
+      batchTimer = -1L;
+    }
+    return promise;
+  }
+
+  private Future<Void> appendToBatch(Buffer encoded) {
+    if (batch == null) {
+      batch = Buffer.buffer(Math.min(batchMaxSize, Math.max(256, encoded.length() * 4)));
+      batchPromise = context.promise();
+      if (batchMaxDelay > 0L) {
+        batchTimer = context.setTimer(batchMaxDelay, id -> {
+          batchTimer = -1L;
+          flush();
+        });
+      } else {
+        context.runOnContext(v -> flush());
+      }
+    }
+    batch.appendBuffer(encoded);
+    Future<Void> fut = batchPromise.future();
+    if (batch.length() >= batchMaxSize) {
+      flush();
+    }
+    return fut;
+  }
+
   @Override
   public Future<Void> end() {
+    if (!context.inThread()) {
+      return executeOnContext(this::end);
+    }
     if (trailersSent == null) {
       return context.failedFuture("Trailers message must have been sent previously");
     }
@@ -59,13 +161,22 @@ public abstract class HttpGrpcOutboundStream extends HttpGrpcInboundStream imple
 
   @Override
   public Future<Void> write(GrpcFrame frame) {
+    if (!context.inThread()) {
+      return executeOnContext(() -> write(frame));
+    }
     if (trailersSent != null) {
       return context.failedFuture("Trailers message sent");
     }
     switch (frame.type()) {
       case HEADERS:
+        if (managedConnection != null) {
+          managedConnection.dataSent();
+        }
         return writeHeaders((GrpcHeadersFrame) frame);
       case MESSAGE:
+        if (managedConnection != null) {
+          managedConnection.dataSent();
+        }
         return writeMessage((GrpcMessageFrame) frame);
       case HALF_CLOSE:
         return trailersSent = writeTrailers((GrpcTrailersFrame) frame);
@@ -88,11 +199,7 @@ public abstract class HttpGrpcOutboundStream extends HttpGrpcInboundStream imple
   }
 
   protected void encodeGrpcHeaders(MultiMap grpcHeaders, MultiMap httpHeaders, String encoding) {
-    if (grpcHeaders != null && !grpcHeaders.isEmpty()) {
-      for (Map.Entry<String, String> header : grpcHeaders) {
-        httpHeaders.add(header.getKey(), header.getValue());
-      }
-    }
+    encodeMetadata(grpcHeaders, httpHeaders);
   }
 
   /**
@@ -141,27 +248,66 @@ public abstract class HttpGrpcOutboundStream extends HttpGrpcInboundStream imple
   }
 
   protected final void encodeGrpcTrailers(MultiMap grpcTrailers, MultiMap httpTrailers) {
-    if (grpcTrailers != null && !grpcTrailers.isEmpty()) {
-      for (Map.Entry<String, String> header : grpcTrailers) {
-        httpTrailers.add(header.getKey(), header.getValue());
+    encodeMetadata(grpcTrailers, httpTrailers);
+  }
+
+  private static void encodeMetadata(MultiMap metadata, MultiMap httpHeaders) {
+    if (metadata != null && !metadata.isEmpty()) {
+      if (metadata instanceof GrpcMetadata) {
+        // Added as is, without converting names and values to strings
+        ((GrpcMetadata) metadata).addTo(httpHeaders);
+      } else {
+        for (Map.Entry<String, String> header : metadata) {
+          httpHeaders.add(header.getKey(), header.getValue());
+        }
       }
     }
   }
 
   protected Future<Void> writeEnd() {
     headersSent = true;
-    return httpResponse.end();
+    return endBatch(null);
+  }
+
+  /**
+   * End the response with the pending batch followed by {@code chunk}.
+   *
+   * @param chunk the last chunk or {@code null}
+   * @return a future completed with the result
+   */
+  protected final Future<Void> endBatch(Buffer chunk) {
+    Buffer data = batch;
+    Promise<Void> promise = null;
+    if (data != null) {
+      promise = takeBatch();
+      if (chunk != null) {
+        data.appendBuffer(chunk);
+      }
+      chunk = data;
+    }
+    Future<Void> fut = chunk != null ? httpResponse.end(chunk) : httpResponse.end();
+    if (promise != null) {
+      fut.onComplete(promise);
+    }
+    return fut;
   }
 
   protected Future<Void> writeMessage(GrpcMessageFrame frame) {
-    Buffer payload;
+    Buffer encoded;
     try {
-      payload = frame.message().payload();
+      encoded = encodeMessage(frame.message());
     } catch (CodecException e) {
       return context.failedFuture(e);
     }
     headersSent = true;
-    return httpResponse.write(encodeMessage(payload, frame.message().isCompressed(), false));
+    if (corked) {
+      return appendToBatch(encoded);
+    }
+    return httpResponse.write(encoded);
+  }
+
+  protected Buffer encodeMessage(GrpcMessage message) {
+    return encodeMessage(message.payload(), message.isCompressed(), false);
   }
 
   protected Buffer encodeMessage(Buffer message, boolean compressed, boolean trailer) {
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.server.impl;
+
+import io.vertx.grpc.server.impl.GrpcServerImpl.MethodCallHandler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of the server routes compiled from the registered method call handlers: an exact match map
+ * and a trie of the path segments to find the handlers registered at a prefix of a path (transcoding mount points).
+ */
+final class RouteTable {
+
+  static final RouteTable EMPTY = new RouteTable(Collections.emptyMap());
+
+  private final Map<String, MethodCallHandler<?, ?>[]> exact;
+  private final Node root;
+
+  RouteTable(Map<String, List<MethodCallHandler<?, ?>>> registrations) {
+    Map<String, MethodCallHandler<?, ?>[]> exact = new HashMap<>();
+    Node root = new Node("");
+    for (Map.Entry<String, List<MethodCallHandler<?, ?>>> registration : registrations.entrySet()) {
+      String path = registration.getKey();
+      MethodCallHandler<?, ?>[] handlers = registration.getValue().toArray(new MethodCallHandler<?, ?>[0]);
+      exact.put(path, handlers);
+      if (path.startsWith("/")) {
+        Node node = root;
+        for (String segment : path.substring(1).split("/", -1)) {
+          node = node.childOrCreate(segment);
+        }
+        node.handlers = handlers;
+      }
+    }
+    this.exact = exact;
+    this.root = root;
+  }
+
+  /**
+   * @return the handlers registered at {@code path} or {@code null}
+   */
+  MethodCallHandler<?, ?>[] handlers(String path) {
+    return exact.get(path);
+  }
+
+  /**
+   * @return the handlers registered at the prefixes of {@code path} ending before a {@code /}, the longest prefix first
+   */
+  List<MethodCallHandler<?, ?>[]> prefixHandlers(String path) {
+    if (root.children.length == 0 || path.isEmpty() || path.charAt(0) != '/') {
+      return Collections.emptyList();
+    }
+    List<MethodCallHandler<?, ?>[]> list = null;
+    Node node = root;
+    int start = 1;
+    int end;
+    while ((end = path.indexOf('/', start)) != -1 && (node = node.child(path, start, end)) != null) {
+      if (node.handlers != null) {
+        if (list == null) {
+          list = new ArrayList<>(2);
+        }
+        list.add(0, node.handlers);
+      }
+      start = end + 1;
+    }
+    return list != null ? list : Collections.emptyList();
+  }
+
+  private static final class Node {
+
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    final String segment;
+    Node[] children = NO_CHILDREN;
+    MethodCallHandler<?, ?>[] handlers;
+
+    Node(String segment) {
+      this.segment = segment;
+    }
+
+    Node child(String path, int start, int end) {
+      int len = end - start;
+      for (Node child : children) {
+        if (child.segment.length() == len && path.regionMatches(start, child.segment, 0, len)) {
+          return child;
+        }
+      }
+      return null;
+    }
+
+    Node childOrCreate(String segment) {
+      for (Node child : children) {
+        if (child.segment.equals(segment)) {
+          return child;
+        }
+      }
+      Node child = new Node(segment);
+      children = Arrays.copyOf(children, children.length + 1);
+      children[children.length - 1] = child;
+      return child;
+    }
+  }
+}
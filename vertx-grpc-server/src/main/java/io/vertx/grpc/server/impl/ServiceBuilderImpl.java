@@ -2,10 +2,12 @@ package io.vertx.grpc.server.impl;
 
 import com.google.protobuf.Descriptors;
 import io.vertx.core.Handler;
+import io.vertx.core.ThreadingModel;
 import io.vertx.grpc.common.ServiceMethod;
 import io.vertx.grpc.common.ServiceName;
 import io.vertx.grpc.server.*;
 
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -15,6 +17,7 @@ public class ServiceBuilderImpl implements ServiceBuilder {
 
   private final Descriptors.ServiceDescriptor descriptor;
   private final List<ServiceMethodBinding<?, ?>> handlers = new LinkedList<>(); // Maybe use MAP instead
+  private ThreadingModel threadingModel;
 
   public ServiceBuilderImpl(ServiceName serviceName, Descriptors.ServiceDescriptor descriptor) {
     this.serviceName = serviceName;
@@ -23,12 +26,26 @@ public class ServiceBuilderImpl implements ServiceBuilder {
 
   @Override
   public <Req, Resp> ServiceBuilder bind(ServiceMethod<Req, Resp> serviceMethod, Handler<GrpcServerRequest<Req, Resp>> handler) {
-    handlers.add(new ServiceMethodBinding<>(serviceMethod, handler));
+    handlers.add(new ServiceMethodBinding<>(serviceMethod, null, handler));
+    return this;
+  }
+
+  @Override
+  public <Req, Resp> ServiceBuilder bind(ServiceMethod<Req, Resp> serviceMethod, ThreadingModel threadingModel, Handler<GrpcServerRequest<Req, Resp>> handler) {
+    handlers.add(new ServiceMethodBinding<>(serviceMethod, threadingModel, handler));
+    return this;
+  }
+
+  @Override
+  public ServiceBuilder threadingModel(ThreadingModel threadingModel) {
+    this.threadingModel = threadingModel;
     return this;
   }
 
   @Override
   public Service build() {
+    List<ServiceMethodBinding<?, ?>> handlers = new ArrayList<>(this.handlers);
+    ThreadingModel threadingModel = this.threadingModel;
     return new Service() {
       @Override
       public ServiceName name() {
@@ -40,6 +57,25 @@ public class ServiceBuilderImpl implements ServiceBuilder {
         return descriptor;
       }
 
+      @Override
+      public List<ServiceMethod<?, ?>> methods() {
+        List<ServiceMethod<?, ?>> methods = new ArrayList<>(handlers.size());
+        for (ServiceMethodBinding<?, ?> handler : handlers) {
+          methods.add(handler.serviceMethod);
+        }
+        return methods;
+      }
+
+      @Override
+      public ThreadingModel threadingModel(ServiceMethod<?, ?> method) {
+        for (ServiceMethodBinding<?, ?> handler : handlers) {
+          if (handler.serviceMethod.equals(method) && handler.threadingModel != null) {
+            return handler.threadingModel;
+          }
+        }
+        return threadingModel;
+      }
+
       @Override
       public <Req, Resp> ServiceMethodInvoker<Req, Resp> invoker(ServiceMethod<Req, Resp> method) {
         for (ServiceMethodBinding<?, ?> handler : handlers) {
@@ -63,10 +99,16 @@ public class ServiceBuilderImpl implements ServiceBuilder {
   public static final class ServiceMethodBinding<Req, Resp> implements ServiceMethodInvoker<Req, Resp> {
 
     private final ServiceMethod<Req, Resp> serviceMethod;
+    private final ThreadingModel threadingModel;
     private final Handler<GrpcServerRequest<Req, Resp>> handler;
 
     public ServiceMethodBinding(ServiceMethod<Req, Resp> serviceMethod, Handler<GrpcServerRequest<Req, Resp>> handler) {
+      this(serviceMethod, null, handler);
+    }
+
+    public ServiceMethodBinding(ServiceMethod<Req, Resp> serviceMethod, ThreadingModel threadingModel, Handler<GrpcServerRequest<Req, Resp>> handler) {
       this.serviceMethod = serviceMethod;
+      this.threadingModel = threadingModel;
       this.handler = handler;
     }
 
@@ -49,11 +49,11 @@ public class WebGrpcOutboundStream extends HttpGrpcOutboundStream {
   @Override
   public Future<Void> writeEnd() {
     if (trailers != null) {
-      Future<Void> ret = httpResponse.end(encodeMessage(trailers, false, true));
+      Future<Void> ret = endBatch(encodeMessage(trailers, false, true));
       trailers = null;
       return ret;
     } else {
-      return httpResponse.end();
+      return endBatch(null);
     }
   }
 
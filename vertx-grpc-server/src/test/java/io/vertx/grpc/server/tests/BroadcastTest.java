@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.server.tests;
+
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.stub.StreamObserver;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.grpc.common.PreEncodedGrpcMessage;
+import io.vertx.grpc.common.tests.Empty;
+import io.vertx.grpc.common.tests.Reply;
+import io.vertx.grpc.common.tests.TestConstants;
+import io.vertx.grpc.common.tests.TestServiceGrpc;
+import io.vertx.grpc.server.GrpcBroadcaster;
+import io.vertx.grpc.server.GrpcServer;
+import io.vertx.grpc.server.GrpcServerResponse;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class BroadcastTest extends ServerTestBase {
+
+  private static final int NUM_SUBSCRIBERS = 3;
+  private static final int NUM_MESSAGES = 10;
+
+  @Test
+  public void testPreEncodedVariants() throws Exception {
+    PreEncodedGrpcMessage identity = PreEncodedGrpcMessage.encode(Reply.newBuilder().setMessage("hello").build(), TestConstants.REPLY_ENC);
+    assertEquals("identity", identity.encoding());
+    PreEncodedGrpcMessage gzip = identity.encoded("gzip");
+    assertEquals("gzip", gzip.encoding());
+    assertSame(gzip, identity.encoded("gzip"));
+    assertSame(identity, gzip.encoded("identity"));
+    assertNotSame(identity.payload(), gzip.payload());
+    assertEquals("hello", Reply.parseFrom(identity.payload().getBytes()).getMessage());
+  }
+
+  @Test
+  public void testBroadcast(TestContext should) {
+    GrpcBroadcaster<Reply> broadcaster = GrpcBroadcaster.create(TestConstants.REPLY_ENC, GrpcBroadcaster.SlowSubscriberPolicy.DROP);
+    List<GrpcServerResponse<Empty, Reply>> responses = new ArrayList<>();
+    startServer(GrpcServer.server(vertx).callHandler(SOURCE, call -> {
+      GrpcServerResponse<Empty, Reply> response = call.response();
+      if (responses.isEmpty()) {
+        // A compressed subscriber gets the shared gzip variant
+        response.encoding("gzip");
+      }
+      responses.add(response);
+      broadcaster.add(response);
+      if (responses.size() == NUM_SUBSCRIBERS) {
+        for (int i = 0;i < NUM_MESSAGES;i++) {
+          broadcaster.broadcast(Reply.newBuilder().setMessage("message-" + i).build());
+        }
+        responses.forEach(GrpcServerResponse::end);
+      }
+    }));
+
+    channel = ManagedChannelBuilder.forAddress("localhost", port)
+      .usePlaintext()
+      .build();
+    TestServiceGrpc.TestServiceStub stub = TestServiceGrpc.newStub(channel);
+
+    Async done = should.async(NUM_SUBSCRIBERS);
+    for (int i = 0;i < NUM_SUBSCRIBERS;i++) {
+      List<String> received = new ArrayList<>();
+      stub.source(Empty.getDefaultInstance(), new StreamObserver<Reply>() {
+        @Override
+        public void onNext(Reply value) {
+          received.add(value.getMessage());
+        }
+        @Override
+        public void onError(Throwable t) {
+          should.fail(t);
+        }
+        @Override
+        public void onCompleted() {
+          should.assertEquals(NUM_MESSAGES, received.size());
+          for (int j = 0;j < NUM_MESSAGES;j++) {
+            should.assertEquals("message-" + j, received.get(j));
+          }
+          done.countDown();
+        }
+      });
+    }
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.server.tests;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.http.*;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.grpc.common.GrpcHeaderNames;
+import io.vertx.grpc.common.GrpcStatus;
+import io.vertx.grpc.common.tests.Reply;
+import io.vertx.grpc.common.tests.Request;
+import io.vertx.grpc.common.tests.TestConstants;
+import io.vertx.grpc.server.ConcurrencyLimitOptions;
+import io.vertx.grpc.server.GrpcServer;
+import io.vertx.grpc.server.GrpcServerOptions;
+import io.vertx.grpc.server.GrpcServerRequest;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ConcurrencyLimitTest extends ServerTestBase {
+
+  private HttpClient client;
+
+  @Override
+  public void tearDown(TestContext should) {
+    if (client != null) {
+      client.close();
+    }
+    super.tearDown(should);
+  }
+
+  @Test
+  public void testMethodLimit(TestContext should) {
+    testLimit(should, UNARY.fullMethodName());
+  }
+
+  @Test
+  public void testServiceLimit(TestContext should) {
+    testLimit(should, TestConstants.TEST_SERVICE.fullyQualifiedName());
+  }
+
+  private void testLimit(TestContext should, String name) {
+    List<GrpcServerRequest<Request, Reply>> pending = new ArrayList<>();
+    Promise<Void> received = Promise.promise();
+    GrpcServer server = GrpcServer.server(vertx, new GrpcServerOptions()
+      .addConcurrencyLimit(name, new ConcurrencyLimitOptions().setLimit(1)));
+    server.callHandler(UNARY, request -> {
+      request.handler(msg -> {
+        if (pending.isEmpty()) {
+          // Hold the first call
+          pending.add(request);
+          received.complete();
+        } else {
+          request.response().end(Reply.newBuilder().setMessage(msg.getName()).build());
+        }
+      });
+    });
+    startServer(server);
+
+    client = vertx.createHttpClient(new HttpClientOptions()
+      .setProtocolVersion(HttpVersion.HTTP_2)
+      .setHttp2ClearTextUpgrade(false));
+
+    Future<HttpClientResponse> first = unaryCall(client, null);
+    received.future()
+      .compose(v -> unaryCall(client, null))
+      .compose(rejected -> {
+        should.assertEquals(200, rejected.statusCode());
+        should.assertEquals(GrpcStatus.RESOURCE_EXHAUSTED.toString(), rejected.getHeader(GrpcHeaderNames.GRPC_STATUS));
+        // Complete the first call, its permit is released
+        pending.get(0).response().end(Reply.newBuilder().setMessage("first").build());
+        return first.compose(resp -> resp.end().map(resp));
+      })
+      .compose(resp -> {
+        should.assertEquals(GrpcStatus.OK.toString(), resp.getTrailer(GrpcHeaderNames.GRPC_STATUS));
+        return unaryCall(client, null);
+      })
+      .compose(resp -> resp.end().map(resp))
+      .onComplete(should.asyncAssertSuccess(resp -> {
+        // Accepted again
+        should.assertEquals(GrpcStatus.OK.toString(), resp.getTrailer(GrpcHeaderNames.GRPC_STATUS));
+        should.assertEquals(1L, server.shedCalls(name));
+      }));
+  }
+
+  @Test
+  public void testOptionsJson() {
+    GrpcServerOptions options = new GrpcServerOptions()
+      .addConcurrencyLimit("helloworld.Greeter", new ConcurrencyLimitOptions().setLimit(5))
+      .addConcurrencyLimit("helloworld.Greeter/SayHello", new ConcurrencyLimitOptions().setAdaptive(true).setMaxLimit(50));
+    GrpcServerOptions copy = copyOptions(options);
+    assertEquals(2, copy.getConcurrencyLimits().size());
+    assertEquals(5, copy.getConcurrencyLimits().get("helloworld.Greeter").getLimit());
+    assertTrue(copy.getConcurrencyLimits().get("helloworld.Greeter/SayHello").isAdaptive());
+    assertEquals(50, copy.getConcurrencyLimits().get("helloworld.Greeter/SayHello").getMaxLimit());
+  }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.server.tests;
+
+import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.*;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.grpc.common.GrpcHeaderNames;
+import io.vertx.grpc.common.GrpcMessage;
+import io.vertx.grpc.common.GrpcStatus;
+import io.vertx.grpc.common.impl.DefaultGrpcMessage;
+import io.vertx.grpc.common.tests.Empty;
+import io.vertx.grpc.common.tests.Reply;
+import io.vertx.grpc.server.GrpcServer;
+import io.vertx.grpc.server.GrpcServerOptions;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ConnectionPolicyTest extends ServerTestBase {
+
+  private HttpClient client;
+
+  @Override
+  public void tearDown(TestContext should) {
+    if (client != null) {
+      client.close();
+    }
+    super.tearDown(should);
+  }
+
+  private void startServer(GrpcServerOptions options) {
+    GrpcServer server = GrpcServer.server(vertx, options);
+    server.callHandler(UNARY, request -> {
+      request.handler(msg -> request.response().end(Reply.newBuilder().setMessage(msg.getName()).build()));
+    });
+    startServer(server);
+    client = vertx.createHttpClient(new HttpClientOptions()
+      .setProtocolVersion(HttpVersion.HTTP_2)
+      .setHttp2ClearTextUpgrade(false));
+  }
+
+  @Test
+  public void testMaxConnectionAge(TestContext should) {
+    startServer(new GrpcServerOptions().setMaxConnectionAge(200));
+    Async goAway = should.async();
+    call().onComplete(should.asyncAssertSuccess(connection -> {
+      connection.goAwayHandler(frame -> {
+        should.assertEquals(0L, frame.getErrorCode());
+        goAway.complete();
+      });
+    }));
+  }
+
+  @Test
+  public void testMaxConnectionIdle(TestContext should) {
+    startServer(new GrpcServerOptions().setMaxConnectionIdle(200));
+    Async closed = should.async();
+    call().onComplete(should.asyncAssertSuccess(connection -> connection.closeHandler(v -> closed.complete())));
+  }
+
+  @Test
+  public void testMaxConnectionIdleWithoutCall(TestContext should) {
+    startServer(new GrpcServerOptions().setMaxConnectionIdle(200));
+    Async closed = should.async();
+    ((HttpClientAgent) client)
+      .connect(new HttpConnectOptions().setHost("localhost").setPort(8080))
+      .onComplete(should.asyncAssertSuccess(connection -> connection.closeHandler(v -> closed.complete())));
+  }
+
+  @Test
+  public void testKeepAlive(TestContext should) {
+    startServer(new GrpcServerOptions().setKeepAliveTime(100));
+    Async pinged = should.async(2);
+    call().onComplete(should.asyncAssertSuccess(connection -> connection.pingHandler(ping -> pinged.countDown())));
+  }
+
+  @Test
+  public void testTooManyPings(TestContext should) {
+    startServer(new GrpcServerOptions().setPermitKeepAliveTime(60_000).setPermitKeepAliveWithoutCalls(true));
+    Async goAway = should.async();
+    call().onComplete(should.asyncAssertSuccess(connection -> {
+      connection.goAwayHandler(frame -> {
+        should.assertEquals(0xBL, frame.getErrorCode());
+        should.assertEquals("too_many_pings", frame.getDebugData().toString());
+        goAway.complete();
+      });
+      // The first ping follows a call, the next ones are strikes
+      for (int i = 0;i < 4;i++) {
+        connection.ping(Buffer.buffer(new byte[8]));
+      }
+    }));
+  }
+
+  @Test
+  public void testPingsWhileStreaming(TestContext should) {
+    GrpcServer server = GrpcServer.server(vertx, new GrpcServerOptions().setPermitKeepAliveTime(60_000));
+    server.callHandler(SOURCE, request -> {
+      request.handler(empty -> {
+        int[] count = new int[1];
+        vertx.setPeriodic(20, id -> {
+          if (count[0]++ < 8) {
+            request.response().write(Reply.newBuilder().setMessage("message-" + count[0]).build());
+          } else {
+            vertx.cancelTimer(id);
+            request.response().end();
+          }
+        });
+      });
+    });
+    startServer(server);
+    client = vertx.createHttpClient(new HttpClientOptions()
+      .setProtocolVersion(HttpVersion.HTTP_2)
+      .setHttp2ClearTextUpgrade(false));
+    Buffer body = DefaultGrpcMessage.encode(GrpcMessage.message("identity", Buffer.buffer(Empty.getDefaultInstance().toByteArray())));
+    client
+      .request(HttpMethod.POST, 8080, "localhost", "/" + SOURCE.fullMethodName())
+      .compose(request -> {
+        request.putHeader(HttpHeaders.CONTENT_TYPE, "application/grpc");
+        request.connection().goAwayHandler(frame -> should.fail("Unexpected GOAWAY " + frame.getErrorCode()));
+        return request.send(body).compose(resp -> {
+          // Ping on each message received, like a client estimating the bandwidth-delay product
+          resp.handler(chunk -> request.connection().ping(Buffer.buffer(new byte[8])));
+          return resp.end().map(v -> resp.getTrailer(GrpcHeaderNames.GRPC_STATUS));
+        });
+      })
+      .onComplete(should.asyncAssertSuccess(status -> should.assertEquals(GrpcStatus.OK.toString(), status)));
+  }
+
+  private Future<HttpConnection> call() {
+    return unaryCall(client, null)
+      .compose(resp -> resp.end().map(v -> {
+        if (!GrpcStatus.OK.toString().equals(resp.getTrailer(GrpcHeaderNames.GRPC_STATUS))) {
+          throw new AssertionError("Unexpected status " + resp.getTrailer(GrpcHeaderNames.GRPC_STATUS));
+        }
+        return resp.request().connection();
+      }));
+  }
+
+  @Test
+  public void testOptionsJson() {
+    GrpcServerOptions options = new GrpcServerOptions()
+      .setKeepAliveTime(10_000)
+      .setKeepAliveTimeout(5_000)
+      .setPermitKeepAliveTime(60_000)
+      .setPermitKeepAliveWithoutCalls(true)
+      .setMaxConnectionIdle(120_000)
+      .setMaxConnectionAge(300_000)
+      .setMaxConnectionAgeGrace(30_000);
+    GrpcServerOptions copy = copyOptions(options);
+    assertEquals(10_000, copy.getKeepAliveTime());
+    assertEquals(5_000, copy.getKeepAliveTimeout());
+    assertEquals(60_000, copy.getPermitKeepAliveTime());
+    assertTrue(copy.getPermitKeepAliveWithoutCalls());
+    assertEquals(120_000, copy.getMaxConnectionIdle());
+    assertEquals(300_000, copy.getMaxConnectionAge());
+    assertEquals(30_000, copy.getMaxConnectionAgeGrace());
+  }
+}
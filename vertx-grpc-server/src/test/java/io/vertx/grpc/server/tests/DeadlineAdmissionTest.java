@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.server.tests;
+
+import io.vertx.core.Future;
+import io.vertx.core.http.*;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.grpc.common.GrpcHeaderNames;
+import io.vertx.grpc.common.GrpcStatus;
+import io.vertx.grpc.common.tests.Reply;
+import io.vertx.grpc.common.tests.TestConstants;
+import io.vertx.grpc.server.DeadlineAdmissionOptions;
+import io.vertx.grpc.server.GrpcServer;
+import io.vertx.grpc.server.GrpcServerOptions;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class DeadlineAdmissionTest extends ServerTestBase {
+
+  private HttpClient client;
+
+  @Override
+  public void tearDown(TestContext should) {
+    if (client != null) {
+      client.close();
+    }
+    super.tearDown(should);
+  }
+
+  @Test
+  public void testStaticThreshold(TestContext should) {
+    AtomicInteger dispatched = new AtomicInteger();
+    String name = TestConstants.TEST_SERVICE.fullyQualifiedName();
+    GrpcServer server = GrpcServer.server(vertx, new GrpcServerOptions()
+      .setScheduleDeadlineAutomatically(false)
+      .addDeadlineAdmission(name, new DeadlineAdmissionOptions().setMinTimeRemaining(100)));
+    server.callHandler(UNARY, request -> {
+      dispatched.incrementAndGet();
+      request.handler(msg -> request.response().end(Reply.newBuilder().setMessage(msg.getName()).build()));
+    });
+    startServer(server);
+
+    client = vertx.createHttpClient(new HttpClientOptions()
+      .setProtocolVersion(HttpVersion.HTTP_2)
+      .setHttp2ClearTextUpgrade(false));
+
+    unaryCall(client, "10m")
+      .compose(rejected -> {
+        should.assertEquals(200, rejected.statusCode());
+        should.assertEquals(GrpcStatus.DEADLINE_EXCEEDED.toString(), rejected.getHeader(GrpcHeaderNames.GRPC_STATUS));
+        return unaryCall(client, "0n");
+      })
+      .compose(rejected -> {
+        should.assertEquals(GrpcStatus.DEADLINE_EXCEEDED.toString(), rejected.getHeader(GrpcHeaderNames.GRPC_STATUS));
+        return unaryCall(client, "10S");
+      })
+      .compose(resp -> resp.end().map(resp))
+      .compose(resp -> {
+        should.assertEquals(GrpcStatus.OK.toString(), resp.getTrailer(GrpcHeaderNames.GRPC_STATUS));
+        // Calls without deadline are always admitted
+        return unaryCall(client, null);
+      })
+      .compose(resp -> resp.end().map(resp))
+      .onComplete(should.asyncAssertSuccess(resp -> {
+        should.assertEquals(GrpcStatus.OK.toString(), resp.getTrailer(GrpcHeaderNames.GRPC_STATUS));
+        should.assertEquals(2, dispatched.get());
+        should.assertEquals(2L, server.shedCalls(name));
+      }));
+  }
+
+  @Test
+  public void testAdaptiveThreshold(TestContext should) {
+    String name = UNARY.fullMethodName();
+    GrpcServer server = GrpcServer.server(vertx, new GrpcServerOptions()
+      .setScheduleDeadlineAutomatically(false)
+      .addDeadlineAdmission(name, new DeadlineAdmissionOptions().setAdaptive(true).setMinSamples(1)));
+    server.callHandler(UNARY, request -> {
+      request.handler(msg -> vertx.setTimer(20, id -> request.response().end(Reply.newBuilder().setMessage(msg.getName()).build())));
+    });
+    startServer(server);
+
+    client = vertx.createHttpClient(new HttpClientOptions()
+      .setProtocolVersion(HttpVersion.HTTP_2)
+      .setHttp2ClearTextUpgrade(false));
+
+    // Learn the latency of the calls
+    Future<HttpClientResponse> fut = Future.succeededFuture();
+    for (int i = 0;i < 64;i++) {
+      fut = fut
+        .compose(v -> unaryCall(client, "10S"))
+        .compose(resp -> resp.end().map(resp));
+    }
+    fut
+      .compose(resp -> {
+        should.assertEquals(GrpcStatus.OK.toString(), resp.getTrailer(GrpcHeaderNames.GRPC_STATUS));
+        return unaryCall(client, "5m");
+      })
+      .compose(rejected -> {
+        should.assertEquals(GrpcStatus.DEADLINE_EXCEEDED.toString(), rejected.getHeader(GrpcHeaderNames.GRPC_STATUS));
+        return unaryCall(client, "10S");
+      })
+      .compose(resp -> resp.end().map(resp))
+      .onComplete(should.asyncAssertSuccess(resp -> {
+        should.assertEquals(GrpcStatus.OK.toString(), resp.getTrailer(GrpcHeaderNames.GRPC_STATUS));
+        should.assertEquals(1L, server.shedCalls(name));
+      }));
+  }
+
+  @Test
+  public void testOptionsJson() {
+    GrpcServerOptions options = new GrpcServerOptions()
+      .addDeadlineAdmission("helloworld.Greeter", new DeadlineAdmissionOptions().setMinTimeRemaining(50))
+      .addDeadlineAdmission("helloworld.Greeter/SayHello", new DeadlineAdmissionOptions().setAdaptive(true).setPercentile(0.9));
+    GrpcServerOptions copy = copyOptions(options);
+    assertEquals(2, copy.getDeadlineAdmissions().size());
+    assertEquals(50L, copy.getDeadlineAdmissions().get("helloworld.Greeter").getMinTimeRemaining());
+    assertTrue(copy.getDeadlineAdmissions().get("helloworld.Greeter/SayHello").isAdaptive());
+    assertEquals(0.9, copy.getDeadlineAdmissions().get("helloworld.Greeter/SayHello").getPercentile(), 0.0);
+  }
+}
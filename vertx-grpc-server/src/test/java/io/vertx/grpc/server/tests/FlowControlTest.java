@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.server.tests;
+
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.stub.StreamObserver;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.grpc.common.tests.Empty;
+import io.vertx.grpc.common.tests.Request;
+import io.vertx.grpc.common.tests.TestServiceGrpc;
+import io.vertx.grpc.server.GrpcServer;
+import io.vertx.grpc.server.GrpcServerOptions;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class FlowControlTest extends ServerTestBase {
+
+  private static final int NUM_MESSAGES = 256;
+
+  @Test
+  public void testByteWatermarks(TestContext should) {
+    testSink(should, new GrpcServerOptions()
+      .setInboundQueueLowWaterMarkBytes(1024)
+      .setInboundQueueHighWaterMarkBytes(4096), 1024);
+  }
+
+  @Test
+  public void testMessageWatermarks(TestContext should) {
+    testSink(should, new GrpcServerOptions()
+      .setInboundQueueLowWaterMark(1)
+      .setInboundQueueHighWaterMark(2), 128);
+  }
+
+  @Test
+  public void testBdpProbing(TestContext should) {
+    testSink(should, new GrpcServerOptions()
+      .setBdpProbing(true)
+      .setMaxFlowControlWindowSize(1024 * 1024), 16 * 1024);
+  }
+
+  private void testSink(TestContext should, GrpcServerOptions options, int messageSize) {
+    AtomicInteger received = new AtomicInteger();
+    startServer(GrpcServer.server(vertx, options).callHandler(SINK, call -> {
+      // Consume slowly so the queue reaches its watermarks
+      call.pause();
+      long timerId = vertx.setPeriodic(1, id -> call.fetch(4));
+      call.handler(msg -> {
+        should.assertEquals(messageSize, msg.getName().length());
+        received.incrementAndGet();
+      });
+      call.endHandler(v -> {
+        vertx.cancelTimer(timerId);
+        call.response().end(Empty.getDefaultInstance());
+      });
+    }));
+
+    channel = ManagedChannelBuilder.forAddress("localhost", port)
+      .usePlaintext()
+      .build();
+
+    Async done = should.async();
+    StreamObserver<Request> requests = TestServiceGrpc.newStub(channel).sink(new StreamObserver<Empty>() {
+      @Override
+      public void onNext(Empty value) {
+      }
+      @Override
+      public void onError(Throwable t) {
+        should.fail(t);
+      }
+      @Override
+      public void onCompleted() {
+        should.assertEquals(NUM_MESSAGES, received.get());
+        done.complete();
+      }
+    });
+    String name = "x".repeat(messageSize);
+    for (int i = 0;i < NUM_MESSAGES;i++) {
+      requests.onNext(Request.newBuilder().setName(name).build());
+    }
+    requests.onCompleted();
+  }
+
+  @Test
+  public void testInvalidWatermarks() {
+    try {
+      GrpcServer.server(vertx, new GrpcServerOptions().setInboundQueueLowWaterMark(32).setInboundQueueHighWaterMark(16));
+    } catch (IllegalArgumentException expected) {
+      return;
+    }
+    throw new AssertionError("Expected an IllegalArgumentException");
+  }
+
+  @Test
+  public void testOptionsJson() {
+    GrpcServerOptions options = new GrpcServerOptions()
+      .setInboundQueueLowWaterMark(4)
+      .setInboundQueueHighWaterMark(32)
+      .setInboundQueueLowWaterMarkBytes(64 * 1024)
+      .setInboundQueueHighWaterMarkBytes(1024 * 1024)
+      .setBdpProbing(true)
+      .setMaxFlowControlWindowSize(4 * 1024 * 1024);
+    GrpcServerOptions copy = copyOptions(options);
+    assertEquals(4, copy.getInboundQueueLowWaterMark());
+    assertEquals(32, copy.getInboundQueueHighWaterMark());
+    assertEquals(64 * 1024, copy.getInboundQueueLowWaterMarkBytes());
+    assertEquals(1024 * 1024, copy.getInboundQueueHighWaterMarkBytes());
+    assertTrue(copy.getBdpProbing());
+    assertEquals(4 * 1024 * 1024, copy.getMaxFlowControlWindowSize());
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.server.tests;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.*;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.grpc.common.GrpcHeaderNames;
+import io.vertx.grpc.common.GrpcStatus;
+import io.vertx.grpc.common.tests.Reply;
+import io.vertx.grpc.common.tests.Request;
+import io.vertx.grpc.server.GrpcServer;
+import io.vertx.grpc.server.GrpcServerRequest;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class GracefulShutdownTest extends ServerTestBase {
+
+  private HttpClient client;
+
+  @Override
+  public void tearDown(TestContext should) {
+    if (client != null) {
+      client.close();
+    }
+    super.tearDown(should);
+  }
+
+  private GrpcServer startHoldingServer(Promise<GrpcServerRequest<Request, Reply>> held) {
+    GrpcServer server = GrpcServer.server(vertx);
+    server.callHandler(UNARY, request -> {
+      request.handler(msg -> held.tryComplete(request));
+    });
+    startServer(server);
+    client = createClient();
+    return server;
+  }
+
+  @Test
+  public void testDrain(TestContext should) {
+    Promise<GrpcServerRequest<Request, Reply>> held = Promise.promise();
+    GrpcServer server = startHoldingServer(held);
+
+    Future<HttpClientResponse> first = unaryCall(client, null);
+    Promise<Void> shutdown = Promise.promise();
+    held.future()
+      .compose(request -> {
+        should.assertEquals(1L, server.activeCalls());
+        server.shutdown(20, TimeUnit.SECONDS).onComplete(shutdown);
+        // The connection of the first call is going away, use a new one
+        HttpClient other = createClient();
+        return unaryCall(other, null).eventually(other::close);
+      })
+      .compose(rejected -> {
+        should.assertEquals(GrpcStatus.UNAVAILABLE.toString(), rejected.getHeader(GrpcHeaderNames.GRPC_STATUS));
+        should.assertFalse(shutdown.future().isComplete());
+        // The call in flight completes normally
+        held.future().result().response().end(Reply.newBuilder().setMessage("first").build());
+        return first.compose(resp -> resp.end().map(resp));
+      })
+      .compose(resp -> {
+        should.assertEquals(GrpcStatus.OK.toString(), resp.getTrailer(GrpcHeaderNames.GRPC_STATUS));
+        return shutdown.future();
+      })
+      .onComplete(should.asyncAssertSuccess(v -> should.assertEquals(0L, server.activeCalls())));
+  }
+
+  @Test
+  public void testAbortAfterTimeout(TestContext should) {
+    Promise<GrpcServerRequest<Request, Reply>> held = Promise.promise();
+    GrpcServer server = startHoldingServer(held);
+
+    Future<HttpClientResponse> first = unaryCall(client, null);
+    held.future()
+      .compose(request -> server.shutdown(100, TimeUnit.MILLISECONDS))
+      .compose(v -> first)
+      .compose(resp -> resp.end().map(resp))
+      .onComplete(should.asyncAssertSuccess(resp -> {
+        // The straggler is ended with a trailers-only response
+        should.assertEquals(GrpcStatus.ABORTED.toString(), resp.getHeader(GrpcHeaderNames.GRPC_STATUS));
+        should.assertEquals(0L, server.activeCalls());
+      }));
+  }
+
+  @Test
+  public void testGoAwayConnectionWithoutCall(TestContext should) {
+    GrpcServer server = startHoldingServer(Promise.promise());
+    Async goAway = should.async();
+    ((HttpClientAgent) client)
+      .connect(new HttpConnectOptions().setHost("localhost").setPort(8080))
+      .compose(connection -> {
+        connection.goAwayHandler(frame -> {
+          should.assertEquals(0L, frame.getErrorCode());
+          goAway.complete();
+        });
+        // The server has accepted the connection once the ping is acknowledged
+        return connection.ping(Buffer.buffer(new byte[8]));
+      })
+      .onComplete(should.asyncAssertSuccess(v -> server.shutdown()));
+  }
+
+  private HttpClient createClient() {
+    return vertx.createHttpClient(new HttpClientOptions()
+      .setProtocolVersion(HttpVersion.HTTP_2)
+      .setHttp2ClearTextUpgrade(false));
+  }
+}
@@ -31,6 +31,7 @@ import io.vertx.grpc.common.GrpcHeaderNames;
 import io.vertx.grpc.common.GrpcMessage;
 import io.vertx.grpc.common.GrpcStatus;
 import io.vertx.grpc.server.GrpcServer;
+import io.vertx.grpc.server.GrpcServerOptions;
 import io.vertx.grpc.server.GrpcServerRequest;
 import io.vertx.grpc.server.GrpcServerResponse;
 import io.vertx.grpc.common.tests.GrpcTestBase;
@@ -69,11 +70,26 @@ public class ServerMessageEncodingTest extends ServerTestBase {
     testEncode(should, "identity", GrpcMessage.message("identity", Buffer.buffer("Hello World")), false);
   }
 
+  @Test
+  public void testCompressionThreshold(TestContext should) {
+    testEncode(should, new GrpcServerOptions().setCompressionThreshold(64), "gzip", GrpcMessage.message("identity", Buffer.buffer("Hello World")), false);
+  }
+
+  @Test
+  public void testAdaptiveCompression(TestContext should) {
+    // The gzip overhead makes such a small message bigger
+    testEncode(should, new GrpcServerOptions().setAdaptiveCompression(true), "gzip", GrpcMessage.message("identity", Buffer.buffer("Hello World")), false);
+  }
+
   private void testEncode(TestContext should, String encoding, GrpcMessage msg, boolean compressed) {
+    testEncode(should, new GrpcServerOptions(), encoding, msg, compressed);
+  }
+
+  private void testEncode(TestContext should, GrpcServerOptions options, String encoding, GrpcMessage msg, boolean compressed) {
 
     Buffer expected = Buffer.buffer("Hello World");
 
-    startServer(GrpcServer.server(vertx).callHandler(call -> {
+    startServer(GrpcServer.server(vertx, options).callHandler(call -> {
       call.handler(request -> {
         GrpcServerResponse<Buffer, Buffer> response = call.response();
         response
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.server.tests;
+
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.StatusRuntimeException;
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.grpc.common.GrpcHeaderNames;
+import io.vertx.grpc.common.GrpcMetricsRecorder;
+import io.vertx.grpc.common.GrpcStatus;
+import io.vertx.grpc.common.ServiceName;
+import io.vertx.grpc.common.tests.Reply;
+import io.vertx.grpc.common.tests.Request;
+import io.vertx.grpc.common.tests.TestServiceGrpc;
+import io.vertx.grpc.server.DeadlineAdmissionOptions;
+import io.vertx.grpc.server.GrpcServer;
+import io.vertx.grpc.server.GrpcServerMetrics;
+import io.vertx.grpc.server.GrpcServerOptions;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.ArrayList;
+
+public class ServerMetricsTest extends ServerTestBase {
+
+  @Test
+  public void testRecordCalls(TestContext should) {
+    GrpcMetricsRecorder recorder = new GrpcMetricsRecorder();
+    GrpcServer server = GrpcServer.server(vertx).metrics(GrpcServerMetrics.create(recorder));
+    server.callHandler(UNARY, request -> {
+      request.handler(msg -> {
+        if (msg.getName().equals("fail")) {
+          request.response().status(GrpcStatus.NOT_FOUND).end();
+        } else {
+          request.response().end(Reply.newBuilder().setMessage("Hello " + msg.getName()).build());
+        }
+      });
+    });
+    startServer(server);
+
+    channel = ManagedChannelBuilder.forAddress("localhost", port)
+      .usePlaintext()
+      .build();
+    TestServiceGrpc.TestServiceBlockingStub stub = TestServiceGrpc.newBlockingStub(channel);
+    Request request = Request.newBuilder().setName("Julien").build();
+    Reply reply = stub.unary(request);
+    try {
+      stub.unary(Request.newBuilder().setName("fail").build());
+      should.fail();
+    } catch (StatusRuntimeException expected) {
+    }
+
+    JsonObject metrics = recorder.snapshot().getJsonObject(UNARY.fullMethodName());
+    should.assertEquals(2L, metrics.getLong("calls"));
+    should.assertEquals(new JsonObject().put("OK", 1L).put("NOT_FOUND", 1L), metrics.getJsonObject("status"));
+    should.assertEquals(2L, metrics.getLong("messagesReceived"));
+    should.assertEquals(1L, metrics.getLong("messagesSent"));
+    should.assertEquals((long) reply.getSerializedSize(), metrics.getLong("bytesSent"));
+    should.assertEquals((long) reply.getSerializedSize(), metrics.getLong("wireBytesSent"));
+    JsonObject latency = metrics.getJsonObject("latency");
+    should.assertTrue(latency.getLong("p50") <= latency.getLong("max"));
+  }
+
+  @Test
+  public void testHooks(TestContext should) {
+    List<String> events = Collections.synchronizedList(new ArrayList<>());
+    GrpcServer server = GrpcServer.server(vertx).metrics(new GrpcServerMetrics<String>() {
+      @Override
+      public String callBegin(ServiceName serviceName, String methodName) {
+        events.add("begin " + serviceName.fullyQualifiedName() + "/" + methodName);
+        return methodName;
+      }
+      @Override
+      public void headersReceived(String call, MultiMap headers) {
+        events.add("headers received");
+      }
+      @Override
+      public void headersSent(String call) {
+        events.add("headers sent");
+      }
+      @Override
+      public void messageReceived(String call, int size, int wireSize) {
+        events.add("message received " + size);
+      }
+      @Override
+      public void messageSent(String call, int size, int wireSize) {
+        events.add("message sent " + size);
+      }
+      @Override
+      public void callEnd(String call, GrpcStatus status) {
+        events.add("end " + status);
+      }
+    });
+    server.callHandler(UNARY, request -> {
+      request.handler(msg -> request.response().end(Reply.newBuilder().setMessage("Hello " + msg.getName()).build()));
+    });
+    startServer(server);
+
+    channel = ManagedChannelBuilder.forAddress("localhost", port)
+      .usePlaintext()
+      .build();
+    Request request = Request.newBuilder().setName("Julien").build();
+    Reply reply = TestServiceGrpc.newBlockingStub(channel).unary(request);
+
+    should.assertEquals(Arrays.asList(
+      "begin " + UNARY.fullMethodName(),
+      "headers received",
+      "message received " + request.getSerializedSize(),
+      "message sent " + reply.getSerializedSize(),
+      "headers sent",
+      "end OK"), events);
+  }
+
+  @Test
+  public void testCompressedMessageSize(TestContext should) {
+    GrpcMetricsRecorder recorder = new GrpcMetricsRecorder();
+    GrpcServer server = GrpcServer.server(vertx).metrics(GrpcServerMetrics.create(recorder));
+    server.callHandler(UNARY, request -> {
+      request.handler(msg -> request.response().end(Reply.newBuilder().setMessage("Hello " + msg.getName()).build()));
+    });
+    startServer(server);
+
+    channel = ManagedChannelBuilder.forAddress("localhost", port)
+      .usePlaintext()
+      .build();
+    Request request = Request.newBuilder().setName("Julien").build();
+    TestServiceGrpc.newBlockingStub(channel).withCompression("gzip").unary(request);
+
+    JsonObject metrics = recorder.snapshot().getJsonObject(UNARY.fullMethodName());
+    should.assertEquals(1L, metrics.getLong("messagesReceived"));
+    should.assertEquals((long) request.getSerializedSize(), metrics.getLong("bytesReceived"));
+    should.assertNotEquals(metrics.getLong("bytesReceived"), metrics.getLong("wireBytesReceived"));
+  }
+
+  @Test
+  public void testRejectedCall(TestContext should) {
+    GrpcMetricsRecorder recorder = new GrpcMetricsRecorder();
+    GrpcServer server = GrpcServer.server(vertx, new GrpcServerOptions()
+        .setScheduleDeadlineAutomatically(false)
+        .addDeadlineAdmission(UNARY.fullMethodName(), new DeadlineAdmissionOptions().setMinTimeRemaining(100)))
+      .metrics(GrpcServerMetrics.create(recorder));
+    server.callHandler(UNARY, request -> should.fail());
+    startServer(server);
+
+    HttpClient client = vertx.createHttpClient(new HttpClientOptions()
+      .setProtocolVersion(HttpVersion.HTTP_2)
+      .setHttp2ClearTextUpgrade(false));
+    unaryCall(client, "10m")
+      .eventually(() -> client.close())
+      .onComplete(should.asyncAssertSuccess(rejected -> {
+        should.assertEquals(GrpcStatus.DEADLINE_EXCEEDED.toString(), rejected.getHeader(GrpcHeaderNames.GRPC_STATUS));
+        JsonObject metrics = recorder.snapshot().getJsonObject(UNARY.fullMethodName());
+        should.assertEquals(1L, metrics.getLong("calls"));
+        should.assertEquals(new JsonObject().put("DEADLINE_EXCEEDED", 1L), metrics.getJsonObject("status"));
+        should.assertEquals(0L, metrics.getLong("messagesReceived"));
+      }));
+  }
+}
@@ -274,6 +274,9 @@ public class ServerRequestTest extends ServerTest {
       assertEquals(should, new byte[]{ 0,1,2 }, headers.get("custom_request_header-bin"));
       should.assertEquals("grpc-custom_request_header_value", headers.get("grpc-custom_request_header"));
       assertEquals(should, new byte[] { 2,1,0 }, headers.get("grpc-custom_request_header-bin"));
+      GrpcMetadata metadata = call.metadata();
+      should.assertTrue(metadata == call.metadata());
+      should.assertEquals("custom_request_header_value", metadata.get(GrpcMetadata.Key.of("custom_request_header")));
       call.handler(helloRequest -> {
         should.assertEquals(1, testMetadataStep.getAndAdd(2));
         Reply helloReply = Reply.newBuilder().setMessage("Hello " + helloRequest.getName()).build();
@@ -11,13 +11,21 @@
 package io.vertx.grpc.server.tests;
 
 import io.grpc.ManagedChannel;
+import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServer;
 import io.vertx.core.http.HttpServerOptions;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.unit.TestContext;
 import io.vertx.ext.unit.junit.VertxUnitRunner;
 import io.vertx.grpc.common.*;
+import io.vertx.grpc.common.impl.DefaultGrpcMessage;
 import io.vertx.grpc.server.GrpcServer;
+import io.vertx.grpc.server.GrpcServerOptions;
 import io.vertx.grpc.common.tests.GrpcTestBase;
 import io.vertx.grpc.common.tests.Empty;
 import io.vertx.grpc.common.tests.Reply;
@@ -29,6 +37,8 @@ import org.junit.runner.RunWith;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
+import static org.junit.Assert.assertEquals;
+
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
  */
@@ -53,12 +63,12 @@ public abstract class ServerTestBase extends GrpcTestBase {
 
   protected HttpServer createServer(HttpServerOptions options, GrpcServer server) {
     return vertx.createHttpServer(options)
+      .connectionHandler(server.connectionHandler())
       .requestHandler(server);
   }
 
   protected HttpServer createServer(GrpcServer server) {
-    return vertx.createHttpServer(new HttpServerOptions().setPort(8080).setHost("localhost"))
-      .requestHandler(server);
+    return createServer(new HttpServerOptions().setPort(8080).setHost("localhost"), server);
   }
 
   protected void startServer(GrpcServer server) {
@@ -77,4 +87,36 @@ public abstract class ServerTestBase extends GrpcTestBase {
       throw afe;
     }
   }
+
+  /**
+   * Send a {@link #UNARY} call with a raw HTTP/2 request to the server started on port {@code 8080}.
+   *
+   * @param client the HTTP/2 client
+   * @param timeout the {@code grpc-timeout} header value or {@code null}
+   * @return the response
+   */
+  protected Future<HttpClientResponse> unaryCall(HttpClient client, String timeout) {
+    Buffer body = DefaultGrpcMessage.encode(GrpcMessage.message("identity", Buffer.buffer(Request.newBuilder().setName("test").build().toByteArray())));
+    return client
+      .request(HttpMethod.POST, 8080, "localhost", "/" + UNARY.fullMethodName())
+      .compose(request -> {
+        request.putHeader(HttpHeaders.CONTENT_TYPE, "application/grpc");
+        request.putHeader(GrpcHeaderNames.GRPC_ENCODING, "identity");
+        if (timeout != null) {
+          request.putHeader(GrpcHeaderNames.GRPC_TIMEOUT, timeout);
+        }
+        return request.send(body);
+      });
+  }
+
+  /**
+   * Check the {@code options} JSON conversion against the copy constructor.
+   *
+   * @return the options created from the {@code options} JSON
+   */
+  protected static GrpcServerOptions copyOptions(GrpcServerOptions options) {
+    JsonObject json = options.toJson();
+    assertEquals(json, new GrpcServerOptions(options).toJson());
+    return new GrpcServerOptions(json);
+  }
 }
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.server.tests;
+
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.stub.StreamObserver;
+import io.vertx.core.Context;
+import io.vertx.core.ThreadingModel;
+import io.vertx.core.Vertx;
+import io.vertx.core.internal.VertxInternal;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.grpc.common.tests.Empty;
+import io.vertx.grpc.common.tests.Reply;
+import io.vertx.grpc.common.tests.Request;
+import io.vertx.grpc.common.tests.TestConstants;
+import io.vertx.grpc.common.tests.TestServiceGrpc;
+import io.vertx.grpc.server.GrpcServer;
+import io.vertx.grpc.server.GrpcServerOptions;
+import io.vertx.grpc.server.ReadStreamIterator;
+import io.vertx.grpc.server.Service;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.util.Iterator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class ThreadingModelTest extends ServerTestBase {
+
+  @Test
+  public void testWorkerOption(TestContext should) {
+    startServer(GrpcServer.server(vertx, new GrpcServerOptions().addThreadingModel(UNARY.fullMethodName(), ThreadingModel.WORKER))
+      .callHandler(UNARY, call -> {
+        should.assertTrue(Context.isOnWorkerThread());
+        call.handler(helloRequest -> {
+          should.assertTrue(Context.isOnWorkerThread());
+          try {
+            // Blocking is fine on a worker
+            Thread.sleep(10);
+          } catch (InterruptedException e) {
+            should.fail(e);
+          }
+          call.response().end(Reply.newBuilder().setMessage("Hello " + helloRequest.getName()).build());
+        });
+      }));
+
+    assertUnary(should);
+  }
+
+  @Test
+  public void testServiceBuilderBinding(TestContext should) {
+    Service service = Service.service(TestConstants.TEST_SERVICE, null)
+      .bind(UNARY, ThreadingModel.WORKER, call -> {
+        should.assertEquals(ThreadingModel.WORKER, Vertx.currentContext().threadingModel());
+        call.handler(helloRequest -> call.response().end(Reply.newBuilder().setMessage("Hello " + helloRequest.getName()).build()));
+      })
+      .build();
+    startServer(GrpcServer.server(vertx).addService(service));
+
+    assertUnary(should);
+  }
+
+  @Test
+  public void testVirtualThreadUnavailable() {
+    Assume.assumeFalse(((VertxInternal) vertx).isVirtualThreadAvailable());
+    Service service = Service.service(TestConstants.TEST_SERVICE, null)
+      .bind(UNARY, ThreadingModel.VIRTUAL_THREAD, call -> {
+      })
+      .build();
+    GrpcServer server = GrpcServer.server(vertx);
+    try {
+      server.addService(service);
+      fail();
+    } catch (IllegalStateException expected) {
+    }
+    // Nothing was registered, the service name is still free
+    server.addService(Service.service(TestConstants.TEST_SERVICE, null)
+      .bind(UNARY, ThreadingModel.WORKER, call -> {
+      })
+      .build());
+  }
+
+  @Test
+  public void testVirtualThreadIterator(TestContext should) {
+    Assume.assumeTrue(Runtime.version().feature() >= 21);
+    startServer(GrpcServer.server(vertx, new GrpcServerOptions().addThreadingModel(TestConstants.TEST_SERVICE.fullyQualifiedName(), ThreadingModel.VIRTUAL_THREAD))
+      .callHandler(SINK, call -> {
+        should.assertEquals(ThreadingModel.VIRTUAL_THREAD, Vertx.currentContext().threadingModel());
+        Iterator<Request> it = ReadStreamIterator.create(call);
+        int count = 0;
+        while (it.hasNext()) {
+          should.assertEquals("message-" + count++, it.next().getName());
+        }
+        should.assertEquals(10, count);
+        call.response().end(Empty.getDefaultInstance());
+      }));
+
+    channel = ManagedChannelBuilder.forAddress("localhost", port)
+      .usePlaintext()
+      .build();
+
+    Async done = should.async();
+    StreamObserver<Request> requests = TestServiceGrpc.newStub(channel).sink(new StreamObserver<Empty>() {
+      @Override
+      public void onNext(Empty value) {
+      }
+      @Override
+      public void onError(Throwable t) {
+        should.fail(t);
+      }
+      @Override
+      public void onCompleted() {
+        done.complete();
+      }
+    });
+    for (int i = 0;i < 10;i++) {
+      requests.onNext(Request.newBuilder().setName("message-" + i).build());
+    }
+    requests.onCompleted();
+  }
+
+  @Test
+  public void testOptionsJson() {
+    GrpcServerOptions options = new GrpcServerOptions()
+      .addThreadingModel("helloworld.Greeter", ThreadingModel.WORKER)
+      .addThreadingModel("helloworld.Greeter/SayHello", ThreadingModel.VIRTUAL_THREAD);
+    GrpcServerOptions copy = copyOptions(options);
+    assertEquals(ThreadingModel.WORKER, copy.getThreadingModels().get("helloworld.Greeter"));
+    assertEquals(ThreadingModel.VIRTUAL_THREAD, copy.getThreadingModels().get("helloworld.Greeter/SayHello"));
+  }
+
+  private void assertUnary(TestContext should) {
+    channel = ManagedChannelBuilder.forAddress("localhost", port)
+      .usePlaintext()
+      .build();
+
+    Reply res = TestServiceGrpc.newBlockingStub(channel).unary(Request.newBuilder().setName("Julien").build());
+    should.assertEquals("Hello Julien", res.getMessage());
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.grpc.server.tests;
+
+import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.*;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.grpc.common.GrpcHeaderNames;
+import io.vertx.grpc.common.GrpcMessage;
+import io.vertx.grpc.common.GrpcStatus;
+import io.vertx.grpc.common.impl.DefaultGrpcMessage;
+import io.vertx.grpc.common.tests.Empty;
+import io.vertx.grpc.common.tests.Reply;
+import io.vertx.grpc.server.GrpcServer;
+import io.vertx.grpc.server.GrpcServerOptions;
+import io.vertx.grpc.server.GrpcServerResponse;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+public class WriteBatchTest extends ServerTestBase {
+
+  private static final int NUM_MESSAGES = 100;
+
+  private HttpClient client;
+
+  @Override
+  public void tearDown(TestContext should) {
+    if (client != null) {
+      client.close();
+    }
+    super.tearDown(should);
+  }
+
+  @Test
+  public void testWriteBatch(TestContext should) {
+    testBatching(should, new GrpcServerOptions(), response -> {
+      List<Reply> batch = new ArrayList<>();
+      for (int i = 0;i < NUM_MESSAGES;i++) {
+        batch.add(Reply.newBuilder().setMessage("msg-" + i).build());
+      }
+      response.writeBatch(batch).onComplete(should.asyncAssertSuccess(v -> response.end()));
+    });
+  }
+
+  @Test
+  public void testCork(TestContext should) {
+    testBatching(should, new GrpcServerOptions(), response -> {
+      response.cork();
+      for (int i = 0;i < NUM_MESSAGES;i++) {
+        response.write(Reply.newBuilder().setMessage("msg-" + i).build());
+      }
+      response.end();
+    });
+  }
+
+  @Test
+  public void testCorkFlushedAfterDelay(TestContext should) {
+    testBatching(should, new GrpcServerOptions().setWriteBatchMaxDelay(10), response -> {
+      response.cork();
+      Future<Void> last = null;
+      for (int i = 0;i < NUM_MESSAGES;i++) {
+        last = response.write(Reply.newBuilder().setMessage("msg-" + i).build());
+      }
+      last.onComplete(should.asyncAssertSuccess(v -> response.end()));
+    });
+  }
+
+  private void testBatching(TestContext should, GrpcServerOptions options, Consumer<GrpcServerResponse<Empty, Reply>> writer) {
+    GrpcServer server = GrpcServer.server(vertx, options);
+    server.callHandler(SOURCE, request -> request.handler(empty -> writer.accept(request.response())));
+    startServer(server);
+
+    client = vertx.createHttpClient(new HttpClientOptions()
+      .setProtocolVersion(HttpVersion.HTTP_2)
+      .setHttp2ClearTextUpgrade(false));
+
+    Buffer body = DefaultGrpcMessage.encode(GrpcMessage.message("identity", Buffer.buffer(Empty.getDefaultInstance().toByteArray())));
+    AtomicInteger chunks = new AtomicInteger();
+    Buffer received = Buffer.buffer();
+    client
+      .request(HttpMethod.POST, 8080, "localhost", "/" + SOURCE.fullMethodName())
+      .compose(request -> {
+        request.putHeader(HttpHeaders.CONTENT_TYPE, "application/grpc");
+        request.putHeader(GrpcHeaderNames.GRPC_ENCODING, "identity");
+        return request.send(body);
+      })
+      .compose(resp -> {
+        resp.handler(chunk -> {
+          chunks.incrementAndGet();
+          received.appendBuffer(chunk);
+        });
+        return resp.end().map(resp);
+      })
+      .onComplete(should.asyncAssertSuccess(resp -> {
+        should.assertEquals(GrpcStatus.OK.toString(), resp.getTrailer(GrpcHeaderNames.GRPC_STATUS));
+        int count = 0;
+        int pos = 0;
+        while (pos < received.length()) {
+          int len = received.getInt(pos + 1);
+          Reply reply;
+          try {
+            reply = Reply.parseFrom(received.getBytes(pos + 5, pos + 5 + len));
+          } catch (Exception e) {
+            should.fail(e);
+            return;
+          }
+          should.assertEquals("msg-" + count, reply.getMessage());
+          pos += 5 + len;
+          count++;
+        }
+        should.assertEquals(NUM_MESSAGES, count);
+        // The messages are coalesced instead of being sent one DATA frame each
+        should.assertTrue(chunks.get() < NUM_MESSAGES / 10, "Unexpected number of chunks " + chunks.get());
+      }));
+  }
+}